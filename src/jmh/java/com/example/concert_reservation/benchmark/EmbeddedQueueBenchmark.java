@@ -0,0 +1,96 @@
+package com.example.concert_reservation.benchmark;
+
+import com.example.concert_reservation.domain.queue.infrastructure.EmbeddedQueueEngine;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueMetrics;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueStateMirror;
+import com.example.concert_reservation.domain.queue.infrastructure.RedisQueueRepository;
+import com.example.concert_reservation.domain.queue.models.UserQueue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대기열 저장소 비교 벤치마크 (발급 → 대기 위치 조회 → 활성화 1회 주기)
+ *
+ * - embedded: EmbeddedQueueEngine (프로세스 내 링 버퍼, 네트워크 왕복 없음)
+ * - redis: RedisQueueRepository (Lua 스크립트 발급/활성화, 위치 조회는 순번 - 커서 모드)
+ *
+ * 실행: ./gradlew jmh  (redis 벤치마크는 localhost:6379 Redis 필요, -Dredis.host/-Dredis.port로 변경 가능)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EmbeddedQueueBenchmark {
+
+    private static final long CONCERT_DATE_ID = 9_000_002L;
+    private static final String KEY_PATTERN = "queue:{c:" + CONCERT_DATE_ID + "}:*";
+
+    private final AtomicLong userSequence = new AtomicLong();
+
+    private EmbeddedQueueEngine embeddedQueueEngine;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisQueueRepository redisQueueRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        embeddedQueueEngine = new EmbeddedQueueEngine(1 << 20);
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+            System.getProperty("redis.host", "localhost"),
+            Integer.getInteger("redis.port", 6379)
+        ));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisQueueRepository = new RedisQueueRepository(redisTemplate, false, new QueueMetrics(new SimpleMeterRegistry()),
+            QueueStateMirror.disabled());
+        redisQueueRepository.preloadScripts();
+        clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clear();
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public long embedded() {
+        UserQueue issued = embeddedQueueEngine.addToWaitingQueue(CONCERT_DATE_ID, nextUserId());
+        long ahead = embeddedQueueEngine.countWaitingAheadByToken(issued.getToken().getValue());
+        return ahead + embeddedQueueEngine.activateTokens(CONCERT_DATE_ID, 1).size();
+    }
+
+    @Benchmark
+    public long redis() {
+        UserQueue issued = redisQueueRepository.addToWaitingQueue(CONCERT_DATE_ID, nextUserId());
+        long ahead = redisQueueRepository.countWaitingAheadByToken(issued.getToken().getValue());
+        return ahead + redisQueueRepository.activateTokens(CONCERT_DATE_ID, 1).size();
+    }
+
+    private String nextUserId() {
+        return "bench-user-" + userSequence.incrementAndGet();
+    }
+
+    private void clear() {
+        Set<String> keys = redisTemplate.keys(KEY_PATTERN);
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.concert_reservation.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JPA 대기열 조회 비용 비교 벤치마크 (user_queue 1,000,000행, H2 인메모리)
+ *
+ * QueueCoreStoreRepository가 실행하는 SQL 형태를 그대로 비교한다.
+ * - loadAllThenLimit: 기존 방식 - 상태가 같은 행을 모두 읽은 뒤 Java에서 limit
+ * - firstPage: LIMIT을 SQL로 전달 (idx_status_entered_at 앞부분만 읽음)
+ * - offsetDeepPage / keysetDeepPage: 대기열 중간 페이지 - OFFSET은 앞 행을 모두 건너뛰고, 키셋은 인덱스에서 바로 시작
+ * - maxQueueNumber / sequenceQueueNumber: 기존 MAX(queue_number) vs 시퀀스 발급
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=QueueJpaPagingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QueueJpaPagingBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000000"})
+    private int rowCount;
+
+    private Connection connection;
+    private PreparedStatement loadAll;
+    private PreparedStatement firstPage;
+    private PreparedStatement offsetPage;
+    private PreparedStatement keysetPage;
+    private PreparedStatement maxQueueNumber;
+    private PreparedStatement nextQueueNumber;
+    private Timestamp middleEnteredAt;
+    private long middleId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:queue_paging;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS user_queue");
+            ddl.execute("CREATE TABLE user_queue (id BIGINT AUTO_INCREMENT PRIMARY KEY, token VARCHAR(100) NOT NULL UNIQUE, "
+                + "concert_date_id BIGINT NOT NULL, user_id VARCHAR(100) NOT NULL, queue_number BIGINT NOT NULL, "
+                + "status VARCHAR(20) NOT NULL, entered_at TIMESTAMP NOT NULL, expired_at TIMESTAMP)");
+            ddl.execute("CREATE INDEX idx_status_entered_at ON user_queue (status, entered_at, id)");
+            ddl.execute("CREATE SEQUENCE IF NOT EXISTS user_queue_number_seq START WITH " + (rowCount + 1));
+        }
+
+        // 10%는 ACTIVE, 나머지는 WAITING (1ms 간격 진입)
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO user_queue (token, concert_date_id, user_id, queue_number, status, entered_at) VALUES (?, 1, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= rowCount; i++) {
+                insert.setString(1, "1:" + i);
+                insert.setString(2, "user-" + i);
+                insert.setLong(3, i);
+                insert.setString(4, i % 10 == 0 ? "ACTIVE" : "WAITING");
+                insert.setTimestamp(5, Timestamp.valueOf(base.plusNanos(i * 1_000_000L)));
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        connection.setAutoCommit(true);
+
+        loadAll = connection.prepareStatement(
+            "SELECT * FROM user_queue WHERE status = 'WAITING' ORDER BY entered_at ASC");
+        firstPage = connection.prepareStatement(
+            "SELECT * FROM user_queue WHERE status = 'WAITING' ORDER BY entered_at ASC, id ASC LIMIT " + PAGE_SIZE);
+        offsetPage = connection.prepareStatement(
+            "SELECT * FROM user_queue WHERE status = 'WAITING' ORDER BY entered_at ASC, id ASC LIMIT " + PAGE_SIZE
+                + " OFFSET " + (rowCount / 2));
+        keysetPage = connection.prepareStatement(
+            "SELECT * FROM user_queue WHERE status = 'WAITING' AND (entered_at, id) > (?, ?) "
+                + "ORDER BY entered_at ASC, id ASC LIMIT " + PAGE_SIZE);
+        maxQueueNumber = connection.prepareStatement("SELECT COALESCE(MAX(queue_number), 0) FROM user_queue");
+        nextQueueNumber = connection.prepareStatement("SELECT NEXT VALUE FOR user_queue_number_seq");
+
+        // 키셋 시작점: 대기열 중간 행
+        try (ResultSet rs = offsetPage.executeQuery()) {
+            rs.next();
+            middleEnteredAt = rs.getTimestamp("entered_at");
+            middleId = rs.getLong("id");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> loadAllThenLimit() throws SQLException {
+        return read(loadAll, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Long> firstPage() throws SQLException {
+        return read(firstPage, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Long> offsetDeepPage() throws SQLException {
+        return read(offsetPage, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Long> keysetDeepPage() throws SQLException {
+        keysetPage.setTimestamp(1, middleEnteredAt);
+        keysetPage.setLong(2, middleId);
+        return read(keysetPage, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public long maxQueueNumber() throws SQLException {
+        return single(maxQueueNumber);
+    }
+
+    @Benchmark
+    public long sequenceQueueNumber() throws SQLException {
+        return single(nextQueueNumber);
+    }
+
+    /**
+     * 결과 행을 모두 읽고(엔티티 로딩과 동일하게 전송) 앞의 limit개 ID만 반환
+     */
+    private static List<Long> read(PreparedStatement statement, int limit) throws SQLException {
+        List<Long> ids = new ArrayList<>(limit);
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                if (ids.size() < limit) {
+                    ids.add(rs.getLong("id"));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static long single(PreparedStatement statement) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.concert_reservation.benchmark;
+
+import com.example.concert_reservation.domain.queue.infrastructure.QueueMetrics;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueStateMirror;
+import com.example.concert_reservation.domain.queue.infrastructure.RedisQueueRepository;
+import com.example.concert_reservation.domain.queue.models.QueueToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기자 1명당 Redis 메모리 사용량 비교 (INFO memory used_memory 증가분 / 대기 인원)
+ *
+ * - legacyLayout: 문자열 토큰 ZSET member + Token Metadata Hash(ISO 시각 문자열) + user:waiting 키
+ * - packedLayout: 16바이트 토큰 ID + PackedQueueRecord 1개 + uw 키 (RedisQueueRepository 일괄 진입)
+ *
+ * 결과의 bytesPerUser(보조 카운터)가 대기자 1명당 바이트 수이다.
+ * 실행: ./gradlew jmh  (localhost:6379 Redis 필요, -Dredis.host/-Dredis.port로 변경 가능)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class QueueMemoryBenchmark {
+
+    private static final long CONCERT_DATE_ID = 9_000_003L;
+    private static final String KEY_PREFIX = "queue:{c:" + CONCERT_DATE_ID + "}:";
+    private static final int BATCH_SIZE = 500;
+    private static final long WAITING_TTL_SECONDS = TimeUnit.MINUTES.toSeconds(30);
+
+    @Param({"100000"})
+    private int users;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisQueueRepository redisQueueRepository;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class MemoryCounters {
+        public long bytesPerUser;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesPerUser = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+            System.getProperty("redis.host", "localhost"),
+            Integer.getInteger("redis.port", 6379)
+        ));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisQueueRepository = new RedisQueueRepository(redisTemplate, false, new QueueMetrics(new SimpleMeterRegistry()),
+            QueueStateMirror.disabled());
+        clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clear();
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public void legacyLayout(MemoryCounters counters) {
+        long before = usedMemory();
+        String enteredAt = LocalDateTime.now().toString();
+        for (int start = 0; start < users; start += BATCH_SIZE) {
+            int from = start;
+            int to = Math.min(start + BATCH_SIZE, users);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = from; i < to; i++) {
+                    String token = QueueToken.generate(CONCERT_DATE_ID).getValue();
+                    String userId = "user-" + i;
+                    byte[] tokenKey = bytes(KEY_PREFIX + "token:" + token);
+                    connection.stringCommands().setEx(bytes(KEY_PREFIX + "user:waiting:" + userId),
+                        WAITING_TTL_SECONDS, bytes(token));
+                    connection.zSetCommands().zAdd(bytes(KEY_PREFIX + "waiting"), i + 1, bytes(token));
+                    connection.hashCommands().hSet(tokenKey, bytes("userId"), bytes(userId));
+                    connection.hashCommands().hSet(tokenKey, bytes("status"), bytes("WAITING"));
+                    connection.hashCommands().hSet(tokenKey, bytes("enteredAt"), bytes(enteredAt));
+                    connection.hashCommands().hSet(tokenKey, bytes("seq"), bytes(String.valueOf(i + 1)));
+                    connection.keyCommands().expire(tokenKey, WAITING_TTL_SECONDS);
+                }
+                return null;
+            });
+        }
+        counters.bytesPerUser = (usedMemory() - before) / users;
+        clear();
+    }
+
+    @Benchmark
+    public void packedLayout(MemoryCounters counters) {
+        long before = usedMemory();
+        LocalDateTime enteredAt = LocalDateTime.now();
+        for (int start = 0; start < users; start += BATCH_SIZE) {
+            int to = Math.min(start + BATCH_SIZE, users);
+            List<QueueToken> tokens = new ArrayList<>(to - start);
+            List<String> userIds = new ArrayList<>(to - start);
+            for (int i = start; i < to; i++) {
+                tokens.add(QueueToken.generate(CONCERT_DATE_ID));
+                userIds.add("user-" + i);
+            }
+            redisQueueRepository.addToWaitingQueueBatch(CONCERT_DATE_ID, tokens, userIds, enteredAt);
+        }
+        counters.bytesPerUser = (usedMemory() - before) / users;
+        clear();
+    }
+
+    private long usedMemory() {
+        Properties info = redisTemplate.execute((RedisCallback<Properties>) connection ->
+            connection.serverCommands().info("memory"));
+        return info != null ? Long.parseLong(info.getProperty("used_memory", "0")) : 0;
+    }
+
+    private void clear() {
+        Set<String> keys = redisTemplate.keys(KEY_PREFIX + "*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.concert_reservation.benchmark;
+
+import com.example.concert_reservation.domain.queue.infrastructure.QueueMetrics;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueStateMirror;
+import com.example.concert_reservation.domain.queue.infrastructure.RedisQueueRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기 위치 계산 비용 비교 벤치마크 (대기 인원 1,000,000명)
+ *
+ * - exactRank: ZRANK (queue.position.exact=true), O(log N)
+ * - sequenceCursor: 발급 순번 - 활성화 커서 (기본 모드), ZSCORE/GET/ZCARD O(1)
+ *
+ * 실행: ./gradlew jmh  (localhost:6379 Redis 필요, -Dredis.host/-Dredis.port로 변경 가능)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QueuePositionBenchmark {
+
+    private static final long CONCERT_DATE_ID = 9_000_001L;
+    private static final String KEY_PREFIX = "queue:{c:" + CONCERT_DATE_ID + "}:";
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"1000000"})
+    private int waitingCount;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisQueueRepository exactRepository;
+    private RedisQueueRepository cursorRepository;
+    private String middleToken;
+    private String lastToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+            System.getProperty("redis.host", "localhost"),
+            Integer.getInteger("redis.port", 6379)
+        ));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        exactRepository = new RedisQueueRepository(redisTemplate, true, new QueueMetrics(new SimpleMeterRegistry()),
+            QueueStateMirror.disabled());
+        cursorRepository = new RedisQueueRepository(redisTemplate, false, new QueueMetrics(new SimpleMeterRegistry()),
+            QueueStateMirror.disabled());
+
+        clear();
+        // 순번 1..N을 score로 적재 (발급 스크립트를 N번 호출하는 대신 Pipeline으로 일괄 적재)
+        // member는 토큰의 16바이트 ID (UUID 상위/하위 64비트)
+        byte[] waitingKey = (KEY_PREFIX + "w").getBytes(StandardCharsets.UTF_8);
+        for (int start = 1; start <= waitingCount; start += BATCH_SIZE) {
+            int from = start;
+            int to = Math.min(start + BATCH_SIZE - 1, waitingCount);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int seq = from; seq <= to; seq++) {
+                    connection.zSetCommands().zAdd(waitingKey, seq, id(seq));
+                }
+                return null;
+            });
+        }
+        redisTemplate.opsForValue().set(KEY_PREFIX + "seq", String.valueOf(waitingCount));
+        redisTemplate.opsForValue().set(KEY_PREFIX + "cursor", "0");
+
+        middleToken = token(waitingCount / 2);
+        lastToken = token(waitingCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clear();
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public long exactRankMiddle() {
+        return exactRepository.countWaitingAheadByToken(middleToken);
+    }
+
+    @Benchmark
+    public long exactRankLast() {
+        return exactRepository.countWaitingAheadByToken(lastToken);
+    }
+
+    @Benchmark
+    public long sequenceCursorMiddle() {
+        return cursorRepository.countWaitingAheadByToken(middleToken);
+    }
+
+    @Benchmark
+    public long sequenceCursorLast() {
+        return cursorRepository.countWaitingAheadByToken(lastToken);
+    }
+
+    private void clear() {
+        redisTemplate.delete(List.of(KEY_PREFIX + "w", KEY_PREFIX + "seq", KEY_PREFIX + "cursor"));
+    }
+
+    private static String token(int seq) {
+        return CONCERT_DATE_ID + ":" + new UUID(0L, seq);
+    }
+
+    private static byte[] id(int seq) {
+        return ByteBuffer.allocate(16).putLong(0L).putLong(seq).array();
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.concert_reservation.benchmark;
+
+import com.example.concert_reservation.domain.queue.infrastructure.QueueRedisCodec;
+import com.example.concert_reservation.domain.queue.models.QueueToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기열 Redis 키/인자 인코딩 할당량 비교 (Redis 불필요)
+ *
+ * - strings*: 기존 방식 (접두사 + 문자열 연결 → getBytes, String.valueOf, UUID.fromString/toString, Double.parseDouble)
+ * - codec*: QueueRedisCodec + 미리 인코딩한 키/접두사
+ *
+ * 실행: ./gradlew jmh  (gc 프로파일러 결과의 gc.alloc.rate.norm = 연산당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueueRedisCodecBenchmark {
+
+    private static final long CONCERT_DATE_ID = 12L;
+    private static final String PREFIX = "queue:{c:" + CONCERT_DATE_ID + "}:";
+
+    // 기존 방식의 키 문자열
+    private final List<String> keyStrings = List.of(PREFIX + "w", PREFIX + "a", PREFIX + "cursor", PREFIX + "fence");
+    private final String tokenPrefix = PREFIX + "t:";
+    private final String userWaitingPrefix = PREFIX + "uw:";
+    private final String userActivePrefix = PREFIX + "ua:";
+
+    // 코덱 방식 - 샤드별로 한 번만 인코딩 (QueueShardKeys와 동일)
+    private final byte[][] keyBytes = {
+        bytes(PREFIX + "w"), bytes(PREFIX + "a"), bytes(PREFIX + "cursor"), bytes(PREFIX + "fence")
+    };
+    private final byte[] tokenPrefixBytes = bytes(tokenPrefix);
+    private final byte[] userWaitingPrefixBytes = bytes(userWaitingPrefix);
+    private final byte[] userActivePrefixBytes = bytes(userActivePrefix);
+    private final byte[] fenceTtlBytes = QueueRedisCodec.decimal(60);
+
+    private String token;
+    private byte[] tokenId;
+    private String userId;
+    private byte[] score;
+    private long expiryEpochMillis;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        token = QueueToken.generate(CONCERT_DATE_ID).getValue();
+        tokenId = QueueRedisCodec.tokenId(token);
+        userId = "user-123456";
+        score = bytes("1048576");
+        expiryEpochMillis = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(5);
+    }
+
+    // ===== 활성화 스크립트 키/인자 (틱마다 샤드별 1회) =====
+
+    @Benchmark
+    public void stringsActivationArgs(Blackhole blackhole) {
+        for (String key : keyStrings) {
+            blackhole.consume(key.getBytes(StandardCharsets.UTF_8));
+        }
+        Object[] args = {
+            String.valueOf(100), String.valueOf(expiryEpochMillis), String.valueOf(300L),
+            String.valueOf(expiryEpochMillis), tokenPrefix, userWaitingPrefix, userActivePrefix,
+            String.valueOf(42L), String.valueOf(60L)
+        };
+        for (Object arg : args) {
+            blackhole.consume(String.valueOf(arg).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    public void codecActivationArgs(Blackhole blackhole) {
+        for (byte[] key : keyBytes) {
+            blackhole.consume(key);
+        }
+        blackhole.consume(QueueRedisCodec.decimal(100));
+        blackhole.consume(QueueRedisCodec.int64(expiryEpochMillis));
+        blackhole.consume(QueueRedisCodec.decimal(300L));
+        blackhole.consume(QueueRedisCodec.decimal(expiryEpochMillis));
+        blackhole.consume(tokenPrefixBytes);
+        blackhole.consume(userWaitingPrefixBytes);
+        blackhole.consume(userActivePrefixBytes);
+        blackhole.consume(QueueRedisCodec.decimal(42L));
+        blackhole.consume(fenceTtlBytes);
+    }
+
+    // ===== 사용자 키 (발급/중복 확인마다) =====
+
+    @Benchmark
+    public byte[] stringsUserKey() {
+        return (userWaitingPrefix + userId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] codecUserKey() {
+        return QueueRedisCodec.key(userWaitingPrefixBytes, userId);
+    }
+
+    // ===== 토큰 → ID / 토큰 레코드 키 (상태 조회마다) =====
+
+    @Benchmark
+    public byte[] stringsTokenKey() {
+        UUID uuid = UUID.fromString(token.substring(token.indexOf(':') + 1));
+        byte[] id = ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+        byte[] prefix = tokenPrefix.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(prefix.length + id.length).put(prefix).put(id).array();
+    }
+
+    @Benchmark
+    public byte[] codecTokenKey() {
+        return QueueRedisCodec.key(tokenPrefixBytes, QueueRedisCodec.tokenId(token));
+    }
+
+    // ===== ID → 토큰 (활성화 결과마다) =====
+
+    @Benchmark
+    public String stringsTokenFormat() {
+        ByteBuffer buffer = ByteBuffer.wrap(tokenId);
+        return CONCERT_DATE_ID + ":" + new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    @Benchmark
+    public String codecTokenFormat() {
+        return QueueRedisCodec.token(CONCERT_DATE_ID, tokenId);
+    }
+
+    // ===== 응답 숫자 파싱 (대기 위치 조회마다 4회) =====
+
+    @Benchmark
+    public long stringsParseScore() {
+        return (long) Double.parseDouble(new String(score, StandardCharsets.US_ASCII));
+    }
+
+    @Benchmark
+    public long codecParseScore() {
+        return QueueRedisCodec.parseLong(score);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.concert_reservation.benchmark;
+
+import com.example.concert_reservation.domain.queue.components.QueueTokenSigner;
+import com.example.concert_reservation.domain.queue.models.SignedQueueToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기열 토큰 검증 비용 비교 벤치마크
+ *
+ * - sign: 서명 토큰 발급 (HMAC-SHA256 + Base64URL)
+ * - verify: 서명 토큰 검증 (QueueTokenInterceptor 서명 경로의 CPU 비용)
+ * - redisHgetall: 기존 경로 (토큰 메타데이터 HGETALL 1회 + LocalDateTime 파싱)
+ *
+ * 실행: ./gradlew jmh  (redisHgetall은 localhost:6379 Redis 필요, -Dredis.host/-Dredis.port로 변경 가능)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QueueTokenVerificationBenchmark {
+
+    private QueueTokenSigner signer;
+    private SignedQueueToken token;
+    private String signedValue;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private String tokenKey;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        signer = new QueueTokenSigner("benchmark-signing-secret");
+        long now = Instant.now().getEpochSecond();
+        String tokenValue = "1:" + UUID.randomUUID();
+        token = new SignedQueueToken(tokenValue, "benchmark-user", now, now + 300);
+        signedValue = signer.sign(token);
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+            System.getProperty("redis.host", "localhost"),
+            Integer.getInteger("redis.port", 6379)
+        ));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        tokenKey = "queue:{c:1}:token:" + tokenValue;
+        LocalDateTime enteredAt = LocalDateTime.now();
+        redisTemplate.opsForHash().putAll(tokenKey, Map.of(
+            "userId", "benchmark-user",
+            "status", "ACTIVE",
+            "enteredAt", enteredAt.toString(),
+            "expiredAt", enteredAt.plusMinutes(5).toString()
+        ));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        redisTemplate.delete(tokenKey);
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    public String sign() {
+        return signer.sign(token);
+    }
+
+    @Benchmark
+    public Optional<SignedQueueToken> verify() {
+        return signer.verify(signedValue);
+    }
+
+    @Benchmark
+    public LocalDateTime redisHgetall() {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(tokenKey);
+        LocalDateTime.parse((String) entries.get("enteredAt"));
+        return LocalDateTime.parse((String) entries.get("expiredAt"));
+    }
+}
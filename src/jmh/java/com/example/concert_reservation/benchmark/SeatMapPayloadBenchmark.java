@@ -0,0 +1,148 @@
+package com.example.concert_reservation.benchmark;
+
+import com.example.concert_reservation.api.concert.dto.SeatMapFormat;
+import com.example.concert_reservation.api.concert.dto.SeatResponse;
+import com.example.concert_reservation.domain.concert.infrastructure.SeatStateBitmap;
+import com.example.concert_reservation.domain.concert.models.Seat;
+import com.example.concert_reservation.domain.concert.models.SeatStatus;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 좌석 조회 응답 크기/직렬화 비용 비교 (JSON vs 좌석 상태 벡터, Redis/DB 불필요)
+ *
+ * - json*: 기존 GET /seats 응답 - SeatResponse 배열 (좌석마다 ID/번호/상태 문자열/가격 반복)
+ * - seatMap*: Accept: application/vnd.concert.seat-map 응답 - 헤더 13바이트 + 좌석당 2비트
+ * - *Encode: 서버 직렬화 (비트맵 → 응답 바이트), *Decode: 클라이언트 해석 (응답 바이트 → 좌석별 상태)
+ *
+ * 보조 카운터: payloadBytes = 응답 크기, gzipBytes = gzip 압축 후 크기
+ * (좌석 배치표 /seats/layout 은 배치가 바뀔 때만 받으므로 조회마다의 크기에 포함하지 않음)
+ * 실행: ./gradlew jmh -Pjmh.includes=SeatMapPayloadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SeatMapPayloadBenchmark {
+
+    private static final long CONCERT_DATE_ID = 1L;
+
+    @Param({"1000", "50000"})
+    private int seatCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SeatStateBitmap bitmap;
+    private byte[] json;
+    private byte[] seatMap;
+    private int jsonGzipBytes;
+    private int seatMapGzipBytes;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SizeCounters {
+        public long payloadBytes;
+        public long gzipBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+            gzipBytes = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // 가격대 3개 구역, 좌석의 약 60%는 예약/판매됨
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Seat> seats = new ArrayList<>(seatCount);
+        for (int number = 1; number <= seatCount; number++) {
+            int roll = random.nextInt(10);
+            SeatStatus status = roll < 4 ? SeatStatus.AVAILABLE : roll < 6 ? SeatStatus.RESERVED : SeatStatus.SOLD;
+            BigDecimal price = number <= seatCount / 10 ? new BigDecimal("150000.00")
+                : number <= seatCount / 2 ? new BigDecimal("110000.00") : new BigDecimal("80000.00");
+            seats.add(Seat.of((long) number, CONCERT_DATE_ID, number, status, price));
+        }
+        bitmap = SeatStateBitmap.of(CONCERT_DATE_ID, seats);
+        json = toJson();
+        seatMap = SeatMapFormat.encode(bitmap);
+        jsonGzipBytes = gzip(json);
+        seatMapGzipBytes = gzip(seatMap);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode(SizeCounters counters) throws IOException {
+        byte[] payload = toJson();
+        counters.payloadBytes = payload.length;
+        counters.gzipBytes = jsonGzipBytes;
+        return payload;
+    }
+
+    @Benchmark
+    public byte[] seatMapEncode(SizeCounters counters) {
+        byte[] payload = SeatMapFormat.encode(bitmap);
+        counters.payloadBytes = payload.length;
+        counters.gzipBytes = seatMapGzipBytes;
+        return payload;
+    }
+
+    @Benchmark
+    public int jsonDecode() throws IOException {
+        List<SeatResponse> seats = objectMapper.readValue(json, new TypeReference<List<SeatResponse>>() { });
+        int available = 0;
+        for (SeatResponse seat : seats) {
+            if ("AVAILABLE".equals(seat.getStatus())) {
+                available++;
+            }
+        }
+        return available;
+    }
+
+    @Benchmark
+    public int seatMapDecode() {
+        int seats = SeatMapFormat.seatCount(seatMap);
+        int available = 0;
+        for (int position = 0; position < seats; position++) {
+            if (SeatMapFormat.statusAt(seatMap, position) == SeatStatus.AVAILABLE) {
+                available++;
+            }
+        }
+        return available;
+    }
+
+    /**
+     * 기존 응답과 동일한 경로 (비트맵 → Seat 목록 → SeatResponse → JSON)
+     */
+    private byte[] toJson() throws IOException {
+        List<SeatResponse> responses = new ArrayList<>(bitmap.size());
+        for (Seat seat : bitmap.toSeats()) {
+            responses.add(new SeatResponse(seat.getId(), seat.getSeatNumber(), seat.getStatus().name(), seat.getPrice()));
+        }
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    private static int gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        }
+        return out.size();
+    }
+}
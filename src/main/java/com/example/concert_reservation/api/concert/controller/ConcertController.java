@@ -1,8 +1,14 @@
 package com.example.concert_reservation.api.concert.controller;
 
 import com.example.concert_reservation.api.concert.dto.AvailableDateResponse;
+import com.example.concert_reservation.api.concert.dto.SeatLayoutResponse;
+import com.example.concert_reservation.api.concert.dto.SeatMapFormat;
 import com.example.concert_reservation.api.concert.dto.SeatResponse;
 import com.example.concert_reservation.api.concert.usecase.GetAvailableDatesUseCase;
+import com.example.concert_reservation.api.concert.usecase.GetConcertETagUseCase;
+import com.example.concert_reservation.api.concert.usecase.GetConcertETagUseCase.SeatsRepresentation;
+import com.example.concert_reservation.api.concert.usecase.GetSeatLayoutUseCase;
+import com.example.concert_reservation.api.concert.usecase.GetSeatMapUseCase;
 import com.example.concert_reservation.api.concert.usecase.GetSeatsUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,9 +17,14 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -23,33 +34,52 @@ public class ConcertController {
     
     private final GetAvailableDatesUseCase getAvailableDatesUseCase;
     private final GetSeatsUseCase getSeatsUseCase;
+    private final GetSeatMapUseCase getSeatMapUseCase;
+    private final GetSeatLayoutUseCase getSeatLayoutUseCase;
+    private final GetConcertETagUseCase getConcertETagUseCase;
     
     public ConcertController(GetAvailableDatesUseCase getAvailableDatesUseCase,
-                             GetSeatsUseCase getSeatsUseCase) {
+                             GetSeatsUseCase getSeatsUseCase,
+                             GetSeatMapUseCase getSeatMapUseCase,
+                             GetSeatLayoutUseCase getSeatLayoutUseCase,
+                             GetConcertETagUseCase getConcertETagUseCase) {
         this.getAvailableDatesUseCase = getAvailableDatesUseCase;
         this.getSeatsUseCase = getSeatsUseCase;
+        this.getSeatMapUseCase = getSeatMapUseCase;
+        this.getSeatLayoutUseCase = getSeatLayoutUseCase;
+        this.getConcertETagUseCase = getConcertETagUseCase;
     }
     
     @Operation(
         summary = "예약 가능한 콘서트 날짜 조회",
-        description = "현재 예약 가능한 모든 콘서트 날짜를 조회합니다. 좌석이 남아있는 날짜만 반환됩니다."
+        description = "현재 예약 가능한 모든 콘서트 날짜를 조회합니다. 좌석이 남아있는 날짜만 반환됩니다. "
+            + "응답의 ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다."
     )
     @ApiResponses({
         @ApiResponse(
             responseCode = "200",
             description = "조회 성공",
             content = @Content(schema = @Schema(implementation = AvailableDateResponse.class))
-        )
+        ),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)", content = @Content)
     })
     @GetMapping("/dates")
-    public ResponseEntity<List<AvailableDateResponse>> getAvailableDates() {
+    public ResponseEntity<List<AvailableDateResponse>> getAvailableDates(WebRequest webRequest) {
+        // ETag는 데이터보다 먼저 구함 (DB 조회 전에 304 응답)
+        String eTag = getConcertETagUseCase.datesETag();
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         List<AvailableDateResponse> dates = getAvailableDatesUseCase.execute();
-        return ResponseEntity.ok(dates);
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .body(dates);
     }
     
     @Operation(
         summary = "특정 콘서트 날짜의 좌석 조회",
-        description = "선택한 콘서트 날짜의 모든 좌석 정보를 조회합니다. 좌석 번호, 가격, 예약 상태를 확인할 수 있습니다."
+        description = "선택한 콘서트 날짜의 모든 좌석 정보를 조회합니다. 좌석 번호, 가격, 예약 상태를 확인할 수 있습니다. "
+            + "응답의 ETag를 If-None-Match로 보내면 좌석 상태 변경이 없을 때 304를 반환합니다."
     )
     @ApiResponses({
         @ApiResponse(
@@ -57,6 +87,7 @@ public class ConcertController {
             description = "조회 성공",
             content = @Content(schema = @Schema(implementation = SeatResponse.class))
         ),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)", content = @Content),
         @ApiResponse(
             responseCode = "404",
             description = "존재하지 않는 콘서트 날짜",
@@ -66,9 +97,66 @@ public class ConcertController {
     @GetMapping("/{concertDateId}/seats")
     public ResponseEntity<List<SeatResponse>> getSeats(
         @Parameter(description = "콘서트 날짜 ID", example = "1", required = true)
-        @PathVariable Long concertDateId
+        @PathVariable Long concertDateId,
+        WebRequest webRequest
     ) {
+        String eTag = getConcertETagUseCase.seatsETag(concertDateId, SeatsRepresentation.JSON);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         List<SeatResponse> seats = getSeatsUseCase.execute(concertDateId);
-        return ResponseEntity.ok(seats);
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(seats);
+    }
+    
+    @Operation(
+        summary = "특정 콘서트 날짜의 좌석 상태 벡터 조회",
+        description = "Accept: " + SeatMapFormat.MEDIA_TYPE_VALUE + " 로 요청하면 좌석당 2비트 상태 벡터를 반환합니다. "
+            + "위치별 좌석 ID/번호/가격은 /seats/layout 배치표로 해석합니다. 형식은 SeatMapFormat 참고."
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = SeatMapFormat.MEDIA_TYPE_VALUE)),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)", content = @Content),
+        @ApiResponse(responseCode = "404", description = "존재하지 않는 콘서트 날짜", content = @Content)
+    })
+    @GetMapping(value = "/{concertDateId}/seats", produces = SeatMapFormat.MEDIA_TYPE_VALUE)
+    public ResponseEntity<byte[]> getSeatMap(
+        @Parameter(description = "콘서트 날짜 ID", example = "1", required = true)
+        @PathVariable Long concertDateId,
+        WebRequest webRequest
+    ) {
+        String eTag = getConcertETagUseCase.seatsETag(concertDateId, SeatsRepresentation.SEAT_MAP);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(SeatMapFormat.MEDIA_TYPE_VALUE))
+            .eTag(eTag)
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(getSeatMapUseCase.execute(concertDateId));
+    }
+    
+    @Operation(
+        summary = "특정 콘서트 날짜의 좌석 배치표 조회",
+        description = "좌석 상태 벡터의 위치별 좌석 ID/번호와 가격대별 위치 구간을 조회합니다. 좌석 배치는 거의 바뀌지 않으므로 캐시해 사용합니다."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = SeatLayoutResponse.class))
+        ),
+        @ApiResponse(responseCode = "404", description = "존재하지 않는 콘서트 날짜", content = @Content)
+    })
+    @GetMapping("/{concertDateId}/seats/layout")
+    public ResponseEntity<SeatLayoutResponse> getSeatLayout(
+        @Parameter(description = "콘서트 날짜 ID", example = "1", required = true)
+        @PathVariable Long concertDateId
+    ) {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(Duration.ofMinutes(10)))
+            .body(getSeatLayoutUseCase.execute(concertDateId));
     }
 }
@@ -0,0 +1,107 @@
+package com.example.concert_reservation.api.concert.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 좌석 배치표 응답 DTO (상태 제외, 거의 바뀌지 않음)
+ * 
+ * 좌석 상태 벡터(SeatMapFormat)의 위치 i는 seatIds[i], seatNumbers[i] 좌석이다.
+ * 가격은 좌석마다 반복하지 않고 가격대별 위치 구간([시작, 끝] 포함)으로 묶는다.
+ */
+public class SeatLayoutResponse {
+    
+    private Long concertDateId;
+    private Integer seatCount;
+    private long[] seatIds;
+    private int[] seatNumbers;
+    private List<PriceTier> priceTiers;
+    
+    // 기본 생성자
+    public SeatLayoutResponse() {
+    }
+    
+    // 전체 필드 생성자
+    public SeatLayoutResponse(Long concertDateId, Integer seatCount, long[] seatIds, int[] seatNumbers,
+                              List<PriceTier> priceTiers) {
+        this.concertDateId = concertDateId;
+        this.seatCount = seatCount;
+        this.seatIds = seatIds;
+        this.seatNumbers = seatNumbers;
+        this.priceTiers = priceTiers;
+    }
+    
+    // Getters and Setters
+    public Long getConcertDateId() {
+        return concertDateId;
+    }
+    
+    public void setConcertDateId(Long concertDateId) {
+        this.concertDateId = concertDateId;
+    }
+    
+    public Integer getSeatCount() {
+        return seatCount;
+    }
+    
+    public void setSeatCount(Integer seatCount) {
+        this.seatCount = seatCount;
+    }
+    
+    public long[] getSeatIds() {
+        return seatIds;
+    }
+    
+    public void setSeatIds(long[] seatIds) {
+        this.seatIds = seatIds;
+    }
+    
+    public int[] getSeatNumbers() {
+        return seatNumbers;
+    }
+    
+    public void setSeatNumbers(int[] seatNumbers) {
+        this.seatNumbers = seatNumbers;
+    }
+    
+    public List<PriceTier> getPriceTiers() {
+        return priceTiers;
+    }
+    
+    public void setPriceTiers(List<PriceTier> priceTiers) {
+        this.priceTiers = priceTiers;
+    }
+    
+    /**
+     * 가격대 - 같은 가격의 좌석 위치 구간 목록
+     */
+    public static class PriceTier {
+        
+        private BigDecimal price;
+        private List<int[]> positionRanges;
+        
+        public PriceTier() {
+        }
+        
+        public PriceTier(BigDecimal price, List<int[]> positionRanges) {
+            this.price = price;
+            this.positionRanges = positionRanges;
+        }
+        
+        public BigDecimal getPrice() {
+            return price;
+        }
+        
+        public void setPrice(BigDecimal price) {
+            this.price = price;
+        }
+        
+        public List<int[]> getPositionRanges() {
+            return positionRanges;
+        }
+        
+        public void setPositionRanges(List<int[]> positionRanges) {
+            this.positionRanges = positionRanges;
+        }
+    }
+}
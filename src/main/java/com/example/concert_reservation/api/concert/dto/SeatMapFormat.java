@@ -0,0 +1,60 @@
+package com.example.concert_reservation.api.concert.dto;
+
+import com.example.concert_reservation.domain.concert.infrastructure.SeatStateBitmap;
+import com.example.concert_reservation.domain.concert.models.SeatStatus;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 좌석 상태 벡터 응답 형식 (Accept: application/vnd.concert.seat-map)
+ *
+ * 구성 (big-endian 헤더 + 상태 벡터):
+ *   version(1바이트) | concertDateId(8바이트) | seatCount(4바이트) | 상태 벡터(ceil(seatCount / 4)바이트)
+ * - 상태 벡터: 좌석 번호 순 위치마다 2비트, 바이트마다 하위 비트부터 4석
+ *   00 = AVAILABLE, 01 = RESERVED, 10 = SOLD
+ * - 위치 → 좌석 ID/번호/가격은 좌석 배치표(SeatLayoutResponse)로 한 번만 받아 둔다
+ * - seatCount가 배치표와 다르면 배치가 바뀐 것이므로 배치표를 다시 조회
+ */
+public final class SeatMapFormat {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.concert.seat-map";
+    public static final byte VERSION = 1;
+    public static final int HEADER_BYTES = 1 + Long.BYTES + Integer.BYTES;
+
+    private static final int SEAT_MASK = 0b11;
+
+    private SeatMapFormat() {
+    }
+
+    /**
+     * 좌석 상태 비트맵 → 응답 바이트
+     */
+    public static byte[] encode(SeatStateBitmap bitmap) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + bitmap.statusVectorBytes());
+        buffer.put(VERSION);
+        buffer.putLong(bitmap.getConcertDateId());
+        buffer.putInt(bitmap.size());
+        bitmap.writeStatusVector(buffer);
+        return buffer.array();
+    }
+
+    /**
+     * 응답의 좌석 수
+     */
+    public static int seatCount(byte[] payload) {
+        return ByteBuffer.wrap(payload).getInt(1 + Long.BYTES);
+    }
+
+    /**
+     * 응답에서 위치(좌석 번호 순 0..N-1)의 상태 읽기
+     */
+    public static SeatStatus statusAt(byte[] payload, int position) {
+        int bits = payload[HEADER_BYTES + position / SeatStateBitmap.SEATS_PER_BYTE]
+            >>> ((position % SeatStateBitmap.SEATS_PER_BYTE) * 2) & SEAT_MASK;
+        return switch (bits) {
+            case 0b01 -> SeatStatus.RESERVED;
+            case 0b10 -> SeatStatus.SOLD;
+            default -> SeatStatus.AVAILABLE;
+        };
+    }
+}
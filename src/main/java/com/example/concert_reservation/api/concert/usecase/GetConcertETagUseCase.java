@@ -0,0 +1,63 @@
+package com.example.concert_reservation.api.concert.usecase;
+
+import com.example.concert_reservation.domain.concert.components.ConcertReader;
+import com.example.concert_reservation.domain.concert.components.SeatManager;
+import org.springframework.stereotype.Service;
+
+/**
+ * 콘서트 조회 ETag UseCase (조건부 조회 If-None-Match → 304)
+ * 
+ * DB와 좌석 목록을 읽기 전에 버전만으로 ETag를 만든다.
+ * 컨트롤러는 ETag를 데이터보다 먼저 구해야 한다 (ETag가 데이터보다 오래될 수는 있어도 새로울 수는 없도록).
+ */
+@Service
+public class GetConcertETagUseCase {
+    
+    /**
+     * 좌석 조회 응답 표현 (같은 URL의 표현마다 ETag가 달라야 함)
+     */
+    public enum SeatsRepresentation {
+        JSON("seats"),
+        SEAT_MAP("seat-map");
+        
+        private final String tag;
+        
+        SeatsRepresentation(String tag) {
+            this.tag = tag;
+        }
+    }
+    
+    private final ConcertReader concertReader;
+    private final SeatManager seatManager;
+    
+    public GetConcertETagUseCase(ConcertReader concertReader, SeatManager seatManager) {
+        this.concertReader = concertReader;
+        this.seatManager = seatManager;
+    }
+    
+    /**
+     * 좌석 조회 ETag
+     * @param concertDateId 콘서트 날짜 ID
+     * @param representation 응답 표현
+     * @return ETag (좌석 상태가 아직 적재되지 않았으면 null → 조건부 조회 생략)
+     */
+    public String seatsETag(Long concertDateId, SeatsRepresentation representation) {
+        Long version = seatManager.getSeatsVersion(concertDateId);
+        if (version == null) {
+            return null;
+        }
+        return "\"" + representation.tag + "-" + concertDateId + "-" + Long.toHexString(version) + "\"";
+    }
+    
+    /**
+     * 예약 가능 날짜 목록 ETag
+     * @return ETag (버전을 확인할 수 없으면 null → 조건부 조회 생략)
+     */
+    public String datesETag() {
+        long version = concertReader.getAvailableDatesVersion();
+        if (version < 0) {
+            return null;
+        }
+        return "\"dates-" + Long.toHexString(version) + "\"";
+    }
+}
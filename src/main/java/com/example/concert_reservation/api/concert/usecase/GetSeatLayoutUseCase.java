@@ -0,0 +1,70 @@
+package com.example.concert_reservation.api.concert.usecase;
+
+import com.example.concert_reservation.api.concert.dto.SeatLayoutResponse;
+import com.example.concert_reservation.api.concert.dto.SeatLayoutResponse.PriceTier;
+import com.example.concert_reservation.domain.concert.components.ConcertReader;
+import com.example.concert_reservation.domain.concert.components.SeatManager;
+import com.example.concert_reservation.domain.concert.infrastructure.SeatStateBitmap;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좌석 배치표 조회 UseCase
+ * 좌석 상태 벡터(GetSeatMapUseCase)의 위치를 좌석 ID/번호/가격으로 해석하기 위한 정적 정보
+ */
+@Service
+public class GetSeatLayoutUseCase {
+    
+    private final ConcertReader concertReader;
+    private final SeatManager seatManager;
+    
+    public GetSeatLayoutUseCase(ConcertReader concertReader, SeatManager seatManager) {
+        this.concertReader = concertReader;
+        this.seatManager = seatManager;
+    }
+    
+    /**
+     * 특정 콘서트 날짜의 좌석 배치표 조회
+     * @param concertDateId 콘서트 날짜 ID
+     * @return 좌석 배치표
+     */
+    @Transactional(readOnly = true)
+    public SeatLayoutResponse execute(Long concertDateId) {
+        // 콘서트 날짜 존재 여부 검증
+        concertReader.getConcertDateById(concertDateId);
+        
+        SeatStateBitmap bitmap = seatManager.getSeatMap(concertDateId);
+        int size = bitmap.size();
+        long[] seatIds = new long[size];
+        int[] seatNumbers = new int[size];
+        for (int position = 0; position < size; position++) {
+            seatIds[position] = bitmap.seatIdAt(position);
+            seatNumbers[position] = bitmap.seatNumberAt(position);
+        }
+        return new SeatLayoutResponse(concertDateId, size, seatIds, seatNumbers, toPriceTiers(bitmap));
+    }
+    
+    /**
+     * 연속된 같은 가격 위치를 구간으로 묶어 가격대별로 모음 (가격은 처음 등장한 순서)
+     */
+    private List<PriceTier> toPriceTiers(SeatStateBitmap bitmap) {
+        Map<BigDecimal, List<int[]>> ranges = new LinkedHashMap<>();
+        int start = 0;
+        for (int position = 1; position <= bitmap.size(); position++) {
+            if (position == bitmap.size() || bitmap.priceAt(position).compareTo(bitmap.priceAt(start)) != 0) {
+                ranges.computeIfAbsent(bitmap.priceAt(start), price -> new ArrayList<>())
+                    .add(new int[]{start, position - 1});
+                start = position;
+            }
+        }
+        List<PriceTier> tiers = new ArrayList<>(ranges.size());
+        ranges.forEach((price, positions) -> tiers.add(new PriceTier(price, positions)));
+        return tiers;
+    }
+}
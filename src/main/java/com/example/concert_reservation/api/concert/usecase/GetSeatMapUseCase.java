@@ -0,0 +1,36 @@
+package com.example.concert_reservation.api.concert.usecase;
+
+import com.example.concert_reservation.api.concert.dto.SeatMapFormat;
+import com.example.concert_reservation.domain.concert.components.ConcertReader;
+import com.example.concert_reservation.domain.concert.components.SeatManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 좌석 상태 벡터 조회 UseCase (좌석 조회의 압축 표현)
+ * 좌석 정보는 배치표(GetSeatLayoutUseCase)로 한 번 받고, 이후에는 좌석당 2비트 상태만 조회
+ */
+@Service
+public class GetSeatMapUseCase {
+    
+    private final ConcertReader concertReader;
+    private final SeatManager seatManager;
+    
+    public GetSeatMapUseCase(ConcertReader concertReader, SeatManager seatManager) {
+        this.concertReader = concertReader;
+        this.seatManager = seatManager;
+    }
+    
+    /**
+     * 특정 콘서트 날짜의 좌석 상태 벡터 조회
+     * @param concertDateId 콘서트 날짜 ID
+     * @return SeatMapFormat 바이트
+     */
+    @Transactional(readOnly = true)
+    public byte[] execute(Long concertDateId) {
+        // 콘서트 날짜 존재 여부 검증
+        concertReader.getConcertDateById(concertDateId);
+        
+        return SeatMapFormat.encode(seatManager.getSeatMap(concertDateId));
+    }
+}
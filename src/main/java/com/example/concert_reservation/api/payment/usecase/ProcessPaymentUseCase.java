@@ -88,6 +88,7 @@ public class ProcessPaymentUseCase {
      * - 데이터 플랫폼 전송
      * - 알림 발송
      * - 통계 집계
+     * - 대기열 Active 토큰 반납 (다음 대기자 입장)
      */
     private void publishPaymentCompletedEvent(Payment payment) {
         // 예약 정보 조회 (읽기 전용, 트랜잭션 내)
@@ -115,6 +116,7 @@ public class ProcessPaymentUseCase {
         PaymentCompletedEvent event = PaymentCompletedEvent.of(
             payment.getId(),
             reservation.getId(),
+            reservation.getConcertDateId(),
             payment.getUserId(),
             payment.getAmount(),
             payment.getPaidAt(),
@@ -1,10 +1,15 @@
 package com.example.concert_reservation.api.queue.controller;
 
+import com.example.concert_reservation.api.queue.dto.AdmissionStatusResponse;
 import com.example.concert_reservation.api.queue.dto.IssueTokenRequest;
 import com.example.concert_reservation.api.queue.dto.IssueTokenResponse;
 import com.example.concert_reservation.api.queue.dto.QueueStatusResponse;
+import com.example.concert_reservation.api.queue.usecase.GetAdmissionStatusUseCase;
 import com.example.concert_reservation.api.queue.usecase.GetQueueStatusUseCase;
+import com.example.concert_reservation.api.queue.usecase.HeartbeatQueueTokenUseCase;
 import com.example.concert_reservation.api.queue.usecase.IssueQueueTokenUseCase;
+import com.example.concert_reservation.api.queue.usecase.SubscribeQueueStatusUseCase;
+import com.example.concert_reservation.support.exception.TokenMissingException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,8 +19,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/queue")
@@ -24,11 +31,20 @@ public class QueueTokenController {
     
     private final IssueQueueTokenUseCase issueQueueTokenUseCase;
     private final GetQueueStatusUseCase getQueueStatusUseCase;
+    private final GetAdmissionStatusUseCase getAdmissionStatusUseCase;
+    private final SubscribeQueueStatusUseCase subscribeQueueStatusUseCase;
+    private final HeartbeatQueueTokenUseCase heartbeatQueueTokenUseCase;
     
     public QueueTokenController(IssueQueueTokenUseCase issueQueueTokenUseCase,
-                                GetQueueStatusUseCase getQueueStatusUseCase) {
+                                GetQueueStatusUseCase getQueueStatusUseCase,
+                                GetAdmissionStatusUseCase getAdmissionStatusUseCase,
+                                SubscribeQueueStatusUseCase subscribeQueueStatusUseCase,
+                                HeartbeatQueueTokenUseCase heartbeatQueueTokenUseCase) {
         this.issueQueueTokenUseCase = issueQueueTokenUseCase;
         this.getQueueStatusUseCase = getQueueStatusUseCase;
+        this.getAdmissionStatusUseCase = getAdmissionStatusUseCase;
+        this.subscribeQueueStatusUseCase = subscribeQueueStatusUseCase;
+        this.heartbeatQueueTokenUseCase = heartbeatQueueTokenUseCase;
     }
     
     @Operation(
@@ -105,4 +121,96 @@ public class QueueTokenController {
         QueueStatusResponse response = getQueueStatusUseCase.execute(token);
         return ResponseEntity.ok(response);
     }
+    
+    @Operation(
+        summary = "대기열 상태 구독 (SSE)",
+        description = """
+            대기열 상태 변화를 Server-Sent Events로 수신합니다. (폴링 대체)
+            - position 이벤트: 대기 순번/예상 대기 시간 (약 2초 간격)
+            - activated 이벤트: 토큰이 ACTIVE로 전환됨 (이후 연결 종료, /status로 서명 토큰 조회 가능)
+            - 브라우저 EventSource는 헤더를 지정할 수 없으므로 token 쿼리 파라미터도 지원합니다.
+            - 구독 중에는 서버가 사용자별로 Redis를 조회하지 않습니다.
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "구독 시작 (text/event-stream)",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "토큰 누락",
+            content = @Content
+        )
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamQueueStatus(
+        @Parameter(description = "대기열 토큰 (헤더)")
+        @RequestHeader(value = "X-Queue-Token", required = false) String headerToken,
+        @Parameter(description = "대기열 토큰 (EventSource용 쿼리 파라미터)")
+        @RequestParam(value = "token", required = false) String queryToken
+    ) {
+        String token = headerToken != null && !headerToken.isBlank() ? headerToken : queryToken;
+        if (token == null || token.isBlank()) {
+            throw new TokenMissingException("대기열 토큰이 필요합니다. Header 'X-Queue-Token' 또는 token 파라미터를 포함해주세요.");
+        }
+        return subscribeQueueStatusUseCase.execute(token);
+    }
+    
+    @Operation(
+        summary = "대기열 토큰 하트비트",
+        description = """
+            대기 중이거나 ACTIVE인 토큰이 아직 사용 중임을 알립니다.
+            - 클라이언트는 화면이 열려 있는 동안 주기적으로 호출해야 합니다 (권장: 30초 간격).
+            - /status 폴링과 /stream 구독도 하트비트로 처리되므로 별도 호출이 필요 없습니다.
+            - 일정 시간 하트비트가 없으면 대기 토큰은 대기열에서 제거되고,
+              ACTIVE 토큰은 만료 전에 반납되어 다음 대기자가 입장합니다.
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "204",
+            description = "하트비트 기록 성공",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "만료되었거나 정리된 토큰 (재발급 필요)",
+            content = @Content
+        )
+    })
+    @PostMapping("/heartbeat")
+    public ResponseEntity<Void> heartbeat(
+        @Parameter(
+            description = "대기열 토큰 (토큰 발급 시 받은 값)",
+            example = "abc123def456",
+            required = true
+        )
+        @RequestHeader("X-Queue-Token") String token
+    ) {
+        heartbeatQueueTokenUseCase.execute(token);
+        return ResponseEntity.noContent().build();
+    }
+    
+    @Operation(
+        summary = "대기열 입장 속도 현황 조회",
+        description = """
+            대기열 입장 속도 조절 상태를 조회합니다.
+            - targetRatePerSecond: 현재 목표 입장 속도 (예약 지연시간/DB 풀 사용률에 따라 자동 조절)
+            - drainRatePerSecond: 실제 측정된 활성화 속도 (예상 대기 시간 계산 기준)
+            - activeCount / maxActiveSlots: 현재 Active 토큰 수 / 동시 Active 상한
+            """
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = AdmissionStatusResponse.class))
+        )
+    })
+    @GetMapping("/admission")
+    public ResponseEntity<AdmissionStatusResponse> getAdmissionStatus() {
+        return ResponseEntity.ok(getAdmissionStatusUseCase.execute());
+    }
 }
@@ -0,0 +1,77 @@
+package com.example.concert_reservation.api.queue.dto;
+
+/**
+ * 대기열 입장 속도 현황 응답 DTO
+ */
+public class AdmissionStatusResponse {
+    
+    private Double targetRatePerSecond;      // 현재 목표 입장 속도
+    private Double drainRatePerSecond;       // 측정된 배출 속도 (EWMA)
+    private Double reservationLatencyMillis; // 예약 처리 지연시간 (EWMA)
+    private Long activeCount;
+    private Integer maxActiveSlots;
+    private Long waitingCount;
+    
+    // 기본 생성자
+    public AdmissionStatusResponse() {
+    }
+    
+    public AdmissionStatusResponse(Double targetRatePerSecond, Double drainRatePerSecond,
+                                   Double reservationLatencyMillis, Long activeCount,
+                                   Integer maxActiveSlots, Long waitingCount) {
+        this.targetRatePerSecond = targetRatePerSecond;
+        this.drainRatePerSecond = drainRatePerSecond;
+        this.reservationLatencyMillis = reservationLatencyMillis;
+        this.activeCount = activeCount;
+        this.maxActiveSlots = maxActiveSlots;
+        this.waitingCount = waitingCount;
+    }
+    
+    public Double getTargetRatePerSecond() {
+        return targetRatePerSecond;
+    }
+    
+    public void setTargetRatePerSecond(Double targetRatePerSecond) {
+        this.targetRatePerSecond = targetRatePerSecond;
+    }
+    
+    public Double getDrainRatePerSecond() {
+        return drainRatePerSecond;
+    }
+    
+    public void setDrainRatePerSecond(Double drainRatePerSecond) {
+        this.drainRatePerSecond = drainRatePerSecond;
+    }
+    
+    public Double getReservationLatencyMillis() {
+        return reservationLatencyMillis;
+    }
+    
+    public void setReservationLatencyMillis(Double reservationLatencyMillis) {
+        this.reservationLatencyMillis = reservationLatencyMillis;
+    }
+    
+    public Long getActiveCount() {
+        return activeCount;
+    }
+    
+    public void setActiveCount(Long activeCount) {
+        this.activeCount = activeCount;
+    }
+    
+    public Integer getMaxActiveSlots() {
+        return maxActiveSlots;
+    }
+    
+    public void setMaxActiveSlots(Integer maxActiveSlots) {
+        this.maxActiveSlots = maxActiveSlots;
+    }
+    
+    public Long getWaitingCount() {
+        return waitingCount;
+    }
+    
+    public void setWaitingCount(Long waitingCount) {
+        this.waitingCount = waitingCount;
+    }
+}
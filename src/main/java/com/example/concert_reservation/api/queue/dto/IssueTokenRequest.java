@@ -1,6 +1,7 @@
 package com.example.concert_reservation.api.queue.dto;
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
 
 /**
  * 대기열 토큰 발급 요청 DTO
@@ -10,6 +11,10 @@ public class IssueTokenRequest {
     @NotBlank(message = "사용자 ID는 필수입니다")
     private String userId;
     
+    // 선택 - 지정하면 해당 공연 일정 전용 대기열에 진입, 없으면 공통 대기열
+    @Positive(message = "공연 일정 ID는 양수여야 합니다")
+    private Long concertDateId;
+    
     // 기본 생성자 (Jackson용)
     public IssueTokenRequest() {
     }
@@ -18,6 +23,11 @@ public class IssueTokenRequest {
         this.userId = userId;
     }
     
+    public IssueTokenRequest(String userId, Long concertDateId) {
+        this.userId = userId;
+        this.concertDateId = concertDateId;
+    }
+    
     public String getUserId() {
         return userId;
     }
@@ -25,4 +35,12 @@ public class IssueTokenRequest {
     public void setUserId(String userId) {
         this.userId = userId;
     }
+    
+    public Long getConcertDateId() {
+        return concertDateId;
+    }
+    
+    public void setConcertDateId(Long concertDateId) {
+        this.concertDateId = concertDateId;
+    }
 }
@@ -1,6 +1,7 @@
 package com.example.concert_reservation.api.queue.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.LocalDateTime;
 
@@ -22,6 +23,10 @@ public class QueueStatusResponse {
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime expiredAt;
     
+    // ACTIVE 상태이고 서명 키가 설정된 경우에만 발급 (X-Queue-Token으로 사용 가능)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String signedToken;
+    
     // 기본 생성자
     public QueueStatusResponse() {
     }
@@ -114,4 +119,12 @@ public class QueueStatusResponse {
     public void setExpiredAt(LocalDateTime expiredAt) {
         this.expiredAt = expiredAt;
     }
+    
+    public String getSignedToken() {
+        return signedToken;
+    }
+    
+    public void setSignedToken(String signedToken) {
+        this.signedToken = signedToken;
+    }
 }
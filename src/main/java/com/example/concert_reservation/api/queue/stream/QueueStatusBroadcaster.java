@@ -0,0 +1,375 @@
+package com.example.concert_reservation.api.queue.stream;
+
+import com.example.concert_reservation.api.queue.dto.QueueStatusResponse;
+import com.example.concert_reservation.domain.queue.components.QueueAdmissionRegulator;
+import com.example.concert_reservation.domain.queue.components.QueueIdleTokenReclaimer;
+import com.example.concert_reservation.domain.queue.events.QueueTickEvent;
+import com.example.concert_reservation.domain.queue.models.QueueStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 대기열 상태 SSE 브로드캐스터
+ *
+ * 설계 방식:
+ * - 구독 시점에 1회 조회한 대기 순번을 메모리에 보관하고,
+ *   QueueTickEvent(스케줄러 틱마다 1회)로 같은 공연 일정의 활성화 수만큼 차감
+ *   → 구독자 수와 무관하게 Redis 조회 0회 (기존 폴링: 요청마다 HGETALL + ZRANK)
+ * - 자기 토큰이 활성화되면 "activated" 이벤트 전송 후 연결 종료
+ * - 순번/예상 시간("position")은 update-interval마다 전송 (틱마다 보내지 않아 전송량 제한)
+ * - 서블릿 비동기(SseEmitter) 기반이므로 대기 중인 연결은 요청 스레드를 점유하지 않음
+ * - 활성화 외 사유로 빠진 대기자(유휴 정리, 만료)는 틱의 removedWaiting으로 전달받아
+ *   빠진 대기자가 대기열에 고르게 분포한다고 보고 앞 대기 인원 비율만큼 차감 (RedisQueueRepository.estimateWaitingAhead와 같은 모델)
+ *   1명 미만으로 나오는 몫은 구독자별로 누적해 두었다가 1명이 되면 차감
+ * - 틱 이벤트는 전용 단일 스레드(queueStreamExecutor)에서 순서대로 처리
+ *   처리가 밀리면 처리 전 틱을 하나로 합침 (활성화 토큰은 합집합, 대기 인원은 최신) → 틱 유실 없이 작업 1개만 대기
+ * - 전송(SseEmitter.send)은 틱 스레드에서 하지 않고 전송 전용 풀(queueStreamSendExecutor)에 구독자별로 넘김
+ *   → 느린 클라이언트 1명이 다른 구독자의 갱신과 다음 틱 처리를 막지 않음
+ *   구독자별 전송 작업은 동시에 1개만 실행하고, 전송 중에 쌓인 position은 최신 1개만 남김 (activated는 덮어쓰지 않음)
+ * - 전송에 실패하거나 send-timeout 이상 끝나지 않는 구독자는 구독 해제
+ *   (진행 중인 send가 emitter 쓰기 잠금을 쥐고 있으므로 연결 종료는 그 send가 끝난 전송 스레드에서 처리)
+ * - 연결이 유지된 구독자는 heartbeat-interval마다 하트비트를 일괄 기록 (유휴 토큰 정리 대상에서 제외)
+ */
+@Component
+public class QueueStatusBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(QueueStatusBroadcaster.class);
+
+    static final String POSITION_EVENT = "position";
+    static final String ACTIVATED_EVENT = "activated";
+
+    private final QueueAdmissionRegulator admissionRegulator;
+    private final QueueIdleTokenReclaimer idleTokenReclaimer;
+    private final Executor streamExecutor;
+    private final Executor sendExecutor;
+    private final long updateIntervalMillis;
+    private final long sendTimeoutMillis;
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+    // 아직 처리하지 않은 틱 (밀린 틱은 합쳐서 보관)
+    private final AtomicReference<QueueTickEvent> pendingTick = new AtomicReference<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    private long lastPositionBroadcastAt;
+
+    public QueueStatusBroadcaster(QueueAdmissionRegulator admissionRegulator,
+                                  QueueIdleTokenReclaimer idleTokenReclaimer,
+                                  @Qualifier("queueStreamExecutor") Executor streamExecutor,
+                                  @Qualifier("queueStreamSendExecutor") Executor sendExecutor,
+                                  @Value("${queue.stream.update-interval-ms:2000}") long updateIntervalMillis,
+                                  @Value("${queue.stream.send-timeout-ms:5000}") long sendTimeoutMillis) {
+        this.admissionRegulator = admissionRegulator;
+        this.idleTokenReclaimer = idleTokenReclaimer;
+        this.streamExecutor = streamExecutor;
+        this.sendExecutor = sendExecutor;
+        this.updateIntervalMillis = updateIntervalMillis;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+    }
+
+    /**
+     * 구독 등록 (WAITING 토큰)
+     *
+     * @param emitter SSE 연결
+     * @param token 토큰 값
+     * @param concertDateId 토큰이 속한 공연 일정 ID
+     * @param userId 사용자 ID
+     * @param waitingAhead 구독 시점 앞 대기 인원
+     */
+    public void subscribe(SseEmitter emitter, String token, long concertDateId, String userId, long waitingAhead) {
+        Subscriber subscriber = new Subscriber(emitter, token, concertDateId, userId, waitingAhead);
+        Subscriber previous = subscribers.put(token, subscriber);
+        if (previous != null) {
+            // 같은 토큰으로 재연결 시 이전 연결 정리
+            close(previous);
+        }
+        emitter.onCompletion(() -> subscribers.remove(token, subscriber));
+        emitter.onTimeout(() -> subscribers.remove(token, subscriber));
+        emitter.onError(e -> subscribers.remove(token, subscriber));
+
+        sendPosition(subscriber);
+    }
+
+    /**
+     * 틱 수신 (발행 스레드를 막지 않음)
+     * 처리 전 틱과 합친 뒤 전용 스레드에 처리 작업을 1개만 예약한다.
+     */
+    @EventListener
+    public void onTick(QueueTickEvent event) {
+        pendingTick.accumulateAndGet(event, (pending, next) -> pending == null ? next : pending.merge(next));
+        if (!drainScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            streamExecutor.execute(this::drainTicks);
+        } catch (RejectedExecutionException e) {
+            // 종료 중 - 남은 틱은 다음 수신 시 함께 처리
+            drainScheduled.set(false);
+            log.warn("대기열 SSE 푸시 작업 예약 실패: {}", e.getMessage());
+        }
+    }
+
+    private void drainTicks() {
+        drainScheduled.set(false);
+        QueueTickEvent tick = pendingTick.getAndSet(null);
+        if (tick != null) {
+            applyTick(tick);
+        }
+    }
+
+    /**
+     * 틱 반영
+     * 1. 활성화된 토큰의 구독자 → activated 이벤트 + 연결 종료
+     * 2. 나머지 구독자 → 같은 공연 일정의 빠진 대기자 중 앞 대기 인원 비율만큼, 활성화 수만큼 순번 차감
+     * 3. update-interval 경과 시 전체 구독자에게 position 이벤트
+     * 4. send-timeout 이상 전송이 끝나지 않은 구독자 해제, 전송 풀이 가득 차 넘기지 못한 전송 재시도
+     */
+    private void applyTick(QueueTickEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        for (List<String> tokens : event.activatedTokens().values()) {
+            for (String token : tokens) {
+                Subscriber subscriber = subscribers.remove(token);
+                if (subscriber != null) {
+                    sendActivated(subscriber);
+                }
+            }
+        }
+
+        boolean broadcastPosition = event.tickedAtMillis() - lastPositionBroadcastAt >= updateIntervalMillis;
+        if (broadcastPosition) {
+            lastPositionBroadcastAt = event.tickedAtMillis();
+        }
+
+        long now = System.currentTimeMillis();
+        for (Subscriber subscriber : subscribers.values()) {
+            if (subscriber.isSendStalled(now, sendTimeoutMillis)) {
+                log.debug("대기열 SSE 전송 지연 (구독 해제): token={}", subscriber.token);
+                subscribers.remove(subscriber.token, subscriber);
+                close(subscriber);
+                continue;
+            }
+            deductRemoved(subscriber, event);
+            int activated = event.activatedCount(subscriber.concertDateId);
+            if (activated > 0) {
+                subscriber.waitingAhead = Math.max(0, subscriber.waitingAhead - activated);
+            }
+            if (broadcastPosition) {
+                sendPosition(subscriber);
+            } else if (subscriber.outgoing.get() != null) {
+                scheduleSend(subscriber);
+            }
+        }
+    }
+
+    /**
+     * 활성화 외 사유로 빠진 대기자 중 구독자 앞에 있었을 것으로 보는 수만큼 차감
+     * 틱 시작 시점 대기 인원 + 빠진 수를 빠지기 전 대기열로 보고 앞 대기 인원 비율을 곱함 (대기 인원을 모르면 차감하지 않음)
+     */
+    private void deductRemoved(Subscriber subscriber, QueueTickEvent event) {
+        long removed = event.removedCount(subscriber.concertDateId);
+        Long waiting = event.waitingByShard().get(subscriber.concertDateId);
+        long ahead = subscriber.waitingAhead;
+        if (removed <= 0 || waiting == null || ahead == 0) {
+            return;
+        }
+        subscriber.removedAheadCarry += (double) removed * ahead / (waiting + removed);
+        long deducted = (long) subscriber.removedAheadCarry;
+        if (deducted > 0) {
+            subscriber.removedAheadCarry -= deducted;
+            subscriber.waitingAhead = Math.max(0, ahead - deducted);
+        }
+    }
+
+    /**
+     * 구독 중인 토큰 하트비트 일괄 기록
+     * SSE 연결이 살아 있으면 클라이언트가 화면을 보고 있는 것으로 간주한다.
+     */
+    @Scheduled(fixedDelayString = "${queue.heartbeat.stream-interval-millis:15000}")
+    public void heartbeatSubscribers() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        try {
+            idleTokenReclaimer.heartbeatAll(List.copyOf(subscribers.keySet()));
+        } catch (Exception e) {
+            log.warn("대기열 SSE 구독자 하트비트 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 구독자 수
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void sendPosition(Subscriber subscriber) {
+        QueueStatusResponse payload = new QueueStatusResponse(
+            subscriber.token,
+            subscriber.userId,
+            subscriber.waitingAhead + 1,
+            QueueStatus.WAITING.name(),
+            subscriber.waitingAhead,
+            admissionRegulator.getEstimatedWaitTimeString(subscriber.waitingAhead),
+            null,
+            null
+        );
+        enqueue(subscriber, new Outgoing(POSITION_EVENT, payload, false));
+    }
+
+    private void sendActivated(Subscriber subscriber) {
+        QueueStatusResponse payload = new QueueStatusResponse(
+            subscriber.token,
+            subscriber.userId,
+            0L,
+            QueueStatus.ACTIVE.name(),
+            0L,
+            "0분 0초",
+            null,
+            null
+        );
+        enqueue(subscriber, new Outgoing(ACTIVATED_EVENT, payload, true));
+    }
+
+    /**
+     * 구독자별 전송 대기열에 넣고 전송 작업 예약
+     * 전송 대기 중인 position은 최신 값으로 교체, activated(마지막 이벤트)는 이후 position으로 덮어쓰지 않음
+     */
+    private void enqueue(Subscriber subscriber, Outgoing outgoing) {
+        subscriber.outgoing.accumulateAndGet(outgoing, (pending, next) -> pending != null && pending.last() ? pending : next);
+        scheduleSend(subscriber);
+    }
+
+    private void scheduleSend(Subscriber subscriber) {
+        if (!subscriber.sending.compareAndSet(false, true)) {
+            // 전송 중 - 진행 중인 전송 작업이 이어서 보냄
+            return;
+        }
+        try {
+            sendExecutor.execute(() -> flush(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.sending.set(false);
+            if (subscribers.get(subscriber.token) != subscriber) {
+                // activated 등으로 이미 구독 목록에서 빠진 구독자는 재시도 기회가 없으므로 연결 종료 (재연결 시 현재 상태 조회)
+                close(subscriber);
+            }
+            // 구독 중이면 다음 틱에 재시도
+        }
+    }
+
+    /**
+     * 전송 풀에서 구독자의 전송 대기 이벤트를 모두 보냄 (구독자별로 동시에 1개만 실행)
+     */
+    private void flush(Subscriber subscriber) {
+        while (true) {
+            Outgoing next = subscriber.outgoing.getAndSet(null);
+            if (next == null) {
+                subscriber.sending.set(false);
+                if (subscriber.closed) {
+                    // 전송 중에 해제된 구독자 - close가 넘긴 연결 종료를 여기서 처리
+                    close(subscriber);
+                    return;
+                }
+                // 비운 직후 들어온 이벤트는 여기서 이어서 보냄 (예약한 쪽은 전송 중으로 보고 넘어갔으므로)
+                if (subscriber.outgoing.get() == null || !subscriber.sending.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            if (subscriber.closed) {
+                subscriber.emitter.complete();
+                return;
+            }
+            if (!send(subscriber, next)) {
+                return;
+            }
+            if (next.last() || subscriber.closed) {
+                subscriber.emitter.complete();
+                return;
+            }
+        }
+    }
+
+    private boolean send(Subscriber subscriber, Outgoing outgoing) {
+        subscriber.sendStartedAt = System.currentTimeMillis();
+        try {
+            subscriber.emitter.send(SseEmitter.event()
+                .name(outgoing.eventName())
+                .data(outgoing.payload(), MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료 - 구독 해제
+            log.debug("대기열 SSE 전송 실패 (구독 해제): token={}, {}", subscriber.token, e.getMessage());
+            subscribers.remove(subscriber.token, subscriber);
+            subscriber.closed = true;
+            subscriber.emitter.completeWithError(e);
+            return false;
+        } finally {
+            subscriber.sendStartedAt = 0;
+        }
+    }
+
+    /**
+     * 연결 종료
+     * 전송 중이면 emitter 쓰기 잠금을 기다리지 않도록 표시만 하고, 진행 중인 전송 작업이 send가 끝난 뒤 종료한다.
+     */
+    private void close(Subscriber subscriber) {
+        subscriber.closed = true;
+        if (subscriber.sending.compareAndSet(false, true)) {
+            // 이후 전송 작업이 예약되지 않도록 전송 중 상태로 남겨 둠
+            subscriber.emitter.complete();
+        }
+    }
+
+    /**
+     * 전송 대기 이벤트
+     * @param last true면 전송 후 연결 종료 (activated)
+     */
+    private record Outgoing(String eventName, QueueStatusResponse payload, boolean last) {
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final String token;
+        private final long concertDateId;
+        private final String userId;
+        private volatile long waitingAhead;
+        // 1명 미만으로 나온 빠진 대기자 몫 누적 (틱 스레드에서만 접근)
+        private double removedAheadCarry;
+        private final AtomicReference<Outgoing> outgoing = new AtomicReference<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        // 진행 중인 send 시작 시각 (전송 중이 아니면 0)
+        private volatile long sendStartedAt;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, String token, long concertDateId, String userId, long waitingAhead) {
+            this.emitter = emitter;
+            this.token = token;
+            this.concertDateId = concertDateId;
+            this.userId = userId;
+            this.waitingAhead = waitingAhead;
+        }
+
+        private boolean isSendStalled(long now, long timeoutMillis) {
+            long startedAt = sendStartedAt;
+            return startedAt != 0 && now - startedAt >= timeoutMillis;
+        }
+    }
+}
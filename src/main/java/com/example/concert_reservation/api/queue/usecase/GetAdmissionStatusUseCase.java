@@ -0,0 +1,40 @@
+package com.example.concert_reservation.api.queue.usecase;
+
+import com.example.concert_reservation.api.queue.dto.AdmissionStatusResponse;
+import com.example.concert_reservation.domain.queue.components.QueueAdmissionRegulator;
+import com.example.concert_reservation.domain.queue.infrastructure.RedisQueueRepository;
+import org.springframework.stereotype.Service;
+
+/**
+ * 대기열 입장 속도 현황 조회 유스케이스
+ * 
+ * 운영 중 입장 속도 조절 상태(목표 속도, 배출 속도, 예약 지연시간)와
+ * 대기열 규모를 한 번에 확인하기 위한 조회 API
+ */
+@Service
+public class GetAdmissionStatusUseCase {
+    
+    private final QueueAdmissionRegulator admissionRegulator;
+    private final RedisQueueRepository redisQueueRepository;
+    
+    public GetAdmissionStatusUseCase(QueueAdmissionRegulator admissionRegulator,
+                                     RedisQueueRepository redisQueueRepository) {
+        this.admissionRegulator = admissionRegulator;
+        this.redisQueueRepository = redisQueueRepository;
+    }
+    
+    /**
+     * 입장 속도 현황 조회
+     * @return 입장 속도 및 대기열 현황
+     */
+    public AdmissionStatusResponse execute() {
+        return new AdmissionStatusResponse(
+            admissionRegulator.getCurrentRate(),
+            admissionRegulator.getDrainRatePerSecond(),
+            admissionRegulator.getReservationLatencyMillis(),
+            redisQueueRepository.getActiveQueueSize(),
+            admissionRegulator.getMaxActiveSlots(),
+            redisQueueRepository.getWaitingQueueSize()
+        );
+    }
+}
@@ -1,13 +1,19 @@
 package com.example.concert_reservation.api.queue.usecase;
 
 import com.example.concert_reservation.api.queue.dto.QueueStatusResponse;
-import com.example.concert_reservation.domain.queue.components.QueueActivationScheduler;
+import com.example.concert_reservation.domain.queue.components.QueueAdmissionRegulator;
+import com.example.concert_reservation.domain.queue.components.QueueTokenSigner;
 import com.example.concert_reservation.domain.queue.components.QueueValidator;
 import com.example.concert_reservation.domain.queue.models.QueueToken;
+import com.example.concert_reservation.domain.queue.models.SignedQueueToken;
 import com.example.concert_reservation.domain.queue.models.UserQueue;
+import com.example.concert_reservation.domain.queue.repositories.QueueStoreRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.ZoneId;
+
 /**
  * 대기열 상태 조회 유스케이스 (Redis 기반)
  * 
@@ -15,15 +21,27 @@ import org.springframework.transaction.annotation.Transactional;
  * 1. 토큰으로 대기열 조회
  * 2. 대기 중이면 앞에 대기자 수 계산
  * 3. 예상 대기 시간 계산
- * 4. 상태 정보 반환 (폴링용)
+ * 4. ACTIVE 상태면 서명 토큰 발급 (서명 키 설정 시)
+ * 5. 상태 정보 반환 (폴링용)
+ * 
+ * 폴링 자체가 생존 신호이므로 조회 시 하트비트도 함께 기록한다.
  */
 @Service
 public class GetQueueStatusUseCase {
     
     private final QueueValidator queueValidator;
+    private final QueueAdmissionRegulator admissionRegulator;
+    private final QueueTokenSigner queueTokenSigner;
+    private final QueueStoreRepository queueStoreRepository;
     
-    public GetQueueStatusUseCase(QueueValidator queueValidator) {
+    public GetQueueStatusUseCase(QueueValidator queueValidator,
+                                 QueueAdmissionRegulator admissionRegulator,
+                                 QueueTokenSigner queueTokenSigner,
+                                 QueueStoreRepository queueStoreRepository) {
         this.queueValidator = queueValidator;
+        this.admissionRegulator = admissionRegulator;
+        this.queueTokenSigner = queueTokenSigner;
+        this.queueStoreRepository = queueStoreRepository;
     }
     
     /**
@@ -38,6 +56,7 @@ public class GetQueueStatusUseCase {
         // 1. 토큰 검증 및 대기열 조회
         QueueToken token = QueueToken.of(tokenValue);
         UserQueue queue = queueValidator.validateAndGetQueue(token);
+        queueStoreRepository.heartbeat(token);
         
         // 2. 앞에 대기 중인 인원 수 계산 (WAITING 상태일 때만)
         Long waitingAhead = 0L;
@@ -45,11 +64,11 @@ public class GetQueueStatusUseCase {
         
         if (queue.isWaiting()) {
             waitingAhead = queueValidator.countWaitingAheadByToken(queue.getToken().getValue());
-            estimatedWaitTime = QueueActivationScheduler.getEstimatedWaitTimeString(waitingAhead);
+            estimatedWaitTime = admissionRegulator.getEstimatedWaitTimeString(waitingAhead);
         }
         
         // 3. 응답 DTO 변환
-        return new QueueStatusResponse(
+        QueueStatusResponse response = new QueueStatusResponse(
             queue.getToken().getValue(),
             queue.getUserId(),
             queue.getQueueNumber(),
@@ -59,5 +78,16 @@ public class GetQueueStatusUseCase {
             queue.getEnteredAt(),
             queue.getExpiredAt()
         );
+        
+        // 4. ACTIVE 토큰에 서명 토큰 발급 → 이후 보호 API는 Redis 조회 없이 검증
+        if (queue.isActive() && queue.getExpiredAt() != null && queueTokenSigner.isEnabled()) {
+            response.setSignedToken(queueTokenSigner.sign(new SignedQueueToken(
+                queue.getToken().getValue(),
+                queue.getUserId(),
+                Instant.now().getEpochSecond(),
+                queue.getExpiredAt().atZone(ZoneId.systemDefault()).toEpochSecond()
+            )));
+        }
+        return response;
     }
 }
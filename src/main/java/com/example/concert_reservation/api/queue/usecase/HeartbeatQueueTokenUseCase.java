@@ -0,0 +1,36 @@
+package com.example.concert_reservation.api.queue.usecase;
+
+import com.example.concert_reservation.domain.queue.models.QueueToken;
+import com.example.concert_reservation.domain.queue.repositories.QueueStoreRepository;
+import com.example.concert_reservation.support.exception.TokenNotFoundException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 대기열 토큰 하트비트 유스케이스
+ * 
+ * 비즈니스 흐름:
+ * 1. 토큰의 마지막 생존 시각 갱신 (WAITING / ACTIVE 모두)
+ * 2. 이미 만료/정리된 토큰이면 예외 → 클라이언트는 토큰을 다시 발급받는다
+ * 
+ * 하트비트가 끊긴 토큰은 QueueIdleTokenReclaimer가 만료 전에 정리한다.
+ */
+@Service
+public class HeartbeatQueueTokenUseCase {
+    
+    private final QueueStoreRepository queueStoreRepository;
+    
+    public HeartbeatQueueTokenUseCase(QueueStoreRepository queueStoreRepository) {
+        this.queueStoreRepository = queueStoreRepository;
+    }
+    
+    /**
+     * 하트비트 기록
+     * @param tokenValue 토큰 값
+     * @throws TokenNotFoundException 토큰이 없거나 이미 정리된 경우
+     */
+    public void execute(String tokenValue) {
+        if (!queueStoreRepository.heartbeat(QueueToken.of(tokenValue))) {
+            throw new TokenNotFoundException(tokenValue);
+        }
+    }
+}
@@ -2,59 +2,101 @@ package com.example.concert_reservation.api.queue.usecase;
 
 import com.example.concert_reservation.api.queue.dto.IssueTokenRequest;
 import com.example.concert_reservation.api.queue.dto.IssueTokenResponse;
-import com.example.concert_reservation.domain.queue.components.QueueActivationScheduler;
+import com.example.concert_reservation.domain.concert.components.ConcertReader;
+import com.example.concert_reservation.domain.queue.components.QueueAdmissionRegulator;
+import com.example.concert_reservation.domain.queue.components.QueueIssueBatcher;
 import com.example.concert_reservation.domain.queue.components.QueueValidator;
+import com.example.concert_reservation.domain.queue.infrastructure.EmbeddedQueueEngine;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueStoreFailover;
 import com.example.concert_reservation.domain.queue.infrastructure.RedisQueueRepository;
+import com.example.concert_reservation.domain.queue.models.QueueToken;
 import com.example.concert_reservation.domain.queue.models.UserQueue;
+import com.example.concert_reservation.support.exception.DomainConflictException;
+import com.example.concert_reservation.support.exception.DomainNotFoundException;
+import com.example.concert_reservation.support.exception.DomainUnavailableException;
+import com.example.concert_reservation.support.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 /**
  * 대기열 토큰 발급 유스케이스 (Redis 기반)
  * 
  * 비즈니스 흐름:
- * 1. 사용자가 이미 활성/대기 중인 토큰이 있는지 확인
- * 2. 없으면 Redis Sorted Set에 추가 (WAITING 상태)
+ * 0. concertDateId를 지정했으면 존재하고 예매가 열려 있는 공연 일정인지 확인
+ *    (임의 ID로 공연 일정별 대기열 샤드가 계속 늘어나지 않도록 진입 전에 거절)
+ * 1. 사용자가 해당 공연 일정 대기열에 이미 활성/대기 중인 토큰이 있는지 확인
+ * 2. 없으면 공연 일정별 Redis Sorted Set에 추가 (WAITING 상태, concertDateId 미지정 시 공통 대기열)
  * 3. 대기 순번 자동 부여
  * 4. 예상 대기 시간 계산
+ * 
+ * queue.issue.batch.enabled=true(기본)이면 1~3을 QueueIssueBatcher가 동시 요청과 묶어 Lua 스크립트 1회로 처리
+ *   - 배치 결과는 queue.issue.batch.wait-timeout-millis까지만 기다리고, 초과 시 503(QUEUE_ISSUE_DELAYED)으로 응답
+ *     (요청 스레드가 배치 워커 지연/Redis 응답 지연에 무기한 묶이지 않도록 함)
+ * 인메모리 대기열로 전환된 동안(QueueStoreFailover)은 EmbeddedQueueEngine에 발급
  */
 @Service
 public class IssueQueueTokenUseCase {
     
     private final RedisQueueRepository redisQueueRepository;
     private final QueueValidator queueValidator;
+    private final QueueAdmissionRegulator admissionRegulator;
+    private final QueueIssueBatcher queueIssueBatcher;
+    private final EmbeddedQueueEngine embeddedQueueEngine;
+    private final QueueStoreFailover queueStoreFailover;
+    private final ConcertReader concertReader;
+    private final long batchWaitTimeoutMillis;
     
     public IssueQueueTokenUseCase(RedisQueueRepository redisQueueRepository,
-                                  QueueValidator queueValidator) {
+                                  QueueValidator queueValidator,
+                                  QueueAdmissionRegulator admissionRegulator,
+                                  QueueIssueBatcher queueIssueBatcher,
+                                  EmbeddedQueueEngine embeddedQueueEngine,
+                                  QueueStoreFailover queueStoreFailover,
+                                  ConcertReader concertReader,
+                                  @Value("${queue.issue.batch.wait-timeout-millis:3000}") long batchWaitTimeoutMillis) {
         this.redisQueueRepository = redisQueueRepository;
         this.queueValidator = queueValidator;
+        this.admissionRegulator = admissionRegulator;
+        this.queueIssueBatcher = queueIssueBatcher;
+        this.embeddedQueueEngine = embeddedQueueEngine;
+        this.queueStoreFailover = queueStoreFailover;
+        this.concertReader = concertReader;
+        this.batchWaitTimeoutMillis = batchWaitTimeoutMillis;
     }
     
     /**
      * 대기열 토큰 발급
      * 
-     * @param request 토큰 발급 요청 (userId 포함)
+     * @param request 토큰 발급 요청 (userId, 선택적으로 concertDateId 포함)
      * @return 발급된 토큰 정보
+     * @throws DomainNotFoundException 존재하지 않는 공연 일정을 지정한 경우
+     * @throws DomainConflictException 매진되었거나 이미 지난 공연 일정을 지정한 경우
      * @throws IllegalStateException 사용자가 이미 활성/대기 중인 토큰을 보유한 경우
+     * @throws DomainUnavailableException 배치 발급 결과가 제한 시간 안에 오지 않은 경우
      */
     @Transactional
     public IssueTokenResponse execute(IssueTokenRequest request) {
         String userId = request.getUserId();
-        
-        // 1. 중복 토큰 체크
-        if (queueValidator.hasActiveQueue(userId)) {
-            throw new IllegalStateException("이미 활성 상태의 토큰이 존재합니다");
-        }
-        
-        if (queueValidator.hasWaitingQueue(userId)) {
-            throw new IllegalStateException("이미 대기 중인 토큰이 존재합니다");
+        long concertDateId = QueueToken.DEFAULT_CONCERT_DATE_ID;
+        if (request.getConcertDateId() != null) {
+            // 0. 공연 일정 검증 (캐시된 조회)
+            concertReader.getOpenConcertDate(request.getConcertDateId());
+            concertDateId = request.getConcertDateId();
         }
         
-        // 2. Redis Waiting Queue에 추가
-        UserQueue newQueue = redisQueueRepository.addToWaitingQueue(userId);
+        boolean embedded = queueStoreFailover.isEmbedded();
+        UserQueue newQueue = !embedded && queueIssueBatcher.isEnabled()
+            ? issueBatched(concertDateId, userId)
+            : issue(concertDateId, userId);
         
         // 3. 예상 대기 시간 계산
-        String estimatedWaitTime = QueueActivationScheduler.getEstimatedWaitTimeString(
+        String estimatedWaitTime = admissionRegulator.getEstimatedWaitTimeString(
             newQueue.getQueueNumber()
         );
         
@@ -68,4 +110,41 @@ public class IssueQueueTokenUseCase {
             newQueue.getEnteredAt()
         );
     }
+    
+    private UserQueue issue(long concertDateId, String userId) {
+        // 1. 중복 토큰 체크 (공연 일정 대기열 단위)
+        if (queueValidator.hasActiveQueue(concertDateId, userId)) {
+            throw new IllegalStateException("이미 활성 상태의 토큰이 존재합니다");
+        }
+        
+        if (queueValidator.hasWaitingQueue(concertDateId, userId)) {
+            throw new IllegalStateException("이미 대기 중인 토큰이 존재합니다");
+        }
+        
+        // 2. 공연 일정별 Waiting Queue에 추가
+        if (queueStoreFailover.isEmbedded()) {
+            return embeddedQueueEngine.addToWaitingQueue(concertDateId, userId);
+        }
+        return redisQueueRepository.addToWaitingQueue(concertDateId, userId);
+    }
+    
+    private UserQueue issueBatched(long concertDateId, String userId) {
+        // 1~2. 중복 체크 + 진입을 배치 스크립트에서 함께 처리
+        CompletableFuture<UserQueue> future = queueIssueBatcher.submit(concertDateId, userId);
+        try {
+            return future.get(batchWaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // 배치 실패 원인(중복 토큰 IllegalStateException 등)을 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("토큰 발급에 실패했습니다", e.getCause());
+        } catch (TimeoutException e) {
+            // 배치가 늦게 완료되면 토큰은 발급될 수 있음 → 재시도 시 중복 검사로 기존 토큰 안내
+            throw new DomainUnavailableException(ErrorCode.QUEUE_ISSUE_DELAYED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DomainUnavailableException(ErrorCode.QUEUE_ISSUE_DELAYED);
+        }
+    }
 }
@@ -0,0 +1,73 @@
+package com.example.concert_reservation.api.queue.usecase;
+
+import com.example.concert_reservation.api.queue.dto.QueueStatusResponse;
+import com.example.concert_reservation.api.queue.stream.QueueStatusBroadcaster;
+import com.example.concert_reservation.domain.queue.components.QueueValidator;
+import com.example.concert_reservation.domain.queue.models.QueueToken;
+import com.example.concert_reservation.domain.queue.models.UserQueue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * 대기열 상태 구독 유스케이스 (SSE)
+ * 
+ * 비즈니스 흐름:
+ * 1. 토큰 검증 및 대기열 조회 (구독 시 1회만 Redis 조회)
+ * 2. 이미 ACTIVE면 현재 상태를 보내고 즉시 종료
+ * 3. WAITING이면 브로드캐스터에 등록 → 이후 순번/활성화 알림은 스케줄러 틱 이벤트로 푸시
+ */
+@Service
+public class SubscribeQueueStatusUseCase {
+    
+    private final QueueValidator queueValidator;
+    private final QueueStatusBroadcaster queueStatusBroadcaster;
+    private final GetQueueStatusUseCase getQueueStatusUseCase;
+    private final long timeoutMillis;
+    
+    public SubscribeQueueStatusUseCase(QueueValidator queueValidator,
+                                       QueueStatusBroadcaster queueStatusBroadcaster,
+                                       GetQueueStatusUseCase getQueueStatusUseCase,
+                                       @Value("${queue.stream.timeout-ms:1800000}") long timeoutMillis) {
+        this.queueValidator = queueValidator;
+        this.queueStatusBroadcaster = queueStatusBroadcaster;
+        this.getQueueStatusUseCase = getQueueStatusUseCase;
+        this.timeoutMillis = timeoutMillis;
+    }
+    
+    /**
+     * 대기열 상태 구독
+     * 
+     * @param tokenValue 구독할 토큰 값
+     * @return SSE 연결 (WAITING 토큰의 타임아웃은 대기 토큰 TTL과 동일한 30분)
+     * @throws IllegalArgumentException 토큰이 유효하지 않은 경우
+     */
+    public SseEmitter execute(String tokenValue) {
+        QueueToken token = QueueToken.of(tokenValue);
+        UserQueue queue = queueValidator.validateAndGetQueue(token);
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        
+        if (!queue.isWaiting()) {
+            // ACTIVE/EXPIRED → 현재 상태(서명 토큰 포함)를 1회 전송하고 종료
+            QueueStatusResponse status = getQueueStatusUseCase.execute(tokenValue);
+            try {
+                emitter.send(SseEmitter.event()
+                    .name(queue.isActive() ? "activated" : "status")
+                    .data(status, MediaType.APPLICATION_JSON));
+                emitter.complete();
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+            }
+            return emitter;
+        }
+        
+        long waitingAhead = queueValidator.countWaitingAheadByToken(tokenValue);
+        queueStatusBroadcaster.subscribe(
+            emitter, tokenValue, token.getConcertDateId(), queue.getUserId(), waitingAhead
+        );
+        return emitter;
+    }
+}
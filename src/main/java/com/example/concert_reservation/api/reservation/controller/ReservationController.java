@@ -4,6 +4,7 @@ import com.example.concert_reservation.api.reservation.dto.ReserveSeatRequest;
 import com.example.concert_reservation.api.reservation.dto.ReservationResponse;
 import com.example.concert_reservation.api.reservation.usecase.CancelReservationUseCase;
 import com.example.concert_reservation.api.reservation.usecase.ReserveSeatUseCase;
+import com.example.concert_reservation.config.QueueTokenInterceptor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -36,6 +37,7 @@ public class ReservationController {
             - 예약은 5분간 유효하며, 그 안에 결제를 완료해야 합니다.
             - 이미 예약된 좌석은 예약할 수 없습니다.
             - 비관적 락으로 동시성 제어를 보장합니다.
+            - 공연 일정별 대기열 토큰은 해당 공연 일정의 좌석만 예약할 수 있습니다.
             """
     )
     @ApiResponses({
@@ -49,6 +51,11 @@ public class ReservationController {
             description = "잘못된 요청 (이미 예약된 좌석, 유효하지 않은 좌석 등)",
             content = @Content
         ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "대기열 토큰의 공연 일정과 좌석의 공연 일정이 다름",
+            content = @Content
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "좌석을 찾을 수 없음",
@@ -62,9 +69,11 @@ public class ReservationController {
             required = true,
             content = @Content(schema = @Schema(implementation = ReserveSeatRequest.class))
         )
-        @RequestBody ReserveSeatRequest request
+        @RequestBody ReserveSeatRequest request,
+        @Parameter(hidden = true)
+        @RequestAttribute(name = QueueTokenInterceptor.CONCERT_DATE_ID_ATTRIBUTE, required = false) Long queueConcertDateId
     ) {
-        ReservationResponse response = reserveSeatUseCase.execute(request);
+        ReservationResponse response = reserveSeatUseCase.execute(request, queueConcertDateId);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
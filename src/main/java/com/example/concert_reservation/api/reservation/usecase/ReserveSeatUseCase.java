@@ -4,50 +4,106 @@ import com.example.concert_reservation.api.reservation.dto.ReserveSeatRequest;
 import com.example.concert_reservation.api.reservation.dto.ReservationResponse;
 import com.example.concert_reservation.domain.concert.components.SeatManager;
 import com.example.concert_reservation.domain.concert.models.Seat;
+import com.example.concert_reservation.domain.queue.components.QueueAdmissionRegulator;
+import com.example.concert_reservation.domain.queue.models.QueueToken;
 import com.example.concert_reservation.domain.reservation.components.ReservationManager;
+import com.example.concert_reservation.domain.reservation.infrastructure.SeatHoldGate;
 import com.example.concert_reservation.domain.reservation.models.Reservation;
+import com.example.concert_reservation.support.exception.DomainForbiddenException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 좌석 예약 UseCase
  * 비즈니스 트랜잭션 경계
+ * 
+ * 좌석 선점 게이트(SeatHoldGate)를 통과한 요청만 트랜잭션을 연다.
+ * (@Transactional은 메서드 진입 시 커넥션을 잡으므로 게이트 뒤에서 TransactionTemplate으로 시작)
  */
 @Service
 public class ReserveSeatUseCase {
     
     private final ReservationManager reservationManager;
     private final SeatManager seatManager;
+    private final QueueAdmissionRegulator admissionRegulator;
+    private final SeatHoldGate seatHoldGate;
+    private final TransactionTemplate transactionTemplate;
     
-    public ReserveSeatUseCase(ReservationManager reservationManager, SeatManager seatManager) {
+    public ReserveSeatUseCase(ReservationManager reservationManager, SeatManager seatManager,
+                              QueueAdmissionRegulator admissionRegulator, SeatHoldGate seatHoldGate,
+                              TransactionTemplate transactionTemplate) {
         this.reservationManager = reservationManager;
         this.seatManager = seatManager;
+        this.admissionRegulator = admissionRegulator;
+        this.seatHoldGate = seatHoldGate;
+        this.transactionTemplate = transactionTemplate;
     }
     
     /**
      * 좌석 예약 실행
+     * 0. 좌석 선점 (Redis SET NX) - 실패 시 DB 접근 없이 409
      * 1. 좌석 조회 (비관적 락)
-     * 2. 예약 가능 여부 검증
+     * 2. 예약 가능 여부 검증 (대기열 토큰의 공연 일정 일치 포함)
      * 3. 좌석 임시 예약 상태로 변경
      * 4. 예약 정보 저장
+     * 5. 커밋 후 선점을 예약 만료 시간까지 연장 (DB 단계 실패 시 선점 해제)
      * 
+     * 처리 시간(락 대기 포함)은 대기열 입장 속도 조절 지표로 기록된다.
+     * (게이트에서 거절된 요청은 DB 부하가 아니므로 기록하지 않음)
+     * 
+     * @param request 예약 요청
+     * @param queueConcertDateId 대기열 토큰이 발급된 공연 일정 ID
+     *                           (null 또는 공통 대기열이면 공연 일정을 확인하지 않음)
+     * @return 예약 응답
+     * @throws DomainForbiddenException 좌석이 토큰과 다른 공연 일정에 속한 경우
+     */
+    public ReservationResponse execute(ReserveSeatRequest request, Long queueConcertDateId) {
+        String holder = seatHoldGate.acquire(request.getSeatId(), request.getUserId());
+        long startedAt = System.currentTimeMillis();
+        try {
+            ReservationResponse response = transactionTemplate.execute(status -> reserve(request, queueConcertDateId));
+            seatHoldGate.confirm(request.getSeatId(), holder);
+            return response;
+        } catch (RuntimeException e) {
+            seatHoldGate.release(request.getSeatId(), holder);
+            throw e;
+        } finally {
+            admissionRegulator.recordReservationLatency(System.currentTimeMillis() - startedAt);
+        }
+    }
+    
+    /**
+     * 좌석 예약 실행 (대기열 토큰의 공연 일정을 확인하지 않음)
      * @param request 예약 요청
      * @return 예약 응답
      */
-    @Transactional
     public ReservationResponse execute(ReserveSeatRequest request) {
+        return execute(request, null);
+    }
+    
+    private ReservationResponse reserve(ReserveSeatRequest request, Long queueConcertDateId) {
         // 1. 좌석 조회 (비관적 락)
         Seat seat = seatManager.getSeatByIdWithLock(request.getSeatId());
         
-        // 2. 좌석에 이미 활성 예약이 있는지 확인
+        // 2. 공연 일정별 대기열 토큰은 해당 공연 일정의 좌석만 예약 가능
+        //    (한산한 일정의 토큰으로 매진 일정의 좌석을 예약하는 우회 차단)
+        if (queueConcertDateId != null
+                && queueConcertDateId != QueueToken.DEFAULT_CONCERT_DATE_ID
+                && !queueConcertDateId.equals(seat.getConcertDateId())) {
+            throw new DomainForbiddenException(
+                "대기열 토큰의 공연 일정과 좌석의 공연 일정이 다릅니다. 토큰 공연 일정 ID: " + queueConcertDateId
+                    + ", 좌석 공연 일정 ID: " + seat.getConcertDateId());
+        }
+        
+        // 3. 좌석에 이미 활성 예약이 있는지 확인
         if (reservationManager.hasActiveReservation(seat.getId())) {
             throw new IllegalStateException("이미 예약된 좌석입니다. 좌석 ID: " + seat.getId());
         }
         
-        // 3. 좌석 예약 (AVAILABLE → RESERVED)
+        // 4. 좌석 예약 (AVAILABLE → RESERVED)
         Seat reservedSeat = seatManager.reserveSeat(seat);
         
-        // 4. 예약 정보 생성 및 저장
+        // 5. 예약 정보 생성 및 저장
         Reservation reservation = Reservation.create(
             request.getUserId(),
             reservedSeat.getId(),
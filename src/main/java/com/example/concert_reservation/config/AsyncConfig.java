@@ -47,4 +47,38 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+    
+    /**
+     * 대기열 SSE 틱 처리 전용 실행기 (QueueStatusBroadcaster)
+     * - 단일 스레드: 틱 이벤트를 발행 순서대로 처리 (순번 차감 순서 보장), 전송은 queueStreamSendExecutor에 넘김
+     * - 밀린 틱은 브로드캐스터가 하나로 합쳐 두므로 대기 작업은 최대 1개
+     *   (틱을 버리면 activated 알림/순번 차감이 유실되므로 버리지 않음, 스케줄러는 블로킹하지 않음)
+     */
+    @Bean(name = "queueStreamExecutor")
+    public Executor queueStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(16);
+        executor.setThreadNamePrefix("queue-stream-");
+        executor.initialize();
+        return executor;
+    }
+    
+    /**
+     * 대기열 SSE 전송 전용 실행기 (QueueStatusBroadcaster)
+     * - 틱 처리 스레드는 구독자별 전송 작업만 넘기고, 실제 SseEmitter.send는 이 풀에서 실행
+     * - 구독자별 전송 작업은 동시에 최대 1개 → 대기 작업 수는 구독자 수를 넘지 않음
+     * - 큐가 가득 차면 거절 (틱 스레드를 막지 않음) → 브로드캐스터가 다음 틱에 재시도
+     */
+    @Bean(name = "queueStreamSendExecutor")
+    public Executor queueStreamSendExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(20000);
+        executor.setThreadNamePrefix("queue-stream-send-");
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,52 @@
+package com.example.concert_reservation.config;
+
+import com.example.concert_reservation.domain.concert.infrastructure.ConcertCatalogVersion;
+import com.example.concert_reservation.domain.concert.infrastructure.ConcertDateCoreRepository;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 공연 정보 캐시 제거 운영 엔드포인트
+ *
+ * DELETE /actuator/concertcache
+ * - 운영 SQL 등 애플리케이션 밖에서 공연 정보를 바꾼 뒤 호출
+ * - L2(Redis) 제거 + 무효화 채널로 모든 인스턴스의 L1 제거
+ * - 날짜 목록 버전도 증가시켜 이전 ETag로 304가 나가지 않도록 함
+ * - 인증이 없으므로 기본적으로 웹에 노출하지 않음
+ *   → 내부 전용 관리 포트(management.server.port / management.server.address=127.0.0.1)에서만 노출
+ */
+@Component
+@Endpoint(id = "concertcache")
+public class ConcertCacheEndpoint {
+
+    private static final List<String> CACHE_NAMES = List.of(
+        ConcertDateCoreRepository.AVAILABLE_DATES_CACHE,
+        ConcertDateCoreRepository.DATE_BY_ID_CACHE,
+        ConcertDateCoreRepository.DATE_BY_DATE_CACHE
+    );
+
+    private final CacheManager cacheManager;
+    private final ConcertCatalogVersion concertCatalogVersion;
+
+    public ConcertCacheEndpoint(CacheManager cacheManager, ConcertCatalogVersion concertCatalogVersion) {
+        this.cacheManager = cacheManager;
+        this.concertCatalogVersion = concertCatalogVersion;
+    }
+
+    @DeleteOperation
+    public List<String> clear() {
+        for (String cacheName : CACHE_NAMES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        concertCatalogVersion.bumpDates();
+        return CACHE_NAMES;
+    }
+}
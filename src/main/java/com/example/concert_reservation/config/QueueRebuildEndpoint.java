@@ -0,0 +1,32 @@
+package com.example.concert_reservation.config;
+
+import com.example.concert_reservation.domain.queue.infrastructure.QueueStateRebuilder;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueStateRebuilder.RebuildResult;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 복구 운영 엔드포인트
+ *
+ * POST /actuator/queuerebuild
+ * - Redis 유실 후 DB 미러(user_queue)에서 대기열을 다시 적재 (QueueStateRebuilder)
+ * - 이미 Redis에 있는 토큰은 건너뛰므로 반복 실행해도 안전
+ * - 인증이 없으므로 기본적으로 웹에 노출하지 않음
+ *   → 내부 전용 관리 포트(management.server.port / management.server.address=127.0.0.1)에서만 노출
+ */
+@Component
+@Endpoint(id = "queuerebuild")
+public class QueueRebuildEndpoint {
+
+    private final QueueStateRebuilder queueStateRebuilder;
+
+    public QueueRebuildEndpoint(QueueStateRebuilder queueStateRebuilder) {
+        this.queueStateRebuilder = queueStateRebuilder;
+    }
+
+    @WriteOperation
+    public RebuildResult rebuild() {
+        return queueStateRebuilder.rebuild();
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.concert_reservation.config;
 
+import com.example.concert_reservation.domain.queue.components.QueueTokenSigner;
+import com.example.concert_reservation.domain.queue.infrastructure.ActiveTokenNearCache;
+import com.example.concert_reservation.domain.queue.models.QueueStatus;
 import com.example.concert_reservation.domain.queue.models.QueueToken;
+import com.example.concert_reservation.domain.queue.models.SignedQueueToken;
 import com.example.concert_reservation.domain.queue.models.UserQueue;
 import com.example.concert_reservation.domain.queue.repositories.QueueStoreRepository;
 import com.example.concert_reservation.support.exception.TokenMissingException;
@@ -8,22 +12,59 @@ import com.example.concert_reservation.support.exception.TokenNotActiveException
 import com.example.concert_reservation.support.exception.TokenNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
 /**
  * 대기열 토큰 검증 Interceptor
  * 예약/결제/환불 API 호출 전에 토큰의 ACTIVE 상태를 검증
+ * 
+ * ACTIVE로 확인된 토큰은 ActiveTokenNearCache에 보관하여
+ * 같은 토큰의 후속 요청은 Redis 왕복 없이 인스턴스 메모리에서 검증한다.
+ * 
+ * 서명 토큰("v1." 접두사)은 서명/만료를 CPU로 검증하고, Redis는 회수 여부 확인에만 사용한다.
+ * (위조/만료/미활성 토큰은 Redis에 도달하지 않음)
+ * 
+ * 검증 통과 시 request attribute: userId, queueToken(원본 토큰 값), queueConcertDateId(토큰의 공연 일정)
+ * 
+ * 예약/결제 요청도 생존 신호로 기록 (queue.heartbeat.enabled=true일 때)
+ * → 별도 하트비트 없이 예약/결제만 하는 ACTIVE 사용자가 유휴 토큰으로 반납되지 않음 (QueueIdleTokenReclaimer)
+ * → 토큰당 request-interval-millis마다 1회만 기록 (근접 캐시의 기록 시각 기준), 기록 실패는 요청을 막지 않음
  */
 @Component
 public class QueueTokenInterceptor implements HandlerInterceptor {
     
+    private static final Logger log = LoggerFactory.getLogger(QueueTokenInterceptor.class);
+    
     private static final String TOKEN_HEADER = "X-Queue-Token";
     
+    /**
+     * 토큰이 발급된 공연 일정 ID (Long) request attribute
+     */
+    public static final String CONCERT_DATE_ID_ATTRIBUTE = "queueConcertDateId";
+    
     private final QueueStoreRepository queueStoreRepository;
+    private final ActiveTokenNearCache activeTokenNearCache;
+    private final QueueTokenSigner queueTokenSigner;
+    private final boolean heartbeatEnabled;
+    private final long heartbeatIntervalMillis;
     
-    public QueueTokenInterceptor(QueueStoreRepository queueStoreRepository) {
+    public QueueTokenInterceptor(QueueStoreRepository queueStoreRepository,
+                                 ActiveTokenNearCache activeTokenNearCache,
+                                 QueueTokenSigner queueTokenSigner,
+                                 @Value("${queue.heartbeat.enabled:true}") boolean heartbeatEnabled,
+                                 @Value("${queue.heartbeat.request-interval-millis:15000}") long heartbeatIntervalMillis) {
         this.queueStoreRepository = queueStoreRepository;
+        this.activeTokenNearCache = activeTokenNearCache;
+        this.queueTokenSigner = queueTokenSigner;
+        this.heartbeatEnabled = heartbeatEnabled;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
     }
     
     @Override
@@ -39,12 +80,25 @@ public class QueueTokenInterceptor implements HandlerInterceptor {
             throw new TokenMissingException("대기열 토큰이 필요합니다. Header에 'X-Queue-Token'을 포함해주세요.");
         }
         
-        // 3. 토큰으로 UserQueue 조회
+        // 3. 서명 토큰이면 서명 검증 경로로 처리
+        if (QueueToken.isSigned(tokenValue)) {
+            return preHandleSigned(request, tokenValue);
+        }
+        
+        // 4. 근접 캐시 확인 (ACTIVE 토큰이면 Redis 조회 생략)
+        String cachedUserId = activeTokenNearCache.getUserId(tokenValue);
+        if (cachedUserId != null) {
+            recordHeartbeat(tokenValue);
+            setTokenAttributes(request, cachedUserId, tokenValue);
+            return true;
+        }
+        
+        // 5. 토큰으로 UserQueue 조회
         QueueToken token = QueueToken.of(tokenValue);
         UserQueue userQueue = queueStoreRepository.findByToken(token)
             .orElseThrow(() -> new TokenNotFoundException("유효하지 않은 토큰입니다: " + tokenValue));
         
-        // 4. ACTIVE 상태 확인
+        // 6. ACTIVE 상태 확인
         if (!userQueue.isActive()) {
             String statusMessage = String.format(
                 "대기열 토큰이 활성 상태가 아닙니다. 현재 상태: %s", 
@@ -58,10 +112,66 @@ public class QueueTokenInterceptor implements HandlerInterceptor {
             throw new TokenNotActiveException(statusMessage, userQueue.getStatus().name());
         }
         
-        // 5. userId를 request attribute에 저장 (컨트롤러에서 사용 가능)
-        request.setAttribute("userId", userQueue.getUserId());
-        request.setAttribute("queueToken", tokenValue);
+        // 7. ACTIVE 토큰 캐싱 (만료 시각까지만 유지)
+        activeTokenNearCache.put(tokenValue, userQueue.getUserId(), userQueue.getExpiredAt());
+        recordHeartbeat(tokenValue);
+        
+        // 8. userId/토큰/공연 일정을 request attribute에 저장 (컨트롤러에서 사용 가능)
+        setTokenAttributes(request, userQueue.getUserId(), tokenValue);
         
         return true; // 검증 통과
     }
+    
+    /**
+     * 서명 토큰 검증
+     * 1. 서명 불일치/형식 오류 → 위조로 간주 (Redis 조회 없음)
+     * 2. 만료 시각 경과 → EXPIRED (Redis 조회 없음)
+     * 3. 회수 여부 확인 (근접 캐시 적중 시 생략, 미스 시 회수 목록 조회 1회)
+     */
+    private boolean preHandleSigned(HttpServletRequest request, String signedValue) {
+        SignedQueueToken signed = queueTokenSigner.verify(signedValue)
+            .orElseThrow(() -> new TokenNotFoundException("서명 검증에 실패했습니다"));
+        
+        if (signed.isExpired(Instant.now().getEpochSecond())) {
+            throw new TokenNotActiveException("대기열 토큰이 만료되었습니다", QueueStatus.EXPIRED.name());
+        }
+        
+        String tokenValue = signed.getTokenValue();
+        if (activeTokenNearCache.getUserId(tokenValue) == null) {
+            if (queueStoreRepository.isRevoked(QueueToken.of(tokenValue))) {
+                throw new TokenNotActiveException("회수된 대기열 토큰입니다", QueueStatus.EXPIRED.name());
+            }
+            activeTokenNearCache.put(tokenValue, signed.getUserId(),
+                TimeUnit.SECONDS.toMillis(signed.getExpiresAtEpochSecond()));
+        }
+        recordHeartbeat(tokenValue);
+        
+        // 하위 로직(예약 완료 시 토큰 제거 등)은 원본 토큰 값을 사용
+        setTokenAttributes(request, signed.getUserId(), tokenValue);
+        return true;
+    }
+    
+    /**
+     * ACTIVE 토큰 사용을 생존 신호로 기록 (토큰당 heartbeatIntervalMillis마다 1회)
+     */
+    private void recordHeartbeat(String tokenValue) {
+        if (!heartbeatEnabled || !activeTokenNearCache.tryMarkHeartbeat(tokenValue, heartbeatIntervalMillis)) {
+            return;
+        }
+        try {
+            queueStoreRepository.heartbeat(QueueToken.of(tokenValue));
+        } catch (RuntimeException e) {
+            log.debug("대기열 토큰 하트비트 기록 실패: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 검증된 토큰 정보를 request attribute로 전달
+     * queueConcertDateId: 토큰이 발급된 공연 일정 (공통 대기열이면 0) → 예약 시 좌석의 공연 일정과 비교
+     */
+    private void setTokenAttributes(HttpServletRequest request, String userId, String tokenValue) {
+        request.setAttribute("userId", userId);
+        request.setAttribute("queueToken", tokenValue);
+        request.setAttribute(CONCERT_DATE_ID_ATTRIBUTE, QueueToken.of(tokenValue).getConcertDateId());
+    }
 }
@@ -1,27 +1,45 @@
 package com.example.concert_reservation.config;
 
+import com.example.concert_reservation.domain.concert.infrastructure.ConcertDateCoreRepository;
+import com.example.concert_reservation.domain.concert.infrastructure.SeatAvailabilityIndex;
+import com.example.concert_reservation.domain.queue.components.QueueBackfillAdmitter;
+import com.example.concert_reservation.domain.queue.infrastructure.ActiveTokenNearCache;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueTickRelay;
+import com.example.concert_reservation.domain.queue.infrastructure.RedisQueueRepository;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.NullValue;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Map;
 
 /**
  * Redis 설정 클래스
  * - Redis 연결 설정
  * - RedisTemplate 구성
- * - Cache Manager 구성
+ * - Cache Manager 구성 (L1 인스턴스 메모리 + L2 Redis)
+ * - Pub/Sub 리스너 컨테이너 구성 (대기열 토큰 근접 캐시 / 2계층 캐시 L1 무효화)
  */
 @Configuration
 @EnableCaching
@@ -65,21 +83,106 @@ public class RedisConfig {
     }
     
     /**
-     * Cache Manager 설정 (콘서트/좌석 캐싱용)
+     * Redis Pub/Sub 리스너 컨테이너
+     * - 토큰 삭제 시 발행되는 무효화 메시지를 받아 인스턴스별 ActiveTokenNearCache에서 제거
+     * - 다른 노드에서 반납된 슬롯 알림을 받아 리더의 QueueBackfillAdmitter가 즉시 입장 처리
+     * - 리더의 대기열 틱을 받아 인스턴스별 SSE 구독자에게 순번/활성화 푸시 (QueueTickRelay)
+     * - 다른 노드의 좌석 상태 변경을 받아 인스턴스별 SeatAvailabilityIndex에 반영
+     * - 캐시 제거(evict/clear) 메시지를 받아 인스턴스별 TwoTierCache L1에서 제거
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                        ActiveTokenNearCache activeTokenNearCache,
+                                                                        QueueBackfillAdmitter queueBackfillAdmitter,
+                                                                        QueueTickRelay queueTickRelay,
+                                                                        SeatAvailabilityIndex seatAvailabilityIndex,
+                                                                        TwoTierCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(activeTokenNearCache, new ChannelTopic(ActiveTokenNearCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(queueBackfillAdmitter, new ChannelTopic(RedisQueueRepository.SLOT_RELEASE_CHANNEL));
+        container.addMessageListener(queueTickRelay, new ChannelTopic(QueueTickRelay.TICK_CHANNEL));
+        container.addMessageListener(seatAvailabilityIndex, new ChannelTopic(SeatAvailabilityIndex.SEAT_STATE_CHANNEL));
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoTierCacheManager.INVALIDATION_CHANNEL));
+        return container;
+    }
+    
+    /**
+     * Cache Manager 설정 (콘서트 정보 캐싱용)
+     * - L2 Redis: 캐시별 TTL, null 결과(존재하지 않는 ID)는 negative-ttl로 짧게 유지
+     * - L1 Caffeine: 인스턴스당 local-max-size개, local-ttl 이내 (제거는 Pub/Sub로 전 인스턴스 L1에 전파)
+     * - 예약 가능 날짜 목록은 가용 좌석 수가 바뀌므로 단건 조회보다 짧게 유지
+     */
+    @Bean
+    public TwoTierCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                            RedisTemplate<String, String> redisTemplate,
+                                            MeterRegistry meterRegistry,
+                                            @Value("${concert.cache.local-max-size:10000}") long localMaxSize,
+                                            @Value("${concert.cache.local-ttl-seconds:10}") long localTtlSeconds,
+                                            @Value("${concert.cache.available-dates-ttl-seconds:60}") long availableDatesTtlSeconds,
+                                            @Value("${concert.cache.date-ttl-seconds:600}") long dateTtlSeconds,
+                                            @Value("${concert.cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        Duration negativeTtl = Duration.ofSeconds(negativeTtlSeconds);
         RedisCacheConfiguration cacheConfig = RedisCacheConfiguration.defaultCacheConfig()
             .entryTtl(Duration.ofMinutes(10)) // 기본 TTL 10분
             .serializeKeysWith(
                 RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
             )
             .serializeValuesWith(
-                RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer())
+                RedisSerializationContext.SerializationPair.fromSerializer(cacheValueSerializer())
             );
         
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
             .cacheDefaults(cacheConfig)
+            .withInitialCacheConfigurations(Map.of(
+                ConcertDateCoreRepository.AVAILABLE_DATES_CACHE,
+                cacheConfig.entryTtl(ttl(Duration.ofSeconds(availableDatesTtlSeconds), negativeTtl)),
+                ConcertDateCoreRepository.DATE_BY_ID_CACHE,
+                cacheConfig.entryTtl(ttl(Duration.ofSeconds(dateTtlSeconds), negativeTtl)),
+                ConcertDateCoreRepository.DATE_BY_DATE_CACHE,
+                cacheConfig.entryTtl(ttl(Duration.ofSeconds(dateTtlSeconds), negativeTtl))
+            ))
+            .build();
+        // 캐시별 설정은 초기화 시 적재되므로 빈 등록 없이 직접 초기화
+        redisCacheManager.afterPropertiesSet();
+        
+        Duration localTtl = Duration.ofSeconds(localTtlSeconds);
+        TwoTierCache.LocalSpec localSpec = new TwoTierCache.LocalSpec(localMaxSize, localTtl, negativeTtl);
+        TwoTierCache.LocalSpec availableDatesLocalSpec = new TwoTierCache.LocalSpec(
+            localMaxSize, min(localTtl, Duration.ofSeconds(availableDatesTtlSeconds)), negativeTtl);
+        return new TwoTierCacheManager(
+            redisCacheManager,
+            Map.of(ConcertDateCoreRepository.AVAILABLE_DATES_CACHE, availableDatesLocalSpec),
+            localSpec,
+            redisTemplate,
+            meterRegistry
+        );
+    }
+    
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+    
+    /**
+     * 값이 null이면 negativeTtl, 아니면 ttl
+     */
+    private static RedisCacheWriter.TtlFunction ttl(Duration ttl, Duration negativeTtl) {
+        return (key, value) -> value == null || value instanceof NullValue ? negativeTtl : ttl;
+    }
+    
+    /**
+     * 캐시 값 직렬화 (타입 정보 포함 JSON)
+     * - LocalDate 등 java.time 타입 지원
+     * - 도메인 모델의 계산 속성(isSoldOut 등)은 역직렬화 시 무시
+     */
+    private static GenericJackson2JsonRedisSerializer cacheValueSerializer() {
+        ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
             .build();
+        objectMapper.activateDefaultTyping(
+            objectMapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
     }
 }
@@ -0,0 +1,286 @@
+package com.example.concert_reservation.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+
+/**
+ * 2계층 캐시 (L1 인스턴스 메모리 Caffeine + L2 Redis)
+ *
+ * 설계 방식:
+ * - 조회: L1 → L2 → (둘 다 없으면) 원본 조회 후 L1/L2 기록
+ * - null 결과(존재하지 않는 ID 등)도 NullValue로 캐싱하되 null-ttl로 짧게 유지 (반복 조회가 DB까지 가지 않음)
+ * - L1 키는 문자열 키(String.valueOf)로 저장 → Pub/Sub 무효화 메시지의 키와 그대로 비교
+ * - evict/clear는 L2 제거 후 무효화 채널로 발행 → 모든 인스턴스의 L1에서 제거
+ *   (메시지 유실 또는 제거 직전 L2에서 읽은 값은 L1 ttl 이내로 정합성 회복)
+ * - put은 원본 조회 결과 기록이므로 발행하지 않음 (인스턴스 간 같은 값)
+ * - Redis 장애 시 L2는 미스로 처리하고 원본 조회로 진행
+ * - 원본 조회는 인스턴스 안에서 키별 1건만 실행 (동시 미스는 결과 대기) → 인기 키 만료 시 DB 조회 몰림 방지
+ * - 계층별 적중/미스: cache.tier.requests{cache, tier=l1|l2, result=hit|miss}
+ *   원본 조회 대기 합류: cache.tier.coalesced{cache}
+ */
+public class TwoTierCache implements Cache {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoTierCache.class);
+
+    static final String TIER_L1 = "l1";
+    static final String TIER_L2 = "l2";
+
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    private final Counter l1HitCounter;
+    private final Counter l1MissCounter;
+    private final Counter l2HitCounter;
+    private final Counter l2MissCounter;
+    private final Counter coalescedCounter;
+    private final ConcurrentMap<String, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+
+    /**
+     * @param name 캐시 이름
+     * @param remote L2 캐시 (RedisCache)
+     * @param spec L1 크기/TTL
+     * @param invalidationPublisher (캐시 이름, 키) 무효화 발행 - 키가 null이면 전체
+     * @param meterRegistry 지표 레지스트리
+     */
+    public TwoTierCache(String name, Cache remote, LocalSpec spec,
+                        BiConsumer<String, String> invalidationPublisher, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+        long ttlNanos = spec.ttl().toNanos();
+        long nullTtlNanos = Math.min(spec.nullTtl().toNanos(), ttlNanos);
+        this.local = Caffeine.newBuilder()
+            .maximumSize(spec.maxSize())
+            .expireAfter(new Expiry<String, Object>() {
+                @Override
+                public long expireAfterCreate(String key, Object value, long currentTime) {
+                    return value == NullValue.INSTANCE ? nullTtlNanos : ttlNanos;
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Object value, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String key, Object value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+        this.l1HitCounter = requests(meterRegistry, name, TIER_L1, "hit");
+        this.l1MissCounter = requests(meterRegistry, name, TIER_L1, "miss");
+        this.l2HitCounter = requests(meterRegistry, name, TIER_L2, "hit");
+        this.l2MissCounter = requests(meterRegistry, name, TIER_L2, "miss");
+        this.coalescedCounter = Counter.builder("cache.tier.coalesced")
+            .tag("cache", name)
+            .description("진행 중인 원본 조회에 합류한 미스 수 (single-flight)")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object stored = local.getIfPresent(localKey);
+        if (stored != null) {
+            l1HitCounter.increment();
+            return new SimpleValueWrapper(fromStoreValue(stored));
+        }
+        l1MissCounter.increment();
+
+        ValueWrapper wrapper = getRemote(key);
+        if (wrapper == null) {
+            l2MissCounter.increment();
+            return null;
+        }
+        l2HitCounter.increment();
+        local.put(localKey, toStoreValue(wrapper.get()));
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치: " + type.getName() + " / " + value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * 조회 후 없으면 원본 조회 (@Cacheable(sync = true))
+     * 같은 키의 동시 미스는 먼저 시작한 원본 조회 1건의 결과를 기다림 (single-flight)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        String localKey = localKey(key);
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loads.putIfAbsent(localKey, load);
+        if (inFlight != null) {
+            coalescedCounter.increment();
+            return (T) await(inFlight, key, valueLoader);
+        }
+        try {
+            // 직전에 끝난 원본 조회가 있으면 그 결과 사용
+            Object stored = local.getIfPresent(localKey);
+            T value = stored != null ? (T) fromStoreValue(stored) : loadAndPut(key, valueLoader);
+            load.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(localKey, load);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 기록 실패 [{}:{}]: {}", name, key, e.getMessage());
+        }
+        local.put(localKey(key), toStoreValue(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        try {
+            remote.evict(key);
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 제거 실패 [{}:{}]: {}", name, key, e.getMessage());
+        }
+        local.invalidate(localKey);
+        invalidationPublisher.accept(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        try {
+            remote.clear();
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 비우기 실패 [{}]: {}", name, e.getMessage());
+        }
+        local.invalidateAll();
+        invalidationPublisher.accept(name, null);
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 수신 → L1에서만 제거 (L2는 발행한 인스턴스가 이미 제거)
+     * @param key 문자열 키 (null이면 전체)
+     */
+    void invalidateLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    /**
+     * L1 엔트리 수 (근사치)
+     */
+    long localSize() {
+        return local.estimatedSize();
+    }
+
+    private <T> T loadAndPut(Object key, Callable<T> valueLoader) {
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    private static Object await(CompletableFuture<Object> inFlight, Object key, Callable<?> valueLoader) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    private ValueWrapper getRemote(Object key) {
+        try {
+            return remote.get(key);
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 조회 실패 (원본 조회) [{}:{}]: {}", name, key, e.getMessage());
+            return null;
+        }
+    }
+
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private static Object toStoreValue(Object value) {
+        return value != null ? value : NullValue.INSTANCE;
+    }
+
+    private static Object fromStoreValue(Object stored) {
+        return stored == NullValue.INSTANCE ? null : stored;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String cacheName, String tier, String result) {
+        return Counter.builder("cache.tier.requests")
+            .tag("cache", cacheName)
+            .tag("tier", tier)
+            .tag("result", result)
+            .description("2계층 캐시 계층별 조회 결과")
+            .register(meterRegistry);
+    }
+
+    /**
+     * L1 설정
+     * @param maxSize 최대 엔트리 수
+     * @param ttl 엔트리 TTL (무효화 메시지 유실 시 최대 불일치 시간)
+     * @param nullTtl null 결과 TTL (ttl보다 길면 ttl 적용)
+     */
+    public record LocalSpec(long maxSize, Duration ttl, Duration nullTtl) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.concert_reservation.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 2계층 캐시 매니저 (TwoTierCache 생성 + 인스턴스 간 L1 무효화)
+ *
+ * - L2는 RedisCacheManager의 캐시별 설정(TTL)을 그대로 사용
+ * - L1은 캐시별 LocalSpec (없으면 기본값)
+ * - 무효화 채널 메시지: "캐시이름:키" (키 제거), "캐시이름" (전체 제거)
+ */
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoTierCacheManager.class);
+
+    /**
+     * L1 무효화 채널
+     */
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+
+    private static final char KEY_SEPARATOR = ':';
+
+    private final RedisCacheManager redisCacheManager;
+    private final Map<String, TwoTierCache.LocalSpec> localSpecs;
+    private final TwoTierCache.LocalSpec defaultLocalSpec;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(RedisCacheManager redisCacheManager,
+                               Map<String, TwoTierCache.LocalSpec> localSpecs,
+                               TwoTierCache.LocalSpec defaultLocalSpec,
+                               RedisTemplate<String, String> redisTemplate,
+                               MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.localSpecs = Map.copyOf(localSpecs);
+        this.defaultLocalSpec = defaultLocalSpec;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> new TwoTierCache(
+            cacheName,
+            redisCacheManager.getCache(cacheName),
+            localSpecs.getOrDefault(cacheName, defaultLocalSpec),
+            this::publishInvalidation,
+            meterRegistry
+        ));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * 무효화 채널 수신 (자신이 발행한 메시지 포함, L1에서만 제거)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(KEY_SEPARATOR);
+        String cacheName = separator < 0 ? body : body.substring(0, separator);
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache == null) {
+            return;
+        }
+        cache.invalidateLocal(separator < 0 ? null : body.substring(separator + 1));
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        String message = key == null ? cacheName : cacheName + KEY_SEPARATOR + key;
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            // 다른 인스턴스의 L1은 LocalSpec.ttl 이내로 만료
+            log.warn("캐시 무효화 발행 실패 [{}]: {}", message, e.getMessage());
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.concert_reservation.domain.concert.components;
 
+import com.example.concert_reservation.domain.concert.infrastructure.ConcertCatalogVersion;
 import com.example.concert_reservation.domain.concert.models.ConcertDate;
 import com.example.concert_reservation.domain.concert.repositories.ConcertReaderRepository;
+import com.example.concert_reservation.support.exception.DomainConflictException;
+import com.example.concert_reservation.support.exception.DomainNotFoundException;
+import com.example.concert_reservation.support.exception.ErrorCode;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
@@ -15,9 +19,12 @@ import java.util.List;
 public class ConcertReader {
     
     private final ConcertReaderRepository concertReaderRepository;
+    private final ConcertCatalogVersion concertCatalogVersion;
     
-    public ConcertReader(ConcertReaderRepository concertReaderRepository) {
+    public ConcertReader(ConcertReaderRepository concertReaderRepository,
+                         ConcertCatalogVersion concertCatalogVersion) {
         this.concertReaderRepository = concertReaderRepository;
+        this.concertCatalogVersion = concertCatalogVersion;
     }
     
     /**
@@ -28,6 +35,14 @@ public class ConcertReader {
         return concertReaderRepository.findAvailableDates();
     }
     
+    /**
+     * 예약 가능한 콘서트 날짜 목록의 버전 조회 (조건부 조회 ETag용, DB 조회 없음)
+     * @return 버전 (확인할 수 없으면 -1)
+     */
+    public long getAvailableDatesVersion() {
+        return concertCatalogVersion.datesVersion();
+    }
+    
     /**
      * ID로 콘서트 조회 및 검증
      * @param id 콘서트 날짜 ID
@@ -39,6 +54,22 @@ public class ConcertReader {
             .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 콘서트입니다. ID: " + id));
     }
     
+    /**
+     * 예매가 열려 있는 콘서트 날짜 조회 (대기열 진입 검증용)
+     * @param id 콘서트 날짜 ID
+     * @return 콘서트 날짜
+     * @throws DomainNotFoundException 존재하지 않는 콘서트
+     * @throws DomainConflictException 매진되었거나 이미 지난 콘서트
+     */
+    public ConcertDate getOpenConcertDate(Long id) {
+        ConcertDate concertDate = concertReaderRepository.findById(id)
+            .orElseThrow(() -> new DomainNotFoundException(ErrorCode.CONCERT_NOT_FOUND, "존재하지 않는 콘서트입니다. ID: " + id));
+        if (concertDate.isSoldOut() || concertDate.getConcertDate().isBefore(LocalDate.now())) {
+            throw new DomainConflictException(ErrorCode.CONCERT_CLOSED, "예매가 종료된 콘서트입니다. ID: " + id);
+        }
+        return concertDate;
+    }
+    
     /**
      * 날짜로 콘서트 조회 및 검증
      * @param date 조회할 날짜
@@ -1,9 +1,12 @@
 package com.example.concert_reservation.domain.concert.components;
 
+import com.example.concert_reservation.domain.concert.events.SeatStatusChangedEvent;
+import com.example.concert_reservation.domain.concert.infrastructure.SeatAvailabilityIndex;
+import com.example.concert_reservation.domain.concert.infrastructure.SeatStateBitmap;
 import com.example.concert_reservation.domain.concert.models.Seat;
+import com.example.concert_reservation.domain.concert.models.SeatStatus;
 import com.example.concert_reservation.domain.concert.repositories.SeatStoreRepository;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -16,19 +19,62 @@ import java.util.List;
 public class SeatManager {
     
     private final SeatStoreRepository seatStoreRepository;
+    private final SeatAvailabilityIndex seatAvailabilityIndex;
+    private final ApplicationEventPublisher eventPublisher;
     
-    public SeatManager(SeatStoreRepository seatStoreRepository) {
+    public SeatManager(SeatStoreRepository seatStoreRepository,
+                       SeatAvailabilityIndex seatAvailabilityIndex,
+                       ApplicationEventPublisher eventPublisher) {
         this.seatStoreRepository = seatStoreRepository;
+        this.seatAvailabilityIndex = seatAvailabilityIndex;
+        this.eventPublisher = eventPublisher;
     }
     
     /**
-     * 특정 콘서트 날짜의 모든 좌석 조회 (캐싱 적용)
+     * 특정 콘서트 날짜의 모든 좌석 조회 (좌석 상태 인덱스에서 조회)
      * @param concertDateId 콘서트 날짜 ID
-     * @return 좌석 리스트
+     * @return 좌석 리스트 (좌석 번호 순)
      */
-    @Cacheable(value = "seats", key = "#concertDateId")
     public List<Seat> getSeatsByConcert(Long concertDateId) {
-        return seatStoreRepository.findByConcertDateId(concertDateId);
+        return seatAvailabilityIndex.get(concertDateId).toSeats();
+    }
+    
+    /**
+     * 특정 콘서트 날짜의 좌석 상태 비트맵 조회 (압축 좌석 배치 응답용)
+     * @param concertDateId 콘서트 날짜 ID
+     * @return 좌석 상태 비트맵
+     */
+    public SeatStateBitmap getSeatMap(Long concertDateId) {
+        return seatAvailabilityIndex.get(concertDateId);
+    }
+    
+    /**
+     * 특정 콘서트 날짜의 좌석 상태 버전 조회 (조건부 조회 ETag용, DB 조회 없음)
+     * @param concertDateId 콘서트 날짜 ID
+     * @return 좌석 상태 버전 (아직 적재되지 않은 콘서트 날짜면 null)
+     */
+    public Long getSeatsVersion(Long concertDateId) {
+        SeatStateBitmap bitmap = seatAvailabilityIndex.peek(concertDateId);
+        return bitmap != null ? bitmap.stateVersion() : null;
+    }
+    
+    /**
+     * 좌석 1개의 현재 상태 조회 (좌석 상태 인덱스에서 조회)
+     * @param concertDateId 콘서트 날짜 ID
+     * @param seatNumber 좌석 번호
+     * @return 좌석 상태 (없는 좌석이면 null)
+     */
+    public SeatStatus getSeatStatus(Long concertDateId, int seatNumber) {
+        return seatAvailabilityIndex.get(concertDateId).getStatus(seatNumber);
+    }
+    
+    /**
+     * 예약 가능한 좌석 수 조회 (좌석 상태 인덱스에서 조회)
+     * @param concertDateId 콘서트 날짜 ID
+     * @return 예약 가능 좌석 수
+     */
+    public int countAvailableSeats(Long concertDateId) {
+        return seatAvailabilityIndex.get(concertDateId).countAvailable();
     }
     
     /**
@@ -57,23 +103,21 @@ public class SeatManager {
     }
     
     /**
-     * 좌석 임시 예약 (캐시 무효화)
+     * 좌석 임시 예약 (좌석 상태 인덱스 갱신)
      * @param seat 예약할 좌석
      * @return 예약된 좌석
      */
-    @CacheEvict(value = "seats", key = "#seat.concertDateId")
     public Seat reserveSeat(Seat seat) {
         validateAvailableForReservation(seat);
         seat.reserve();
-        return seatStoreRepository.save(seat);
+        return saveAndPublish(seat);
     }
     
     /**
-     * 좌석 판매 (결제 완료) (캐시 무효화)
+     * 좌석 판매 (결제 완료) (좌석 상태 인덱스 갱신)
      * @param seat 판매할 좌석
      * @return 판매된 좌석
      */
-    @CacheEvict(value = "seats", key = "#seat.concertDateId")
     public Seat sellSeat(Seat seat) {
         if (!seat.isReserved()) {
             throw new IllegalStateException(
@@ -81,15 +125,14 @@ public class SeatManager {
             );
         }
         seat.sell();
-        return seatStoreRepository.save(seat);
+        return saveAndPublish(seat);
     }
     
     /**
-     * 좌석 해제 (예약 취소) (캐시 무효화)
+     * 좌석 해제 (예약 취소) (좌석 상태 인덱스 갱신)
      * @param seat 해제할 좌석
      * @return 해제된 좌석
      */
-    @CacheEvict(value = "seats", key = "#seat.concertDateId")
     public Seat releaseSeat(Seat seat) {
         if (!seat.isReserved()) {
             throw new IllegalStateException(
@@ -97,6 +140,16 @@ public class SeatManager {
             );
         }
         seat.release();
-        return seatStoreRepository.save(seat);
+        return saveAndPublish(seat);
+    }
+    
+    /**
+     * 좌석 저장 후 상태 변경 이벤트 발행 (커밋 후 SeatAvailabilityIndex에 반영)
+     */
+    private Seat saveAndPublish(Seat seat) {
+        Seat saved = seatStoreRepository.save(seat);
+        eventPublisher.publishEvent(
+            new SeatStatusChangedEvent(seat.getId(), seat.getConcertDateId(), seat.getSeatNumber(), seat.getStatus()));
+        return saved;
     }
 }
@@ -0,0 +1,23 @@
+package com.example.concert_reservation.domain.concert.events;
+
+import com.example.concert_reservation.domain.concert.models.SeatStatus;
+
+/**
+ * 좌석 상태 변경 이벤트
+ * 
+ * 목적: 좌석 목록 전체를 다시 읽지 않고 좌석 상태 인덱스(SeatAvailabilityIndex)를 제자리 갱신
+ * - 예약/판매/해제 시 SeatManager가 발행, 트랜잭션 커밋 후 반영
+ * - 해제(AVAILABLE) 시 좌석 선점 게이트(SeatHoldGate)의 선점 키도 제거
+ * 
+ * @param seatId 좌석 ID
+ * @param concertDateId 공연 일정 ID
+ * @param seatNumber 좌석 번호
+ * @param status 변경된 상태
+ */
+public record SeatStatusChangedEvent(
+    long seatId,
+    long concertDateId,
+    int seatNumber,
+    SeatStatus status
+) {
+}
@@ -0,0 +1,106 @@
+package com.example.concert_reservation.domain.concert.infrastructure;
+
+import com.example.concert_reservation.domain.concert.events.SeatStatusChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 가능 날짜 목록 버전 카운터 (Redis, 조건부 조회 ETag용)
+ *
+ * - 인스턴스 간 같은 버전 = 같은 데이터가 되도록 카운터는 Redis에 1개만 둔다
+ * - 좌석 상태 변경(가용 좌석 수 변화) 커밋 후 증가
+ *   예약 가능 날짜 목록 캐시(ConcertDateCoreRepository)도 이 버전을 키로 쓰므로 증가와 동시에 새 목록을 읽음
+ *   커밋 후 증가이므로 버전을 먼저 읽고 데이터를 읽으면 데이터는 항상 그 버전 이상이다
+ * - 키가 없으면 현재 시각(마이크로초)에서 시작 → Redis 초기화 후에도 이전에 발급한 ETag와 겹치지 않음
+ * - 애플리케이션 밖에서 바뀐 공연 정보(운영 SQL 등)도 반영되도록 키는 생성 후 ttl-seconds가 지나면 만료되어 새 값에서 다시 시작
+ */
+@Component
+public class ConcertCatalogVersion {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcertCatalogVersion.class);
+
+    static final String DATES_VERSION_KEY = "concert:version:dates";
+
+    /**
+     * 버전 조회 (없으면 ARGV[1]로 초기화), ARGV[2]: TTL(초)
+     */
+    private static final DefaultRedisScript<Long> CURRENT_SCRIPT =
+        new DefaultRedisScript<>(
+            "local v = redis.call('GET', KEYS[1]) "
+                + "if v then return tonumber(v) end "
+                + "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) "
+                + "return tonumber(ARGV[1])",
+            Long.class
+        );
+
+    /**
+     * 버전 증가 (없으면 ARGV[1]로 초기화 후 증가, INCR은 남은 TTL 유지), ARGV[2]: TTL(초)
+     */
+    private static final DefaultRedisScript<Long> BUMP_SCRIPT =
+        new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) end "
+                + "return redis.call('INCR', KEYS[1])",
+            Long.class
+        );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String ttlSeconds;
+
+    public ConcertCatalogVersion(RedisTemplate<String, String> redisTemplate,
+                                 @Value("${concert.dates.version-ttl-seconds:60}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.ttlSeconds = String.valueOf(ttlSeconds);
+    }
+
+    /**
+     * 예약 가능 날짜 목록 버전
+     * @return Redis 장애 시 -1 (조건부 조회 생략)
+     */
+    public long datesVersion() {
+        try {
+            Long version = redisTemplate.execute(CURRENT_SCRIPT, List.of(DATES_VERSION_KEY), initialVersion(), ttlSeconds);
+            return version != null ? version : -1;
+        } catch (Exception e) {
+            log.warn("날짜 목록 버전 조회 실패 (조건부 조회 생략): {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * 예약 가능 날짜 목록 버전 증가
+     */
+    public void bumpDates() {
+        try {
+            redisTemplate.execute(BUMP_SCRIPT, List.of(DATES_VERSION_KEY), initialVersion(), ttlSeconds);
+        } catch (Exception e) {
+            // 증가하지 못하면 이전 ETag로 304가 나갈 수 있으므로 키를 지워 새 시작값에서 다시 시작
+            log.warn("날짜 목록 버전 증가 실패: {}", e.getMessage());
+            try {
+                redisTemplate.delete(DATES_VERSION_KEY);
+            } catch (Exception ignored) {
+                // Redis 장애 중이면 조회도 실패하므로 조건부 조회가 생략됨
+            }
+        }
+    }
+
+    /**
+     * 커밋된 좌석 상태 변경 → 가용 좌석 수가 바뀌었으므로 날짜 목록 버전 증가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        bumpDates();
+    }
+
+    private static String initialVersion() {
+        return String.valueOf(TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()));
+    }
+}
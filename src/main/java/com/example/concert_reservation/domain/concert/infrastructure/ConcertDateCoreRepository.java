@@ -3,6 +3,7 @@ package com.example.concert_reservation.domain.concert.infrastructure;
 import com.example.concert_reservation.domain.concert.infrastructure.entity.ConcertDateEntity;
 import com.example.concert_reservation.domain.concert.models.ConcertDate;
 import com.example.concert_reservation.domain.concert.repositories.ConcertReaderRepository;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -13,10 +14,22 @@ import java.util.stream.Collectors;
 /**
  * 콘서트 날짜 Repository 구현체
  * Infrastructure 레이어에서 Domain 레이어의 인터페이스를 구현
+ *
+ * 조회 결과는 2계층 캐시(TwoTierCacheManager)에 캐싱
+ * - 없는 ID/날짜(Optional.empty)도 null로 캐싱 → 반복 조회가 DB까지 가지 않음 (negative-ttl)
+ * - sync: 같은 키의 동시 미스는 인스턴스당 DB 조회 1건으로 합침 (TwoTierCache single-flight)
+ * - 공연 정보는 애플리케이션에서 수정하지 않으므로 운영 변경 후에는 DELETE /actuator/concertcache 로 제거
+ * - 예약 가능 날짜 목록은 날짜 목록 버전(ConcertCatalogVersion)을 키로 캐싱
+ *   → 좌석 변경 커밋 후 버전이 오르면 새 키로 DB에서 다시 읽으므로, 새 ETag에 이전 버전의 목록이 실리지 않음
+ *     (제거 전파 지연/유실이나 커밋 전에 읽던 적재와 무관, 이전 버전 키는 TTL로 만료)
  */
 @Repository
 public class ConcertDateCoreRepository implements ConcertReaderRepository {
     
+    public static final String AVAILABLE_DATES_CACHE = "concertAvailableDates";
+    public static final String DATE_BY_ID_CACHE = "concertDateById";
+    public static final String DATE_BY_DATE_CACHE = "concertDateByDate";
+    
     private final ConcertDateJpaRepository concertDateJpaRepository;
     
     public ConcertDateCoreRepository(ConcertDateJpaRepository concertDateJpaRepository) {
@@ -24,6 +37,7 @@ public class ConcertDateCoreRepository implements ConcertReaderRepository {
     }
     
     @Override
+    @Cacheable(cacheNames = AVAILABLE_DATES_CACHE, key = "@concertCatalogVersion.datesVersion()", sync = true)
     public List<ConcertDate> findAvailableDates() {
         return concertDateJpaRepository.findAvailableDates().stream()
             .map(this::toDomain)
@@ -31,12 +45,14 @@ public class ConcertDateCoreRepository implements ConcertReaderRepository {
     }
     
     @Override
+    @Cacheable(cacheNames = DATE_BY_ID_CACHE, key = "#id", sync = true)
     public Optional<ConcertDate> findById(Long id) {
         return concertDateJpaRepository.findById(id)
             .map(this::toDomain);
     }
     
     @Override
+    @Cacheable(cacheNames = DATE_BY_DATE_CACHE, key = "#date.toString()", sync = true)
     public Optional<ConcertDate> findByDate(LocalDate date) {
         return concertDateJpaRepository.findByConcertDate(date)
             .map(this::toDomain);
@@ -0,0 +1,373 @@
+package com.example.concert_reservation.domain.concert.infrastructure;
+
+import com.example.concert_reservation.domain.concert.events.SeatStatusChangedEvent;
+import com.example.concert_reservation.domain.concert.models.Seat;
+import com.example.concert_reservation.domain.concert.models.SeatStatus;
+import com.example.concert_reservation.domain.concert.repositories.SeatStoreRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공연 일정별 좌석 상태 인덱스 (인스턴스 메모리, SeatStateBitmap)
+ *
+ * 설계 방식:
+ * - 기존: 좌석 목록 전체(List<Seat>)를 Redis에 JSON으로 캐싱하고, 좌석 1개가 바뀔 때마다 목록 전체를 무효화 → 다음 조회가 SQL로 재구성
+ * - 변경: 최초 조회 시 한 번 적재한 뒤 좌석 상태 변경(SeatStatusChangedEvent)마다 해당 2비트만 갱신
+ * - 적재 순서: 인스턴스 메모리 → Redis 좌석 해시(SeatStateRedisCache) → DB (DB에서 읽은 목록은 Redis에 기록)
+ * - 상태 변경은 트랜잭션 커밋 후 반영: Redis 해시 필드 갱신 → 메모리 비트 갱신 → Pub/Sub(SEAT_STATE_CHANNEL)으로 다른 인스턴스에 전파
+ *   (Redis 갱신 후 반영/전파하므로, 그 뒤에 적재를 시작한 인스턴스는 Redis에서 새 상태를 읽음. 같은 값 재적용은 무해)
+ * - 적재(Redis/DB 조회, 다른 인스턴스 적재 대기)는 맵 잠금 밖에서 실행하고, 교체만 asMap().compute 안에서 처리
+ *   → 적재가 느려도 같은 공연 일정의 상태 변경/조회가 맵 잠금에 묶이지 않음
+ *   적재 중 들어온 상태 변경은 진행 중인 적재(PendingLoad)에 기록했다가 교체 시 새 비트맵에 다시 반영 → 유실되지 않음
+ * - Pub/Sub 메시지 유실에 대비해 max-age-seconds가 지난 비트맵은 다음 조회 시 다시 적재 (Redis 해시 → DB)
+ * - 메모리 상한: 좌석이 있는 공연 일정만 보관 (없는 ID/좌석 0개는 캐싱하지 않음),
+ *   max-entries 초과 시 적게 쓰인 순으로 제거, idle-seconds 동안 조회가 없으면 제거
+ *
+ * 캐시 미스 몰림(stampede) 방지:
+ * - 인스턴스 안: 같은 공연 일정의 적재는 공연 일정별 진행 중 적재 1건으로 합쳐지고 동시에 미스난 조회는 그 결과를 기다림
+ * - 인스턴스 간: Redis 해시가 없으면 적재 잠금(SeatStateRedisCache.tryLockLoad)을 얻은 인스턴스만 DB에서 적재,
+ *   나머지는 load-wait-millis 동안 Redis 해시가 기록되기를 기다림 (시간이 지나면 직접 DB에서 적재)
+ * - 조기 갱신(확률적): 만료 직전 조회 중 1건이 age + 적재시간 × beta × (-ln U) ≥ max-age이면 미리 다시 적재
+ *   → 다른 조회는 기존 비트맵을 잠금 없이 계속 읽으므로 만료 시점에 조회가 한꺼번에 대기하지 않음
+ *   (early-refresh-beta=0이면 비활성화)
+ */
+@Component
+public class SeatAvailabilityIndex implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatAvailabilityIndex.class);
+
+    /**
+     * 좌석 상태 변경 채널 (메시지 본문 = "공연 일정 ID:좌석 번호:상태")
+     */
+    public static final String SEAT_STATE_CHANNEL = "seat:state:changed";
+
+    private static final long LOAD_WAIT_POLL_MILLIS = 20;
+
+    private final SeatStoreRepository seatStoreRepository;
+    private final SeatStateRedisCache seatStateRedisCache;
+    private final SeatCacheMetrics seatCacheMetrics;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long maxAgeMillis;
+    private final long loadWaitMillis;
+    private final double earlyRefreshBeta;
+    private final ConcurrentMap<Long, SeatStateBitmap> bitmaps;
+    // 공연 일정별 진행 중인 적재 (single-flight)
+    private final ConcurrentMap<Long, PendingLoad> loads = new ConcurrentHashMap<>();
+
+    public SeatAvailabilityIndex(SeatStoreRepository seatStoreRepository,
+                                 SeatStateRedisCache seatStateRedisCache,
+                                 SeatCacheMetrics seatCacheMetrics,
+                                 RedisTemplate<String, String> redisTemplate,
+                                 @Value("${seat.index.max-age-seconds:600}") long maxAgeSeconds,
+                                 @Value("${seat.cache.load-wait-millis:1000}") long loadWaitMillis,
+                                 @Value("${seat.index.early-refresh-beta:10}") double earlyRefreshBeta,
+                                 @Value("${seat.index.max-entries:1000}") long maxEntries,
+                                 @Value("${seat.index.idle-seconds:1800}") long idleSeconds) {
+        this.seatStoreRepository = seatStoreRepository;
+        this.seatStateRedisCache = seatStateRedisCache;
+        this.seatCacheMetrics = seatCacheMetrics;
+        this.redisTemplate = redisTemplate;
+        this.maxAgeMillis = TimeUnit.SECONDS.toMillis(maxAgeSeconds);
+        this.loadWaitMillis = loadWaitMillis;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.bitmaps = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterAccess(idleSeconds, TimeUnit.SECONDS)
+            .<Long, SeatStateBitmap>build()
+            .asMap();
+    }
+
+    /**
+     * 공연 일정의 좌석 상태 비트맵 (없거나 오래되었으면 Redis 좌석 해시, 그것도 없으면 DB에서 적재)
+     */
+    public SeatStateBitmap get(long concertDateId) {
+        SeatStateBitmap bitmap = bitmaps.get(concertDateId);
+        if (bitmap != null && !isStale(bitmap)) {
+            seatCacheMetrics.recordLocal(true);
+            return shouldRefreshEarly(bitmap) ? refreshEarly(concertDateId, bitmap) : bitmap;
+        }
+        seatCacheMetrics.recordLocal(false);
+        PendingLoad pending = new PendingLoad();
+        PendingLoad inFlight = loads.putIfAbsent(concertDateId, pending);
+        if (inFlight != null) {
+            return inFlight.await();
+        }
+        try {
+            // 미스 확인 후 등록하기 전에 다른 조회가 적재를 마쳤을 수 있음
+            SeatStateBitmap current = bitmaps.get(concertDateId);
+            if (current != null && !isStale(current)) {
+                pending.result.complete(current);
+                return current;
+            }
+            return loadAndSwap(concertDateId, pending);
+        } catch (RuntimeException e) {
+            pending.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            loads.remove(concertDateId, pending);
+        }
+    }
+
+    /**
+     * 이미 적재된 비트맵만 조회 (적재하지 않음)
+     * @return 없거나 오래되었으면 null
+     */
+    public SeatStateBitmap peek(long concertDateId) {
+        SeatStateBitmap bitmap = bitmaps.get(concertDateId);
+        return bitmap != null && !isStale(bitmap) ? bitmap : null;
+    }
+
+    /**
+     * 좌석 상태 반영 (적재되지 않은 공연 일정은 다음 조회 시 DB에서 읽으므로 무시)
+     */
+    public void apply(long concertDateId, int seatNumber, SeatStatus status) {
+        patch(concertDateId, seatNumber, status);
+        PendingLoad pending = loads.get(concertDateId);
+        if (pending != null && !pending.record(seatNumber, status)) {
+            // 기록하기 전에 적재한 비트맵으로 교체됨 → 새 비트맵에 반영
+            patch(concertDateId, seatNumber, status);
+        }
+    }
+
+    /**
+     * 공연 일정 비트맵과 Redis 좌석 해시 제거 (좌석 추가/삭제 등 구조가 바뀐 경우)
+     */
+    public void invalidate(long concertDateId) {
+        PendingLoad pending = loads.get(concertDateId);
+        if (pending != null) {
+            pending.invalidated = true;
+        }
+        bitmaps.remove(concertDateId);
+        seatStateRedisCache.evict(concertDateId);
+    }
+
+    /**
+     * 커밋된 좌석 상태 변경을 이 인스턴스와 Redis 좌석 해시에 반영하고 다른 인스턴스에 전파
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        seatStateRedisCache.patch(event.concertDateId(), event.seatNumber(), event.status());
+        seatCacheMetrics.recordPatch(SeatCacheMetrics.TIER_REDIS);
+        apply(event.concertDateId(), event.seatNumber(), event.status());
+        seatCacheMetrics.recordPatch(SeatCacheMetrics.TIER_LOCAL);
+        try {
+            redisTemplate.convertAndSend(SEAT_STATE_CHANNEL,
+                event.concertDateId() + ":" + event.seatNumber() + ":" + event.status().name());
+        } catch (Exception e) {
+            // 전파 실패 시 다른 인스턴스는 max-age 이내에 DB에서 다시 적재
+            log.warn("좌석 상태 변경 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 좌석 상태 변경 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(":");
+        if (parts.length != 3) {
+            return;
+        }
+        try {
+            apply(Long.parseLong(parts[0]), Integer.parseInt(parts[1]), SeatStatus.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) {
+            log.debug("잘못된 좌석 상태 변경 메시지: {}", body);
+        }
+    }
+
+    /**
+     * 만료 전 다시 적재 (동시에 판단한 다른 조회는 기존 비트맵 사용)
+     */
+    private SeatStateBitmap refreshEarly(long concertDateId, SeatStateBitmap current) {
+        PendingLoad pending = new PendingLoad();
+        if (loads.putIfAbsent(concertDateId, pending) != null) {
+            return current;
+        }
+        try {
+            seatCacheMetrics.recordEarlyRefresh();
+            return loadAndSwap(concertDateId, pending);
+        } catch (RuntimeException e) {
+            pending.result.completeExceptionally(e);
+            // 아직 만료 전이므로 기존 비트맵으로 응답 (만료 후 조회에서 다시 적재)
+            log.warn("좌석 상태 조기 갱신 실패: {}", e.getMessage());
+            return current;
+        } finally {
+            loads.remove(concertDateId, pending);
+        }
+    }
+
+    /**
+     * 맵 잠금 밖에서 적재한 뒤 compute 안에서는 적재 중 기록된 변경 반영 + 교체만 수행
+     * (적재 중 invalidate된 경우 교체하지 않고 이번 조회에만 사용)
+     */
+    private SeatStateBitmap loadAndSwap(long concertDateId, PendingLoad pending) {
+        SeatStateBitmap loaded = load(concertDateId);
+        bitmaps.compute(concertDateId, (id, current) -> {
+            pending.replay(loaded);
+            return pending.invalidated ? current : cacheable(loaded);
+        });
+        pending.result.complete(loaded);
+        return loaded;
+    }
+
+    private void patch(long concertDateId, int seatNumber, SeatStatus status) {
+        bitmaps.computeIfPresent(concertDateId, (id, bitmap) -> {
+            bitmap.setStatus(seatNumber, status);
+            return bitmap;
+        });
+    }
+
+    /**
+     * Redis 좌석 해시 → 없으면 DB에서 읽고 Redis에 기록
+     */
+    private SeatStateBitmap load(long concertDateId) {
+        long startedAt = System.currentTimeMillis();
+        List<Seat> seats = seatStateRedisCache.load(concertDateId);
+        seatCacheMetrics.recordRedis(seats != null);
+        if (seats == null) {
+            seats = loadFromDb(concertDateId);
+        }
+        return SeatStateBitmap.of(concertDateId, seats, startedAt);
+    }
+
+    /**
+     * 좌석이 없는 비트맵(없는 공연 일정 ID 등)은 캐싱하지 않음 → 임의 ID 조회로 엔트리가 늘지 않음
+     */
+    private SeatStateBitmap cacheable(SeatStateBitmap bitmap) {
+        return bitmap.size() > 0 ? bitmap : null;
+    }
+
+    /**
+     * 적재 잠금을 얻으면 DB에서 읽어 Redis에 기록, 못 얻으면 잠금 보유 인스턴스의 기록을 기다림
+     */
+    private List<Seat> loadFromDb(long concertDateId) {
+        String owner = UUID.randomUUID().toString();
+        boolean locked = seatStateRedisCache.tryLockLoad(concertDateId, owner);
+        if (!locked) {
+            List<Seat> seats = awaitRedisFill(concertDateId);
+            seatCacheMetrics.recordLoadWait(seats != null);
+            if (seats != null) {
+                return seats;
+            }
+        }
+        try {
+            if (locked) {
+                // 미스 확인 후 잠금을 얻기 전에 다른 인스턴스가 적재를 마쳤을 수 있음
+                List<Seat> cached = seatStateRedisCache.load(concertDateId);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+            List<Seat> seats = seatStoreRepository.findByConcertDateId(concertDateId);
+            seatCacheMetrics.recordDbLoad();
+            seatStateRedisCache.store(concertDateId, seats);
+            return seats;
+        } finally {
+            if (locked) {
+                seatStateRedisCache.unlockLoad(concertDateId, owner);
+            }
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 기록한 Redis 좌석 해시 대기
+     * @return load-wait-millis 안에 기록되지 않으면 null
+     */
+    private List<Seat> awaitRedisFill(long concertDateId) {
+        long deadline = System.currentTimeMillis() + loadWaitMillis;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LOAD_WAIT_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            List<Seat> seats = seatStateRedisCache.load(concertDateId);
+            if (seats != null) {
+                return seats;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * XFetch: 만료까지 남은 시간이 적재 시간 × beta × Exp(1) 이하이면 조기 갱신
+     */
+    private boolean shouldRefreshEarly(SeatStateBitmap bitmap) {
+        if (earlyRefreshBeta <= 0) {
+            return false;
+        }
+        double gap = Math.max(bitmap.getLoadMillis(), 1) * earlyRefreshBeta
+            * -Math.log(1.0 - ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() - bitmap.getLoadedAtMillis() + gap >= maxAgeMillis;
+    }
+
+    private boolean isStale(SeatStateBitmap bitmap) {
+        return System.currentTimeMillis() - bitmap.getLoadedAtMillis() > maxAgeMillis;
+    }
+
+    /**
+     * 진행 중인 적재 - 같은 공연 일정을 동시에 조회한 요청은 result를 기다림
+     * 적재 중 들어온 상태 변경은 기록했다가 교체 시 적재한 비트맵에 순서대로 다시 반영
+     */
+    private static final class PendingLoad {
+
+        private final CompletableFuture<SeatStateBitmap> result = new CompletableFuture<>();
+        private final List<SeatPatch> patches = new ArrayList<>();
+        private boolean replayed;
+        private volatile boolean invalidated;
+
+        /**
+         * @return 이미 교체되어 기록하지 못했으면 false
+         */
+        synchronized boolean record(int seatNumber, SeatStatus status) {
+            if (replayed) {
+                return false;
+            }
+            patches.add(new SeatPatch(seatNumber, status));
+            return true;
+        }
+
+        synchronized void replay(SeatStateBitmap bitmap) {
+            for (SeatPatch patch : patches) {
+                bitmap.setStatus(patch.seatNumber(), patch.status());
+            }
+            patches.clear();
+            replayed = true;
+        }
+
+        SeatStateBitmap await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private record SeatPatch(int seatNumber, SeatStatus status) {
+    }
+}
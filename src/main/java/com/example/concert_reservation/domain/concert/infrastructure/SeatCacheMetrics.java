@@ -0,0 +1,98 @@
+package com.example.concert_reservation.domain.concert.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌석 상태 캐시 Micrometer 지표 (Actuator /actuator/prometheus 로 노출)
+ *
+ * - seat.cache.requests{tier, result}: 계층별 조회 결과
+ *   tier=local: 인스턴스 메모리 비트맵(SeatAvailabilityIndex), tier=redis: Redis 좌석 해시(SeatStateRedisCache)
+ *   적중률 = sum(rate(seat.cache.requests{tier="local",result="hit"})) / sum(rate(seat.cache.requests{tier="local"}))
+ * - seat.cache.db.loads: 두 계층 모두 없어 DB에서 좌석 목록을 읽은 횟수
+ * - seat.cache.patches{tier}: 좌석 1석 상태를 제자리 갱신한 횟수 (목록 전체 무효화 없음)
+ * - seat.cache.load.waits{result}: 다른 인스턴스가 DB 적재 중이라 Redis 해시를 기다린 횟수
+ *   result=filled: 기다린 해시가 기록됨, result=timeout: 기다리지 못하고 직접 DB에서 적재
+ * - seat.cache.early.refreshes: 만료 전에 조기 갱신한 횟수 (만료 시점에 조회가 몰려 대기하지 않도록)
+ */
+@Component
+public class SeatCacheMetrics {
+
+    public static final String TIER_LOCAL = "local";
+    public static final String TIER_REDIS = "redis";
+
+    private final Counter localHitCounter;
+    private final Counter localMissCounter;
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+    private final Counter dbLoadCounter;
+    private final Counter localPatchCounter;
+    private final Counter redisPatchCounter;
+    private final Counter loadWaitFilledCounter;
+    private final Counter loadWaitTimeoutCounter;
+    private final Counter earlyRefreshCounter;
+
+    public SeatCacheMetrics(MeterRegistry meterRegistry) {
+        this.localHitCounter = requests(meterRegistry, TIER_LOCAL, "hit");
+        this.localMissCounter = requests(meterRegistry, TIER_LOCAL, "miss");
+        this.redisHitCounter = requests(meterRegistry, TIER_REDIS, "hit");
+        this.redisMissCounter = requests(meterRegistry, TIER_REDIS, "miss");
+        this.dbLoadCounter = Counter.builder("seat.cache.db.loads")
+            .description("좌석 캐시 미스로 DB에서 좌석 목록을 읽은 횟수")
+            .register(meterRegistry);
+        this.localPatchCounter = patches(meterRegistry, TIER_LOCAL);
+        this.redisPatchCounter = patches(meterRegistry, TIER_REDIS);
+        this.loadWaitFilledCounter = loadWaits(meterRegistry, "filled");
+        this.loadWaitTimeoutCounter = loadWaits(meterRegistry, "timeout");
+        this.earlyRefreshCounter = Counter.builder("seat.cache.early.refreshes")
+            .description("좌석 상태 비트맵 만료 전 조기 갱신 횟수")
+            .register(meterRegistry);
+    }
+
+    public void recordLocal(boolean hit) {
+        (hit ? localHitCounter : localMissCounter).increment();
+    }
+
+    public void recordRedis(boolean hit) {
+        (hit ? redisHitCounter : redisMissCounter).increment();
+    }
+
+    public void recordDbLoad() {
+        dbLoadCounter.increment();
+    }
+
+    public void recordPatch(String tier) {
+        (TIER_REDIS.equals(tier) ? redisPatchCounter : localPatchCounter).increment();
+    }
+
+    public void recordLoadWait(boolean filled) {
+        (filled ? loadWaitFilledCounter : loadWaitTimeoutCounter).increment();
+    }
+
+    public void recordEarlyRefresh() {
+        earlyRefreshCounter.increment();
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("seat.cache.requests")
+            .tag("tier", tier)
+            .tag("result", result)
+            .description("좌석 상태 캐시 계층별 조회 결과")
+            .register(meterRegistry);
+    }
+
+    private static Counter patches(MeterRegistry meterRegistry, String tier) {
+        return Counter.builder("seat.cache.patches")
+            .tag("tier", tier)
+            .description("좌석 1석 상태 제자리 갱신 횟수")
+            .register(meterRegistry);
+    }
+
+    private static Counter loadWaits(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("seat.cache.load.waits")
+            .tag("result", result)
+            .description("다른 인스턴스의 좌석 목록 DB 적재 대기 결과")
+            .register(meterRegistry);
+    }
+}
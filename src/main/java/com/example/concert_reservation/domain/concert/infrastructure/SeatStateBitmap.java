@@ -0,0 +1,287 @@
+package com.example.concert_reservation.domain.concert.infrastructure;
+
+import com.example.concert_reservation.domain.concert.models.Seat;
+import com.example.concert_reservation.domain.concert.models.SeatStatus;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 공연 일정 1개의 좌석 상태 비트맵 (좌석당 2비트)
+ *
+ * 좌석은 번호 순으로 위치(0..N-1)를 갖고, long 1개에 32석씩 상태를 담는다.
+ *   00 = AVAILABLE, 01 = RESERVED, 10 = SOLD
+ * - 좌석 ID/번호/가격은 바뀌지 않으므로 배열로 한 번만 보관하고 상태만 비트로 갱신
+ * - 상태 변경은 해당 word 1개에 대한 CAS → 잠금 없이 제자리 갱신
+ * - 상태 조회 O(1), 상태별 좌석 수는 word마다 마스크 + Long.bitCount (5만 석 = word 1,563개)
+ * - 상태 버전(stateVersion): 좌석 배치 해시 ^ (AVAILABLE이 아닌 좌석마다 (위치, 상태) 해시의 XOR)
+ *   상태가 바뀔 때 이전/새 상태 해시만 XOR하므로 O(1)로 갱신되고, 같은 상태면 어느 인스턴스에서든 같은 값 (ETag)
+ */
+public final class SeatStateBitmap {
+
+    static final int BITS_PER_SEAT = 2;
+    static final int SEATS_PER_WORD = Long.SIZE / BITS_PER_SEAT;
+    public static final int SEATS_PER_BYTE = Byte.SIZE / BITS_PER_SEAT;
+
+    private static final long RESERVED_BITS = 0b01L;
+    private static final long SOLD_BITS = 0b10L;
+    private static final long SEAT_MASK = 0b11L;
+    // word 안 모든 좌석의 하위 비트 위치
+    private static final long LOW_BITS = 0x5555_5555_5555_5555L;
+
+    private final long concertDateId;
+    private final long[] seatIds;
+    private final int[] seatNumbers;
+    private final BigDecimal[] prices;
+    private final AtomicLongArray words;
+    private final AtomicLong stateHash = new AtomicLong();
+    private final long layoutHash;
+    private final long loadedAtMillis;
+    private final long loadMillis;
+
+    private SeatStateBitmap(long concertDateId, List<Seat> seats, long loadedAtMillis, long loadMillis) {
+        List<Seat> sorted = new ArrayList<>(seats);
+        sorted.sort(Comparator.comparing(Seat::getSeatNumber));
+        int size = sorted.size();
+        this.concertDateId = concertDateId;
+        this.seatIds = new long[size];
+        this.seatNumbers = new int[size];
+        this.prices = new BigDecimal[size];
+        this.words = new AtomicLongArray((size + SEATS_PER_WORD - 1) / SEATS_PER_WORD);
+        this.loadedAtMillis = loadedAtMillis;
+        this.loadMillis = loadMillis;
+        long layout = concertDateId;
+        for (int position = 0; position < size; position++) {
+            Seat seat = sorted.get(position);
+            seatIds[position] = seat.getId();
+            seatNumbers[position] = seat.getSeatNumber();
+            prices[position] = seat.getPrice();
+            set(position, seat.getStatus());
+            layout = layout * 31 + seatIds[position];
+            layout = layout * 31 + seatNumbers[position];
+            layout = layout * 31 + (prices[position] != null ? prices[position].hashCode() : 0);
+        }
+        this.layoutHash = mix(layout);
+    }
+
+    /**
+     * DB에서 읽은 좌석 목록으로 비트맵 생성
+     */
+    public static SeatStateBitmap of(long concertDateId, List<Seat> seats) {
+        return new SeatStateBitmap(concertDateId, seats, System.currentTimeMillis(), 0);
+    }
+
+    /**
+     * 적재를 시작한 시각을 함께 받아 적재 소요 시간 기록 (조기 갱신 판단용)
+     */
+    public static SeatStateBitmap of(long concertDateId, List<Seat> seats, long loadStartedAtMillis) {
+        long now = System.currentTimeMillis();
+        return new SeatStateBitmap(concertDateId, seats, now, Math.max(0, now - loadStartedAtMillis));
+    }
+
+    public long getConcertDateId() {
+        return concertDateId;
+    }
+
+    /**
+     * 좌석 수
+     */
+    public int size() {
+        return seatIds.length;
+    }
+
+    public long getLoadedAtMillis() {
+        return loadedAtMillis;
+    }
+
+    /**
+     * 적재 소요 시간 (Redis/DB 조회 + 비트맵 생성)
+     */
+    public long getLoadMillis() {
+        return loadMillis;
+    }
+
+    /**
+     * 현재 좌석 상태 버전 (좌석 배치와 상태가 같으면 같은 값)
+     * 상태 갱신은 비트 변경 후 버전을 바꾸므로, 버전을 먼저 읽고 좌석을 읽으면 좌석은 항상 그 버전 이상이다.
+     */
+    public long stateVersion() {
+        return layoutHash ^ stateHash.get();
+    }
+
+    /**
+     * 좌석 번호의 현재 상태
+     * @return 없는 좌석 번호면 null
+     */
+    public SeatStatus getStatus(int seatNumber) {
+        int position = positionOf(seatNumber);
+        return position >= 0 ? statusAt(position) : null;
+    }
+
+    /**
+     * 좌석 상태 제자리 갱신
+     * @return 없는 좌석 번호면 false
+     */
+    public boolean setStatus(int seatNumber, SeatStatus status) {
+        int position = positionOf(seatNumber);
+        if (position < 0) {
+            return false;
+        }
+        set(position, status);
+        return true;
+    }
+
+    public int countAvailable() {
+        return size() - countReserved() - countSold();
+    }
+
+    public int countReserved() {
+        int count = 0;
+        for (int i = 0; i < words.length(); i++) {
+            long word = words.get(i);
+            count += Long.bitCount(word & ~(word >>> 1) & LOW_BITS);
+        }
+        return count;
+    }
+
+    public int countSold() {
+        int count = 0;
+        for (int i = 0; i < words.length(); i++) {
+            long word = words.get(i);
+            count += Long.bitCount((word >>> 1) & ~word & LOW_BITS);
+        }
+        return count;
+    }
+
+    /**
+     * 위치(좌석 번호 순 0..N-1)의 상태
+     */
+    public SeatStatus statusAt(int position) {
+        long bits = (words.get(position / SEATS_PER_WORD) >>> shift(position)) & SEAT_MASK;
+        if (bits == RESERVED_BITS) {
+            return SeatStatus.RESERVED;
+        }
+        return bits == SOLD_BITS ? SeatStatus.SOLD : SeatStatus.AVAILABLE;
+    }
+
+    public long seatIdAt(int position) {
+        return seatIds[position];
+    }
+
+    public int seatNumberAt(int position) {
+        return seatNumbers[position];
+    }
+
+    public BigDecimal priceAt(int position) {
+        return prices[position];
+    }
+
+    /**
+     * 현재 상태의 좌석 목록 (좌석 번호 순)
+     */
+    public List<Seat> toSeats() {
+        List<Seat> seats = new ArrayList<>(size());
+        for (int position = 0; position < size(); position++) {
+            seats.add(Seat.of(seatIds[position], concertDateId, seatNumbers[position], statusAt(position), prices[position]));
+        }
+        return seats;
+    }
+
+    /**
+     * 상태 벡터 바이트 수 (좌석 4석당 1바이트)
+     */
+    public int statusVectorBytes() {
+        return (size() + SEATS_PER_BYTE - 1) / SEATS_PER_BYTE;
+    }
+
+    /**
+     * 상태 벡터를 그대로 기록 (위치 순, 바이트마다 하위 비트부터 4석, 좌석 2비트 코드는 비트맵과 동일)
+     * word를 little-endian 바이트로 잘라 쓰므로 좌석별 변환이 없다.
+     */
+    public void writeStatusVector(ByteBuffer target) {
+        int remaining = statusVectorBytes();
+        for (int i = 0; remaining > 0; i++) {
+            long word = words.get(i);
+            int count = Math.min(Long.BYTES, remaining);
+            for (int b = 0; b < count; b++) {
+                target.put((byte) (word >>> (b * Byte.SIZE)));
+            }
+            remaining -= count;
+        }
+    }
+
+    /**
+     * 좌석 번호 → 위치
+     * 좌석 번호는 보통 1부터 연속이므로 (번호 - 1) 위치를 먼저 확인하고, 아니면 이진 탐색
+     */
+    int positionOf(int seatNumber) {
+        int guess = seatNumber - 1;
+        if (guess >= 0 && guess < seatNumbers.length && seatNumbers[guess] == seatNumber) {
+            return guess;
+        }
+        int low = 0;
+        int high = seatNumbers.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (seatNumbers[mid] < seatNumber) {
+                low = mid + 1;
+            } else if (seatNumbers[mid] > seatNumber) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private void set(int position, SeatStatus status) {
+        int index = position / SEATS_PER_WORD;
+        int shift = shift(position);
+        long newBits = bitsOf(status);
+        long mask = SEAT_MASK << shift;
+        long current;
+        do {
+            current = words.get(index);
+        } while (!words.compareAndSet(index, current, (current & ~mask) | (newBits << shift)));
+        long oldBits = (current >>> shift) & SEAT_MASK;
+        if (oldBits != newBits) {
+            // XOR은 순서와 무관하므로 동시 갱신이 섞여도 최종 값은 현재 상태의 해시와 같다
+            long delta = stateHashOf(position, oldBits) ^ stateHashOf(position, newBits);
+            stateHash.getAndUpdate(hash -> hash ^ delta);
+        }
+    }
+
+    /**
+     * (위치, 상태) 해시 - AVAILABLE은 0이므로 빈 공연장의 상태 해시는 0
+     */
+    private static long stateHashOf(int position, long bits) {
+        return bits == 0 ? 0 : mix(((long) position << BITS_PER_SEAT) | bits);
+    }
+
+    /**
+     * 64비트 혼합 함수 (SplitMix64 마무리 단계)
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E37_79B9_7F4A_7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int shift(int position) {
+        return (position % SEATS_PER_WORD) * BITS_PER_SEAT;
+    }
+
+    private static long bitsOf(SeatStatus status) {
+        return switch (status) {
+            case AVAILABLE -> 0L;
+            case RESERVED -> RESERVED_BITS;
+            case SOLD -> SOLD_BITS;
+        };
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.concert_reservation.domain.concert.infrastructure;
+
+import com.example.concert_reservation.domain.concert.models.Seat;
+import com.example.concert_reservation.domain.concert.models.SeatStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공연 일정별 좌석 상태 Redis 해시 (SeatAvailabilityIndex의 2차 계층)
+ *
+ * 키 구조 (같은 해시 슬롯):
+ * - seat:{c:ID}:layout  필드 = 좌석 번호, 값 = "좌석ID|가격" (바뀌지 않음)
+ * - seat:{c:ID}:status  필드 = 좌석 번호, 값 = 상태 이름
+ *
+ * 설계 방식:
+ * - 좌석 1석 상태 변경은 커밋 후 status 해시의 필드 1개만 갱신 (목록 전체 무효화 없음 → 다른 사용자의 클릭으로 미스가 나지 않음)
+ * - DB에서 적재한 목록은 상태를 HSETNX로 기록 → 적재 도중 커밋된 변경(HSET)을 이전 값으로 덮어쓰지 않음
+ * - layout은 상태를 모두 기록한 뒤 명령 1개(HSET 다중 필드)로 기록 → layout이 보이면 상태도 모두 기록된 상태
+ * - TTL(ttl-seconds)은 DB에서 적재할 때만 설정하고 상태 갱신으로는 늘리지 않음
+ *   (만료되면 DB에서 다시 적재하여 순서가 뒤바뀌거나 누락된 갱신을 바로잡음)
+ * - 해시가 없을 때 DB 적재는 seat:{c:ID}:loading 잠금(SET NX PX)을 얻은 인스턴스 1개만 수행
+ *   → 나머지 인스턴스는 해시가 기록되기를 기다림 (load-lock-millis가 지나면 잠금 자동 해제)
+ */
+@Component
+public class SeatStateRedisCache {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatStateRedisCache.class);
+
+    private static final String FIELD_SEPARATOR = "|";
+
+    /**
+     * 상태 필드 1개 갱신, 키가 새로 만들어졌으면 TTL 설정
+     * KEYS[1]: status 해시, ARGV: [1] 좌석 번호, [2] 상태, [3] TTL(초)
+     */
+    private static final DefaultRedisScript<Long> PATCH_SCRIPT =
+        new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) "
+                + "if redis.call('TTL', KEYS[1]) < 0 then redis.call('EXPIRE', KEYS[1], ARGV[3]) end "
+                + "return 1",
+            Long.class
+        );
+
+    /**
+     * 적재 잠금 해제 (자신이 보유한 경우에만 삭제)
+     * KEYS[1]: 잠금 키, ARGV: [1] 보유자
+     */
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT =
+        new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class
+        );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+    private final Duration loadLockTtl;
+
+    public SeatStateRedisCache(RedisTemplate<String, String> redisTemplate,
+                               @Value("${seat.cache.redis-ttl-seconds:600}") long ttlSeconds,
+                               @Value("${seat.cache.load-lock-millis:3000}") long loadLockMillis) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.loadLockTtl = Duration.ofMillis(loadLockMillis);
+    }
+
+    /**
+     * 좌석 목록 조회 (Pipeline 1회)
+     * @return 없거나 일부만 기록되어 있으면 null (DB에서 적재)
+     */
+    public List<Seat> load(long concertDateId) {
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    operations.opsForHash().entries(layoutKey(concertDateId));
+                    operations.opsForHash().entries(statusKey(concertDateId));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("좌석 캐시 조회 실패 (DB에서 적재): {}", e.getMessage());
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> layout = (Map<String, String>) results.get(0);
+        @SuppressWarnings("unchecked")
+        Map<String, String> statuses = (Map<String, String>) results.get(1);
+        if (layout == null || layout.isEmpty() || statuses == null) {
+            return null;
+        }
+
+        List<Seat> seats = new ArrayList<>(layout.size());
+        for (Map.Entry<String, String> entry : layout.entrySet()) {
+            String status = statuses.get(entry.getKey());
+            if (status == null) {
+                return null;
+            }
+            String value = entry.getValue();
+            int separator = value.indexOf(FIELD_SEPARATOR);
+            seats.add(Seat.of(
+                Long.parseLong(value.substring(0, separator)),
+                concertDateId,
+                Integer.parseInt(entry.getKey()),
+                SeatStatus.valueOf(status),
+                new BigDecimal(value.substring(separator + 1))
+            ));
+        }
+        return seats;
+    }
+
+    /**
+     * DB에서 적재한 좌석 목록 기록 (이미 있는 상태 필드는 유지)
+     */
+    public void store(long concertDateId, List<Seat> seats) {
+        if (seats.isEmpty()) {
+            return;
+        }
+        String statusKey = statusKey(concertDateId);
+        String layoutKey = layoutKey(concertDateId);
+        Map<String, String> layout = new HashMap<>(seats.size() * 2);
+        for (Seat seat : seats) {
+            layout.put(String.valueOf(seat.getSeatNumber()), seat.getId() + FIELD_SEPARATOR + seat.getPrice().toPlainString());
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    for (Seat seat : seats) {
+                        operations.opsForHash().putIfAbsent(statusKey, String.valueOf(seat.getSeatNumber()), seat.getStatus().name());
+                    }
+                    operations.expire(statusKey, ttl);
+                    operations.opsForHash().putAll(layoutKey, layout);
+                    operations.expire(layoutKey, ttl);
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("좌석 캐시 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 좌석 1석 상태 갱신
+     */
+    public void patch(long concertDateId, int seatNumber, SeatStatus status) {
+        try {
+            redisTemplate.execute(PATCH_SCRIPT, List.of(statusKey(concertDateId)),
+                String.valueOf(seatNumber), status.name(), String.valueOf(ttl.toSeconds()));
+        } catch (Exception e) {
+            // 갱신하지 못한 해시는 다른 인스턴스가 잘못된 상태를 적재하지 않도록 제거 (다음 적재는 DB에서)
+            log.warn("좌석 캐시 상태 갱신 실패: {}", e.getMessage());
+            evict(concertDateId);
+        }
+    }
+
+    /**
+     * 공연 일정 좌석 해시 제거 (좌석 추가/삭제 등 구조가 바뀐 경우)
+     */
+    public void evict(long concertDateId) {
+        try {
+            redisTemplate.delete(List.of(layoutKey(concertDateId), statusKey(concertDateId)));
+        } catch (Exception e) {
+            log.warn("좌석 캐시 제거 실패 (ttl-seconds 후 만료): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 적재 잠금 획득 시도
+     * @param owner 보유자 (해제 시 같은 값)
+     * @return 획득했으면 true (Redis 장애 시에도 true → 각 인스턴스가 DB에서 적재)
+     */
+    public boolean tryLockLoad(long concertDateId, String owner) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(loadLockKey(concertDateId), owner, loadLockTtl));
+        } catch (Exception e) {
+            log.warn("좌석 캐시 적재 잠금 실패 (DB에서 적재): {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * DB 적재 잠금 해제
+     */
+    public void unlockLoad(long concertDateId, String owner) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(loadLockKey(concertDateId)), owner);
+        } catch (Exception e) {
+            log.warn("좌석 캐시 적재 잠금 해제 실패 (load-lock-millis 후 만료): {}", e.getMessage());
+        }
+    }
+
+    static String layoutKey(long concertDateId) {
+        return "seat:{c:" + concertDateId + "}:layout";
+    }
+
+    static String statusKey(long concertDateId) {
+        return "seat:{c:" + concertDateId + "}:status";
+    }
+
+    static String loadLockKey(long concertDateId) {
+        return "seat:{c:" + concertDateId + "}:loading";
+    }
+}
@@ -9,10 +9,12 @@ import java.time.LocalDateTime;
  * 목적: 핵심 결제 로직과 부가 기능(외부 API 전송) 분리
  * - 결제 트랜잭션 커밋 후 발행
  * - 외부 시스템 장애가 결제 성공에 영향 없음
+ * - concertDateId: 해당 공연 일정 대기열의 Active 토큰 반납에 사용
  */
 public record PaymentCompletedEvent(
     Long paymentId,
     Long reservationId,
+    Long concertDateId,
     String userId,
     BigDecimal amount,
     LocalDateTime paidAt,
@@ -23,6 +25,7 @@ public record PaymentCompletedEvent(
     public static PaymentCompletedEvent of(
         Long paymentId,
         Long reservationId,
+        Long concertDateId,
         String userId,
         BigDecimal amount,
         LocalDateTime paidAt,
@@ -32,6 +35,7 @@ public record PaymentCompletedEvent(
         return new PaymentCompletedEvent(
             paymentId,
             reservationId,
+            concertDateId,
             userId,
             amount,
             paidAt,
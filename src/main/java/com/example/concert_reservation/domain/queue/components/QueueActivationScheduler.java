@@ -1,25 +1,55 @@
 package com.example.concert_reservation.domain.queue.components;
 
+import com.example.concert_reservation.domain.queue.events.QueueSlotReleasedEvent;
+import com.example.concert_reservation.domain.queue.events.QueueTickEvent;
+import com.example.concert_reservation.domain.queue.infrastructure.EmbeddedQueueEngine;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueMetrics;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueStoreFailover;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueTickRelay;
 import com.example.concert_reservation.domain.queue.infrastructure.RedisQueueRepository;
+import com.example.concert_reservation.domain.queue.infrastructure.SchedulerLeaderElection;
+import com.example.concert_reservation.domain.queue.models.QueueToken;
+import com.example.concert_reservation.domain.queue.models.UserQueue;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 /**
  * 대기열 토큰 활성화 스케줄러
  * 
  * 설계 방식:
- * - 10초마다 3,000명씩 Active Tokens으로 전환
- * - 동시 접속자 수: 분당 20,000명 처리 가능
- *   (10초 * 6회 = 1분, 3,000 * 6 = 18,000명)
+ * - 짧은 틱(기본 200ms)마다 QueueAdmissionRegulator가 허용한 수만큼 Active Tokens으로 전환
+ *   (기존: 10초마다 3,000명 고정 → 틱 직후 예약 API에 요청 폭주)
+ * - 입장 속도는 예약 지연시간/DB 풀 사용률/남은 슬롯에 따라 자동 조절
+ * - 만료 토큰 정리는 별도 주기(1초)로 실행, 비워진 슬롯은 QueueBackfillAdmitter가 틱을 기다리지 않고 즉시 채움
+ * - 공연 일정별 샤드 단위로 활성화: 전체 허용 수를 샤드별 대기 인원 비율로 나눠 각 샤드에서 전환
+ *   (동시에 열린 공연끼리 한 Sorted Set을 두고 경쟁하지 않음)
+ * - 틱마다 QueueTickEvent 발행 → SSE 구독자에게 순번/활성화 푸시 (구독자별 Redis 조회 없음)
+ *   Redis 대기열 틱은 QueueTickRelay(Pub/Sub)로 모든 노드에 전달 (구독자는 팔로워 노드에도 연결되어 있음)
+ * - 다중 인스턴스: SchedulerLeaderElection 리더 노드만 활성화/정리 실행
+ *   (활성화 스크립트는 틱 시작 시점의 펜싱 토큰으로 호출 → 임대를 잃은 옛 리더의 이중 입장 차단)
+ * - 인메모리 대기열(EmbeddedQueueEngine)로 전환된 동안에는 엔진에서 활성화 (노드 로컬 대기열이므로 리더 선출과 무관하게 각 노드가 실행)
+ * - Redis 복귀 후 엔진에 남은 대기 토큰은 틱마다 토큰 값 그대로 Redis 대기열에 이관 (각 노드가 자기 엔진만)
+ *   → 활성화는 Redis 대기열 하나에서 전역 허용 수로만 진행 (엔진 대기자가 남아 있어도 Redis 대기열이 멈추지 않음)
+ *   → 이관 실패 시 토큰은 엔진에 남고 다음 틱에 다시 이관, 엔진에 남은 Active 토큰도 Active 인원에 합산
+ * - 대기/Active 인원, 틱당 입장 수, 활성화/정리 소요 시간은 QueueMetrics로 노출
  * 
  * 대기 시간 계산:
- * - 대기 순번이 93,283이면 약 5분 대기
- *   (93,283 / 18,000 = 5.18분)
+ * - QueueAdmissionRegulator의 측정 배출 속도 기준
+ *   (예: 초당 300명 배출 중이면 대기 순번 93,283 → 약 5.2분)
  */
 @Component
 @EnableScheduling
@@ -27,49 +57,177 @@ public class QueueActivationScheduler {
     
     private static final Logger log = LoggerFactory.getLogger(QueueActivationScheduler.class);
     
-    // 활성화 설정
-    private static final int ACTIVATION_COUNT = 3000; // 10초마다 활성화할 토큰 수
-    private static final int ACTIVATION_INTERVAL = 10000; // 10초 (밀리초)
+    private static final long CLEANUP_INTERVAL = 1000; // 만료 토큰 정리 주기 (밀리초)
+    private static final int HANDOFF_BATCH_SIZE = 500;  // 틱당 샤드별 Redis 이관 수
     
     private final RedisQueueRepository redisQueueRepository;
+    private final QueueAdmissionRegulator admissionRegulator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SchedulerLeaderElection leaderElection;
+    private final EmbeddedQueueEngine embeddedQueueEngine;
+    private final QueueStoreFailover queueStoreFailover;
+    private final QueueMetrics queueMetrics;
+    private final QueueTickRelay tickRelay;
     
-    public QueueActivationScheduler(RedisQueueRepository redisQueueRepository) {
+    private long lastTickAt = System.currentTimeMillis();
+    
+    public QueueActivationScheduler(RedisQueueRepository redisQueueRepository,
+                                    QueueAdmissionRegulator admissionRegulator,
+                                    ApplicationEventPublisher eventPublisher,
+                                    SchedulerLeaderElection leaderElection,
+                                    EmbeddedQueueEngine embeddedQueueEngine,
+                                    QueueStoreFailover queueStoreFailover,
+                                    QueueMetrics queueMetrics,
+                                    QueueTickRelay tickRelay) {
         this.redisQueueRepository = redisQueueRepository;
+        this.admissionRegulator = admissionRegulator;
+        this.eventPublisher = eventPublisher;
+        this.leaderElection = leaderElection;
+        this.embeddedQueueEngine = embeddedQueueEngine;
+        this.queueStoreFailover = queueStoreFailover;
+        this.queueMetrics = queueMetrics;
+        this.tickRelay = tickRelay;
+        queueMetrics.bindQueueSizes(
+            () -> queueStoreFailover.isEmbedded()
+                ? embeddedQueueEngine.getWaitingQueueSize()
+                : redisQueueRepository.getWaitingQueueSize() + embeddedQueueEngine.getWaitingQueueSize(),
+            () -> queueStoreFailover.isEmbedded()
+                ? embeddedQueueEngine.getActiveQueueSize()
+                : redisQueueRepository.getActiveQueueSize() + embeddedQueueEngine.getActiveQueueSize()
+        );
     }
     
     /**
-     * 10초마다 대기열 토큰 활성화
-     * - 만료된 Active 토큰 제거
-     * - Waiting Queue에서 3,000명 Active로 전환
+     * 틱마다 대기열 토큰 활성화
+     * - 경과 시간만큼 적립된 크레딧과 남은 Active 슬롯 중 작은 수만큼 Waiting → Active 전환
+     * - 리더가 아니면 실행하지 않음 (리더가 된 직후 팔로워 기간의 크레딧이 한꺼번에 풀리지 않도록 기준 시각만 갱신)
      */
-    @Scheduled(fixedRate = ACTIVATION_INTERVAL)
+    @Scheduled(fixedDelayString = "${queue.admission.tick-millis:200}")
     public void activateWaitingTokens() {
+        long now = System.currentTimeMillis();
+        long elapsedMillis = now - lastTickAt;
+        lastTickAt = now;
+        
+        if (queueStoreFailover.isEmbedded()) {
+            admit(embeddedQueueEngine::getWaitingQueueSizes, embeddedQueueEngine::drainRemovedWaiting,
+                embeddedQueueEngine::getActiveQueueSize,
+                embeddedQueueEngine::activateTokens, eventPublisher::publishEvent, elapsedMillis, now);
+            return;
+        }
+        
+        handOffEmbeddedWaiters();
+        long fencingToken = leaderElection.getFencingToken();
+        if (fencingToken == 0) {
+            return;
+        }
+        admit(redisQueueRepository::getWaitingQueueSizes, redisQueueRepository::drainRemovedWaiting,
+            () -> redisQueueRepository.getActiveQueueSize() + embeddedQueueEngine.getActiveQueueSize(),
+            (shardId, count) -> redisQueueRepository.activateTokens(shardId, count, fencingToken),
+            tickRelay::publish, elapsedMillis, now);
+    }
+    
+    /**
+     * Redis 복귀 후 엔진에 남은 대기 토큰을 Redis 대기열로 이관 (순번 순, 샤드별 최대 HANDOFF_BATCH_SIZE개)
+     * Redis에 먼저 기록하고 성공한 토큰만 엔진에서 제거 → 중간에 실패해도 대기자가 사라지지 않음
+     * 이미 Redis에 대기/활성 토큰이 있는 사용자의 엔진 토큰은 버림
+     */
+    void handOffEmbeddedWaiters() {
+        if (embeddedQueueEngine.getWaitingQueueSize() == 0) {
+            return;
+        }
+        for (Map.Entry<Long, Long> shard : embeddedQueueEngine.getWaitingQueueSizes().entrySet()) {
+            if (shard.getValue() == 0) {
+                continue;
+            }
+            try {
+                List<UserQueue> waiting = embeddedQueueEngine.peekWaiting(shard.getKey(), HANDOFF_BATCH_SIZE);
+                if (waiting.isEmpty()) {
+                    continue;
+                }
+                List<QueueToken> tokens = new ArrayList<>(waiting.size());
+                List<String> userIds = new ArrayList<>(waiting.size());
+                for (UserQueue queue : waiting) {
+                    tokens.add(queue.getToken());
+                    userIds.add(queue.getUserId());
+                }
+                List<Long> results = redisQueueRepository.addToWaitingQueueBatch(
+                    shard.getKey(), tokens, userIds, waiting.get(0).getEnteredAt());
+                int handedOff = 0;
+                for (int i = 0; i < results.size(); i++) {
+                    String token = tokens.get(i).getValue();
+                    boolean enqueued = results.get(i) > 0;
+                    if (!embeddedQueueEngine.handOff(token) && enqueued) {
+                        // 이관 도중 취소된 토큰 → Redis에 기록된 것도 제거
+                        redisQueueRepository.removeToken(token);
+                    } else if (enqueued) {
+                        handedOff++;
+                    }
+                }
+                log.info("인메모리 대기 토큰 Redis 이관: 공연 일정 {} - {}명", shard.getKey(), handedOff);
+            } catch (Exception e) {
+                log.warn("인메모리 대기 토큰 Redis 이관 실패 (다음 틱에 재시도): 공연 일정 {} - {}",
+                    shard.getKey(), e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * 대기열 저장소 1개에 대한 틱 처리 (Redis / 인메모리 공통)
+     */
+    private void admit(Supplier<Map<Long, Long>> waitingSizes,
+                       Supplier<Map<Long, Long>> removedWaiting,
+                       LongSupplier activeSize,
+                       BiFunction<Long, Integer, List<String>> activator,
+                       Consumer<QueueTickEvent> tickPublisher,
+                       long elapsedMillis,
+                       long now) {
+        Timer.Sample sample = queueMetrics.startSample();
         try {
-            // 1. 만료된 Active 토큰 제거
-            int removedCount = redisQueueRepository.removeExpiredActiveTokens();
-            if (removedCount > 0) {
-                log.info("만료된 Active 토큰 제거: {}개", removedCount);
+            // 1. 대기자가 없으면 크레딧을 적립하지 않음 (대기자 유입 직후 버스트 방지)
+            Map<Long, Long> waitingByShard = waitingSizes.get();
+            // 직전 틱 이후 빠진 대기자 (대기자가 없어 틱을 건너뛰어도 비워서 이후 구독자에게 잘못 차감되지 않도록)
+            Map<Long, Long> removedByShard = removedWaiting.get();
+            long waitingCount = 0;
+            for (long size : waitingByShard.values()) {
+                waitingCount += size;
+            }
+            if (waitingCount == 0) {
+                queueMetrics.recordActivation(sample, 0);
+                return;
             }
             
-            // 2. 현재 Active/Waiting 상태 조회
-            long activeCount = redisQueueRepository.getActiveQueueSize();
-            long waitingCount = redisQueueRepository.getWaitingQueueSize();
-            
-            log.debug("대기열 현황 - Active: {}명, Waiting: {}명", activeCount, waitingCount);
+            // 2. 이번 틱 허용 수 계산 (Active 슬롯 상한은 전체 샤드 합계 기준)
+            long activeCount = activeSize.getAsLong();
+            int permits = admissionRegulator.permitsForTick(activeCount, elapsedMillis);
             
-            // 3. Waiting → Active 전환
-            if (waitingCount > 0) {
-                int countToActivate = Math.min(ACTIVATION_COUNT, (int) waitingCount);
-                List<String> activatedTokens = redisQueueRepository.activateTokens(countToActivate);
+            // 3. 샤드별 Waiting → Active 전환
+            int admitted = 0;
+            Map<Long, List<String>> activatedTokens = new LinkedHashMap<>();
+            if (permits > 0) {
+                Map<Long, Integer> allocation = allocatePermits(waitingByShard, waitingCount, permits);
+                for (Map.Entry<Long, Integer> entry : allocation.entrySet()) {
+                    List<String> activated = activator.apply(entry.getKey(), entry.getValue());
+                    if (!activated.isEmpty()) {
+                        activatedTokens.put(entry.getKey(), activated);
+                        admitted += activated.size();
+                    }
+                }
                 
-                if (!activatedTokens.isEmpty()) {
-                    log.info("대기열 토큰 활성화: {}명 (Waiting: {} → Active: {})", 
-                        activatedTokens.size(), 
-                        waitingCount, 
-                        activeCount + activatedTokens.size()
+                if (admitted > 0) {
+                    log.debug("대기열 토큰 활성화: {}명 / {}개 공연 일정 (Waiting: {} → Active: {}, 목표 속도: {}/s)",
+                        admitted,
+                        allocation.size(),
+                        waitingCount,
+                        activeCount + admitted,
+                        String.format("%.0f", admissionRegulator.getCurrentRate())
                     );
                 }
             }
+            admissionRegulator.recordAdmitted(admitted, elapsedMillis);
+            queueMetrics.recordActivation(sample, admitted);
+            
+            // 4. 구독자 푸시용 틱 이벤트 (Redis 대기열: 전 노드 전달, 인메모리: 로컬 / 비동기 처리 - 스케줄러 지연 없음)
+            tickPublisher.accept(new QueueTickEvent(activatedTokens, waitingByShard, removedByShard, now));
             
         } catch (Exception e) {
             log.error("대기열 활성화 스케줄러 오류", e);
@@ -77,29 +235,72 @@ public class QueueActivationScheduler {
     }
     
     /**
-     * 예상 대기 시간 계산 (분)
+     * 허용 수를 샤드별 대기 인원에 비례하여 배분
+     * 내림으로 생긴 나머지는 대기 인원이 남은 샤드에 순서대로 1명씩 배분한다.
      * 
-     * @param queueNumber 대기 순번
-     * @return 예상 대기 시간 (분)
+     * @param waitingByShard 공연 일정 ID → 대기 인원
+     * @param waitingCount 전체 대기 인원
+     * @param permits 이번 틱 전체 허용 수
+     * @return 공연 일정 ID → 활성화할 수 (0인 샤드 제외)
      */
-    public static double calculateEstimatedWaitTime(long queueNumber) {
-        // 10초마다 3,000명 → 1분당 18,000명 처리
-        // 예: 93,283번 → 93,283 / 18,000 = 5.18분
-        double tokensPerMinute = (60.0 / (ACTIVATION_INTERVAL / 1000.0)) * ACTIVATION_COUNT;
-        return queueNumber / tokensPerMinute;
+    static Map<Long, Integer> allocatePermits(Map<Long, Long> waitingByShard, long waitingCount, int permits) {
+        Map<Long, Integer> allocation = new LinkedHashMap<>();
+        long budget = Math.min(permits, waitingCount);
+        long allocated = 0;
+        for (Map.Entry<Long, Long> entry : waitingByShard.entrySet()) {
+            int share = (int) (budget * entry.getValue() / waitingCount);
+            if (share > 0) {
+                allocation.put(entry.getKey(), share);
+                allocated += share;
+            }
+        }
+        for (Map.Entry<Long, Long> entry : waitingByShard.entrySet()) {
+            if (allocated >= budget) {
+                break;
+            }
+            int current = allocation.getOrDefault(entry.getKey(), 0);
+            if (current < entry.getValue()) {
+                allocation.put(entry.getKey(), current + 1);
+                allocated++;
+            }
+        }
+        return allocation;
     }
     
     /**
-     * 예상 대기 시간을 분:초 형식으로 반환
-     * 
-     * @param queueNumber 대기 순번
-     * @return "X분 Y초" 형식의 문자열
+     * 만료된 Active 토큰 정리 (Redis는 리더 노드만, 인메모리 대기열은 노드마다 실행)
+     * 공연 일정별 정리 수만큼 QueueSlotReleasedEvent 발행 → 비워진 슬롯은 QueueBackfillAdmitter가 즉시 채움
+     * 대기/활성 토큰이 모두 빠진 Redis 샤드는 레지스트리와 키 캐시에서 함께 제거
      */
-    public static String getEstimatedWaitTimeString(long queueNumber) {
-        double minutes = calculateEstimatedWaitTime(queueNumber);
-        int totalSeconds = (int) (minutes * 60);
-        int min = totalSeconds / 60;
-        int sec = totalSeconds % 60;
-        return String.format("%d분 %d초", min, sec);
+    @Scheduled(fixedDelay = CLEANUP_INTERVAL)
+    public void removeExpiredTokens() {
+        embeddedQueueEngine.removeExpiredActiveTokens().forEach(this::publishSlotReleased);
+        if (queueStoreFailover.isEmbedded() || !leaderElection.isLeader()) {
+            return;
+        }
+        try {
+            Timer.Sample sample = queueMetrics.startSample();
+            int removedCount = 0;
+            for (Long shardId : redisQueueRepository.getShardIds()) {
+                int removed = redisQueueRepository.removeExpiredActiveTokens(shardId);
+                publishSlotReleased(shardId, removed);
+                removedCount += removed;
+                if (redisQueueRepository.pruneShardIfEmpty(shardId)) {
+                    log.info("빈 대기열 샤드 정리: concertDateId={}", shardId);
+                }
+            }
+            queueMetrics.recordCleanup(sample, removedCount);
+            if (removedCount > 0) {
+                log.info("만료된 Active 토큰 제거: {}개", removedCount);
+            }
+        } catch (Exception e) {
+            log.error("만료 토큰 정리 스케줄러 오류", e);
+        }
+    }
+    
+    private void publishSlotReleased(long concertDateId, int released) {
+        if (released > 0) {
+            eventPublisher.publishEvent(new QueueSlotReleasedEvent(concertDateId, released));
+        }
     }
 }
@@ -0,0 +1,264 @@
+package com.example.concert_reservation.domain.queue.components;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 대기열 입장(Admission) 속도 조절기
+ *
+ * 설계 방식:
+ * - 토큰 버킷: 목표 속도(tokens/sec)만큼 크레딧을 적립하고, 짧은 틱마다 적립된 만큼만 활성화
+ *   → 10초마다 3,000명을 한꺼번에 들여보내던 방식의 순간 폭주(thundering herd) 제거
+ * - 상한: 동시 Active 슬롯 수(max-active-slots)를 넘지 않음 (만료/결제로 비는 슬롯만큼만 입장)
+ * - AIMD 피드백: 예약 지연시간 초과 또는 DB 커넥션 풀 포화 시 속도 곱셈 감소, 여유가 있으면 덧셈 증가
+ * - 배출 속도(drain rate): 실제 활성화 수의 EWMA → 예상 대기 시간 계산에 사용
+ * - 반납 즉시 입장(backfill): 반납된 슬롯만큼만 채우므로 크레딧을 쓰지 않음 (과부하 중에는 허용하지 않음)
+ */
+@Component
+public class QueueAdmissionRegulator {
+
+    private static final Logger log = LoggerFactory.getLogger(QueueAdmissionRegulator.class);
+
+    private static final long ADJUST_INTERVAL_MILLIS = 1000; // 속도 조정 주기
+    private static final double DECREASE_FACTOR = 0.7;       // 과부하 시 곱셈 감소 비율
+    private static final double LATENCY_EWMA_ALPHA = 0.3;
+    private static final double DRAIN_EWMA_ALPHA = 0.1;
+
+    private final int maxActiveSlots;
+    private final double minRate;
+    private final double maxRate;
+    private final double rateStep;
+    private final long targetLatencyMillis;
+    private final double poolSaturationThreshold;
+    private final DataSource dataSource;
+
+    // 예약 요청 스레드에서 기록 (lock-free 누적 → 조정 시점에 평균)
+    private final LongAdder latencySumMillis = new LongAdder();
+    private final LongAdder latencyCount = new LongAdder();
+
+    // 스케줄러 스레드에서 갱신, 요청 스레드에서 조회
+    private volatile double currentRate;
+    private volatile double drainRatePerSecond;
+    private volatile double reservationLatencyMillis;
+    private volatile boolean overloaded;
+    private double credit;
+    private int backfilledSinceTick;
+    private long lastAdjustedAt;
+
+    public QueueAdmissionRegulator(
+        @Value("${queue.admission.max-active-slots:10000}") int maxActiveSlots,
+        @Value("${queue.admission.initial-rate:300}") double initialRate,
+        @Value("${queue.admission.min-rate:10}") double minRate,
+        @Value("${queue.admission.max-rate:1000}") double maxRate,
+        @Value("${queue.admission.rate-step:20}") double rateStep,
+        @Value("${queue.admission.target-latency-ms:500}") long targetLatencyMillis,
+        @Value("${queue.admission.pool-saturation-threshold:0.9}") double poolSaturationThreshold,
+        DataSource dataSource
+    ) {
+        this.maxActiveSlots = maxActiveSlots;
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.rateStep = rateStep;
+        this.targetLatencyMillis = targetLatencyMillis;
+        this.poolSaturationThreshold = poolSaturationThreshold;
+        this.dataSource = dataSource;
+        this.currentRate = Math.max(minRate, Math.min(maxRate, initialRate));
+    }
+
+    /**
+     * 예약 처리 지연시간 기록 (ReserveSeatUseCase에서 호출)
+     * @param millis 예약 1건 처리 시간 (ms)
+     */
+    public void recordReservationLatency(long millis) {
+        latencySumMillis.add(millis);
+        latencyCount.increment();
+    }
+
+    /**
+     * 이번 틱에 활성화할 수 있는 토큰 수 계산
+     *
+     * @param activeCount 현재 Active 토큰 수
+     * @param elapsedMillis 직전 틱 이후 경과 시간 (ms)
+     * @return 활성화 허용 수 (적립 크레딧과 남은 슬롯 중 작은 값)
+     */
+    public synchronized int permitsForTick(long activeCount, long elapsedMillis) {
+        adjustRate(activeCount, System.currentTimeMillis());
+
+        // 버스트는 최대 1초 분량으로 제한
+        credit = Math.min(credit + currentRate * elapsedMillis / 1000.0, Math.max(currentRate, 1.0));
+        long freeSlots = Math.max(0, maxActiveSlots - activeCount);
+        return (int) Math.min((long) credit, freeSlots);
+    }
+
+    /**
+     * 이번 틱의 실제 활성화 결과 반영 (대기자가 있을 때만 호출)
+     *
+     * @param admitted 실제 활성화된 토큰 수
+     * @param elapsedMillis 직전 틱 이후 경과 시간 (ms)
+     */
+    public synchronized void recordAdmitted(int admitted, long elapsedMillis) {
+        credit = Math.max(0, credit - admitted);
+        int drained = admitted + backfilledSinceTick;
+        backfilledSinceTick = 0;
+        if (elapsedMillis <= 0) {
+            return;
+        }
+        double observedRate = drained * 1000.0 / elapsedMillis;
+        drainRatePerSecond = drainRatePerSecond == 0
+            ? observedRate
+            : DRAIN_EWMA_ALPHA * observedRate + (1 - DRAIN_EWMA_ALPHA) * drainRatePerSecond;
+    }
+
+    /**
+     * 반납된 슬롯을 즉시 채울 수 있는 토큰 수 (QueueBackfillAdmitter)
+     * 반납된 만큼만 다시 채워 Active 인원이 늘지 않으므로 크레딧은 차감하지 않는다.
+     * 과부하로 속도를 줄이는 중이면 0 → 반납된 슬롯은 감소된 속도의 틱에서 채운다.
+     *
+     * @param activeCount 현재 Active 토큰 수
+     * @param released 반납된 슬롯 수
+     * @return 즉시 활성화 허용 수
+     */
+    public synchronized int permitsForBackfill(long activeCount, int released) {
+        if (overloaded) {
+            return 0;
+        }
+        long freeSlots = Math.max(0, maxActiveSlots - activeCount);
+        return (int) Math.min(released, freeSlots);
+    }
+
+    /**
+     * 반납 즉시 입장 결과 반영 (다음 틱의 배출 속도 측정에 합산)
+     */
+    public synchronized void recordBackfilled(int admitted) {
+        backfilledSinceTick += admitted;
+    }
+
+    /**
+     * 피드백 기반 목표 속도 조정 (AIMD)
+     * - 예약 지연시간 EWMA > 목표 또는 DB 풀 사용률 ≥ 임계치 → 곱셈 감소
+     *   (완료된 예약이 없는 구간은 지연시간으로 감소하지 않고 EWMA를 목표치 쪽으로 감쇠)
+     * - 남은 슬롯이 있고 지표가 정상 → 덧셈 증가
+     * - 슬롯이 가득 찬 경우 → 유지 (더 들여보내도 입장 불가)
+     */
+    synchronized void adjustRate(long activeCount, long nowMillis) {
+        if (nowMillis - lastAdjustedAt < ADJUST_INTERVAL_MILLIS) {
+            return;
+        }
+        lastAdjustedAt = nowMillis;
+
+        long count = latencyCount.sumThenReset();
+        long sum = latencySumMillis.sumThenReset();
+        boolean latencyExceeded;
+        if (count > 0) {
+            double windowLatency = (double) sum / count;
+            reservationLatencyMillis = reservationLatencyMillis == 0
+                ? windowLatency
+                : LATENCY_EWMA_ALPHA * windowLatency + (1 - LATENCY_EWMA_ALPHA) * reservationLatencyMillis;
+            latencyExceeded = reservationLatencyMillis > targetLatencyMillis;
+        } else {
+            // 완료된 예약이 없는 구간: 지난 지연값은 근거가 되지 않음 → 목표치 쪽으로 감쇠
+            // (최소 속도로 줄어든 뒤 부하가 사라져도 속도가 회복되도록, 과부하 판단은 DB 풀 사용률로만)
+            if (reservationLatencyMillis > targetLatencyMillis) {
+                reservationLatencyMillis = LATENCY_EWMA_ALPHA * targetLatencyMillis
+                    + (1 - LATENCY_EWMA_ALPHA) * reservationLatencyMillis;
+            }
+            latencyExceeded = false;
+        }
+
+        double poolUtilization = getPoolUtilization();
+        double previousRate = currentRate;
+
+        overloaded = latencyExceeded || poolUtilization >= poolSaturationThreshold;
+        if (overloaded) {
+            currentRate = Math.max(minRate, currentRate * DECREASE_FACTOR);
+        } else if (activeCount < maxActiveSlots) {
+            currentRate = Math.min(maxRate, currentRate + rateStep);
+        }
+
+        if (currentRate < previousRate) {
+            log.info("입장 속도 감소: {} → {}/s (예약 지연: {}ms, DB 풀 사용률: {})",
+                String.format("%.0f", previousRate), String.format("%.0f", currentRate),
+                String.format("%.0f", reservationLatencyMillis), String.format("%.2f", poolUtilization));
+        }
+    }
+
+    /**
+     * DB 커넥션 풀 사용률 (0.0 ~ 1.0)
+     * 커넥션을 기다리는 스레드가 있으면 포화(1.0)로 간주
+     */
+    double getPoolUtilization() {
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            return 0;
+        }
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null || hikari.getMaximumPoolSize() <= 0) {
+            return 0;
+        }
+        if (pool.getThreadsAwaitingConnection() > 0) {
+            return 1.0;
+        }
+        return (double) pool.getActiveConnections() / hikari.getMaximumPoolSize();
+    }
+
+    /**
+     * 예상 대기 시간 계산 (분)
+     * 측정된 배출 속도 사용, 측정값이 없으면 현재 목표 속도 사용
+     *
+     * @param queueNumber 대기 순번
+     * @return 예상 대기 시간 (분)
+     */
+    public double calculateEstimatedWaitTime(long queueNumber) {
+        double ratePerSecond = drainRatePerSecond > 0 ? drainRatePerSecond : currentRate;
+        double tokensPerMinute = Math.max(ratePerSecond, minRate) * 60.0;
+        return queueNumber / tokensPerMinute;
+    }
+
+    /**
+     * 예상 대기 시간을 분:초 형식으로 반환
+     *
+     * @param queueNumber 대기 순번
+     * @return "X분 Y초" 형식의 문자열
+     */
+    public String getEstimatedWaitTimeString(long queueNumber) {
+        double minutes = calculateEstimatedWaitTime(queueNumber);
+        int totalSeconds = (int) (minutes * 60);
+        int min = totalSeconds / 60;
+        int sec = totalSeconds % 60;
+        return String.format("%d분 %d초", min, sec);
+    }
+
+    /**
+     * 현재 목표 입장 속도 (tokens/sec)
+     */
+    public double getCurrentRate() {
+        return currentRate;
+    }
+
+    /**
+     * 측정된 배출 속도 EWMA (tokens/sec)
+     */
+    public double getDrainRatePerSecond() {
+        return drainRatePerSecond;
+    }
+
+    /**
+     * 예약 처리 지연시간 EWMA (ms)
+     */
+    public double getReservationLatencyMillis() {
+        return reservationLatencyMillis;
+    }
+
+    /**
+     * 동시 Active 슬롯 상한
+     */
+    public int getMaxActiveSlots() {
+        return maxActiveSlots;
+    }
+}
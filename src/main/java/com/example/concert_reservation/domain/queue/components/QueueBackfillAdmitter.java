@@ -0,0 +1,255 @@
+package com.example.concert_reservation.domain.queue.components;
+
+import com.example.concert_reservation.domain.queue.events.QueueSlotReleasedEvent;
+import com.example.concert_reservation.domain.queue.events.QueueTickEvent;
+import com.example.concert_reservation.domain.queue.infrastructure.EmbeddedQueueEngine;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueMetrics;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueStoreFailover;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueTickRelay;
+import com.example.concert_reservation.domain.queue.infrastructure.RedisQueueRepository;
+import com.example.concert_reservation.domain.queue.infrastructure.SchedulerLeaderElection;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 슬롯 반납 즉시 입장(backfill)
+ *
+ * 설계 방식:
+ * - QueueSlotReleasedEvent(만료 정리, 결제 완료 반납, 유휴 토큰 반납)를 받아 같은 공연 일정에서 같은 수만큼 바로 활성화
+ *   (기존: 비워진 슬롯은 다음 활성화 틱에서 속도 크레딧만큼만 채워짐)
+ * - 첫 반납부터 coalesce-millis 동안 들어온 반납을 공연 일정별로 합산해 샤드당 활성화 스크립트 1회로 처리
+ *   → 반납이 몰려도 Redis 호출 수는 반납 수가 아닌 배치 수에 비례
+ * - 반납된 만큼만 채우므로 Active 인원은 늘지 않음 (속도 크레딧 미사용, 과부하 중이면 QueueAdmissionRegulator가 거부)
+ * - Redis 대기열은 리더만 활성화 가능(펜싱 토큰) → 다른 노드의 반납은 Redis Pub/Sub(SLOT_RELEASE_CHANNEL)으로 리더에 전달
+ * - 활성화 틱(QueueActivationScheduler)은 그대로 유지 → 전달이 유실되거나 리더가 바뀐 경우의 안전망
+ * - 처리 전 반납은 공연 일정별 합계로만 보관 → 반납이 몰려도 메모리는 공연 일정 수에 비례 (반납 수와 무관)
+ * - Redis 대기열 입장 결과는 QueueTickRelay로 모든 노드의 SSE 구독자에게 전달 (인메모리 대기열은 로컬)
+ */
+@Component
+public class QueueBackfillAdmitter implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(QueueBackfillAdmitter.class);
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final RedisQueueRepository redisQueueRepository;
+    private final EmbeddedQueueEngine embeddedQueueEngine;
+    private final QueueStoreFailover queueStoreFailover;
+    private final SchedulerLeaderElection leaderElection;
+    private final QueueAdmissionRegulator admissionRegulator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final QueueMetrics queueMetrics;
+    private final QueueTickRelay tickRelay;
+    private final boolean enabled;
+    private final long coalesceNanos;
+    // 공연 일정 ID → 처리 전 반납 수 (synchronized(pending))
+    private final Map<Long, Integer> pending = new LinkedHashMap<>();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public QueueBackfillAdmitter(RedisQueueRepository redisQueueRepository,
+                                 EmbeddedQueueEngine embeddedQueueEngine,
+                                 QueueStoreFailover queueStoreFailover,
+                                 SchedulerLeaderElection leaderElection,
+                                 QueueAdmissionRegulator admissionRegulator,
+                                 ApplicationEventPublisher eventPublisher,
+                                 QueueMetrics queueMetrics,
+                                 QueueTickRelay tickRelay,
+                                 @Value("${queue.backfill.enabled:true}") boolean enabled,
+                                 @Value("${queue.backfill.coalesce-millis:20}") long coalesceMillis) {
+        this.redisQueueRepository = redisQueueRepository;
+        this.embeddedQueueEngine = embeddedQueueEngine;
+        this.queueStoreFailover = queueStoreFailover;
+        this.leaderElection = leaderElection;
+        this.admissionRegulator = admissionRegulator;
+        this.eventPublisher = eventPublisher;
+        this.queueMetrics = queueMetrics;
+        this.tickRelay = tickRelay;
+        this.enabled = enabled;
+        this.coalesceNanos = TimeUnit.MILLISECONDS.toNanos(coalesceMillis);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::runWorker, "queue-backfill-admitter");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+        synchronized (pending) {
+            pending.clear();
+        }
+    }
+
+    /**
+     * 슬롯 반납 수신
+     * 인메모리 대기열이거나 리더 노드면 직접 처리, 아니면 리더에게 전달
+     */
+    @EventListener
+    public void onSlotReleased(QueueSlotReleasedEvent event) {
+        if (!running || event.count() <= 0) {
+            return;
+        }
+        if (queueStoreFailover.isEmbedded() || leaderElection.isLeader()) {
+            enqueue(event.concertDateId(), event.count());
+            return;
+        }
+        try {
+            redisQueueRepository.publishSlotRelease(event.concertDateId(), event.count());
+        } catch (Exception e) {
+            // 전달 실패 시 활성화 틱에서 채워짐
+            log.debug("슬롯 반납 알림 전달 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 전달된 슬롯 반납 (리더만 처리)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!running || !leaderElection.isLeader()) {
+            return;
+        }
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator <= 0) {
+            return;
+        }
+        try {
+            int count = Integer.parseInt(body.substring(separator + 1));
+            if (count > 0) {
+                enqueue(Long.parseLong(body.substring(0, separator)), count);
+            }
+        } catch (NumberFormatException e) {
+            log.debug("잘못된 슬롯 반납 알림: {}", body);
+        }
+    }
+
+    /**
+     * 반납 수를 공연 일정별 합계에 더함 (보관 크기는 공연 일정 수로 제한)
+     */
+    void enqueue(long concertDateId, int count) {
+        synchronized (pending) {
+            pending.merge(concertDateId, count, (a, b) -> (int) Math.min(Integer.MAX_VALUE, (long) a + b));
+            pending.notifyAll();
+        }
+    }
+
+    /**
+     * 처리 전 반납 합계를 꺼내고 비움
+     */
+    Map<Long, Integer> drainPending() {
+        synchronized (pending) {
+            Map<Long, Integer> batch = new LinkedHashMap<>(pending);
+            pending.clear();
+            return batch;
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            try {
+                synchronized (pending) {
+                    if (pending.isEmpty()) {
+                        pending.wait(IDLE_POLL_MILLIS);
+                    }
+                    if (pending.isEmpty()) {
+                        continue;
+                    }
+                }
+                // 첫 반납부터 창이 끝날 때까지 들어온 반납을 공연 일정별 합계에 모음
+                TimeUnit.NANOSECONDS.sleep(coalesceNanos);
+                flush(drainPending());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("반납 슬롯 즉시 입장 오류", e);
+            }
+        }
+    }
+
+    /**
+     * 공연 일정별로 합산한 반납 수만큼 활성화
+     */
+    void flush(Map<Long, Integer> releasedByShard) {
+        if (releasedByShard.isEmpty()) {
+            return;
+        }
+
+        if (queueStoreFailover.isEmbedded()) {
+            backfill(releasedByShard, embeddedQueueEngine::getActiveQueueSize, embeddedQueueEngine::activateTokens,
+                eventPublisher::publishEvent);
+            return;
+        }
+        // Redis 복귀 후 엔진 대기자는 활성화 틱에서 Redis로 이관되므로 Redis 대기열에서만 채움
+        // (엔진에 남은 Active 토큰도 전역 Active 인원에 합산)
+        long fencingToken = leaderElection.getFencingToken();
+        if (fencingToken == 0) {
+            return;
+        }
+        backfill(releasedByShard, () -> redisQueueRepository.getActiveQueueSize() + embeddedQueueEngine.getActiveQueueSize(),
+            (shardId, count) -> redisQueueRepository.activateTokens(shardId, count, fencingToken),
+            tickRelay::publish);
+    }
+
+    private void backfill(Map<Long, Integer> releasedByShard,
+                          LongSupplier activeSize,
+                          BiFunction<Long, Integer, List<String>> activator,
+                          Consumer<QueueTickEvent> tickPublisher) {
+        int released = 0;
+        for (int count : releasedByShard.values()) {
+            released += count;
+        }
+        int permits = admissionRegulator.permitsForBackfill(activeSize.getAsLong(), released);
+
+        int admitted = 0;
+        Map<Long, List<String>> activatedTokens = new LinkedHashMap<>();
+        for (Map.Entry<Long, Integer> entry : releasedByShard.entrySet()) {
+            if (admitted >= permits) {
+                break;
+            }
+            List<String> activated = activator.apply(entry.getKey(), Math.min(entry.getValue(), permits - admitted));
+            if (!activated.isEmpty()) {
+                activatedTokens.put(entry.getKey(), activated);
+                admitted += activated.size();
+            }
+        }
+        admissionRegulator.recordBackfilled(admitted);
+        queueMetrics.recordBackfill(released, admitted);
+
+        if (!activatedTokens.isEmpty()) {
+            // SSE 구독자 activated 푸시 / 순번 차감 (Redis 대기열: 전 노드 전달)
+            tickPublisher.accept(new QueueTickEvent(activatedTokens, Map.of(), Map.of(), System.currentTimeMillis()));
+            log.debug("반납 슬롯 즉시 입장: 반납 {}개 → {}명 입장 / {}개 공연 일정", released, admitted, activatedTokens.size());
+        }
+    }
+}
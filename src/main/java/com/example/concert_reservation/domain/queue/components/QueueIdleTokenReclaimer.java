@@ -0,0 +1,132 @@
+package com.example.concert_reservation.domain.queue.components;
+
+import com.example.concert_reservation.domain.queue.events.QueueSlotReleasedEvent;
+import com.example.concert_reservation.domain.queue.infrastructure.EmbeddedQueueEngine;
+import com.example.concert_reservation.domain.queue.infrastructure.IdleTokenReclaim;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueMetrics;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueStoreFailover;
+import com.example.concert_reservation.domain.queue.infrastructure.RedisQueueRepository;
+import com.example.concert_reservation.domain.queue.infrastructure.SchedulerLeaderElection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하트비트 기반 유휴 토큰 정리
+ *
+ * 설계 방식:
+ * - 클라이언트는 하트비트(POST /api/v1/queue/heartbeat)를 보내고, 상태 폴링/SSE 구독도 생존 신호로 기록된다
+ * - 마지막 생존 신호가 오래된 토큰을 reclaim-interval마다 정리
+ *   - Active (active-idle-seconds): 만료(5분)를 기다리지 않고 반납 → QueueSlotReleasedEvent로 같은 수만큼 즉시 추가 입장
+ *   - Waiting (waiting-idle-seconds): 대기열에서 일괄 제거 → 활성화 시 좀비로 허용 수를 낭비하지 않고 예상 대기 시간도 정확해짐
+ * - Redis는 리더 노드만, 인메모리 대기열은 노드마다 실행
+ */
+@Component
+public class QueueIdleTokenReclaimer {
+
+    private static final Logger log = LoggerFactory.getLogger(QueueIdleTokenReclaimer.class);
+
+    private final RedisQueueRepository redisQueueRepository;
+    private final EmbeddedQueueEngine embeddedQueueEngine;
+    private final QueueStoreFailover queueStoreFailover;
+    private final SchedulerLeaderElection leaderElection;
+    private final ApplicationEventPublisher eventPublisher;
+    private final QueueMetrics queueMetrics;
+    private final boolean enabled;
+    private final long waitingIdleMillis;
+    private final long activeIdleMillis;
+
+    public QueueIdleTokenReclaimer(RedisQueueRepository redisQueueRepository,
+                                   EmbeddedQueueEngine embeddedQueueEngine,
+                                   QueueStoreFailover queueStoreFailover,
+                                   SchedulerLeaderElection leaderElection,
+                                   ApplicationEventPublisher eventPublisher,
+                                   QueueMetrics queueMetrics,
+                                   @Value("${queue.heartbeat.enabled:true}") boolean enabled,
+                                   @Value("${queue.heartbeat.waiting-idle-seconds:90}") long waitingIdleSeconds,
+                                   @Value("${queue.heartbeat.active-idle-seconds:60}") long activeIdleSeconds) {
+        this.redisQueueRepository = redisQueueRepository;
+        this.embeddedQueueEngine = embeddedQueueEngine;
+        this.queueStoreFailover = queueStoreFailover;
+        this.leaderElection = leaderElection;
+        this.eventPublisher = eventPublisher;
+        this.queueMetrics = queueMetrics;
+        this.enabled = enabled;
+        this.waitingIdleMillis = TimeUnit.SECONDS.toMillis(waitingIdleSeconds);
+        this.activeIdleMillis = TimeUnit.SECONDS.toMillis(activeIdleSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${queue.heartbeat.reclaim-interval-millis:5000}")
+    public void reclaimIdleTokens() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long waitingIdleBefore = now - waitingIdleMillis;
+        long activeIdleBefore = now - activeIdleMillis;
+        try {
+            record(embeddedQueueEngine.reclaimIdleTokens(waitingIdleBefore, activeIdleBefore));
+
+            if (queueStoreFailover.isEmbedded() || !leaderElection.isLeader()) {
+                return;
+            }
+            Map<Long, IdleTokenReclaim> reclaimedByShard = new LinkedHashMap<>();
+            for (Long shardId : redisQueueRepository.getShardIds()) {
+                IdleTokenReclaim reclaimed = redisQueueRepository.reclaimIdleTokens(shardId, waitingIdleBefore, activeIdleBefore);
+                if (!reclaimed.equals(IdleTokenReclaim.NONE)) {
+                    reclaimedByShard.put(shardId, reclaimed);
+                }
+            }
+            record(reclaimedByShard);
+        } catch (Exception e) {
+            log.error("유휴 토큰 정리 스케줄러 오류", e);
+        }
+    }
+
+    /**
+     * 여러 토큰의 하트비트 일괄 기록 (SSE 구독 중인 토큰 등)
+     * 인메모리 엔진 토큰은 엔진에, 나머지는 Redis 파이프라인 1회로 갱신한다.
+     */
+    public void heartbeatAll(Collection<String> tokens) {
+        if (!enabled || tokens.isEmpty()) {
+            return;
+        }
+        List<String> redisTokens = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            if (!embeddedQueueEngine.heartbeat(token)) {
+                redisTokens.add(token);
+            }
+        }
+        if (!redisTokens.isEmpty() && !queueStoreFailover.isEmbedded()) {
+            redisQueueRepository.heartbeatAll(redisTokens);
+        }
+    }
+
+    /**
+     * 정리 결과 기록 + 반납된 Active 슬롯 알림 (QueueBackfillAdmitter가 즉시 추가 입장)
+     */
+    private void record(Map<Long, IdleTokenReclaim> reclaimedByShard) {
+        if (reclaimedByShard.isEmpty()) {
+            return;
+        }
+        IdleTokenReclaim total = IdleTokenReclaim.NONE;
+        for (Map.Entry<Long, IdleTokenReclaim> entry : reclaimedByShard.entrySet()) {
+            total = total.plus(entry.getValue());
+            if (entry.getValue().releasedActive() > 0) {
+                eventPublisher.publishEvent(new QueueSlotReleasedEvent(entry.getKey(), entry.getValue().releasedActive()));
+            }
+        }
+        queueMetrics.recordReclaimed(total.prunedWaiting(), total.releasedActive());
+        log.info("유휴 토큰 정리: Waiting {}개 제거, Active {}개 반납", total.prunedWaiting(), total.releasedActive());
+    }
+}
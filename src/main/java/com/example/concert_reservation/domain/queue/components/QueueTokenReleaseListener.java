@@ -0,0 +1,61 @@
+package com.example.concert_reservation.domain.queue.components;
+
+import com.example.concert_reservation.domain.payment.events.PaymentCompletedEvent;
+import com.example.concert_reservation.domain.queue.events.QueueSlotReleasedEvent;
+import com.example.concert_reservation.domain.queue.models.QueueToken;
+import com.example.concert_reservation.domain.queue.repositories.QueueStoreRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 결제 완료 시 대기열 Active 토큰 반납
+ *
+ * 설계 방식:
+ * - 결제 트랜잭션 커밋 후(AFTER_COMMIT)에만 반납 → 롤백된 결제는 토큰 유지
+ * - 결제를 마친 사용자가 만료(5분)까지 슬롯을 점유하지 않도록 즉시 반납 → QueueSlotReleasedEvent로 다음 대기자 즉시 입장
+ * - 공연 일정 대기열과 공통 대기열(DEFAULT) 모두 확인 (토큰 발급 시 공연 일정 미지정 가능)
+ * - 반납 실패는 결제 결과에 영향 없음 (로그만 기록, 만료 정리에 맡김)
+ */
+@Component
+public class QueueTokenReleaseListener {
+
+    private static final Logger log = LoggerFactory.getLogger(QueueTokenReleaseListener.class);
+
+    private final QueueStoreRepository queueStoreRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public QueueTokenReleaseListener(QueueStoreRepository queueStoreRepository,
+                                     ApplicationEventPublisher eventPublisher) {
+        this.queueStoreRepository = queueStoreRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPaymentCompleted(PaymentCompletedEvent event) {
+        try {
+            boolean released = false;
+            if (event.concertDateId() != null && event.concertDateId() != QueueToken.DEFAULT_CONCERT_DATE_ID) {
+                released = release(event.concertDateId(), event.userId());
+            }
+            if (!released) {
+                released = release(QueueToken.DEFAULT_CONCERT_DATE_ID, event.userId());
+            }
+            log.debug("결제 완료 대기열 토큰 반납: userId={}, concertDateId={}, released={}",
+                event.userId(), event.concertDateId(), released);
+        } catch (Exception e) {
+            log.warn("결제 완료 대기열 토큰 반납 실패: userId={}, {}", event.userId(), e.getMessage());
+        }
+    }
+
+    private boolean release(long concertDateId, String userId) {
+        if (!queueStoreRepository.releaseActiveToken(concertDateId, userId)) {
+            return false;
+        }
+        eventPublisher.publishEvent(new QueueSlotReleasedEvent(concertDateId, 1));
+        return true;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.concert_reservation.domain.queue.components;
+
+import com.example.concert_reservation.domain.queue.models.QueueToken;
+import com.example.concert_reservation.domain.queue.models.SignedQueueToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 서명된 대기열 토큰 발급/검증 컴포넌트 (HMAC-SHA256)
+ *
+ * 토큰 형식: "v1.{payload}.{signature}" (각 부분 Base64URL, 패딩 없음)
+ * - payload: "{원본 토큰}|{발급 시각}|{만료 시각}|{userId}" (시각은 epoch second)
+ * - signature: HMAC-SHA256("v1.{payload}")
+ *
+ * 위조/손상/만료된 토큰은 CPU 연산만으로 거부되며, Redis는 회수(revocation) 여부 확인에만 사용한다.
+ * queue.token.signing-secret 미설정 시 비활성화 (기존 UUID 토큰만 사용)
+ */
+@Component
+public class QueueTokenSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String FIELD_SEPARATOR = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    // Mac은 스레드 안전하지 않으므로 요청 스레드별로 재사용
+    private final ThreadLocal<Mac> macs;
+
+    public QueueTokenSigner(@Value("${queue.token.signing-secret:}") String secret) {
+        this.key = secret == null || secret.isBlank()
+            ? null
+            : new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * 서명 토큰 사용 가능 여부 (서명 키 설정 시 true)
+     */
+    public boolean isEnabled() {
+        return key != null;
+    }
+
+    /**
+     * 서명 토큰 발급
+     * @param token 서명할 토큰 내용
+     * @return "v1.{payload}.{signature}" 형식 문자열
+     * @throws IllegalStateException 서명 키가 설정되지 않은 경우
+     */
+    public String sign(SignedQueueToken token) {
+        if (!isEnabled()) {
+            throw new IllegalStateException("대기열 토큰 서명 키가 설정되지 않았습니다");
+        }
+        String payload = token.getTokenValue() + FIELD_SEPARATOR
+            + token.getIssuedAtEpochSecond() + FIELD_SEPARATOR
+            + token.getExpiresAtEpochSecond() + FIELD_SEPARATOR
+            + token.getUserId();
+        String signingInput = QueueToken.SIGNED_TOKEN_PREFIX
+            + ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return signingInput + "." + ENCODER.encodeToString(hmac(signingInput));
+    }
+
+    /**
+     * 서명 토큰 검증 (만료 여부는 호출 측에서 확인)
+     * @param signedValue 서명 토큰 문자열
+     * @return 서명이 유효하면 토큰 내용, 형식 오류/서명 불일치/비활성화 상태면 empty
+     */
+    public Optional<SignedQueueToken> verify(String signedValue) {
+        if (!isEnabled() || signedValue == null || !signedValue.startsWith(QueueToken.SIGNED_TOKEN_PREFIX)) {
+            return Optional.empty();
+        }
+        int signatureStart = signedValue.lastIndexOf('.');
+        if (signatureStart <= QueueToken.SIGNED_TOKEN_PREFIX.length()) {
+            return Optional.empty();
+        }
+        String signingInput = signedValue.substring(0, signatureStart);
+        try {
+            byte[] signature = DECODER.decode(signedValue.substring(signatureStart + 1));
+            if (!MessageDigest.isEqual(signature, hmac(signingInput))) {
+                return Optional.empty();
+            }
+            String payload = new String(
+                DECODER.decode(signingInput.substring(QueueToken.SIGNED_TOKEN_PREFIX.length())),
+                StandardCharsets.UTF_8
+            );
+            String[] fields = payload.split("\\|", 4);
+            if (fields.length != 4) {
+                return Optional.empty();
+            }
+            return Optional.of(new SignedQueueToken(
+                fields[0], fields[3], Long.parseLong(fields[1]), Long.parseLong(fields[2])
+            ));
+        } catch (IllegalArgumentException e) {
+            // Base64 디코딩 실패, 숫자 형식 오류, 빈 필드 (NumberFormatException 포함)
+            return Optional.empty();
+        }
+    }
+
+    private byte[] hmac(String input) {
+        return macs.get().doFinal(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        if (key == null) {
+            return null;
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 초기화 실패", e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.concert_reservation.domain.queue.components;
 
+import com.example.concert_reservation.domain.queue.infrastructure.EmbeddedQueueEngine;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueStoreFailover;
 import com.example.concert_reservation.domain.queue.infrastructure.RedisQueueRepository;
 import com.example.concert_reservation.domain.queue.models.QueueToken;
 import com.example.concert_reservation.domain.queue.models.UserQueue;
@@ -9,15 +11,21 @@ import java.util.Optional;
 
 /**
  * 대기열 검증 컴포넌트 (도메인 서비스)
- * Redis 기반 대기열 관리
+ * Redis 기반 대기열 관리 (Redis 장애로 전환된 동안 / 전환 중 발급된 토큰은 EmbeddedQueueEngine)
  */
 @Component
 public class QueueValidator {
     
     private final RedisQueueRepository redisQueueRepository;
+    private final EmbeddedQueueEngine embeddedQueueEngine;
+    private final QueueStoreFailover queueStoreFailover;
     
-    public QueueValidator(RedisQueueRepository redisQueueRepository) {
+    public QueueValidator(RedisQueueRepository redisQueueRepository,
+                          EmbeddedQueueEngine embeddedQueueEngine,
+                          QueueStoreFailover queueStoreFailover) {
         this.redisQueueRepository = redisQueueRepository;
+        this.embeddedQueueEngine = embeddedQueueEngine;
+        this.queueStoreFailover = queueStoreFailover;
     }
     
     /**
@@ -26,6 +34,9 @@ public class QueueValidator {
      * @return 활성 상태이면 true
      */
     public boolean isActiveToken(QueueToken token) {
+        if (isEmbeddedToken(token.getValue())) {
+            return embeddedQueueEngine.isActiveToken(token.getValue());
+        }
         return redisQueueRepository.isActiveToken(token.getValue());
     }
     
@@ -35,18 +46,50 @@ public class QueueValidator {
      * @return 활성 대기열이 있으면 true
      */
     public boolean hasActiveQueue(String userId) {
+        if (queueStoreFailover.isEmbedded()) {
+            return embeddedQueueEngine.hasActiveQueue(QueueToken.DEFAULT_CONCERT_DATE_ID, userId);
+        }
         return redisQueueRepository.hasActiveQueue(userId);
     }
     
+    /**
+     * 사용자가 해당 공연 일정 대기열에서 이미 활성 토큰을 보유하고 있는지 확인
+     * @param concertDateId 공연 일정 ID
+     * @param userId 사용자 ID
+     * @return 활성 대기열이 있으면 true
+     */
+    public boolean hasActiveQueue(long concertDateId, String userId) {
+        if (queueStoreFailover.isEmbedded()) {
+            return embeddedQueueEngine.hasActiveQueue(concertDateId, userId);
+        }
+        return redisQueueRepository.hasActiveQueue(concertDateId, userId);
+    }
+    
     /**
      * 사용자가 이미 대기 중인 대기열을 보유하고 있는지 확인
      * @param userId 사용자 ID
      * @return 대기 중인 대기열이 있으면 true
      */
     public boolean hasWaitingQueue(String userId) {
+        if (queueStoreFailover.isEmbedded()) {
+            return embeddedQueueEngine.hasWaitingQueue(QueueToken.DEFAULT_CONCERT_DATE_ID, userId);
+        }
         return redisQueueRepository.hasWaitingQueue(userId);
     }
     
+    /**
+     * 사용자가 해당 공연 일정 대기열에서 이미 대기 중인지 확인
+     * @param concertDateId 공연 일정 ID
+     * @param userId 사용자 ID
+     * @return 대기 중인 대기열이 있으면 true
+     */
+    public boolean hasWaitingQueue(long concertDateId, String userId) {
+        if (queueStoreFailover.isEmbedded()) {
+            return embeddedQueueEngine.hasWaitingQueue(concertDateId, userId);
+        }
+        return redisQueueRepository.hasWaitingQueue(concertDateId, userId);
+    }
+    
     /**
      * 토큰으로 대기열 조회 및 검증
      * @param token 조회할 토큰
@@ -54,7 +97,9 @@ public class QueueValidator {
      * @throws IllegalArgumentException 토큰이 유효하지 않은 경우
      */
     public UserQueue validateAndGetQueue(QueueToken token) {
-        return redisQueueRepository.findByToken(token)
+        return (isEmbeddedToken(token.getValue())
+                ? embeddedQueueEngine.findByToken(token)
+                : redisQueueRepository.findByToken(token))
             .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 토큰입니다"));
     }
     
@@ -70,11 +115,18 @@ public class QueueValidator {
     }
     
     /**
-     * 대기열 앞에 있는 사람 수 조회 (ZSET ZRANK 기반)
+     * 대기열 앞에 있는 사람 수 조회 (발급 순번 - 활성화 커서 기반, queue.position.exact=true면 ZRANK)
      * @param tokenValue 조회할 토큰 값
      * @return 앞에 대기 중인 사람 수
      */
     public long countWaitingAheadByToken(String tokenValue) {
+        if (isEmbeddedToken(tokenValue)) {
+            return embeddedQueueEngine.countWaitingAheadByToken(tokenValue);
+        }
         return redisQueueRepository.countWaitingAheadByToken(tokenValue);
     }
+    
+    private boolean isEmbeddedToken(String tokenValue) {
+        return queueStoreFailover.isEmbedded() || embeddedQueueEngine.contains(tokenValue);
+    }
 }
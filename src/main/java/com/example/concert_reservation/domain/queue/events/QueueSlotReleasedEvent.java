@@ -0,0 +1,17 @@
+package com.example.concert_reservation.domain.queue.events;
+
+/**
+ * Active 슬롯 반납 이벤트
+ * 
+ * 목적: 비워진 Active 슬롯을 다음 틱을 기다리지 않고 즉시 채우기 (QueueBackfillAdmitter)
+ * - 만료 정리, 결제 완료 반납, 유휴 토큰 반납 시 발행
+ * - 같은 시점에 몰린 반납은 QueueBackfillAdmitter가 묶어서 한 번에 활성화
+ * 
+ * @param concertDateId 슬롯이 반납된 공연 일정 ID
+ * @param count 반납된 슬롯 수
+ */
+public record QueueSlotReleasedEvent(
+    long concertDateId,
+    int count
+) {
+}
@@ -0,0 +1,62 @@
+package com.example.concert_reservation.domain.queue.events;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대기열 활성화 틱 이벤트
+ * 
+ * 목적: 대기열 상태 변화를 클라이언트 푸시(SSE)로 전달
+ * - QueueActivationScheduler가 틱마다 1회 발행
+ * - 구독자별 Redis 조회 없이 이 이벤트만으로 대기 순번 갱신/활성화 알림
+ * 
+ * @param activatedTokens 공연 일정 ID → 이번 틱에 활성화된 토큰 (활성화 순서)
+ * @param waitingByShard 공연 일정 ID → 틱 시작 시점 대기 인원
+ * @param removedWaiting 공연 일정 ID → 직전 틱 이후 활성화 외 사유로 빠진 대기자 수 (유휴 정리, 만료, 취소)
+ * @param tickedAtMillis 틱 시각 (epochMillis)
+ */
+public record QueueTickEvent(
+    Map<Long, List<String>> activatedTokens,
+    Map<Long, Long> waitingByShard,
+    Map<Long, Long> removedWaiting,
+    long tickedAtMillis
+) {
+    
+    /**
+     * 공연 일정별 이번 틱 활성화 수
+     */
+    public int activatedCount(long concertDateId) {
+        List<String> tokens = activatedTokens.get(concertDateId);
+        return tokens != null ? tokens.size() : 0;
+    }
+    
+    /**
+     * 공연 일정별 직전 틱 이후 활성화 외 사유로 빠진 대기자 수
+     */
+    public long removedCount(long concertDateId) {
+        return removedWaiting.getOrDefault(concertDateId, 0L);
+    }
+    
+    /**
+     * 아직 처리하지 못한 틱과 다음 틱 합치기 (푸시가 밀린 동안 틱을 버리지 않음)
+     * - 활성화 토큰: 공연 일정별로 발행 순서대로 이어 붙임 (activated 알림/순번 차감 누락 없음)
+     * - 빠진 대기자 수: 합산
+     * - 대기 인원/틱 시각: 최신 값
+     * 
+     * @param later 이후에 발행된 틱
+     * @return 합쳐진 틱
+     */
+    public QueueTickEvent merge(QueueTickEvent later) {
+        Map<Long, List<String>> mergedTokens = new LinkedHashMap<>();
+        activatedTokens.forEach((concertDateId, tokens) -> mergedTokens.put(concertDateId, new ArrayList<>(tokens)));
+        later.activatedTokens.forEach((concertDateId, tokens) ->
+            mergedTokens.computeIfAbsent(concertDateId, id -> new ArrayList<>()).addAll(tokens));
+        Map<Long, Long> mergedWaiting = new LinkedHashMap<>(waitingByShard);
+        mergedWaiting.putAll(later.waitingByShard);
+        Map<Long, Long> mergedRemoved = new LinkedHashMap<>(removedWaiting);
+        later.removedWaiting.forEach((concertDateId, removed) -> mergedRemoved.merge(concertDateId, removed, Long::sum));
+        return new QueueTickEvent(mergedTokens, mergedWaiting, mergedRemoved, Math.max(tickedAtMillis, later.tickedAtMillis));
+    }
+}
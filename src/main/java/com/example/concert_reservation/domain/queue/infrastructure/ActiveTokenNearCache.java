@@ -0,0 +1,148 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Active 토큰 → userId 로컬 근접 캐시 (QueueTokenInterceptor 전용)
+ *
+ * 설계 방식:
+ * - 예약/결제/환불 요청마다 HGETALL(+ZRANK) 왕복 대신 인스턴스 메모리에서 검증
+ * - ACTIVE 토큰만 캐싱 (WAITING/EXPIRED는 상태가 곧 바뀌므로 캐싱하지 않음)
+ * - 엔트리 TTL = min(토큰 만료 시각까지 남은 시간, max-ttl) → 만료된 토큰이 캐시에서 살아남지 않음
+ * - 토큰 삭제(예약 완료/결제 등)는 Redis Pub/Sub 채널로 전 인스턴스에 무효화 전파
+ *   (Pub/Sub 메시지 유실 시에도 max-ttl 이내로 정합성 회복)
+ * - 적중/미스/제거 수는 Micrometer 지표(cache.gets, cache.evictions 등)로 노출
+ * - 엔트리마다 마지막 하트비트 기록 시각을 보관 → QueueTokenInterceptor가 토큰당 일정 간격으로만 하트비트 기록
+ */
+@Component
+public class ActiveTokenNearCache implements MessageListener {
+
+    /**
+     * 토큰 무효화 채널 (메시지 본문 = 토큰 값)
+     */
+    public static final String INVALIDATION_CHANNEL = "queue:token:invalidate";
+
+    static final String CACHE_NAME = "queueTokenNearCache";
+
+    private final Cache<String, CachedToken> cache;
+
+    public ActiveTokenNearCache(
+        @Value("${queue.token-cache.max-size:100000}") long maxSize,
+        @Value("${queue.token-cache.max-ttl-seconds:60}") long maxTtlSeconds,
+        MeterRegistry meterRegistry
+    ) {
+        long maxTtlNanos = TimeUnit.SECONDS.toNanos(maxTtlSeconds);
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new Expiry<String, CachedToken>() {
+                @Override
+                public long expireAfterCreate(String token, CachedToken value, long currentTime) {
+                    long remainingNanos = TimeUnit.MILLISECONDS.toNanos(value.expiresAtMillis() - System.currentTimeMillis());
+                    return Math.max(0, Math.min(remainingNanos, maxTtlNanos));
+                }
+
+                @Override
+                public long expireAfterUpdate(String token, CachedToken value, long currentTime, long currentDuration) {
+                    return expireAfterCreate(token, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String token, CachedToken value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 Active 토큰의 userId 조회
+     * @param token 토큰 값
+     * @return userId (캐시에 없거나 만료되었으면 null)
+     */
+    public String getUserId(String token) {
+        CachedToken cached = cache.getIfPresent(token);
+        return cached != null ? cached.userId() : null;
+    }
+
+    /**
+     * Active 토큰 캐싱
+     * @param token 토큰 값
+     * @param userId 사용자 ID
+     * @param expiredAt 토큰 만료 시각 (null이면 캐싱하지 않음)
+     */
+    public void put(String token, String userId, LocalDateTime expiredAt) {
+        if (expiredAt == null) {
+            return;
+        }
+        put(token, userId, expiredAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    /**
+     * Active 토큰 캐싱 (만료 시각 epochMillis 지정)
+     * @param token 토큰 값
+     * @param userId 사용자 ID
+     * @param expiresAtMillis 토큰 만료 시각 (epochMillis)
+     */
+    public void put(String token, String userId, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        cache.put(token, new CachedToken(userId, expiresAtMillis, new AtomicLong()));
+    }
+
+    /**
+     * 하트비트를 기록할 차례인지 확인하고 기록 시각 갱신 (토큰당 intervalMillis마다 한 요청만 true)
+     * 새로 캐싱된 토큰은 곧바로 true
+     * @return 캐시에 있고 마지막 기록 후 intervalMillis가 지났으면 true
+     */
+    public boolean tryMarkHeartbeat(String token, long intervalMillis) {
+        CachedToken cached = cache.getIfPresent(token);
+        if (cached == null) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        long last = cached.lastHeartbeatMillis().get();
+        return now - last >= intervalMillis && cached.lastHeartbeatMillis().compareAndSet(last, now);
+    }
+
+    /**
+     * 로컬 캐시에서 토큰 제거
+     */
+    public void invalidate(String token) {
+        cache.invalidate(token);
+    }
+
+    /**
+     * 무효화 채널 수신 (다른 인스턴스 포함 모든 토큰 삭제 이벤트)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 현재 캐시 엔트리 수 (근사치)
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private record CachedToken(String userId, long expiresAtMillis, AtomicLong lastHeartbeatMillis) {
+    }
+}
@@ -0,0 +1,600 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import com.example.concert_reservation.domain.queue.models.QueueStatus;
+import com.example.concert_reservation.domain.queue.models.QueueToken;
+import com.example.concert_reservation.domain.queue.models.UserQueue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * 인메모리 대기열 엔진 (단일 노드 배포 / Redis 장애 시 대체 저장소)
+ *
+ * RedisQueueRepository와 같은 대기/활성/만료 규칙을 프로세스 메모리에서 구현한다.
+ * - 대기열: 공연 일정별 lock-free 링 버퍼 (발급은 CAS로 순번을 확보해 여러 스레드가 동시에 기록,
+ *   활성화는 스케줄러 단일 소비자가 head부터 순서대로 꺼냄)
+ *   링 버퍼 슬롯은 청크 단위로 처음 쓰일 때 할당 → 샤드를 만들어도 실제 대기 인원만큼만 메모리 사용
+ * - 샤드는 발급 시에만 생성하고 조회 경로에서는 만들지 않음, 대기/활성 토큰이 모두 빠진 샤드는 정리 주기마다 제거
+ *   → 순번/커서가 Redis의 seq/cursor와 같은 의미이므로 대기 위치도 같은 방식(순번 - 커서)으로 계산
+ * - 토큰 상태: token → Entry, 사용자별 Waiting/Active 토큰은 공연 일정별 맵
+ * - 상태 전이(WAITING → ACTIVE/EXPIRED)는 Entry 단위 CAS → 취소와 활성화가 겹쳐도 한쪽만 성공
+ * - Waiting 30분 / Active 5분 만료, 회수 목록 5분 유지 (Redis TTL과 동일)
+ * - 마지막 생존 신호 시각을 Entry에 기록 → 유휴 토큰 정리는 전체 토큰 순회 (대체 저장소 규모에서만 사용)
+ * - 프로세스 메모리에만 존재하므로 재시작 시 사라지고 노드 간에 공유되지 않음
+ *   → Redis 복귀 후 남은 대기 토큰은 peekWaiting/handOff로 토큰 값 그대로 Redis 대기열에 이관 (QueueActivationScheduler)
+ */
+@Component
+public class EmbeddedQueueEngine {
+
+    private static final long WAITING_TTL_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    private static final long ACTIVE_TTL_MINUTES = 5;
+    private static final long ACTIVE_TTL_MILLIS = TimeUnit.MINUTES.toMillis(ACTIVE_TTL_MINUTES);
+
+    private final int ringCapacity;
+    private final Map<Long, Shard> shards = new ConcurrentHashMap<>();
+    private final Map<String, Entry> tokens = new ConcurrentHashMap<>();
+    private final Map<String, Long> revokedUntil = new ConcurrentHashMap<>();
+    // 활성화 외 사유(만료, 유휴 정리, 취소)로 빠진 대기자 수 - 틱마다 drainRemovedWaiting으로 비움
+    private final Map<Long, Long> removedWaiting = new ConcurrentHashMap<>();
+
+    public EmbeddedQueueEngine(@Value("${queue.embedded.ring-capacity:1048576}") int ringCapacity) {
+        if (Integer.bitCount(ringCapacity) != 1) {
+            throw new IllegalArgumentException("queue.embedded.ring-capacity는 2의 거듭제곱이어야 합니다: " + ringCapacity);
+        }
+        this.ringCapacity = ringCapacity;
+    }
+
+    /**
+     * 공연 일정별 대기열에 토큰 추가
+     * @throws IllegalStateException 이미 대기 중이거나 대기열이 가득 찬 경우
+     */
+    public UserQueue addToWaitingQueue(long concertDateId, String userId) {
+        Shard shard = pinShard(concertDateId);
+        try {
+            return addToWaitingQueue(shard, concertDateId, userId);
+        } finally {
+            shard.pins.decrementAndGet();
+        }
+    }
+
+    private UserQueue addToWaitingQueue(Shard shard, long concertDateId, String userId) {
+        long now = System.currentTimeMillis();
+        Entry entry = new Entry(QueueToken.generate(concertDateId), userId, LocalDateTime.now(), now + WAITING_TTL_MILLIS);
+
+        Entry existing = shard.userWaiting.putIfAbsent(userId, entry);
+        if (existing != null) {
+            if (existing.isWaiting(now)) {
+                throw new IllegalStateException("이미 대기 중인 토큰이 존재합니다");
+            }
+            // 만료된 대기 토큰은 새 토큰으로 교체
+            if (!shard.userWaiting.replace(userId, existing, entry)) {
+                throw new IllegalStateException("이미 대기 중인 토큰이 존재합니다");
+            }
+        }
+
+        tokens.put(entry.token.getValue(), entry);
+        long seq = shard.ring.offer(entry);
+        if (seq < 0) {
+            tokens.remove(entry.token.getValue());
+            shard.userWaiting.remove(userId, entry);
+            throw new IllegalStateException("대기열이 가득 찼습니다");
+        }
+        shard.waitingCount.incrementAndGet();
+
+        return UserQueue.of(null, entry.token, userId, seq - shard.ring.head, QueueStatus.WAITING, entry.enteredAt, null);
+    }
+
+    /**
+     * 토큰으로 UserQueue 조회 (만료된 토큰은 없는 것으로 취급)
+     */
+    public Optional<UserQueue> findByToken(QueueToken token) {
+        Entry entry = tokens.get(token.getValue());
+        long now = System.currentTimeMillis();
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isWaiting(now)) {
+            return Optional.of(UserQueue.of(null, token, entry.userId,
+                countWaitingAheadByToken(token.getValue()) + 1, QueueStatus.WAITING, entry.enteredAt, null));
+        }
+        if (entry.isActive(now)) {
+            return Optional.of(UserQueue.of(null, token, entry.userId, 0L, QueueStatus.ACTIVE,
+                entry.enteredAt, entry.expiredAt));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 이 엔진이 발급한 토큰인지 (Redis 복구 후에도 엔진 토큰은 엔진에서 조회하기 위함)
+     */
+    public boolean contains(String token) {
+        return tokens.containsKey(token);
+    }
+
+    public boolean isActiveToken(String token) {
+        Entry entry = tokens.get(token);
+        return entry != null && entry.isActive(System.currentTimeMillis());
+    }
+
+    public boolean hasActiveQueue(long concertDateId, String userId) {
+        Shard shard = shards.get(concertDateId);
+        Entry entry = shard == null ? null : shard.userActive.get(userId);
+        return entry != null && entry.isActive(System.currentTimeMillis());
+    }
+
+    public boolean hasWaitingQueue(long concertDateId, String userId) {
+        Shard shard = shards.get(concertDateId);
+        Entry entry = shard == null ? null : shard.userWaiting.get(userId);
+        return entry != null && entry.isWaiting(System.currentTimeMillis());
+    }
+
+    /**
+     * 앞에 대기 중인 인원 수 (순번 - 커서, RedisQueueRepository 커서 모드와 같은 보정)
+     */
+    public long countWaitingAheadByToken(String tokenValue) {
+        Entry entry = tokens.get(tokenValue);
+        if (entry == null || entry.status != QueueStatus.WAITING) {
+            return 0;
+        }
+        Shard shard = shards.get(entry.token.getConcertDateId());
+        if (shard == null) {
+            return 0;
+        }
+        return RedisQueueRepository.estimateWaitingAhead(
+            entry.seq, shard.ring.tail.get(), shard.ring.head, shard.waitingCount.get()
+        );
+    }
+
+    /**
+     * 공연 일정별 Waiting → Active 전환 (스케줄러 틱 / 반납 즉시 입장에서 호출, 샤드 단위로 직렬화)
+     * 취소/만료된 대기 토큰은 꺼내면서 건너뛴다 (Redis의 좀비 토큰 제거와 동일)
+     */
+    public List<String> activateTokens(long concertDateId, int count) {
+        Shard shard = shards.get(concertDateId);
+        if (count <= 0 || shard == null) {
+            return List.of();
+        }
+        List<String> activated = new ArrayList<>(count);
+        LocalDateTime activatedAt = LocalDateTime.now();
+        long now = System.currentTimeMillis();
+
+        synchronized (shard.ring) {
+            while (activated.size() < count) {
+                Entry entry = shard.ring.poll();
+                if (entry == null) {
+                    break;
+                }
+                if (entry.expiresAtMillis <= now) {
+                    expireWaiting(shard, entry);
+                    continue;
+                }
+                // 만료 시각을 먼저 기록한 뒤 상태 전환 → ACTIVE로 보이는 시점에는 항상 Active 만료 시각
+                entry.expiredAt = activatedAt.plusMinutes(ACTIVE_TTL_MINUTES);
+                entry.expiresAtMillis = now + ACTIVE_TTL_MILLIS;
+                if (!entry.compareAndSetStatus(QueueStatus.WAITING, QueueStatus.ACTIVE)) {
+                    continue;
+                }
+                // Active 계수를 먼저 올려 전환 도중 빈 샤드로 보여 정리되지 않도록 함
+                shard.activeCount.incrementAndGet();
+                shard.userActive.put(entry.userId, entry);
+                shard.activeQueue.add(entry);
+                shard.waitingCount.decrementAndGet();
+                shard.userWaiting.remove(entry.userId, entry);
+                entry.lastSeenMillis = now;
+                activated.add(entry.token.getValue());
+            }
+        }
+        return activated;
+    }
+
+    /**
+     * Redis 이관용 대기 토큰 조회 (순번 순, 최대 limit개) - 링 버퍼에서 꺼내지 않음
+     * 앞쪽의 취소/만료/이관 완료 토큰은 이때 링 버퍼에서 꺼내 버림
+     * → 이관이 실패하면 토큰은 엔진에 그대로 남고 다음 호출에서 다시 조회됨
+     */
+    public List<UserQueue> peekWaiting(long concertDateId, int limit) {
+        Shard shard = shards.get(concertDateId);
+        if (limit <= 0 || shard == null) {
+            return List.of();
+        }
+        List<UserQueue> waiting = new ArrayList<>(Math.min(limit, 1024));
+        long now = System.currentTimeMillis();
+        synchronized (shard.ring) {
+            Entry head;
+            while ((head = shard.ring.peek(shard.ring.head + 1)) != null && !head.isWaiting(now)) {
+                shard.ring.poll();
+                expireWaiting(shard, head);
+            }
+            long last = shard.ring.tail.get();
+            for (long seq = shard.ring.head + 1; seq <= last && waiting.size() < limit; seq++) {
+                Entry entry = shard.ring.peek(seq);
+                if (entry == null) {
+                    break;
+                }
+                if (entry.isWaiting(now)) {
+                    waiting.add(UserQueue.of(null, entry.token, entry.userId, seq - shard.ring.head,
+                        QueueStatus.WAITING, entry.enteredAt, null));
+                }
+            }
+        }
+        return waiting;
+    }
+
+    /**
+     * Redis로 이관된 대기 토큰 제거 (회수 목록에 등록하지 않음 - 같은 토큰이 Redis에서 계속 유효)
+     * @return 이관 도중 취소/만료되어 제거할 대기 토큰이 없었으면 false
+     */
+    public boolean handOff(String token) {
+        Entry entry = tokens.get(token);
+        if (entry == null || !entry.compareAndSetStatus(QueueStatus.WAITING, QueueStatus.EXPIRED)) {
+            return false;
+        }
+        tokens.remove(token, entry);
+        Shard shard = shards.get(entry.token.getConcertDateId());
+        if (shard != null) {
+            shard.waitingCount.decrementAndGet();
+            shard.userWaiting.remove(entry.userId, entry);
+        }
+        return true;
+    }
+
+    /**
+     * 만료된 Active 토큰과 회수 기록 정리
+     * 모든 Active 토큰의 유효 시간이 같으므로 활성화 순서 = 만료 순서 → 큐 앞에서부터만 확인
+     * 대기/활성 토큰이 모두 빠진 샤드는 함께 제거
+     * @return 공연 일정 ID → 제거된 토큰 수 (제거된 토큰이 있는 샤드만)
+     */
+    public Map<Long, Integer> removeExpiredActiveTokens() {
+        long now = System.currentTimeMillis();
+        Map<Long, Integer> removedByShard = new TreeMap<>();
+        for (Map.Entry<Long, Shard> shardEntry : shards.entrySet()) {
+            Shard shard = shardEntry.getValue();
+            int removed = 0;
+            Entry head;
+            while ((head = shard.activeQueue.peek()) != null && head.expiresAtMillis <= now) {
+                shard.activeQueue.poll();
+                if (head.compareAndSetStatus(QueueStatus.ACTIVE, QueueStatus.EXPIRED)) {
+                    tokens.remove(head.token.getValue(), head);
+                    shard.userActive.remove(head.userId, head);
+                    shard.activeCount.decrementAndGet();
+                    removed++;
+                }
+            }
+            if (removed > 0) {
+                removedByShard.put(shardEntry.getKey(), removed);
+            }
+            evictIfEmpty(shardEntry.getKey(), shard);
+        }
+        revokedUntil.values().removeIf(until -> until <= now);
+        return removedByShard;
+    }
+
+    /**
+     * 토큰 제거 (예약 완료/취소 시) - 회수 목록에 등록
+     */
+    public void removeToken(String token) {
+        Entry entry = tokens.remove(token);
+        if (entry == null) {
+            return;
+        }
+        Shard shard = shards.get(entry.token.getConcertDateId());
+        if (entry.compareAndSetStatus(QueueStatus.WAITING, QueueStatus.EXPIRED)) {
+            if (shard != null) {
+                shard.waitingCount.decrementAndGet();
+                shard.userWaiting.remove(entry.userId, entry);
+            }
+            recordRemovedWaiting(entry.token.getConcertDateId(), 1);
+        } else if (entry.compareAndSetStatus(QueueStatus.ACTIVE, QueueStatus.EXPIRED)) {
+            if (shard != null) {
+                shard.activeCount.decrementAndGet();
+                shard.userActive.remove(entry.userId, entry);
+            }
+        }
+        revokedUntil.put(token, System.currentTimeMillis() + ACTIVE_TTL_MILLIS);
+    }
+
+    /**
+     * 사용자의 Active 토큰 즉시 반납 (결제 완료 시)
+     * @return 반납한 토큰 값 (Active 토큰이 없으면 null)
+     */
+    public String releaseActiveToken(long concertDateId, String userId) {
+        Shard shard = shards.get(concertDateId);
+        Entry entry = shard == null ? null : shard.userActive.get(userId);
+        if (entry == null) {
+            return null;
+        }
+        removeToken(entry.token.getValue());
+        return entry.token.getValue();
+    }
+
+    /**
+     * 생존 신호 기록
+     * @return 유효한(대기/활성) 토큰이면 true
+     */
+    public boolean heartbeat(String token) {
+        Entry entry = tokens.get(token);
+        long now = System.currentTimeMillis();
+        if (entry == null || !(entry.isWaiting(now) || entry.isActive(now))) {
+            return false;
+        }
+        entry.lastSeenMillis = now;
+        return true;
+    }
+
+    /**
+     * 마지막 생존 신호가 기준 시각 이전인 토큰 정리 (RedisQueueRepository.reclaimIdleTokens와 같은 규칙)
+     * Active는 회수 목록에 등록 후 반납, Waiting은 만료 처리 (링 버퍼에서는 활성화 시 건너뜀)
+     * @return 공연 일정 ID → 정리 결과 (정리된 토큰이 있는 샤드만)
+     */
+    public Map<Long, IdleTokenReclaim> reclaimIdleTokens(long waitingIdleBeforeMillis, long activeIdleBeforeMillis) {
+        Map<Long, IdleTokenReclaim> results = new TreeMap<>();
+        for (Entry entry : tokens.values()) {
+            QueueStatus status = entry.status;
+            long concertDateId = entry.token.getConcertDateId();
+            IdleTokenReclaim reclaimed;
+            if (status == QueueStatus.ACTIVE && entry.lastSeenMillis <= activeIdleBeforeMillis) {
+                removeToken(entry.token.getValue());
+                reclaimed = new IdleTokenReclaim(0, 1);
+            } else if (status == QueueStatus.WAITING && entry.lastSeenMillis <= waitingIdleBeforeMillis) {
+                Shard shard = shards.get(concertDateId);
+                if (shard == null) {
+                    continue;
+                }
+                expireWaiting(shard, entry);
+                reclaimed = new IdleTokenReclaim(1, 0);
+            } else {
+                continue;
+            }
+            results.merge(concertDateId, reclaimed, IdleTokenReclaim::plus);
+        }
+        return results;
+    }
+
+    public boolean isRevoked(String token) {
+        Long until = revokedUntil.get(token);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    /**
+     * 공연 일정별 대기 인원 (오름차순)
+     */
+    public Map<Long, Long> getWaitingQueueSizes() {
+        Map<Long, Long> sizes = new LinkedHashMap<>();
+        for (Map.Entry<Long, Shard> entry : new TreeMap<>(shards).entrySet()) {
+            sizes.put(entry.getKey(), entry.getValue().waitingCount.get());
+        }
+        return sizes;
+    }
+
+    public long getWaitingQueueSize() {
+        long total = 0;
+        for (Shard shard : shards.values()) {
+            total += shard.waitingCount.get();
+        }
+        return total;
+    }
+
+    public long getActiveQueueSize() {
+        long total = 0;
+        for (Shard shard : shards.values()) {
+            total += shard.activeCount.get();
+        }
+        return total;
+    }
+
+    private void expireWaiting(Shard shard, Entry entry) {
+        if (entry.compareAndSetStatus(QueueStatus.WAITING, QueueStatus.EXPIRED)) {
+            shard.waitingCount.decrementAndGet();
+            shard.userWaiting.remove(entry.userId, entry);
+            tokens.remove(entry.token.getValue(), entry);
+            recordRemovedWaiting(entry.token.getConcertDateId(), 1);
+        }
+    }
+
+    /**
+     * 직전 호출 이후 활성화 외 사유로 빠진 대기자 수를 꺼내고 비움 (틱 이벤트의 순번 차감용)
+     * @return 공연 일정 ID → 빠진 대기자 수 (빠진 대기자가 있는 샤드만)
+     */
+    public Map<Long, Long> drainRemovedWaiting() {
+        Map<Long, Long> drained = new LinkedHashMap<>();
+        for (Long concertDateId : removedWaiting.keySet()) {
+            Long removed = removedWaiting.remove(concertDateId);
+            if (removed != null) {
+                drained.put(concertDateId, removed);
+            }
+        }
+        return drained;
+    }
+
+    private void recordRemovedWaiting(long concertDateId, long count) {
+        if (count > 0) {
+            removedWaiting.merge(concertDateId, count, Long::sum);
+        }
+    }
+
+    /**
+     * 발급용 샤드 확보 (없으면 생성) - 발급이 끝날 때까지 고정해 정리 대상에서 제외
+     */
+    private Shard pinShard(long concertDateId) {
+        while (true) {
+            Shard shard = shards.computeIfAbsent(concertDateId, id -> new Shard(ringCapacity));
+            shard.pins.incrementAndGet();
+            if (!shard.retired) {
+                return shard;
+            }
+            // 제거 중인 샤드 → 맵에서 빠진 뒤 새 샤드로 다시 시도
+            shard.pins.decrementAndGet();
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 빈 샤드 제거 (링 버퍼 포함)
+     * 제거 표시 후 다시 확인 → 그 사이 고정된 발급이 있으면 취소 (발급 쪽은 고정 후 제거 표시를 확인)
+     */
+    private void evictIfEmpty(long concertDateId, Shard shard) {
+        if (shard.pins.get() != 0 || !shard.isEmpty()) {
+            return;
+        }
+        shard.retired = true;
+        if (shard.pins.get() == 0 && shard.isEmpty()) {
+            shards.remove(concertDateId, shard);
+        } else {
+            shard.retired = false;
+        }
+    }
+
+    private static final class Shard {
+        private final WaitingRing ring;
+        private final AtomicInteger pins = new AtomicInteger();
+        private volatile boolean retired;
+        private final AtomicLong waitingCount = new AtomicLong();
+        private final AtomicLong activeCount = new AtomicLong();
+        private final Map<String, Entry> userWaiting = new ConcurrentHashMap<>();
+        private final Map<String, Entry> userActive = new ConcurrentHashMap<>();
+        // 활성화 순서 = 만료 순서
+        private final ConcurrentLinkedQueue<Entry> activeQueue = new ConcurrentLinkedQueue<>();
+
+        private Shard(int ringCapacity) {
+            this.ring = new WaitingRing(ringCapacity);
+        }
+
+        private boolean isEmpty() {
+            return waitingCount.get() == 0 && activeCount.get() == 0
+                && userWaiting.isEmpty() && userActive.isEmpty();
+        }
+    }
+
+    /**
+     * 다중 생산자 / 단일 소비자 고정 크기 링 버퍼
+     * - 생산자: tail CAS로 순번 확보 → 슬롯에 기록 (volatile 쓰기로 발행)
+     * - 소비자: head + 1 슬롯이 발행되었으면 꺼내고 슬롯을 비운 뒤 head 증가
+     * - 순번 n은 슬롯 (n & mask)에 놓이며, tail - head < capacity일 때만 확보하므로 덮어쓰지 않음
+     * - 슬롯은 CHUNK_SIZE개 단위 청크로 나뉘고 청크는 처음 기록될 때 CAS로 할당 (이후 재사용, 샤드와 함께 해제)
+     */
+    static final class WaitingRing {
+        private static final int CHUNK_SIZE = 4096;
+
+        private final AtomicReferenceArray<AtomicReferenceArray<Entry>> chunks;
+        private final int capacity;
+        private final int mask;
+        private final int chunkShift;
+        private final int chunkMask;
+        private final AtomicLong tail = new AtomicLong(); // 마지막으로 발급한 순번
+        private volatile long head;                       // 마지막으로 꺼낸 순번 (활성화 커서)
+
+        WaitingRing(int capacity) {
+            int chunkSize = Math.min(capacity, CHUNK_SIZE);
+            this.chunks = new AtomicReferenceArray<>(capacity / chunkSize);
+            this.capacity = capacity;
+            this.mask = capacity - 1;
+            this.chunkShift = Integer.numberOfTrailingZeros(chunkSize);
+            this.chunkMask = chunkSize - 1;
+        }
+
+        /**
+         * @return 발급된 순번 (가득 차 있으면 -1)
+         */
+        long offer(Entry entry) {
+            while (true) {
+                long current = tail.get();
+                if (current - head >= capacity) {
+                    return -1;
+                }
+                if (tail.compareAndSet(current, current + 1)) {
+                    long seq = current + 1;
+                    entry.seq = seq;
+                    int index = (int) (seq & mask);
+                    chunkForWrite(index).set(index & chunkMask, entry);
+                    return seq;
+                }
+            }
+        }
+
+        /**
+         * @return 다음 순번의 항목 (아직 발행되지 않았거나 비어 있으면 null)
+         */
+        Entry poll() {
+            long next = head + 1;
+            Entry entry = peek(next);
+            if (entry == null) {
+                return null;
+            }
+            int index = (int) (next & mask);
+            chunks.get(index >>> chunkShift).set(index & chunkMask, null);
+            head = next;
+            return entry;
+        }
+
+        /**
+         * @return 순번 seq의 항목 (아직 발행되지 않았거나 이미 꺼냈으면 null)
+         */
+        Entry peek(long seq) {
+            int index = (int) (seq & mask);
+            AtomicReferenceArray<Entry> chunk = chunks.get(index >>> chunkShift);
+            if (chunk == null) {
+                return null;
+            }
+            Entry entry = chunk.get(index & chunkMask);
+            return entry != null && entry.seq == seq ? entry : null;
+        }
+
+        private AtomicReferenceArray<Entry> chunkForWrite(int index) {
+            int chunkIndex = index >>> chunkShift;
+            AtomicReferenceArray<Entry> chunk = chunks.get(chunkIndex);
+            if (chunk == null) {
+                chunks.compareAndSet(chunkIndex, null, new AtomicReferenceArray<>(chunkMask + 1));
+                chunk = chunks.get(chunkIndex);
+            }
+            return chunk;
+        }
+    }
+
+    static final class Entry {
+        private static final AtomicReferenceFieldUpdater<Entry, QueueStatus> STATUS =
+            AtomicReferenceFieldUpdater.newUpdater(Entry.class, QueueStatus.class, "status");
+
+        private final QueueToken token;
+        private final String userId;
+        private final LocalDateTime enteredAt;
+        private volatile QueueStatus status = QueueStatus.WAITING;
+        private volatile long seq;
+        private volatile long expiresAtMillis;
+        private volatile LocalDateTime expiredAt;
+        private volatile long lastSeenMillis;
+
+        private Entry(QueueToken token, String userId, LocalDateTime enteredAt, long waitingExpiresAtMillis) {
+            this.token = token;
+            this.userId = userId;
+            this.enteredAt = enteredAt;
+            this.expiresAtMillis = waitingExpiresAtMillis;
+            this.lastSeenMillis = System.currentTimeMillis();
+        }
+
+        private boolean compareAndSetStatus(QueueStatus expected, QueueStatus next) {
+            return STATUS.compareAndSet(this, expected, next);
+        }
+
+        private boolean isWaiting(long now) {
+            return status == QueueStatus.WAITING && expiresAtMillis > now;
+        }
+
+        private boolean isActive(long now) {
+            return status == QueueStatus.ACTIVE && expiresAtMillis > now;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import com.example.concert_reservation.domain.queue.models.QueueStatus;
+import com.example.concert_reservation.domain.queue.models.QueueToken;
+import com.example.concert_reservation.domain.queue.models.UserQueue;
+import com.example.concert_reservation.domain.queue.repositories.QueueStoreRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 인메모리 QueueStoreRepository 구현체 (Adapter)
+ * EmbeddedQueueEngine을 QueueStoreRepository로 노출 (단일 노드 배포 / Redis 장애 시)
+ */
+@Repository
+public class EmbeddedQueueStoreRepository implements QueueStoreRepository {
+
+    private final EmbeddedQueueEngine embeddedQueueEngine;
+
+    public EmbeddedQueueStoreRepository(EmbeddedQueueEngine embeddedQueueEngine) {
+        this.embeddedQueueEngine = embeddedQueueEngine;
+    }
+
+    @Override
+    public UserQueue save(UserQueue userQueue) {
+        // 토큰이 속한 공연 일정 대기열에 추가
+        return embeddedQueueEngine.addToWaitingQueue(
+            userQueue.getToken().getConcertDateId(), userQueue.getUserId()
+        );
+    }
+
+    @Override
+    public Optional<UserQueue> findByToken(QueueToken token) {
+        return embeddedQueueEngine.findByToken(token);
+    }
+
+    @Override
+    public List<UserQueue> findByUserId(String userId) {
+        throw new UnsupportedOperationException("인메모리 대기열에서는 미지원");
+    }
+
+    @Override
+    public long countByStatus(QueueStatus status) {
+        if (status == QueueStatus.WAITING) {
+            return embeddedQueueEngine.getWaitingQueueSize();
+        } else if (status == QueueStatus.ACTIVE) {
+            return embeddedQueueEngine.getActiveQueueSize();
+        }
+        return 0;
+    }
+
+    @Override
+    public List<UserQueue> findByStatusOrderByEnteredAt(QueueStatus status, int limit) {
+        throw new UnsupportedOperationException("인메모리 대기열에서는 미지원");
+    }
+
+    @Override
+    public boolean existsByUserIdAndStatus(String userId, QueueStatus status) {
+        if (status == QueueStatus.ACTIVE) {
+            return embeddedQueueEngine.hasActiveQueue(QueueToken.DEFAULT_CONCERT_DATE_ID, userId);
+        } else if (status == QueueStatus.WAITING) {
+            return embeddedQueueEngine.hasWaitingQueue(QueueToken.DEFAULT_CONCERT_DATE_ID, userId);
+        }
+        return false;
+    }
+
+    @Override
+    public long getNextQueueNumber() {
+        return embeddedQueueEngine.getWaitingQueueSize() + 1;
+    }
+
+    @Override
+    public long countByStatusAndQueueNumberLessThan(QueueStatus status, Long queueNumber) {
+        throw new UnsupportedOperationException("인메모리 대기열에서는 미지원");
+    }
+
+    @Override
+    public boolean isRevoked(QueueToken token) {
+        return embeddedQueueEngine.isRevoked(token.getValue());
+    }
+
+    @Override
+    public boolean heartbeat(QueueToken token) {
+        return embeddedQueueEngine.heartbeat(token.getValue());
+    }
+
+    @Override
+    public boolean releaseActiveToken(long concertDateId, String userId) {
+        return embeddedQueueEngine.releaseActiveToken(concertDateId, userId) != null;
+    }
+}
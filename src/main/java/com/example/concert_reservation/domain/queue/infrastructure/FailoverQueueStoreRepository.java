@@ -0,0 +1,109 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import com.example.concert_reservation.domain.queue.models.QueueStatus;
+import com.example.concert_reservation.domain.queue.models.QueueToken;
+import com.example.concert_reservation.domain.queue.models.UserQueue;
+import com.example.concert_reservation.domain.queue.repositories.QueueStoreRepository;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 저장소 선택 QueueStoreRepository (QueueTokenInterceptor 등 기본 주입 대상)
+ * - 신규 발급/집계: QueueStoreFailover 상태에 따라 Redis 또는 인메모리
+ * - 토큰 단위 조회: 인메모리 엔진이 발급한 토큰이면 인메모리, 아니면 Redis
+ */
+@Repository
+@Primary
+public class FailoverQueueStoreRepository implements QueueStoreRepository {
+
+    private final RedisQueueStoreRepository redisQueueStoreRepository;
+    private final EmbeddedQueueStoreRepository embeddedQueueStoreRepository;
+    private final EmbeddedQueueEngine embeddedQueueEngine;
+    private final QueueStoreFailover queueStoreFailover;
+
+    public FailoverQueueStoreRepository(RedisQueueStoreRepository redisQueueStoreRepository,
+                                        EmbeddedQueueStoreRepository embeddedQueueStoreRepository,
+                                        EmbeddedQueueEngine embeddedQueueEngine,
+                                        QueueStoreFailover queueStoreFailover) {
+        this.redisQueueStoreRepository = redisQueueStoreRepository;
+        this.embeddedQueueStoreRepository = embeddedQueueStoreRepository;
+        this.embeddedQueueEngine = embeddedQueueEngine;
+        this.queueStoreFailover = queueStoreFailover;
+    }
+
+    @Override
+    public UserQueue save(UserQueue userQueue) {
+        return current().save(userQueue);
+    }
+
+    @Override
+    public Optional<UserQueue> findByToken(QueueToken token) {
+        return forToken(token).findByToken(token);
+    }
+
+    @Override
+    public List<UserQueue> findByUserId(String userId) {
+        return current().findByUserId(userId);
+    }
+
+    @Override
+    public long countByStatus(QueueStatus status) {
+        return current().countByStatus(status);
+    }
+
+    @Override
+    public List<UserQueue> findByStatusOrderByEnteredAt(QueueStatus status, int limit) {
+        return current().findByStatusOrderByEnteredAt(status, limit);
+    }
+
+    @Override
+    public boolean existsByUserIdAndStatus(String userId, QueueStatus status) {
+        return current().existsByUserIdAndStatus(userId, status);
+    }
+
+    @Override
+    public long getNextQueueNumber() {
+        return current().getNextQueueNumber();
+    }
+
+    @Override
+    public long countByStatusAndQueueNumberLessThan(QueueStatus status, Long queueNumber) {
+        return current().countByStatusAndQueueNumberLessThan(status, queueNumber);
+    }
+
+    @Override
+    public boolean isRevoked(QueueToken token) {
+        return forToken(token).isRevoked(token);
+    }
+
+    @Override
+    public boolean heartbeat(QueueToken token) {
+        return forToken(token).heartbeat(token);
+    }
+
+    /**
+     * 전환 중 엔진에서 발급된 토큰일 수 있으므로 현재 저장소에 없으면 엔진에서도 반납 시도
+     */
+    @Override
+    public boolean releaseActiveToken(long concertDateId, String userId) {
+        if (current().releaseActiveToken(concertDateId, userId)) {
+            return true;
+        }
+        return !queueStoreFailover.isEmbedded()
+            && embeddedQueueStoreRepository.releaseActiveToken(concertDateId, userId);
+    }
+
+    private QueueStoreRepository current() {
+        return queueStoreFailover.isEmbedded() ? embeddedQueueStoreRepository : redisQueueStoreRepository;
+    }
+
+    private QueueStoreRepository forToken(QueueToken token) {
+        if (queueStoreFailover.isEmbedded() || embeddedQueueEngine.contains(token.getValue())) {
+            return embeddedQueueStoreRepository;
+        }
+        return redisQueueStoreRepository;
+    }
+}
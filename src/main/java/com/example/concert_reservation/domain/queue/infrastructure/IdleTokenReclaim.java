@@ -0,0 +1,16 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+/**
+ * 유휴 토큰 정리 결과 (하트비트가 끊긴 토큰)
+ *
+ * @param prunedWaiting 대기열에서 제거된 Waiting 토큰 수
+ * @param releasedActive 만료 전에 반납된 Active 토큰 수 (같은 수만큼 즉시 추가 입장 가능)
+ */
+public record IdleTokenReclaim(int prunedWaiting, int releasedActive) {
+
+    public static final IdleTokenReclaim NONE = new IdleTokenReclaim(0, 0);
+
+    public IdleTokenReclaim plus(IdleTokenReclaim other) {
+        return new IdleTokenReclaim(prunedWaiting + other.prunedWaiting, releasedActive + other.releasedActive);
+    }
+}
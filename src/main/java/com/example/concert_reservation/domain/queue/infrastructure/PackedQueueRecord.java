@@ -0,0 +1,120 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import com.example.concert_reservation.domain.queue.models.QueueStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 토큰별 대기열 레코드 (Redis String 값 1개, 빅엔디언)
+ *
+ * 기존 Token Metadata Hash(userId, status, enteredAt, seq, expiredAt - ISO 문자열)와
+ * Active Hash(userId, activatedAt, expiredAt)를 하나로 합친 고정 헤더 + 가변 userId 형식:
+ *
+ *   [0]      형식 버전 (1)
+ *   [1]      상태 'W' (WAITING) / 'A' (ACTIVE)
+ *   [2..9]   enteredAt (epochMillis)
+ *   [10..17] expiredAt (epochMillis, Waiting이면 0)
+ *   [18..]   userId (UTF-8)
+ *
+ * Lua 스크립트는 GETRANGE/SETRANGE로 상태와 만료 시각만 바꾸고 userId를 읽는다. (오프셋은 아래 상수와 동일)
+ * 발급 순번은 Waiting Queue score에 있으므로 레코드에 중복 저장하지 않는다.
+ */
+final class PackedQueueRecord {
+
+    static final byte VERSION = 1;
+    static final byte STATUS_WAITING = 'W';
+    static final byte STATUS_ACTIVE = 'A';
+    static final int STATUS_OFFSET = 1;
+    static final int ENTERED_AT_OFFSET = 2;
+    static final int EXPIRED_AT_OFFSET = 10;
+    static final int USER_ID_OFFSET = 18;
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final QueueStatus status;
+    private final long enteredAtMillis;
+    private final long expiredAtMillis;
+    private final String userId;
+
+    private PackedQueueRecord(QueueStatus status, long enteredAtMillis, long expiredAtMillis, String userId) {
+        this.status = status;
+        this.enteredAtMillis = enteredAtMillis;
+        this.expiredAtMillis = expiredAtMillis;
+        this.userId = userId;
+    }
+
+    /**
+     * Waiting 레코드 인코딩
+     */
+    static byte[] waiting(String userId, long enteredAtMillis) {
+        return encode(STATUS_WAITING, userId, enteredAtMillis, 0L);
+    }
+
+    /**
+     * Active 레코드 인코딩 (레거시 데이터 이전용 - 정상 경로에서는 활성화 스크립트가 SETRANGE로 전환)
+     */
+    static byte[] active(String userId, long enteredAtMillis, long expiredAtMillis) {
+        return encode(STATUS_ACTIVE, userId, enteredAtMillis, expiredAtMillis);
+    }
+
+    /**
+     * @return 형식이 맞지 않으면 null
+     */
+    static PackedQueueRecord decode(byte[] value) {
+        if (value == null || value.length < USER_ID_OFFSET || value[0] != VERSION) {
+            return null;
+        }
+        QueueStatus status;
+        if (value[STATUS_OFFSET] == STATUS_WAITING) {
+            status = QueueStatus.WAITING;
+        } else if (value[STATUS_OFFSET] == STATUS_ACTIVE) {
+            status = QueueStatus.ACTIVE;
+        } else {
+            return null;
+        }
+        return new PackedQueueRecord(
+            status,
+            QueueRedisCodec.getLong(value, ENTERED_AT_OFFSET),
+            QueueRedisCodec.getLong(value, EXPIRED_AT_OFFSET),
+            new String(value, USER_ID_OFFSET, value.length - USER_ID_OFFSET, StandardCharsets.UTF_8)
+        );
+    }
+
+    static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZONE);
+    }
+
+    QueueStatus status() {
+        return status;
+    }
+
+    String userId() {
+        return userId;
+    }
+
+    LocalDateTime enteredAt() {
+        return toLocalDateTime(enteredAtMillis);
+    }
+
+    LocalDateTime expiredAt() {
+        return expiredAtMillis > 0 ? toLocalDateTime(expiredAtMillis) : null;
+    }
+
+    private static byte[] encode(byte status, String userId, long enteredAtMillis, long expiredAtMillis) {
+        byte[] user = userId.getBytes(StandardCharsets.UTF_8);
+        byte[] value = new byte[USER_ID_OFFSET + user.length];
+        value[0] = VERSION;
+        value[STATUS_OFFSET] = status;
+        QueueRedisCodec.putLong(value, ENTERED_AT_OFFSET, enteredAtMillis);
+        QueueRedisCodec.putLong(value, EXPIRED_AT_OFFSET, expiredAtMillis);
+        System.arraycopy(user, 0, value, USER_ID_OFFSET, user.length);
+        return value;
+    }
+}
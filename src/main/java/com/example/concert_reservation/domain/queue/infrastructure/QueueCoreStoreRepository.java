@@ -5,6 +5,9 @@ import com.example.concert_reservation.domain.queue.models.QueueStatus;
 import com.example.concert_reservation.domain.queue.models.QueueToken;
 import com.example.concert_reservation.domain.queue.models.UserQueue;
 import com.example.concert_reservation.domain.queue.repositories.QueueStoreRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,14 +18,26 @@ import java.util.stream.Collectors;
 /**
  * 대기열 저장소 구현체
  * 도메인 모델(UserQueue)과 JPA 엔티티(UserQueueEntity) 간의 변환을 담당
+ * 
+ * 행 수가 많아져도 쓸 수 있도록:
+ * - 상태별 조회는 LIMIT을 SQL로 내리고, 이어지는 페이지는 (입장 시간, ID) 키셋으로 조회 (idx_status_entered_at)
+ * - 대기 번호는 테이블 전체 MAX 대신 DB 시퀀스(user_queue_number_seq)로 발급
+ *   시퀀스 생성: 새 스키마는 import.sql, 기존 DB는 QueueNumberSequenceMigrator (기존 번호 이후로 보정)
  */
 @Repository
 public class QueueCoreStoreRepository implements QueueStoreRepository {
     
+    static final String QUEUE_NUMBER_SEQUENCE = "user_queue_number_seq";
+    
     private final QueueJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+    
+    // DB 방언별 시퀀스 조회 SQL (최초 호출 시 결정)
+    private volatile String nextQueueNumberSql;
     
-    public QueueCoreStoreRepository(QueueJpaRepository jpaRepository) {
+    public QueueCoreStoreRepository(QueueJpaRepository jpaRepository, EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
     }
     
     @Override
@@ -57,8 +72,26 @@ public class QueueCoreStoreRepository implements QueueStoreRepository {
     @Override
     @Transactional(readOnly = true)
     public List<UserQueue> findByStatusOrderByEnteredAt(QueueStatus status, int limit) {
-        return jpaRepository.findByStatusOrderByEnteredAtAsc(status.name()).stream()
-            .limit(limit)
+        if (limit <= 0) {
+            return List.of();
+        }
+        return jpaRepository.findFirstPageByStatus(status.name(), PageRequest.ofSize(limit)).stream()
+            .map(this::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * 특정 상태의 대기열 다음 페이지 조회 (키셋 페이지네이션)
+     * @param last 직전 페이지의 마지막 대기열 (이 행 이후부터 조회)
+     * @param limit 최대 조회 수
+     */
+    @Transactional(readOnly = true)
+    public List<UserQueue> findByStatusOrderByEnteredAtAfter(QueueStatus status, UserQueue last, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return jpaRepository.findPageByStatusAfter(status.name(), last.getEnteredAt(), last.getId(), PageRequest.ofSize(limit))
+            .stream()
             .map(this::toDomain)
             .collect(Collectors.toList());
     }
@@ -69,11 +102,15 @@ public class QueueCoreStoreRepository implements QueueStoreRepository {
         return jpaRepository.existsByUserIdAndStatus(userId, status.name());
     }
     
+    /**
+     * DB 시퀀스로 다음 대기 번호 발급
+     * MAX(queue_number) 전체 스캔이 없고, 동시에 발급해도 번호가 중복되지 않는다. (롤백된 번호는 건너뜀)
+     */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public long getNextQueueNumber() {
-        Long maxQueueNumber = jpaRepository.findMaxQueueNumber();
-        return (maxQueueNumber != null ? maxQueueNumber : 0L) + 1;
+        Object next = entityManager.createNativeQuery(nextQueueNumberSql()).getSingleResult();
+        return ((Number) next).longValue();
     }
     
     @Override
@@ -82,6 +119,49 @@ public class QueueCoreStoreRepository implements QueueStoreRepository {
         return jpaRepository.countByStatusAndQueueNumberLessThan(status.name(), queueNumber);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isRevoked(QueueToken token) {
+        // DB 기반에서는 ACTIVE 행이 없으면 회수된 것으로 간주
+        return jpaRepository.findByToken(token.getValue())
+            .map(entity -> !QueueStatus.ACTIVE.name().equals(entity.getStatus()))
+            .orElse(true);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public boolean heartbeat(QueueToken token) {
+        // DB 기반에서는 유휴 토큰 정리를 하지 않으므로 유효 여부만 확인
+        return jpaRepository.findByToken(token.getValue())
+            .map(entity -> !QueueStatus.EXPIRED.name().equals(entity.getStatus()))
+            .orElse(false);
+    }
+    
+    @Override
+    @Transactional
+    public boolean releaseActiveToken(long concertDateId, String userId) {
+        // DB 기반 대기열은 공연 일정별로 나뉘지 않음 - 사용자의 ACTIVE 행을 모두 만료 처리 (변경 감지)
+        boolean released = false;
+        for (UserQueueEntity entity : jpaRepository.findByUserId(userId)) {
+            if (QueueStatus.ACTIVE.name().equals(entity.getStatus())) {
+                entity.setStatus(QueueStatus.EXPIRED.name());
+                released = true;
+            }
+        }
+        return released;
+    }
+    
+    private String nextQueueNumberSql() {
+        String sql = nextQueueNumberSql;
+        if (sql == null) {
+            sql = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().getSequenceSupport()
+                .getSequenceNextValString(QUEUE_NUMBER_SEQUENCE);
+            nextQueueNumberSql = sql;
+        }
+        return sql;
+    }
+    
     /**
      * 도메인 모델 → JPA 엔티티 변환
      */
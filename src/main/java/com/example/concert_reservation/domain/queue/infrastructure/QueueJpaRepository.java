@@ -1,9 +1,12 @@
 package com.example.concert_reservation.domain.queue.infrastructure;
 
 import com.example.concert_reservation.domain.queue.infrastructure.entity.UserQueueEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,20 +32,27 @@ public interface QueueJpaRepository extends JpaRepository<UserQueueEntity, Long>
     long countByStatus(String status);
     
     /**
-     * 특정 상태의 대기열 조회 (입장 시간 오름차순, 제한)
+     * 특정 상태의 대기열 첫 페이지 조회 (입장 시간, ID 오름차순)
+     * LIMIT은 Pageable로 SQL에 전달 - (status, entered_at, id) 인덱스 앞부분만 읽음
      */
-    List<UserQueueEntity> findByStatusOrderByEnteredAtAsc(String status);
+    @Query("SELECT q FROM UserQueueEntity q WHERE q.status = :status ORDER BY q.enteredAt ASC, q.id ASC")
+    List<UserQueueEntity> findFirstPageByStatus(@Param("status") String status, Pageable pageable);
     
     /**
-     * 사용자 ID와 상태로 대기열 존재 여부 확인
+     * 특정 상태의 대기열 다음 페이지 조회 (키셋 페이지네이션)
+     * 직전 페이지 마지막 행의 (입장 시간, ID) 이후부터 읽으므로 OFFSET과 달리 뒤 페이지도 비용이 일정하다.
      */
-    boolean existsByUserIdAndStatus(String userId, String status);
+    @Query("SELECT q FROM UserQueueEntity q WHERE q.status = :status AND (q.enteredAt, q.id) > (:enteredAt, :id) "
+        + "ORDER BY q.enteredAt ASC, q.id ASC")
+    List<UserQueueEntity> findPageByStatusAfter(@Param("status") String status,
+                                                @Param("enteredAt") LocalDateTime enteredAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
     
     /**
-     * 최대 대기 번호 조회
+     * 사용자 ID와 상태로 대기열 존재 여부 확인
      */
-    @Query("SELECT COALESCE(MAX(q.queueNumber), 0) FROM UserQueueEntity q")
-    Long findMaxQueueNumber();
+    boolean existsByUserIdAndStatus(String userId, String status);
     
     /**
      * 특정 상태이면서 대기 번호가 지정된 번호보다 작은 대기열 개수 조회
@@ -0,0 +1,356 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 레거시 대기열 레이아웃 → 압축 레이아웃 이전
+ *
+ * 레거시: 문자열 토큰 ZSET member + Token Metadata Hash + Active Hash (ISO LocalDateTime 문자열)
+ * 압축: 16바이트 토큰 ID + 토큰당 PackedQueueRecord 1개 (QueueShardKeys 참고)
+ *
+ * 두 레이아웃은 키 이름이 달라 공존할 수 있으므로, 롤링 배포 중 이전 버전 노드가 계속 레거시 키에 기록해도
+ * 주기적으로 실행되는 이 작업이 옮겨 준다. (발급 순번/커서 키는 공유 → 이전 후에도 순서 유지)
+ * - 복사 후 삭제: 레거시 인덱스를 읽기만 하고(ZRANGE) 새 레이아웃에 먼저 기록한 뒤,
+ *   MIGRATE_COMMIT_SCRIPT로 레거시 인덱스에서 ZREM에 성공한 토큰만 레거시 키를 지움
+ *   → 중간에 실패하면 레거시 키가 남아 다음 실행에서 다시 복사 (새 레이아웃 기록은 같은 값 덮어쓰기)
+ *   → 복사 중 이전 버전 노드가 그 토큰을 옮기거나 지웠으면(ZREM 실패) 새 레이아웃 복사본을 되돌림
+ * - 회수 목록도 복사 후 옮긴 멤버만 ZREM (그 사이 이전 버전 노드가 추가한 회수 기록은 다음 실행에서 이전)
+ * - 남은 TTL을 그대로 이어받고, 레코드가 이미 만료된 토큰은 버린다
+ * - 리더 노드만 실행 (SchedulerLeaderElection), 레거시 키가 idle-passes회 연속 없으면 이 노드에서는 중단
+ * 이전 전까지 레거시 토큰은 새 노드에서 조회되지 않으므로 배포 중에는 실행 주기를 짧게 유지한다.
+ */
+@Component
+public class QueueLayoutMigrator {
+
+    private static final Logger log = LoggerFactory.getLogger(QueueLayoutMigrator.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * 이전 확정 스크립트 (복사 후 레거시 삭제)
+     * KEYS[1]: 레거시 인덱스, KEYS[2]: 새 인덱스, KEYS[3]: 새 Heartbeat Index
+     * ARGV: 토큰당 7개 묶음 - [1] 레거시 토큰 문자열, [2] 레거시 토큰 Hash, [3] 레거시 Active Hash (없으면 ''),
+     *       [4] 레거시 유저 키 (없으면 ''), [5] 토큰 ID (버리는 토큰이면 ''), [6] 새 토큰 레코드 키, [7] 새 유저 키
+     * 반환: 확정된 이전 토큰 수
+     * 레거시 인덱스에서 ZREM에 성공한 토큰만 레거시 키를 지우고(유저 키는 아직 그 토큰을 가리킬 때만),
+     * ZREM에 실패하면(그 사이 이전 버전 노드가 옮기거나 지움) 먼저 기록한 새 레이아웃 복사본을 되돌린다.
+     */
+    private static final QueueScript MIGRATE_COMMIT_SCRIPT =
+        QueueScript.of(
+            "local committed = 0 "
+                + "for i = 1, #ARGV, 7 do "
+                + "if redis.call('ZREM', KEYS[1], ARGV[i]) == 1 then "
+                + "redis.call('DEL', ARGV[i + 1]) "
+                + "if ARGV[i + 2] ~= '' then redis.call('DEL', ARGV[i + 2]) end "
+                + "if ARGV[i + 3] ~= '' and redis.call('GET', ARGV[i + 3]) == ARGV[i] then redis.call('DEL', ARGV[i + 3]) end "
+                + "if ARGV[i + 4] ~= '' then committed = committed + 1 end "
+                + "elseif ARGV[i + 4] ~= '' then "
+                + "redis.call('ZREM', KEYS[2], ARGV[i + 4]) "
+                + "redis.call('ZREM', KEYS[3], ARGV[i + 4]) "
+                + "redis.call('DEL', ARGV[i + 5]) "
+                + "if redis.call('GET', ARGV[i + 6]) == ARGV[i + 4] then redis.call('DEL', ARGV[i + 6]) end "
+                + "end "
+                + "end "
+                + "return committed",
+            ReturnType.INTEGER
+        );
+    private static final byte[] NONE = new byte[0];
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisQueueRepository redisQueueRepository;
+    private final SchedulerLeaderElection leaderElection;
+    private final boolean enabled;
+    private final int idlePassesToStop;
+
+    private int idlePasses;
+    private volatile boolean completed;
+
+    public QueueLayoutMigrator(RedisTemplate<String, String> redisTemplate,
+                               RedisQueueRepository redisQueueRepository,
+                               SchedulerLeaderElection leaderElection,
+                               @Value("${queue.storage.migrate-legacy:true}") boolean enabled,
+                               @Value("${queue.storage.migration-idle-passes:60}") int idlePassesToStop) {
+        this.redisTemplate = redisTemplate;
+        this.redisQueueRepository = redisQueueRepository;
+        this.leaderElection = leaderElection;
+        this.enabled = enabled;
+        this.idlePassesToStop = idlePassesToStop;
+    }
+
+    /**
+     * 모든 샤드의 레거시 데이터 이전 (리더 노드에서 주기 실행)
+     * 레거시 키가 idle-passes회 연속 발견되지 않으면 이전 버전 노드가 모두 내려간 것으로 보고 중단
+     */
+    @Scheduled(fixedDelayString = "${queue.storage.migration-interval-millis:5000}")
+    public void migrate() {
+        if (!enabled || completed || !leaderElection.isLeader()) {
+            return;
+        }
+        try {
+            int migrated = 0;
+            int found = 0;
+            for (Long shardId : redisQueueRepository.getShardIds()) {
+                ShardMigration result = migrateShard(shardId);
+                migrated += result.migrated();
+                found += result.legacyEntries();
+            }
+            if (migrated > 0) {
+                log.info("레거시 대기열 토큰 {}건을 압축 레이아웃으로 이전", migrated);
+            }
+            idlePasses = found > 0 ? 0 : idlePasses + 1;
+            if (idlePasses >= idlePassesToStop) {
+                completed = true;
+                log.info("레거시 대기열 키가 {}회 연속 없음 - 레이아웃 이전 작업 중단", idlePasses);
+            }
+        } catch (Exception e) {
+            log.warn("레거시 대기열 이전 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 레거시 키가 더 없어 이전 작업을 중단했는지
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * 공연 일정 1개의 레거시 데이터 이전
+     */
+    public ShardMigration migrateShard(long concertDateId) {
+        QueueShardKeys keys = QueueShardKeys.of(concertDateId);
+        ShardMigration waiting = migrateWaiting(keys);
+        ShardMigration active = migrateActive(keys);
+        int revoked = migrateRevoked(keys);
+        return new ShardMigration(waiting.migrated() + active.migrated(),
+            waiting.legacyEntries() + active.legacyEntries() + revoked);
+    }
+
+    private ShardMigration migrateWaiting(QueueShardKeys keys) {
+        long defaultTtlMillis = TimeUnit.SECONDS.toMillis(RedisQueueRepository.WAITING_TTL_SECONDS);
+        int migrated = 0;
+        int found = 0;
+        while (true) {
+            List<TypedTuple<String>> batch = peekMin(keys.legacyWaiting());
+            if (batch.isEmpty()) {
+                return new ShardMigration(migrated, found);
+            }
+            found += batch.size();
+            // 레거시 메타데이터 + 남은 TTL 일괄 조회
+            List<Object> metadata = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (TypedTuple<String> entry : batch) {
+                    byte[] tokenKey = bytes(keys.legacyToken(entry.getValue()));
+                    connection.hashCommands().hGetAll(tokenKey);
+                    connection.keyCommands().pTtl(tokenKey);
+                }
+                return null;
+            });
+
+            List<PackedEntry> entries = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                String token = batch.get(i).getValue();
+                Map<?, ?> hash = (Map<?, ?>) metadata.get(i * 2);
+                byte[] id = QueueRedisCodec.tokenId(token);
+                Object userId = hash != null ? hash.get("userId") : null;
+                Object enteredAt = hash != null ? hash.get("enteredAt") : null;
+                if (id == null || userId == null || enteredAt == null) {
+                    entries.add(PackedEntry.dropped(token));
+                    continue;
+                }
+                entries.add(new PackedEntry(token, id, (String) userId, batch.get(i).getScore(),
+                    PackedQueueRecord.waiting((String) userId, epochMillis(enteredAt)),
+                    remainingTtl(metadata.get(i * 2 + 1), defaultTtlMillis)));
+            }
+
+            // 1. 새 레이아웃에 복사 (이전된 토큰은 이전 시점부터 유휴 시간 측정 - 하트비트 인덱스 등록)
+            long migratedAt = System.currentTimeMillis();
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (PackedEntry entry : entries) {
+                    if (entry.id == null) {
+                        continue;
+                    }
+                    Expiration ttl = Expiration.milliseconds(entry.ttlMillis);
+                    connection.zSetCommands().zAdd(keys.waitingBytes(), entry.score, entry.id);
+                    connection.zSetCommands().zAdd(keys.waitingHeartbeatBytes(), migratedAt, entry.id);
+                    connection.stringCommands().set(keys.token(entry.id), entry.record, ttl, SetOption.upsert());
+                    connection.stringCommands().set(keys.userWaiting(entry.userId), entry.id, ttl, SetOption.upsert());
+                }
+                return null;
+            });
+            // 2. 레거시 키 삭제 확정 (레거시 인덱스에 그대로 남아 있던 토큰만)
+            migrated += commit(keys.legacyWaiting(), keys.waitingBytes(), keys.waitingHeartbeatBytes(), entries,
+                entry -> NONE,
+                entry -> bytes(keys.legacyUserWaiting(entry.userId)),
+                entry -> keys.userWaiting(entry.userId),
+                keys);
+        }
+    }
+
+    private ShardMigration migrateActive(QueueShardKeys keys) {
+        int migrated = 0;
+        int found = 0;
+        while (true) {
+            List<TypedTuple<String>> batch = peekMin(keys.legacyActive());
+            if (batch.isEmpty()) {
+                return new ShardMigration(migrated, found);
+            }
+            found += batch.size();
+            List<Object> metadata = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (TypedTuple<String> entry : batch) {
+                    connection.hashCommands().hGetAll(bytes(keys.legacyActive(entry.getValue())));
+                    connection.hashCommands().hGetAll(bytes(keys.legacyToken(entry.getValue())));
+                }
+                return null;
+            });
+
+            long now = System.currentTimeMillis();
+            List<PackedEntry> entries = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                String token = batch.get(i).getValue();
+                Map<?, ?> active = (Map<?, ?>) metadata.get(i * 2);
+                Map<?, ?> tokenHash = (Map<?, ?>) metadata.get(i * 2 + 1);
+                // Active Expiry Index score = 만료 시각
+                long expiresAt = batch.get(i).getScore() != null ? batch.get(i).getScore().longValue() : 0;
+                byte[] id = QueueRedisCodec.tokenId(token);
+                Object userId = active != null ? active.get("userId") : null;
+                if (id == null || userId == null || expiresAt <= now) {
+                    entries.add(PackedEntry.dropped(token));
+                    continue;
+                }
+                Object enteredAt = tokenHash != null && tokenHash.get("enteredAt") != null
+                    ? tokenHash.get("enteredAt") : active.get("activatedAt");
+                long enteredAtMillis = enteredAt != null ? epochMillis(enteredAt) : now;
+                entries.add(new PackedEntry(token, id, (String) userId, (double) expiresAt,
+                    PackedQueueRecord.active((String) userId, enteredAtMillis, expiresAt), expiresAt - now));
+            }
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (PackedEntry entry : entries) {
+                    if (entry.id == null) {
+                        continue;
+                    }
+                    Expiration ttl = Expiration.milliseconds(entry.ttlMillis);
+                    connection.zSetCommands().zAdd(keys.activeBytes(), entry.score, entry.id);
+                    connection.zSetCommands().zAdd(keys.activeHeartbeatBytes(), now, entry.id);
+                    connection.stringCommands().set(keys.token(entry.id), entry.record, ttl, SetOption.upsert());
+                    connection.stringCommands().set(keys.userActive(entry.userId), entry.id, ttl, SetOption.upsert());
+                }
+                return null;
+            });
+            migrated += commit(keys.legacyActive(), keys.activeBytes(), keys.activeHeartbeatBytes(), entries,
+                entry -> bytes(keys.legacyActive(entry.token)),
+                entry -> bytes(keys.legacyUserActive(entry.userId)),
+                entry -> keys.userActive(entry.userId),
+                keys);
+        }
+    }
+
+    /**
+     * 복사한 배치의 레거시 키 삭제 확정 (MIGRATE_COMMIT_SCRIPT 1회)
+     * @return 확정된 이전 토큰 수
+     */
+    int commit(String legacyIndex, byte[] index, byte[] heartbeatIndex, List<PackedEntry> entries,
+               Function<PackedEntry, byte[]> legacyExtraKey,
+               Function<PackedEntry, byte[]> legacyUserKey,
+               Function<PackedEntry, byte[]> userKey,
+               QueueShardKeys keys) {
+        byte[][] keysAndArgs = new byte[3 + entries.size() * 7][];
+        keysAndArgs[0] = bytes(legacyIndex);
+        keysAndArgs[1] = index;
+        keysAndArgs[2] = heartbeatIndex;
+        int i = 3;
+        for (PackedEntry entry : entries) {
+            boolean copied = entry.id != null;
+            keysAndArgs[i++] = bytes(entry.token);
+            keysAndArgs[i++] = bytes(keys.legacyToken(entry.token));
+            keysAndArgs[i++] = legacyExtraKey.apply(entry);
+            keysAndArgs[i++] = copied ? legacyUserKey.apply(entry) : NONE;
+            keysAndArgs[i++] = copied ? entry.id : NONE;
+            keysAndArgs[i++] = copied ? keys.token(entry.id) : NONE;
+            keysAndArgs[i++] = copied ? userKey.apply(entry) : NONE;
+        }
+        Long committed = redisTemplate.execute(
+            (RedisCallback<Long>) connection -> MIGRATE_COMMIT_SCRIPT.execute(connection, 3, keysAndArgs));
+        return committed != null ? committed.intValue() : 0;
+    }
+
+    /**
+     * 회수 목록 이전 (복사 후 옮긴 멤버만 ZREM)
+     * @return 처리한 레거시 회수 기록 수
+     */
+    private int migrateRevoked(QueueShardKeys keys) {
+        Set<TypedTuple<String>> revoked = redisTemplate.opsForZSet().rangeWithScores(keys.legacyRevoked(), 0, BATCH_SIZE - 1);
+        if (revoked == null || revoked.isEmpty()) {
+            return 0;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (TypedTuple<String> entry : revoked) {
+                byte[] id = QueueRedisCodec.tokenId(entry.getValue());
+                if (id != null && entry.getScore() != null) {
+                    connection.zSetCommands().zAdd(keys.revokedBytes(), entry.getScore(), id);
+                }
+            }
+            return null;
+        });
+        redisTemplate.opsForZSet().remove(keys.legacyRevoked(),
+            revoked.stream().map(TypedTuple::getValue).toArray());
+        return revoked.size();
+    }
+
+    /**
+     * 레거시 인덱스 앞부분 조회 (꺼내지 않음 - 삭제는 복사 후 commit에서)
+     */
+    private List<TypedTuple<String>> peekMin(String key) {
+        Set<TypedTuple<String>> head = redisTemplate.opsForZSet().rangeWithScores(key, 0, BATCH_SIZE - 1);
+        return head != null ? new ArrayList<>(head) : List.of();
+    }
+
+    private static long remainingTtl(Object pttl, long fallbackMillis) {
+        return pttl instanceof Long millis && millis > 0 ? millis : fallbackMillis;
+    }
+
+    private static long epochMillis(Object isoDateTime) {
+        return PackedQueueRecord.toEpochMillis(LocalDateTime.parse(String.valueOf(isoDateTime)));
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 공연 일정 1개의 이전 결과
+     * @param migrated 새 레이아웃으로 이전된 Waiting/Active 토큰 수
+     * @param legacyEntries 발견한 레거시 항목 수 (버린 토큰, 회수 기록 포함)
+     */
+    public record ShardMigration(int migrated, int legacyEntries) {
+    }
+
+    /**
+     * 이전 대상 1건 (id가 null이면 레거시 키 삭제만 수행)
+     */
+    record PackedEntry(String token, byte[] id, String userId, Double score, byte[] record, long ttlMillis) {
+
+        static PackedEntry dropped(String token) {
+            return new PackedEntry(token, null, null, null, null, 0);
+        }
+    }
+}
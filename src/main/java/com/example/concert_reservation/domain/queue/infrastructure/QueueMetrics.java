@@ -0,0 +1,240 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * 대기열 Micrometer 지표 (Actuator /actuator/prometheus 로 노출)
+ *
+ * - queue.waiting.size / queue.active.size: 현재 저장소(Redis 또는 인메모리)의 대기/Active 인원 (수집 시점에 조회)
+ * - queue.admission.admitted: 틱당 입장 수 (count = 틱 수, sum = 누적 입장 수)
+ * - queue.activation.duration / queue.cleanup.duration: 활성화 틱 / 만료 토큰 정리 소요 시간
+ * - queue.cleanup.removed: 정리된 만료 Active 토큰 수
+ * - queue.redis.latency{operation}: Redis 연산별 지연 히스토그램
+ *   (addToWaitingQueue, findByToken, activateTokens)
+ * - queue.tokens.zombie: 활성화 시 레코드가 이미 만료되어 버려진 대기 토큰 수
+ * - queue.token.wait: 토큰 발급 → 활성화까지 걸린 시간 히스토그램
+ * - queue.heartbeat.reclaimed{status}: 하트비트가 끊겨 정리된 토큰 수 (waiting: 대기열 제거, active: 조기 반납)
+ * - queue.backfill.released / queue.backfill.admitted: 배치당 반납 슬롯 수 / 반납 즉시 입장한 토큰 수
+ * - queue.mirror.written / queue.mirror.dropped / queue.mirror.backlog: DB 미러 기록/유실 변경 수, 기록 대기 변경 수
+ * - queue.rebuild.restored{status}: DB 미러에서 Redis로 복구한 토큰 수
+ *
+ * 히스토그램은 Prometheus histogram_quantile()로 인스턴스 합산 분위수를 계산할 수 있도록 버킷으로 내보낸다.
+ */
+@Component
+public class QueueMetrics {
+
+    public static final String OPERATION_ADD_TO_WAITING_QUEUE = "addToWaitingQueue";
+    public static final String OPERATION_FIND_BY_TOKEN = "findByToken";
+    public static final String OPERATION_ACTIVATE_TOKENS = "activateTokens";
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary admittedPerTick;
+    private final Timer activationTimer;
+    private final Timer cleanupTimer;
+    private final Counter cleanupRemovedCounter;
+    private final Timer addToWaitingQueueTimer;
+    private final Timer findByTokenTimer;
+    private final Timer activateTokensTimer;
+    private final Counter zombieCounter;
+    private final Timer waitTimer;
+    private final Counter reclaimedWaitingCounter;
+    private final Counter reclaimedActiveCounter;
+    private final DistributionSummary backfillReleased;
+    private final Counter backfillAdmittedCounter;
+    private final Counter mirrorWrittenCounter;
+    private final Counter mirrorDroppedCounter;
+    private final Counter restoredWaitingCounter;
+    private final Counter restoredActiveCounter;
+
+    public QueueMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.admittedPerTick = DistributionSummary.builder("queue.admission.admitted")
+            .baseUnit("tokens")
+            .description("틱당 Waiting → Active 전환 수")
+            .register(meterRegistry);
+        this.activationTimer = Timer.builder("queue.activation.duration")
+            .description("대기열 활성화 틱 소요 시간")
+            .register(meterRegistry);
+        this.cleanupTimer = Timer.builder("queue.cleanup.duration")
+            .description("만료 Active 토큰 정리 소요 시간")
+            .register(meterRegistry);
+        this.cleanupRemovedCounter = Counter.builder("queue.cleanup.removed")
+            .baseUnit("tokens")
+            .description("정리된 만료 Active 토큰 수")
+            .register(meterRegistry);
+        this.addToWaitingQueueTimer = redisLatency(OPERATION_ADD_TO_WAITING_QUEUE);
+        this.findByTokenTimer = redisLatency(OPERATION_FIND_BY_TOKEN);
+        this.activateTokensTimer = redisLatency(OPERATION_ACTIVATE_TOKENS);
+        this.zombieCounter = Counter.builder("queue.tokens.zombie")
+            .baseUnit("tokens")
+            .description("활성화 시 레코드가 만료되어 제거된 대기 토큰 수")
+            .register(meterRegistry);
+        this.waitTimer = Timer.builder("queue.token.wait")
+            .description("토큰 발급 → 활성화 대기 시간")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofSeconds(1))
+            .maximumExpectedValue(Duration.ofHours(2))
+            .register(meterRegistry);
+        this.reclaimedWaitingCounter = reclaimed("waiting");
+        this.reclaimedActiveCounter = reclaimed("active");
+        this.backfillReleased = DistributionSummary.builder("queue.backfill.released")
+            .baseUnit("tokens")
+            .description("반납 즉시 입장 배치당 반납 슬롯 수 (count = 배치 수)")
+            .register(meterRegistry);
+        this.backfillAdmittedCounter = Counter.builder("queue.backfill.admitted")
+            .baseUnit("tokens")
+            .description("반납 슬롯을 즉시 채운 활성화 수")
+            .register(meterRegistry);
+        this.mirrorWrittenCounter = Counter.builder("queue.mirror.written")
+            .baseUnit("changes")
+            .description("DB 미러에 기록된 대기열 변경 수")
+            .register(meterRegistry);
+        this.mirrorDroppedCounter = Counter.builder("queue.mirror.dropped")
+            .baseUnit("changes")
+            .description("큐 포화/기록 실패로 DB 미러에 반영되지 않은 변경 수")
+            .register(meterRegistry);
+        this.restoredWaitingCounter = restored("waiting");
+        this.restoredActiveCounter = restored("active");
+    }
+
+    private Counter restored(String status) {
+        return Counter.builder("queue.rebuild.restored")
+            .tag("status", status)
+            .baseUnit("tokens")
+            .description("DB 미러에서 Redis로 복구한 토큰 수")
+            .register(meterRegistry);
+    }
+
+    private Counter reclaimed(String status) {
+        return Counter.builder("queue.heartbeat.reclaimed")
+            .tag("status", status)
+            .baseUnit("tokens")
+            .description("하트비트가 끊겨 정리된 토큰 수")
+            .register(meterRegistry);
+    }
+
+    private Timer redisLatency(String operation) {
+        return Timer.builder("queue.redis.latency")
+            .tag("operation", operation)
+            .description("대기열 Redis 연산 지연 시간")
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.of(100, ChronoUnit.MICROS))
+            .maximumExpectedValue(Duration.ofSeconds(1))
+            .register(meterRegistry);
+    }
+
+    /**
+     * 대기/Active 인원 게이지 등록 (스케줄러가 현재 저장소 기준 조회 함수를 넘김)
+     * 수집 시점에 조회하므로 리더가 아닌 인스턴스도 같은 값을 보고한다.
+     */
+    public void bindQueueSizes(LongSupplier waitingSize, LongSupplier activeSize) {
+        Gauge.builder("queue.waiting.size", waitingSize, LongSupplier::getAsLong)
+            .description("대기 인원 (전체 공연 일정 합계)")
+            .strongReference(true)
+            .register(meterRegistry);
+        Gauge.builder("queue.active.size", activeSize, LongSupplier::getAsLong)
+            .description("Active 인원 (전체 공연 일정 합계)")
+            .strongReference(true)
+            .register(meterRegistry);
+    }
+
+    public Timer.Sample startSample() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * 활성화 틱 1회 기록
+     */
+    public void recordActivation(Timer.Sample sample, int admitted) {
+        sample.stop(activationTimer);
+        admittedPerTick.record(admitted);
+    }
+
+    /**
+     * 만료 토큰 정리 1회 기록
+     */
+    public void recordCleanup(Timer.Sample sample, int removed) {
+        sample.stop(cleanupTimer);
+        cleanupRemovedCounter.increment(removed);
+    }
+
+    public Timer addToWaitingQueueTimer() {
+        return addToWaitingQueueTimer;
+    }
+
+    public Timer findByTokenTimer() {
+        return findByTokenTimer;
+    }
+
+    public Timer activateTokensTimer() {
+        return activateTokensTimer;
+    }
+
+    public void recordZombies(long count) {
+        if (count > 0) {
+            zombieCounter.increment(count);
+        }
+    }
+
+    /**
+     * 발급 → 활성화 대기 시간 기록
+     * @param enteredAtMillis 발급 시각 (epochMillis)
+     * @param activatedAtMillis 활성화 시각 (epochMillis)
+     */
+    public void recordWait(long enteredAtMillis, long activatedAtMillis) {
+        waitTimer.record(Math.max(0, activatedAtMillis - enteredAtMillis), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 유휴 토큰 정리 결과 기록
+     */
+    public void recordReclaimed(int prunedWaiting, int releasedActive) {
+        reclaimedWaitingCounter.increment(prunedWaiting);
+        reclaimedActiveCounter.increment(releasedActive);
+    }
+
+    /**
+     * 반납 즉시 입장 배치 1회 기록
+     */
+    public void recordBackfill(int released, int admitted) {
+        backfillReleased.record(released);
+        backfillAdmittedCounter.increment(admitted);
+    }
+
+    /**
+     * DB 미러 기록 대기 변경 수 게이지 등록
+     */
+    public void bindMirrorBacklog(IntSupplier backlog) {
+        Gauge.builder("queue.mirror.backlog", backlog, IntSupplier::getAsInt)
+            .description("DB 미러 기록 대기 변경 수")
+            .strongReference(true)
+            .register(meterRegistry);
+    }
+
+    public void recordMirrorWritten(int count) {
+        mirrorWrittenCounter.increment(count);
+    }
+
+    public void recordMirrorDropped(int count) {
+        mirrorDroppedCounter.increment(count);
+    }
+
+    /**
+     * Redis 복구 결과 기록
+     */
+    public void recordRestored(long waiting, long active) {
+        restoredWaitingCounter.increment(waiting);
+        restoredActiveCounter.increment(active);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기 번호 시퀀스 이전 (user_queue_number_seq)
+ *
+ * QueueCoreStoreRepository.getNextQueueNumber는 MAX(queue_number) 대신 이 시퀀스로 번호를 발급한다.
+ * import.sql은 Hibernate가 스키마를 새로 만들 때(ddl-auto=create/create-drop)만 실행되므로,
+ * 이미 user_queue 행이 있는 DB(ddl-auto=update/validate/none)에는 시퀀스가 없거나 기존 번호보다 뒤처질 수 있다.
+ * - 기동 시(웹 서버 시작 전) 시퀀스가 없으면 만들고,
+ *   다음 번호가 MAX(queue_number) 이하이면 MAX + 1부터 다시 시작하도록 맞춘다 (이미 앞서 있으면 그대로)
+ * - 반복 실행해도 안전 (맞추는 과정에서 번호 1개를 소비할 뿐, 번호는 원래 롤백 시 건너뛸 수 있음)
+ * - 뒤처진 시퀀스 보정은 업그레이드 시 1회만 일어나므로, 여러 노드를 동시에 처음 올릴 때는 1개 노드를 먼저 기동한다
+ */
+@Component
+public class QueueNumberSequenceMigrator implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(QueueNumberSequenceMigrator.class);
+
+    private static final String CREATE_SEQUENCE_SQL =
+        "CREATE SEQUENCE IF NOT EXISTS " + QueueCoreStoreRepository.QUEUE_NUMBER_SEQUENCE + " START WITH 1 INCREMENT BY 1";
+    private static final String MAX_QUEUE_NUMBER_SQL = "SELECT COALESCE(MAX(queue_number), 0) FROM user_queue";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final boolean enabled;
+
+    public QueueNumberSequenceMigrator(JdbcTemplate jdbcTemplate,
+                                       EntityManagerFactory entityManagerFactory,
+                                       @Value("${queue.number-sequence.migrate:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (enabled) {
+            migrate();
+        }
+    }
+
+    /**
+     * 시퀀스 생성 + 기존 대기 번호 이후로 맞춤
+     * @return 다시 시작한 번호 (이미 앞서 있어 그대로 두었으면 0)
+     */
+    public long migrate() {
+        jdbcTemplate.execute(CREATE_SEQUENCE_SQL);
+        long maxQueueNumber = jdbcTemplate.queryForObject(MAX_QUEUE_NUMBER_SQL, Long.class);
+        long next = jdbcTemplate.queryForObject(nextValueSql(), Long.class);
+        if (next > maxQueueNumber) {
+            return 0;
+        }
+        long restartWith = maxQueueNumber + 1;
+        jdbcTemplate.execute("ALTER SEQUENCE " + QueueCoreStoreRepository.QUEUE_NUMBER_SEQUENCE + " RESTART WITH " + restartWith);
+        log.info("대기 번호 시퀀스 보정: {} → {}", next, restartWith);
+        return restartWith;
+    }
+
+    private String nextValueSql() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices().getDialect().getSequenceSupport()
+            .getSequenceNextValString(QueueCoreStoreRepository.QUEUE_NUMBER_SEQUENCE);
+    }
+}
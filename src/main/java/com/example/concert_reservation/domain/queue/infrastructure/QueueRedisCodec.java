@@ -0,0 +1,213 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import com.example.concert_reservation.domain.queue.models.QueueToken;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 대기열 Redis 키/값 바이트 코덱 (핫 패스용)
+ *
+ * 키 조합(접두사 + 문자열) → getBytes, 숫자 인자 → String.valueOf → getBytes,
+ * 토큰 → UUID.fromString / toString 처럼 요청마다 생기던 중간 String을 만들지 않고 결과 byte[]만 할당한다.
+ * - 고정 키/접두사: QueueShardKeys가 샤드별로 미리 인코딩해 재사용
+ * - 작은 정수(0 ~ 1023): 미리 인코딩한 배열 재사용 (전환 수, TTL, 배치 크기 등)
+ * - 토큰 ↔ 16바이트 ID: 16진수를 직접 파싱/출력 (공연 일정 ID는 키의 해시 태그에 있으므로 ID에 포함하지 않음)
+ *
+ * 반환된 배열 중 캐시된 것은 공유되므로 호출자가 수정하면 안 된다.
+ */
+public final class QueueRedisCodec {
+
+    public static final int TOKEN_ID_LENGTH = 16;
+
+    private static final int UUID_LENGTH = 36;
+    private static final int DECIMAL_CACHE_SIZE = 1024;
+    private static final byte[][] DECIMALS = new byte[DECIMAL_CACHE_SIZE][];
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    static {
+        for (int i = 0; i < DECIMAL_CACHE_SIZE; i++) {
+            DECIMALS[i] = Integer.toString(i).getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+
+    private QueueRedisCodec() {
+    }
+
+    // ===== 토큰 =====
+
+    /**
+     * 토큰 → 16바이트 ID ("{concertDateId}:{uuid}" 또는 "{uuid}")
+     * @return UUID 형식이 아닌 토큰(잘못된 요청 값 등)이면 null
+     */
+    public static byte[] tokenId(String tokenValue) {
+        int start = tokenValue.indexOf(':') + 1;
+        if (tokenValue.length() - start != UUID_LENGTH) {
+            return null;
+        }
+        byte[] id = new byte[TOKEN_ID_LENGTH];
+        int index = 0;
+        for (int i = start; i < tokenValue.length(); i++) {
+            int offset = i - start;
+            if (offset == 8 || offset == 13 || offset == 18 || offset == 23) {
+                if (tokenValue.charAt(i) != '-') {
+                    return null;
+                }
+                continue;
+            }
+            int high = Character.digit(tokenValue.charAt(i), 16);
+            int low = Character.digit(tokenValue.charAt(++i), 16);
+            if (high < 0 || low < 0) {
+                return null;
+            }
+            id[index++] = (byte) ((high << 4) | low);
+        }
+        return id;
+    }
+
+    /**
+     * 16바이트 ID → 토큰 문자열 (QueueToken.generate와 같은 형식, 소문자 UUID)
+     */
+    public static String token(long concertDateId, byte[] id) {
+        byte[] prefix = concertDateId == QueueToken.DEFAULT_CONCERT_DATE_ID ? null : decimal(concertDateId);
+        int start = prefix == null ? 0 : prefix.length + 1;
+        byte[] chars = new byte[start + UUID_LENGTH];
+        if (prefix != null) {
+            System.arraycopy(prefix, 0, chars, 0, prefix.length);
+            chars[prefix.length] = ':';
+        }
+        int position = start;
+        for (int i = 0; i < TOKEN_ID_LENGTH; i++) {
+            if (i == 4 || i == 6 || i == 8 || i == 10) {
+                chars[position++] = '-';
+            }
+            chars[position++] = HEX_DIGITS[(id[i] >> 4) & 0xF];
+            chars[position++] = HEX_DIGITS[id[i] & 0xF];
+        }
+        return new String(chars, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 토큰이 속한 공연 일정 ID (QueueToken.getConcertDateId와 같은 규칙, substring/QueueToken 생성 없음)
+     */
+    public static long concertDateId(String tokenValue) {
+        int separator = tokenValue.indexOf(':');
+        if (separator <= 0) {
+            return QueueToken.DEFAULT_CONCERT_DATE_ID;
+        }
+        if (separator > 18) {
+            // long 범위를 넘을 수 있는 길이 → 기존 규칙(Long.parseLong) 그대로
+            return QueueToken.of(tokenValue).getConcertDateId();
+        }
+        long value = 0;
+        for (int i = 0; i < separator; i++) {
+            char c = tokenValue.charAt(i);
+            if (c < '0' || c > '9') {
+                return QueueToken.of(tokenValue).getConcertDateId();
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    // ===== 키 =====
+
+    /**
+     * 접두사 + 문자열 (userId 등) - ASCII면 문자를 바로 복사, 아니면 UTF-8 인코딩
+     */
+    public static byte[] key(byte[] prefix, String suffix) {
+        int length = suffix.length();
+        byte[] key = new byte[prefix.length + length];
+        System.arraycopy(prefix, 0, key, 0, prefix.length);
+        for (int i = 0; i < length; i++) {
+            char c = suffix.charAt(i);
+            if (c >= 0x80) {
+                return key(prefix, suffix.getBytes(StandardCharsets.UTF_8));
+            }
+            key[prefix.length + i] = (byte) c;
+        }
+        return key;
+    }
+
+    /**
+     * 접두사 + 바이트 (토큰 ID 등)
+     */
+    public static byte[] key(byte[] prefix, byte[] suffix) {
+        byte[] key = new byte[prefix.length + suffix.length];
+        System.arraycopy(prefix, 0, key, 0, prefix.length);
+        System.arraycopy(suffix, 0, key, prefix.length, suffix.length);
+        return key;
+    }
+
+    // ===== 숫자 =====
+
+    /**
+     * 정수 → 10진수 ASCII (Lua tonumber / Redis 정수 인자 형식)
+     */
+    public static byte[] decimal(long value) {
+        if (value >= 0 && value < DECIMAL_CACHE_SIZE) {
+            return DECIMALS[(int) value];
+        }
+        if (value == Long.MIN_VALUE) {
+            return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+        }
+        boolean negative = value < 0;
+        long remaining = negative ? -value : value;
+        int digits = 1;
+        for (long bound = 10; digits < 19 && remaining >= bound; bound *= 10) {
+            digits++;
+        }
+        byte[] bytes = new byte[digits + (negative ? 1 : 0)];
+        for (int i = bytes.length - 1; i >= (negative ? 1 : 0); i--) {
+            bytes[i] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        if (negative) {
+            bytes[0] = '-';
+        }
+        return bytes;
+    }
+
+    /**
+     * Redis 응답 숫자 파싱 ("12", "-3" 또는 score의 "1.2e+07" 형식)
+     */
+    public static long parseLong(byte[] value) {
+        if (value.length == 0) {
+            return 0;
+        }
+        boolean negative = value[0] == '-';
+        long result = 0;
+        for (int i = negative ? 1 : 0; i < value.length; i++) {
+            byte b = value[i];
+            if (b < '0' || b > '9') {
+                // 소수/지수 표기는 드물므로 문자열 경로로 처리
+                return (long) Double.parseDouble(new String(value, StandardCharsets.US_ASCII));
+            }
+            result = result * 10 + (b - '0');
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * 8바이트 빅엔디언 long (PackedQueueRecord 필드)
+     */
+    public static byte[] int64(long value) {
+        byte[] bytes = new byte[8];
+        putLong(bytes, 0, value);
+        return bytes;
+    }
+
+    static void putLong(byte[] target, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            target[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    static long getLong(byte[] source, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (source[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 바이너리 키/인자로 실행하는 Lua 스크립트
+ *
+ * RedisTemplate.execute(RedisScript, ...)는 키를 템플릿 직렬화기로, 인자를 매번 변환하므로
+ * 미리 인코딩한 키(QueueShardKeys)와 인자(QueueRedisCodec)를 그대로 EVALSHA에 넘기기 위해 사용한다.
+ * - EVALSHA 먼저 시도, 스크립트 캐시가 비어 있으면(NOSCRIPT) EVAL로 폴백 (RedisTemplate과 동일)
+ * - 결과: INTEGER → Long, MULTI → List (bulk string은 byte[], 정수는 Long)
+ */
+final class QueueScript {
+
+    private final byte[] body;
+    private final String sha1;
+    private final ReturnType returnType;
+
+    private QueueScript(String source, ReturnType returnType) {
+        this.body = source.getBytes(StandardCharsets.UTF_8);
+        this.sha1 = new DefaultRedisScript<>(source).getSha1();
+        this.returnType = returnType;
+    }
+
+    static QueueScript of(String source, ReturnType returnType) {
+        return new QueueScript(source, returnType);
+    }
+
+    /**
+     * SCRIPT LOAD 대상 본문
+     */
+    byte[] body() {
+        return body;
+    }
+
+    /**
+     * @param numKeys keysAndArgs 앞부분 중 키 개수
+     */
+    <T> T execute(RedisConnection connection, int numKeys, byte[]... keysAndArgs) {
+        try {
+            return connection.scriptingCommands().evalSha(sha1, returnType, numKeys, keysAndArgs);
+        } catch (RuntimeException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            return connection.scriptingCommands().eval(body, returnType, numKeys, keysAndArgs);
+        }
+    }
+
+    private static boolean isNoScript(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 공연 일정(concertDateId)별 대기열 Redis 키
+ *
+ * 모든 키에 해시 태그 "{c:<concertDateId>}"를 붙여 같은 공연 일정의 키는 한 해시 슬롯에 모인다.
+ * (활성화/정리 스크립트는 토큰/유저 키를 KEYS로 선언하지 않으므로 Cluster 구성은 지원하지 않음 - RedisQueueRepository 참고)
+ *
+ * 예) concertDateId = 12 ({id} = 토큰의 16바이트 ID, QueueRedisCodec)
+ *    - queue:{c:12}:w                     (Waiting Queue ZSET, member = {id}, score = 발급 순번)
+ *    - queue:{c:12}:seq                   (발급 순번 카운터, INCR)
+ *    - queue:{c:12}:cursor                (활성화된 최대 발급 순번)
+ *    - queue:{c:12}:fence                 (이 샤드를 활성화한 최대 펜싱 토큰)
+ *    - queue:{c:12}:a                     (Active Expiry Index ZSET, member = {id})
+ *    - queue:{c:12}:t:{id}                (토큰 레코드 String, PackedQueueRecord)
+ *    - queue:{c:12}:uw:{userId}           (유저별 Waiting 토큰 {id})
+ *    - queue:{c:12}:ua:{userId}           (유저별 Active 토큰 {id})
+ *    - queue:{c:12}:r                     (회수된 토큰 ZSET, member = {id}, score = 서명 토큰 최대 만료 시각)
+ *    - queue:{c:12}:hw / queue:{c:12}:ha  (Waiting / Active 하트비트 ZSET, member = {id}, score = 마지막 생존 신호 시각)
+ *
+ * 토큰 단위 키는 수가 대기 인원에 비례하므로 이름을 짧게 유지한다. (키 이름도 키마다 메모리를 차지)
+ * 레거시 레이아웃(문자열 토큰 + Hash) 키는 QueueLayoutMigrator가 이전할 때만 사용한다.
+ *
+ * 키는 문자열과 함께 UTF-8 바이트로도 미리 인코딩해 두어 스크립트/Pipeline 호출마다 getBytes 하지 않는다.
+ * (바이트 배열은 공유되므로 수정 금지)
+ * 정리된 샤드는 캐시에서 바로 제거(evict)하고, 다른 노드에서 정리된 샤드는 한동안 쓰이지 않으면 만료된다.
+ */
+final class QueueShardKeys {
+
+    /**
+     * 대기열이 있는 공연 일정 ID 목록 (SET) - 스케줄러/집계용, 빈 대기열에 첫 대기자가 들어올 때 기록하고 빈 샤드 정리 시 제거
+     */
+    static final String SHARD_REGISTRY_KEY = "queue:shards";
+
+    private static final Cache<Long, QueueShardKeys> CACHE = Caffeine.newBuilder()
+        .maximumSize(10_000)
+        .expireAfterAccess(Duration.ofHours(1))
+        .build();
+
+    private final long concertDateId;
+    private final String prefix;
+    private final String waitingKey;
+    private final String activeKey;
+    private final String revokedKey;
+    private final String sequenceKey;
+    private final String cursorKey;
+    private final String fenceKey;
+    private final String waitingHeartbeatKey;
+    private final String activeHeartbeatKey;
+    private final byte[] waitingKeyBytes;
+    private final byte[] activeKeyBytes;
+    private final byte[] revokedKeyBytes;
+    private final byte[] sequenceKeyBytes;
+    private final byte[] cursorKeyBytes;
+    private final byte[] fenceKeyBytes;
+    private final byte[] waitingHeartbeatKeyBytes;
+    private final byte[] activeHeartbeatKeyBytes;
+    private final byte[] tokenKeyPrefixBytes;
+    private final byte[] userWaitingKeyPrefixBytes;
+    private final byte[] userActiveKeyPrefixBytes;
+
+    private QueueShardKeys(long concertDateId) {
+        this.prefix = "queue:{c:" + concertDateId + "}:";
+        this.concertDateId = concertDateId;
+        this.waitingKey = prefix + "w";
+        this.activeKey = prefix + "a";
+        this.revokedKey = prefix + "r";
+        this.sequenceKey = prefix + "seq";
+        this.cursorKey = prefix + "cursor";
+        this.fenceKey = prefix + "fence";
+        this.waitingHeartbeatKey = prefix + "hw";
+        this.activeHeartbeatKey = prefix + "ha";
+        this.waitingKeyBytes = bytes(waitingKey);
+        this.activeKeyBytes = bytes(activeKey);
+        this.revokedKeyBytes = bytes(revokedKey);
+        this.sequenceKeyBytes = bytes(sequenceKey);
+        this.cursorKeyBytes = bytes(cursorKey);
+        this.fenceKeyBytes = bytes(fenceKey);
+        this.waitingHeartbeatKeyBytes = bytes(waitingHeartbeatKey);
+        this.activeHeartbeatKeyBytes = bytes(activeHeartbeatKey);
+        this.tokenKeyPrefixBytes = bytes(prefix + "t:");
+        this.userWaitingKeyPrefixBytes = bytes(prefix + "uw:");
+        this.userActiveKeyPrefixBytes = bytes(prefix + "ua:");
+    }
+
+    static QueueShardKeys of(long concertDateId) {
+        return CACHE.get(concertDateId, QueueShardKeys::new);
+    }
+
+    /**
+     * 정리된 샤드의 키 캐시 제거
+     */
+    static void evict(long concertDateId) {
+        CACHE.invalidate(concertDateId);
+    }
+
+    long concertDateId() {
+        return concertDateId;
+    }
+
+    String waiting() {
+        return waitingKey;
+    }
+
+    String active() {
+        return activeKey;
+    }
+
+    String revoked() {
+        return revokedKey;
+    }
+
+    String sequence() {
+        return sequenceKey;
+    }
+
+    String cursor() {
+        return cursorKey;
+    }
+
+    String fence() {
+        return fenceKey;
+    }
+
+    String waitingHeartbeat() {
+        return waitingHeartbeatKey;
+    }
+
+    String activeHeartbeat() {
+        return activeHeartbeatKey;
+    }
+
+    byte[] waitingBytes() {
+        return waitingKeyBytes;
+    }
+
+    byte[] activeBytes() {
+        return activeKeyBytes;
+    }
+
+    byte[] revokedBytes() {
+        return revokedKeyBytes;
+    }
+
+    byte[] sequenceBytes() {
+        return sequenceKeyBytes;
+    }
+
+    byte[] cursorBytes() {
+        return cursorKeyBytes;
+    }
+
+    byte[] fenceBytes() {
+        return fenceKeyBytes;
+    }
+
+    byte[] waitingHeartbeatBytes() {
+        return waitingHeartbeatKeyBytes;
+    }
+
+    byte[] activeHeartbeatBytes() {
+        return activeHeartbeatKeyBytes;
+    }
+
+    byte[] tokenPrefix() {
+        return tokenKeyPrefixBytes;
+    }
+
+    byte[] userWaitingPrefix() {
+        return userWaitingKeyPrefixBytes;
+    }
+
+    byte[] userActivePrefix() {
+        return userActiveKeyPrefixBytes;
+    }
+
+    /**
+     * 토큰 레코드 키 (접두사 + 16바이트 ID)
+     */
+    byte[] token(byte[] id) {
+        return QueueRedisCodec.key(tokenKeyPrefixBytes, id);
+    }
+
+    byte[] userWaiting(String userId) {
+        return QueueRedisCodec.key(userWaitingKeyPrefixBytes, userId);
+    }
+
+    byte[] userActive(String userId) {
+        return QueueRedisCodec.key(userActiveKeyPrefixBytes, userId);
+    }
+
+    // ===== 레거시 레이아웃 (QueueLayoutMigrator 전용) =====
+
+    String legacyWaiting() {
+        return prefix + "waiting";
+    }
+
+    String legacyActive() {
+        return prefix + "active";
+    }
+
+    String legacyRevoked() {
+        return prefix + "revoked";
+    }
+
+    String legacyActive(String token) {
+        return prefix + "active:" + token;
+    }
+
+    String legacyToken(String token) {
+        return prefix + "token:" + token;
+    }
+
+    String legacyUserWaiting(String userId) {
+        return prefix + "user:waiting:" + userId;
+    }
+
+    String legacyUserActive(String userId) {
+        return prefix + "user:active:" + userId;
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+}
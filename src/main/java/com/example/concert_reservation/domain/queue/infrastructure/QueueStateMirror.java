@@ -0,0 +1,281 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import com.example.concert_reservation.domain.queue.models.QueueToken;
+import com.example.concert_reservation.domain.queue.models.UserQueue;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 대기열 변경의 DB 비동기 반영 (write-behind)
+ *
+ * 설계 방식:
+ * - RedisQueueRepository가 진입/활성화/반납 직후 변경을 메모리 큐에 넣고 즉시 반환 (요청 경로에 DB 왕복 없음)
+ * - 전용 스레드가 최대 batch-size건 또는 flush-interval-millis마다 모아 JDBC 배치 1회로 user_queue 테이블에 기록
+ *   (IDENTITY 키 엔티티는 Hibernate가 INSERT를 배치하지 않으므로 JdbcTemplate 배치 사용)
+ * - 배치 안에서는 진입 INSERT → 활성화 UPDATE → 반납 UPDATE 순서로 적용 → 같은 토큰의 변경 순서 유지
+ * - 큐가 가득 차면 변경을 버리고 지표로 남김 (DB 지연이 대기열 API를 막지 않도록)
+ * - 만료 정리는 기록하지 않음: 복구(QueueStateRebuilder) 시 만료 시각으로 걸러냄
+ * - 오래된 만료/반납 행은 주기적으로 삭제
+ *
+ * Redis가 AOF 없이 재시작되어도 이 테이블로 대기 순서를 복구할 수 있다. (최대 flush 주기만큼의 변경은 유실 가능)
+ */
+@Component
+public class QueueStateMirror {
+
+    private static final Logger log = LoggerFactory.getLogger(QueueStateMirror.class);
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    static final String INSERT_WAITING_SQL =
+        "INSERT INTO user_queue (token, concert_date_id, user_id, queue_number, status, entered_at, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, 'WAITING', ?, ?, ?)";
+    static final String ACTIVATE_SQL =
+        "UPDATE user_queue SET status = 'ACTIVE', expired_at = ?, updated_at = ? WHERE token = ? AND status = 'WAITING'";
+    static final String REMOVE_SQL =
+        "UPDATE user_queue SET status = 'EXPIRED', updated_at = ? WHERE token = ? AND status <> 'EXPIRED'";
+    static final String PURGE_SQL =
+        "DELETE FROM user_queue WHERE updated_at < ? AND (status = 'EXPIRED' "
+            + "OR (status = 'ACTIVE' AND expired_at < ?) OR (status = 'WAITING' AND entered_at < ?))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final QueueMetrics queueMetrics;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long retentionMillis;
+    private final BlockingQueue<Change> pending;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public QueueStateMirror(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            QueueMetrics queueMetrics,
+                            @Value("${queue.mirror.enabled:true}") boolean enabled,
+                            @Value("${queue.mirror.batch-size:1000}") int batchSize,
+                            @Value("${queue.mirror.flush-interval-millis:200}") long flushIntervalMillis,
+                            @Value("${queue.mirror.queue-capacity:200000}") int queueCapacity,
+                            @Value("${queue.mirror.retention-minutes:60}") long retentionMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.queueMetrics = queueMetrics;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.retentionMillis = TimeUnit.MINUTES.toMillis(retentionMinutes);
+        this.pending = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    }
+
+    /**
+     * 기록하지 않는 인스턴스 (벤치마크 등 DB 없이 RedisQueueRepository를 생성할 때)
+     */
+    public static QueueStateMirror disabled() {
+        return new QueueStateMirror(null, null, null, false, 1, 0, 1, 0);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        queueMetrics.bindMirrorBacklog(this::getBacklog);
+        running = true;
+        worker = new Thread(this::runWorker, "queue-state-mirror");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 종료 시 남은 변경을 마저 기록
+     */
+    @PreDestroy
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        worker.interrupt();
+        List<Change> remaining = new ArrayList<>();
+        pending.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            write(remaining.subList(from, Math.min(remaining.size(), from + batchSize)));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 대기열 진입 기록
+     */
+    public void enqueued(UserQueue queue) {
+        enqueued(queue.getToken(), queue.getUserId(), queue.getQueueNumber(), PackedQueueRecord.toEpochMillis(queue.getEnteredAt()));
+    }
+
+    public void enqueued(QueueToken token, String userId, long queueNumber, long enteredAtMillis) {
+        if (running) {
+            offer(new Change(ChangeType.ENQUEUED, token.getValue(), token.getConcertDateId(), userId, queueNumber, enteredAtMillis));
+        }
+    }
+
+    /**
+     * Waiting → Active 전환 기록
+     * @param expiresAtMillis Active 만료 시각 (epochMillis)
+     */
+    public void activated(Collection<String> tokens, long expiresAtMillis) {
+        if (running) {
+            for (String token : tokens) {
+                offer(new Change(ChangeType.ACTIVATED, token, 0, null, 0, expiresAtMillis));
+            }
+        }
+    }
+
+    /**
+     * 토큰 제거/반납 기록
+     */
+    public void removed(String token) {
+        if (running) {
+            offer(new Change(ChangeType.REMOVED, token, 0, null, 0, 0));
+        }
+    }
+
+    public void removed(Collection<String> tokens) {
+        tokens.forEach(this::removed);
+    }
+
+    /**
+     * 기록 대기 중인 변경 수
+     */
+    public int getBacklog() {
+        return pending.size();
+    }
+
+    /**
+     * 보존 기간이 지난 만료/반납 행 삭제
+     */
+    @Scheduled(fixedDelayString = "${queue.mirror.purge-interval-millis:600000}")
+    public void purge() {
+        if (!running) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            LocalDateTime before = PackedQueueRecord.toLocalDateTime(now - retentionMillis);
+            LocalDateTime waitingBefore = PackedQueueRecord.toLocalDateTime(
+                now - TimeUnit.SECONDS.toMillis(RedisQueueRepository.WAITING_TTL_SECONDS) - retentionMillis);
+            int purged = jdbcTemplate.update(PURGE_SQL, before, before, waitingBefore);
+            if (purged > 0) {
+                log.info("대기열 미러 오래된 행 {}건 삭제", purged);
+            }
+        } catch (Exception e) {
+            log.warn("대기열 미러 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void offer(Change change) {
+        if (!pending.offer(change)) {
+            queueMetrics.recordMirrorDropped(1);
+        }
+    }
+
+    private void runWorker() {
+        List<Change> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Change first = pending.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    if (pending.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    Change next = pending.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 변경 묶음을 트랜잭션 1회로 기록 (유형별 JDBC 배치)
+     * 실패한 묶음은 버림 - 이후 변경으로 상태가 수렴하고, 복구 시 만료 시각으로 다시 걸러진다.
+     */
+    void write(List<Change> batch) {
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> activations = new ArrayList<>();
+        List<Object[]> removals = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Change change : batch) {
+            switch (change.type) {
+                case ENQUEUED -> inserts.add(new Object[]{
+                    change.token, change.concertDateId, change.userId, change.queueNumber,
+                    PackedQueueRecord.toLocalDateTime(change.atMillis), now, now
+                });
+                case ACTIVATED -> activations.add(new Object[]{
+                    PackedQueueRecord.toLocalDateTime(change.atMillis), now, change.token
+                });
+                case REMOVED -> removals.add(new Object[]{now, change.token});
+            }
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!inserts.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_WAITING_SQL, inserts);
+                }
+                if (!activations.isEmpty()) {
+                    jdbcTemplate.batchUpdate(ACTIVATE_SQL, activations);
+                }
+                if (!removals.isEmpty()) {
+                    jdbcTemplate.batchUpdate(REMOVE_SQL, removals);
+                }
+            });
+            queueMetrics.recordMirrorWritten(batch.size());
+        } catch (Exception e) {
+            queueMetrics.recordMirrorDropped(batch.size());
+            log.warn("대기열 미러 기록 실패 ({}건 버림): {}", batch.size(), e.getMessage());
+        }
+    }
+
+    enum ChangeType {
+        ENQUEUED, ACTIVATED, REMOVED
+    }
+
+    /**
+     * 변경 1건 (ENQUEUED: atMillis = 진입 시각, ACTIVATED: atMillis = 만료 시각)
+     */
+    record Change(ChangeType type, String token, long concertDateId, String userId, long queueNumber, long atMillis) {
+    }
+}
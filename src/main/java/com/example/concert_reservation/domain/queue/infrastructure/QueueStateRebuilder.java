@@ -0,0 +1,331 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 미러(QueueStateMirror) → Redis 대기열 일괄 복구
+ *
+ * Redis가 AOF 없이 재시작되어 대기열이 사라진 경우, 전원 재진입 대신 user_queue 테이블에서 순서를 되살린다.
+ * - 유효한 행만 복구: Waiting은 진입 후 30분 이내, Active는 만료 시각 전 (만료 정리는 미러에 기록하지 않으므로 여기서 거름)
+ * - 공연 일정별로 행을 fetch-size 단위로 스트리밍 → chunk-size마다 Pipeline 2회 (존재 확인 1회 + 기록 1회)
+ *   → 스크립트/토큰별 왕복 없이 초당 수십만 건 적재
+ * - 이미 Redis에 있는 토큰이나 그 사이 다시 진입한 사용자는 건너뜀 (유저당 토큰 1개 유지)
+ * - Waiting 발급 순번은 DB에 없으므로(대기 번호만 기록) 현재 대기열 맨 앞보다 작은 순번을 입장 역순으로 새로 배정하고
+ *   커서를 그 앞으로 옮김 → 복구된 사용자는 재시작 후 새로 진입한 사용자보다 앞에 서고, 대기 번호 계산도 그대로 동작
+ * - 여러 노드가 동시에 실행하지 않도록 Redis 잠금(SET NX) 사용
+ *
+ * 기동 시 샤드 레지스트리가 없으면(Redis 유실) 자동 실행되고, 운영자는 /actuator/queuerebuild 로 직접 실행할 수 있다.
+ */
+@Component
+public class QueueStateRebuilder {
+
+    private static final Logger log = LoggerFactory.getLogger(QueueStateRebuilder.class);
+
+    static final String LOCK_KEY = "queue:rebuild:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+
+    private static final String SHARDS_SQL =
+        "SELECT DISTINCT concert_date_id FROM user_queue "
+            + "WHERE (status = 'WAITING' AND entered_at >= ?) OR (status = 'ACTIVE' AND expired_at > ?)";
+    // 맨 앞부터 역순으로 순번을 배정하므로 늦게 들어온 행부터 읽음
+    private static final String WAITING_ROWS_SQL =
+        "SELECT token, user_id, entered_at, expired_at FROM user_queue "
+            + "WHERE concert_date_id = ? AND status = 'WAITING' AND entered_at >= ? ORDER BY entered_at DESC, id DESC";
+    private static final String ACTIVE_ROWS_SQL =
+        "SELECT token, user_id, entered_at, expired_at FROM user_queue "
+            + "WHERE concert_date_id = ? AND status = 'ACTIVE' AND expired_at > ?";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final QueueStoreFailover queueStoreFailover;
+    private final QueueMetrics queueMetrics;
+    private final boolean enabled;
+    private final boolean rebuildOnStartup;
+    private final int chunkSize;
+
+    public QueueStateRebuilder(RedisTemplate<String, String> redisTemplate,
+                               JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               QueueStoreFailover queueStoreFailover,
+                               QueueMetrics queueMetrics,
+                               @Value("${queue.mirror.enabled:true}") boolean enabled,
+                               @Value("${queue.mirror.rebuild-on-startup:true}") boolean rebuildOnStartup,
+                               @Value("${queue.mirror.rebuild-chunk-size:2000}") int chunkSize) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.queueStoreFailover = queueStoreFailover;
+        this.queueMetrics = queueMetrics;
+        this.enabled = enabled;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 기동 시 Redis 대기열이 유실된 경우(샤드 레지스트리 없음) 자동 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfLost() {
+        if (!enabled || !rebuildOnStartup || queueStoreFailover.isEmbedded()) {
+            return;
+        }
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(QueueShardKeys.SHARD_REGISTRY_KEY))) {
+                return;
+            }
+            rebuild();
+        } catch (Exception e) {
+            log.warn("대기열 자동 복구 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 미러에서 모든 공연 일정의 대기열 복구
+     * @throws IllegalStateException 미러 비활성화, 인메모리 대기열 사용 중, 다른 노드에서 복구 진행 중
+     */
+    public RebuildResult rebuild() {
+        if (!enabled) {
+            throw new IllegalStateException("대기열 DB 미러가 비활성화되어 있습니다");
+        }
+        if (queueStoreFailover.isEmbedded()) {
+            throw new IllegalStateException("Redis 장애로 인메모리 대기열 사용 중에는 복구할 수 없습니다");
+        }
+        String lockValue = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockValue, LOCK_TTL))) {
+            throw new IllegalStateException("다른 노드에서 대기열 복구가 진행 중입니다");
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            LocalDateTime waitingSince = PackedQueueRecord.toLocalDateTime(
+                startedAt - TimeUnit.SECONDS.toMillis(RedisQueueRepository.WAITING_TTL_SECONDS));
+            LocalDateTime now = PackedQueueRecord.toLocalDateTime(startedAt);
+            List<Long> shardIds = jdbcTemplate.queryForList(SHARDS_SQL, Long.class, waitingSince, now);
+
+            RebuildResult total = RebuildResult.NONE;
+            for (Long shardId : shardIds) {
+                total = total.plus(restoreShard(QueueShardKeys.of(shardId), waitingSince, now));
+            }
+            if (!shardIds.isEmpty()) {
+                redisTemplate.opsForSet().add(QueueShardKeys.SHARD_REGISTRY_KEY,
+                    shardIds.stream().map(String::valueOf).toArray(String[]::new));
+            }
+            total = total.withElapsed(System.currentTimeMillis() - startedAt);
+            queueMetrics.recordRestored(total.restoredWaiting(), total.restoredActive());
+            log.info("대기열 복구 완료: 공연 일정 {}개, Waiting {}건, Active {}건 복구, {}건 건너뜀 ({}ms)",
+                shardIds.size(), total.restoredWaiting(), total.restoredActive(), total.skipped(), total.elapsedMillis());
+            return total;
+        } finally {
+            if (lockValue.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+                redisTemplate.delete(LOCK_KEY);
+            }
+        }
+    }
+
+    private RebuildResult restoreShard(QueueShardKeys keys, LocalDateTime waitingSince, LocalDateTime now) {
+        long nowMillis = PackedQueueRecord.toEpochMillis(now);
+        long[] active = {0, 0};
+        stream(ACTIVE_ROWS_SQL, keys.concertDateId(), now, rows -> {
+            int restored = restoreActive(keys, rows, nowMillis);
+            active[0] += restored;
+            active[1] += rows.size() - restored;
+        });
+
+        // 현재 맨 앞(최소 순번, 비어 있으면 다음 발급 순번) 바로 앞부터 역순 배정
+        long[] nextScore = {headScore(keys) - 1};
+        long[] waiting = {0, 0};
+        stream(WAITING_ROWS_SQL, keys.concertDateId(), waitingSince, rows -> {
+            int restored = restoreWaiting(keys, rows, nextScore[0], nowMillis);
+            nextScore[0] -= restored;
+            waiting[0] += restored;
+            waiting[1] += rows.size() - restored;
+        });
+        if (waiting[0] > 0) {
+            // 복구된 순번 바로 앞으로 커서 이동 → 대기 번호 = 순번 - 커서
+            redisTemplate.opsForValue().set(keys.cursor(), String.valueOf(nextScore[0]));
+        }
+        return new RebuildResult(waiting[0], active[0], waiting[1] + active[1], 0);
+    }
+
+    /**
+     * Waiting 대기열의 맨 앞 순번 (비어 있으면 마지막 발급 순번 + 1)
+     */
+    private long headScore(QueueShardKeys keys) {
+        var head = redisTemplate.opsForZSet().rangeWithScores(keys.waiting(), 0, 0);
+        if (head != null && !head.isEmpty() && head.iterator().next().getScore() != null) {
+            return head.iterator().next().getScore().longValue();
+        }
+        String sequence = redisTemplate.opsForValue().get(keys.sequence());
+        return (sequence != null ? Long.parseLong(sequence) : 0) + 1;
+    }
+
+    /**
+     * 행을 chunk-size 단위로 읽어 넘김 (PostgreSQL은 트랜잭션 안에서만 fetch size로 커서 스트리밍)
+     */
+    private void stream(String sql, long concertDateId, LocalDateTime since, ChunkConsumer consumer) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Row> chunk = new ArrayList<>(chunkSize);
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(sql);
+                statement.setFetchSize(chunkSize);
+                statement.setLong(1, concertDateId);
+                statement.setTimestamp(2, Timestamp.valueOf(since));
+                return statement;
+            }, (RowCallbackHandler) rs -> {
+                Timestamp expiredAt = rs.getTimestamp("expired_at");
+                chunk.add(new Row(
+                    rs.getString("token"),
+                    rs.getString("user_id"),
+                    PackedQueueRecord.toEpochMillis(rs.getTimestamp("entered_at").toLocalDateTime()),
+                    expiredAt != null ? PackedQueueRecord.toEpochMillis(expiredAt.toLocalDateTime()) : 0
+                ));
+                if (chunk.size() >= chunkSize) {
+                    consumer.accept(chunk);
+                    chunk.clear();
+                }
+            });
+            if (!chunk.isEmpty()) {
+                consumer.accept(chunk);
+            }
+        });
+    }
+
+    /**
+     * Waiting 토큰 복구 (rows는 늦게 들어온 순서)
+     * @param firstScore 첫 행에 배정할 순번 (이후 1씩 감소)
+     * @return 복구된 토큰 수
+     */
+    private int restoreWaiting(QueueShardKeys keys, List<Row> rows, long firstScore, long nowMillis) {
+        List<Row> absent = filterAbsent(keys, rows);
+        if (absent.isEmpty()) {
+            return 0;
+        }
+        long waitingTtlMillis = TimeUnit.SECONDS.toMillis(RedisQueueRepository.WAITING_TTL_SECONDS);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            long score = firstScore;
+            for (Row row : absent) {
+                Expiration ttl = Expiration.milliseconds(Math.max(1, row.enteredAtMillis + waitingTtlMillis - nowMillis));
+                connection.zSetCommands().zAdd(keys.waitingBytes(), score--, row.id);
+                connection.zSetCommands().zAdd(keys.waitingHeartbeatBytes(), nowMillis, row.id);
+                connection.stringCommands().set(keys.token(row.id),
+                    PackedQueueRecord.waiting(row.userId, row.enteredAtMillis), ttl, SetOption.upsert());
+                connection.stringCommands().set(keys.userWaiting(row.userId), row.id, ttl, SetOption.upsert());
+            }
+            return null;
+        });
+        return absent.size();
+    }
+
+    /**
+     * Active 토큰 복구 (남은 만료 시간 유지)
+     * @return 복구된 토큰 수
+     */
+    private int restoreActive(QueueShardKeys keys, List<Row> rows, long nowMillis) {
+        List<Row> absent = filterAbsent(keys, rows);
+        if (absent.isEmpty()) {
+            return 0;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Row row : absent) {
+                Expiration ttl = Expiration.milliseconds(Math.max(1, row.expiredAtMillis - nowMillis));
+                connection.zSetCommands().zAdd(keys.activeBytes(), row.expiredAtMillis, row.id);
+                connection.zSetCommands().zAdd(keys.activeHeartbeatBytes(), nowMillis, row.id);
+                connection.stringCommands().set(keys.token(row.id),
+                    PackedQueueRecord.active(row.userId, row.enteredAtMillis, row.expiredAtMillis), ttl, SetOption.upsert());
+                connection.stringCommands().set(keys.userActive(row.userId), row.id, ttl, SetOption.upsert());
+            }
+            return null;
+        });
+        return absent.size();
+    }
+
+    /**
+     * 토큰 레코드도, 사용자의 Waiting/Active 토큰도 없는 행만 남김 (Pipeline 1회)
+     */
+    private List<Row> filterAbsent(QueueShardKeys keys, List<Row> rows) {
+        List<Row> candidates = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            if (row.id != null) {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        List<Object> exists = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Row row : candidates) {
+                connection.keyCommands().exists(keys.token(row.id), keys.userWaiting(row.userId), keys.userActive(row.userId));
+            }
+            return null;
+        });
+        List<Row> absent = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            Object count = i < exists.size() ? exists.get(i) : null;
+            if (count instanceof Long value && value == 0L) {
+                absent.add(candidates.get(i));
+            }
+        }
+        return absent;
+    }
+
+    @FunctionalInterface
+    private interface ChunkConsumer {
+        void accept(List<Row> rows);
+    }
+
+    private static final class Row {
+        private final byte[] id;
+        private final String userId;
+        private final long enteredAtMillis;
+        private final long expiredAtMillis;
+
+        private Row(String token, String userId, long enteredAtMillis, long expiredAtMillis) {
+            this.id = QueueRedisCodec.tokenId(token);
+            this.userId = userId;
+            this.enteredAtMillis = enteredAtMillis;
+            this.expiredAtMillis = expiredAtMillis;
+        }
+    }
+
+    /**
+     * 복구 결과
+     * @param restoredWaiting 복구된 Waiting 토큰 수
+     * @param restoredActive 복구된 Active 토큰 수
+     * @param skipped 이미 Redis에 있거나 형식이 맞지 않아 건너뛴 행 수
+     * @param elapsedMillis 소요 시간
+     */
+    public record RebuildResult(long restoredWaiting, long restoredActive, long skipped, long elapsedMillis) {
+
+        static final RebuildResult NONE = new RebuildResult(0, 0, 0, 0);
+
+        RebuildResult plus(RebuildResult other) {
+            return new RebuildResult(restoredWaiting + other.restoredWaiting, restoredActive + other.restoredActive,
+                skipped + other.skipped, elapsedMillis);
+        }
+
+        RebuildResult withElapsed(long elapsedMillis) {
+            return new RebuildResult(restoredWaiting, restoredActive, skipped, elapsedMillis);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 대기열 저장소 선택 / Redis 장애 시 자동 전환
+ *
+ * queue.store.mode:
+ * - redis: 항상 Redis (기본)
+ * - embedded: 항상 EmbeddedQueueEngine (단일 노드 배포)
+ * - auto: Redis PING이 failure-threshold회 연속 실패하면 EmbeddedQueueEngine으로 전환,
+ *         recovery-threshold회 연속 성공하면 Redis로 복귀
+ *
+ * 전환 중 발급된 토큰은 엔진에만 있으므로 복귀 후에도 엔진에서 조회한다 (EmbeddedQueueEngine.contains).
+ * 복귀 후 엔진에 남은 대기 토큰은 QueueActivationScheduler가 Redis 대기열로 이관한다.
+ * 전환 횟수와 현재 상태는 Micrometer 지표로 노출
+ * (queue.store.failovers{target=embedded|redis}, queue.store.embedded)
+ */
+@Component
+public class QueueStoreFailover {
+
+    private static final Logger log = LoggerFactory.getLogger(QueueStoreFailover.class);
+
+    public enum Mode {
+        REDIS, EMBEDDED, AUTO
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Mode mode;
+    private final int failureThreshold;
+    private final int recoveryThreshold;
+    private final Counter toEmbeddedCounter;
+    private final Counter toRedisCounter;
+
+    private volatile boolean embedded;
+    private int consecutiveFailures;
+    private int consecutiveSuccesses;
+
+    public QueueStoreFailover(RedisTemplate<String, String> redisTemplate,
+                              @Value("${queue.store.mode:redis}") String mode,
+                              @Value("${queue.store.failure-threshold:3}") int failureThreshold,
+                              @Value("${queue.store.recovery-threshold:3}") int recoveryThreshold,
+                              MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.mode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        this.failureThreshold = failureThreshold;
+        this.recoveryThreshold = recoveryThreshold;
+        this.embedded = this.mode == Mode.EMBEDDED;
+        this.toEmbeddedCounter = Counter.builder("queue.store.failovers")
+            .tag("target", "embedded")
+            .description("Redis → 인메모리 대기열 전환 횟수")
+            .register(meterRegistry);
+        this.toRedisCounter = Counter.builder("queue.store.failovers")
+            .tag("target", "redis")
+            .description("인메모리 → Redis 대기열 복귀 횟수")
+            .register(meterRegistry);
+        Gauge.builder("queue.store.embedded", this, failover -> failover.isEmbedded() ? 1 : 0)
+            .description("인메모리 대기열 사용 중이면 1")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 신규 발급/활성화를 인메모리 엔진에서 처리해야 하는지
+     */
+    public boolean isEmbedded() {
+        return embedded;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Redis 상태 확인 (auto 모드에서만)
+     */
+    @Scheduled(fixedDelayString = "${queue.store.health-check-millis:1000}")
+    public void checkRedisHealth() {
+        if (mode != Mode.AUTO) {
+            return;
+        }
+        recordHealth(ping());
+    }
+
+    /**
+     * 상태 확인 결과 반영 (연속 실패/성공 횟수 기준으로 전환)
+     */
+    synchronized void recordHealth(boolean healthy) {
+        if (healthy) {
+            consecutiveFailures = 0;
+            consecutiveSuccesses++;
+            if (embedded && consecutiveSuccesses >= recoveryThreshold) {
+                embedded = false;
+                toRedisCounter.increment();
+                log.warn("Redis 복구 확인 - 대기열 저장소를 Redis로 복귀");
+            }
+        } else {
+            consecutiveSuccesses = 0;
+            consecutiveFailures++;
+            if (!embedded && consecutiveFailures >= failureThreshold) {
+                embedded = true;
+                toEmbeddedCounter.increment();
+                log.error("Redis 상태 확인 {}회 연속 실패 - 대기열 저장소를 인메모리로 전환", consecutiveFailures);
+            }
+        }
+    }
+
+    private boolean ping() {
+        try {
+            String pong = redisTemplate.execute((RedisCallback<String>) connection -> connection.ping());
+            return "PONG".equalsIgnoreCase(pong);
+        } catch (Exception e) {
+            log.debug("Redis PING 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import com.example.concert_reservation.domain.queue.events.QueueTickEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 대기열 틱 전 노드 전달 (Pub/Sub)
+ *
+ * 설계 방식:
+ * - Redis 대기열 활성화는 리더 노드만 실행하지만 SSE 구독자는 모든 노드에 분산되어 있음
+ *   → 리더가 틱(활성화 토큰 + 샤드별 대기 인원)을 TICK_CHANNEL로 발행, 모든 노드(리더 포함)가 수신해
+ *     로컬 QueueTickEvent로 다시 발행 → 각 노드의 QueueStatusBroadcaster가 자기 구독자에게 푸시
+ * - 인메모리 대기열(EmbeddedQueueEngine) 틱은 노드 로컬이므로 이 채널을 거치지 않음
+ * - 발행 실패(Redis 장애) 시 로컬에만 발행 → 최소한 리더 노드의 구독자는 알림을 받음
+ *   (다른 노드 구독자는 재연결/폴링 시 현재 순번으로 회복)
+ *
+ * 메시지 형식 (줄 단위):
+ *   1행: 틱 시각 (epochMillis)
+ *   이후: "{공연 일정 ID}|{대기 인원, 없으면 -1}|{빠진 대기자 수}|{활성화 토큰,활성화 토큰,...}"
+ *   (빠진 대기자 수가 없는 이전 형식 "{공연 일정 ID}|{대기 인원}|{활성화 토큰,...}"도 수신 - 순차 배포 중 혼재)
+ */
+@Component
+public class QueueTickRelay implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(QueueTickRelay.class);
+
+    /**
+     * 대기열 틱 채널
+     */
+    public static final String TICK_CHANNEL = "queue:tick";
+
+    private static final char LINE_SEPARATOR = '\n';
+    private static final char FIELD_SEPARATOR = '|';
+    private static final char TOKEN_SEPARATOR = ',';
+    private static final long UNKNOWN_WAITING = -1;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public QueueTickRelay(RedisTemplate<String, String> redisTemplate, ApplicationEventPublisher eventPublisher) {
+        this.redisTemplate = redisTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Redis 대기열 틱을 모든 노드에 발행
+     */
+    public void publish(QueueTickEvent event) {
+        try {
+            redisTemplate.convertAndSend(TICK_CHANNEL, encode(event));
+        } catch (Exception e) {
+            log.debug("대기열 틱 발행 실패 (로컬 구독자만 반영): {}", e.getMessage());
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    /**
+     * 틱 수신 (자신이 발행한 메시지 포함) → 로컬 QueueTickEvent로 전달
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        QueueTickEvent event;
+        try {
+            event = decode(body);
+        } catch (RuntimeException e) {
+            log.debug("잘못된 대기열 틱 메시지: {}", e.getMessage());
+            return;
+        }
+        eventPublisher.publishEvent(event);
+    }
+
+    static String encode(QueueTickEvent event) {
+        Set<Long> shardIds = new LinkedHashSet<>(event.activatedTokens().keySet());
+        shardIds.addAll(event.waitingByShard().keySet());
+        shardIds.addAll(event.removedWaiting().keySet());
+        StringBuilder body = new StringBuilder().append(event.tickedAtMillis());
+        for (Long shardId : shardIds) {
+            body.append(LINE_SEPARATOR)
+                .append(shardId)
+                .append(FIELD_SEPARATOR)
+                .append(event.waitingByShard().getOrDefault(shardId, UNKNOWN_WAITING))
+                .append(FIELD_SEPARATOR)
+                .append(event.removedCount(shardId))
+                .append(FIELD_SEPARATOR)
+                .append(String.join(String.valueOf(TOKEN_SEPARATOR), event.activatedTokens().getOrDefault(shardId, List.of())));
+        }
+        return body.toString();
+    }
+
+    static QueueTickEvent decode(String body) {
+        String[] lines = body.split(String.valueOf(LINE_SEPARATOR));
+        long tickedAtMillis = Long.parseLong(lines[0]);
+        Map<Long, List<String>> activatedTokens = new LinkedHashMap<>();
+        Map<Long, Long> waitingByShard = new LinkedHashMap<>();
+        Map<Long, Long> removedWaiting = new LinkedHashMap<>();
+        for (int i = 1; i < lines.length; i++) {
+            String line = lines[i];
+            int first = line.indexOf(FIELD_SEPARATOR);
+            int second = line.indexOf(FIELD_SEPARATOR, first + 1);
+            long shardId = Long.parseLong(line.substring(0, first));
+            long waiting = Long.parseLong(line.substring(first + 1, second));
+            if (waiting != UNKNOWN_WAITING) {
+                waitingByShard.put(shardId, waiting);
+            }
+            int third = line.indexOf(FIELD_SEPARATOR, second + 1);
+            if (third >= 0) {
+                long removed = Long.parseLong(line.substring(second + 1, third));
+                if (removed > 0) {
+                    removedWaiting.put(shardId, removed);
+                }
+            } else {
+                third = second;
+            }
+            String tokens = line.substring(third + 1);
+            if (!tokens.isEmpty()) {
+                activatedTokens.put(shardId, new ArrayList<>(List.of(tokens.split(String.valueOf(TOKEN_SEPARATOR)))));
+            }
+        }
+        return new QueueTickEvent(activatedTokens, waitingByShard, removedWaiting, tickedAtMillis);
+    }
+}
@@ -3,113 +3,434 @@ package com.example.concert_reservation.domain.queue.infrastructure;
 import com.example.concert_reservation.domain.queue.models.QueueStatus;
 import com.example.concert_reservation.domain.queue.models.QueueToken;
 import com.example.concert_reservation.domain.queue.models.UserQueue;
-import org.springframework.data.redis.core.Cursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Redis 기반 대기열 저장소
  * 
- * Redis 자료구조:
+ * 공연 일정(concertDateId)별로 대기열을 분리(샤딩)한다.
+ * 모든 키는 "{c:<concertDateId>}" 해시 태그를 가져 한 공연 일정의 키는 같은 해시 슬롯에 놓인다. (키 목록은 QueueShardKeys 참고)
+ * 토큰 값에 공연 일정 ID가 포함되어 있어 토큰만으로 소속 샤드를 찾는다.
+ * 
+ * Redis 자료구조 (샤드별, 토큰은 16바이트 ID로 저장 - QueueRedisCodec):
  * 1. Waiting Queue: Sorted Set
- *    - Key: "queue:waiting"
- *    - Score: 진입 시간 (epochMillis) - ms 단위로 순서 결정성 보장
- *    - Member: token
+ *    - Key: "queue:{c:<id>}:w"
+ *    - Score: 발급 순번 (INCR 카운터) - 같은 ms에 발급되어도 동점 없이 엄격한 순서 보장
+ *    - Member: 토큰 ID (16바이트)
+ * 
+ *    대기 순번 카운터 / 활성화 커서: String
+ *    - Key: "queue:{c:<id>}:seq"    - 마지막으로 발급한 순번
+ *    - Key: "queue:{c:<id>}:cursor" - 지금까지 ZPOPMIN으로 꺼낸(활성화된) 최대 순번
+ *    - 앞 대기 인원 ≈ 내 순번 - 커서 - 1 (이탈 보정) → ZRANK 없이 O(1) 계산
+ * 
+ * 2. Token Record: String (PackedQueueRecord)
+ *    - Key: "queue:{c:<id>}:t:{토큰 ID}"
+ *    - Value: 형식 버전 + 상태 + enteredAt/expiredAt(epochMillis) + userId
+ *    - TTL: Waiting 30분, 활성화 시 Active 5분으로 갱신 → 키 존재 + 상태 'A' = Active
+ *    (기존 Token Metadata Hash + Active Hash 2개를 값 1개로 통합)
+ * 
+ * 3. Active Expiry Index: Sorted Set
+ *    - Key: "queue:{c:<id>}:a"
+ *    - Score: 만료 시각 (epochMillis)
+ *    - Member: 토큰 ID
+ *    - ZCARD = Active 인원 수, ZRANGEBYSCORE(-inf, now) = 만료 대상
+ * 
+ * 4. User Token: String
+ *    - Key: "queue:{c:<id>}:uw:{userId}" / "queue:{c:<id>}:ua:{userId}"
+ *    - Value: 토큰 ID (대기열당 유저 토큰 1개 - 중복 발급 확인)
  * 
- * 2. Active Queue: Hash
- *    - Key: "queue:active:{token}"
- *    - Fields: userId, enteredAt, expiredAt
+ * 5. Revoked Tokens: Sorted Set
+ *    - Key: "queue:{c:<id>}:r"
+ *    - Score: 서명 토큰이 만료될 수 있는 최대 시각 (epochMillis) - 이후 정리
+ *    - Member: 토큰 ID (서명 토큰 검증 시 ZSCORE 1회로 회수 여부 확인)
  * 
- * 3. Token Metadata: Hash
- *    - Key: "queue:token:{token}"
- *    - Fields: userId, status, enteredAt, expiredAt
+ * 6. Heartbeat Index: Sorted Set (Waiting / Active 별도)
+ *    - Key: "queue:{c:<id>}:hw" / "queue:{c:<id>}:ha"
+ *    - Score: 마지막 생존 신호 시각 (epochMillis) - 발급/활성화/하트비트 시 갱신
+ *    - Member: 토큰 ID (활성화 스크립트가 hw → ha로 옮김)
+ *    - ZRANGEBYSCORE(-inf, now - 유휴 허용 시간) = 창을 닫고 떠난 사용자 → Active는 조기 반납, Waiting은 일괄 정리
+ *      (상태별로 집합을 나눠 유휴 허용 시간을 따로 두고, 스캔 대상이 곧 정리 대상이 되도록 함)
+ * 
+ * 7. Shard Registry: Set (전역)
+ *    - Key: "queue:shards"
+ *    - Member: concertDateId (비어 있던 Waiting Queue에 첫 대기자가 들어올 때만 SADD → 전역 핫키가 되지 않음)
+ *    - 대기/활성/회수 토큰이 모두 빠진 샤드는 정리 주기마다 키와 함께 제거 (pruneShardIfEmpty)
+ * 
+ * 토큰 ID/레코드는 바이너리이므로 스크립트 인자와 결과는 바이트 배열로 주고받는다. (QueueScript)
+ * 키/숫자 인자는 QueueShardKeys에 미리 인코딩된 배열과 QueueRedisCodec을 사용해 호출마다 중간 String을 만들지 않는다.
+ * 이전 레이아웃(문자열 토큰 + Hash)의 데이터는 QueueLayoutMigrator가 이 레이아웃으로 옮긴다.
+ * 진입/활성화/반납은 QueueStateMirror로 DB에 비동기 반영되어, Redis 유실 시 QueueStateRebuilder가 복구한다.
+ * 
+ * 스크립트 키 선언:
+ * - 진입(단건/일괄), 하트비트, 위치 조회, 빈 샤드 정리 스크립트는 접근하는 키를 모두 KEYS로 넘긴다.
+ * - 활성화, 만료 정리, 유휴 토큰 정리 스크립트는 ZSET에서 꺼낸 토큰 ID와 레코드의 userId로 토큰/유저 키를 만들기 때문에
+ *   호출 전에 키를 선언할 수 없다. (ARGV의 키 접두사 사용)
+ *   같은 해시 태그라 한 슬롯에 놓이지만 선언하지 않은 키 접근은 Redis Cluster에서 보장되지 않으므로,
+ *   이 저장소는 단일 노드(복제/Sentinel 포함) 구성을 기준으로 한다.
  */
 @Repository
 public class RedisQueueRepository {
     
-    private static final String WAITING_KEY = "queue:waiting";
-    private static final String ACTIVE_KEY_PREFIX = "queue:active:";
-    private static final String TOKEN_KEY_PREFIX = "queue:token:";
-    private static final String USER_ACTIVE_KEY_PREFIX = "user:active:";
-    private static final String USER_WAITING_KEY_PREFIX = "user:waiting:";
-    private static final String ACTIVE_COUNT_KEY = "queue:active:count";
-    private static final DefaultRedisScript<Long> WAITING_QUEUE_ENQUEUE_SCRIPT =
-        new DefaultRedisScript<>(
-            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+    /** 슬롯 반납 알림 채널 - 리더가 아닌 노드에서 반납된 슬롯을 리더의 QueueBackfillAdmitter로 전달 */
+    public static final String SLOT_RELEASE_CHANNEL = "queue:slot:released";
+    
+    private static final int EXPIRE_BATCH_SIZE = 1000;
+    private static final long ACTIVE_TTL_MINUTES = 5;
+    // 샤드별 펜싱 기록 유지 시간 - 리더가 틱마다 갱신, 펜싱 카운터가 유실돼도 이 시간 후 회복
+    private static final long FENCE_TTL_SECONDS = 60;
+    static final long WAITING_TTL_SECONDS = java.util.concurrent.TimeUnit.MINUTES.toSeconds(30);
+    
+    // 호출마다 같은 값인 스크립트 인자 - 미리 인코딩
+    private static final byte[] WAITING_TTL_SECONDS_ARG = QueueRedisCodec.decimal(WAITING_TTL_SECONDS);
+    private static final byte[] FENCE_TTL_SECONDS_ARG = QueueRedisCodec.decimal(FENCE_TTL_SECONDS);
+    private static final byte[] EXPIRE_BATCH_SIZE_ARG = QueueRedisCodec.decimal(EXPIRE_BATCH_SIZE);
+    private static final byte[] INVALIDATION_CHANNEL =
+        ActiveTokenNearCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SLOT_RELEASE_CHANNEL_BYTES = SLOT_RELEASE_CHANNEL.getBytes(StandardCharsets.UTF_8);
+    
+    /**
+     * 일괄 진입 결과: 이미 Active 토큰 보유
+     */
+    public static final long ENQUEUE_ALREADY_ACTIVE = -1L;
+    /**
+     * 일괄 진입 결과: 이미 Waiting 토큰 보유
+     */
+    public static final long ENQUEUE_ALREADY_WAITING = 0L;
+    /**
+     * Waiting Queue 진입 스크립트
+     * KEYS[1]: user:waiting, KEYS[2]: Waiting Queue, KEYS[3]: 발급 순번 카운터, KEYS[4]: 활성화 커서,
+     * KEYS[5]: Waiting Heartbeat Index, KEYS[6]: 토큰 레코드
+     * ARGV: [1] 토큰 ID, [2] TTL(초), [3] Waiting 레코드, [4] 현재 시각(epochMillis)
+     * 반환: {대기 번호 (발급 순번 - 커서), 첫 대기자 여부 (1이면 비어 있던 대기열)}, 이미 대기 중이면 {0, 0}
+     * 순번 발급 → ZADD → 레코드 기록을 한 번에 처리하므로 활성화 스크립트가 레코드 없는 토큰을 꺼낼 수 없다.
+     */
+    private static final QueueScript WAITING_QUEUE_ENQUEUE_SCRIPT =
+        QueueScript.of(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return {0, 0} end "
+                + "local first = redis.call('ZCARD', KEYS[2]) == 0 and 1 or 0 "
                 + "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) "
+                + "local seq = redis.call('INCR', KEYS[3]) "
+                + "redis.call('ZADD', KEYS[2], seq, ARGV[1]) "
+                + "redis.call('SET', KEYS[6], ARGV[3], 'EX', ARGV[2]) "
+                + "redis.call('ZADD', KEYS[5], ARGV[4], ARGV[1]) "
+                + "return {seq - tonumber(redis.call('GET', KEYS[4]) or '0'), first}",
+            ReturnType.MULTI
+        );
+    /**
+     * Waiting Queue 일괄 진입 스크립트 (QueueIssueBatcher 마이크로 배치)
+     * KEYS[1]: Waiting Queue, KEYS[2]: 발급 순번 카운터, KEYS[3]: 활성화 커서, KEYS[4]: Waiting Heartbeat Index,
+     *       KEYS[5..]: 요청별 (user:waiting, user:active, 토큰 레코드) 묶음
+     * ARGV: [1] TTL(초), [2] 현재 시각(epochMillis), [3..] 요청별 (토큰 ID, Waiting 레코드) 묶음
+     * 반환: 요청 순서대로 대기 번호 (ENQUEUE_ALREADY_ACTIVE / ENQUEUE_ALREADY_WAITING이면 진입 실패)
+     *       + 마지막에 첫 대기자 여부 (1이면 비어 있던 대기열에 진입)
+     * 중복 확인(EXISTS 2회) → 순번 발급 → ZADD → 레코드 기록을 배치 전체에 대해 서버에서 처리
+     * 같은 배치 안에서 같은 사용자가 두 번 요청해도 두 번째는 ALREADY_WAITING으로 처리된다.
+     */
+    private static final QueueScript WAITING_QUEUE_BATCH_ENQUEUE_SCRIPT =
+        QueueScript.of(
+            "local cursor = tonumber(redis.call('GET', KEYS[3]) or '0') "
+                + "local wasEmpty = redis.call('ZCARD', KEYS[1]) == 0 "
+                + "local results = {} "
+                + "for i = 0, (#KEYS - 4) / 3 - 1 do "
+                + "local userWaitingKey = KEYS[5 + i * 3] "
+                + "local id = ARGV[3 + i * 2] "
+                + "if redis.call('EXISTS', KEYS[6 + i * 3]) == 1 then "
+                + "results[#results + 1] = -1 "
+                + "elseif redis.call('EXISTS', userWaitingKey) == 1 then "
+                + "results[#results + 1] = 0 "
+                + "else "
+                + "redis.call('SET', userWaitingKey, id, 'EX', ARGV[1]) "
+                + "local seq = redis.call('INCR', KEYS[2]) "
+                + "redis.call('ZADD', KEYS[1], seq, id) "
+                + "redis.call('SET', KEYS[7 + i * 3], ARGV[4 + i * 2], 'EX', ARGV[1]) "
+                + "redis.call('ZADD', KEYS[4], ARGV[2], id) "
+                + "results[#results + 1] = seq - cursor "
+                + "end "
+                + "end "
+                + "results[#results + 1] = (wasEmpty and redis.call('ZCARD', KEYS[1]) > 0) and 1 or 0 "
+                + "return results",
+            ReturnType.MULTI
+        );
+    /**
+     * Waiting → Active 전환 스크립트
+     * KEYS[1]: Waiting Queue, KEYS[2]: Active Expiry Index, KEYS[3]: 활성화 커서, KEYS[4]: 펜싱 토큰,
+     * KEYS[5]: Waiting Heartbeat Index, KEYS[6]: Active Heartbeat Index
+     * ARGV: [1] 전환 수, [2] expiredAt(8바이트), [3] TTL(초), [4] 만료 시각(epochMillis),
+     *       [5] 토큰 레코드 접두사, [6] user:waiting 접두사, [7] user:active 접두사,
+     *       [8] 펜싱 토큰 (0이면 검사 생략), [9] 펜싱 기록 TTL(초), [10] 현재 시각(epochMillis)
+     * 반환: {좀비 토큰 수, {토큰 ID, enteredAt(8바이트), ...}}
+     *       (레코드가 만료된 좀비 토큰은 ZPOPMIN으로 함께 제거되고 목록에서 제외 - 수만 지표용으로 반환)
+     * 레코드는 GETRANGE 1회로 enteredAt~userId를 읽고, SETRANGE로 상태/만료 시각만 바꾸고 TTL을 Active 기준으로 갱신한다.
+     * (enteredAt은 발급 → 활성화 대기 시간 지표에 사용)
+     * 하트비트는 Waiting → Active 인덱스로 옮기며 시각을 갱신해 입장 직후 유휴 토큰으로 반납되지 않도록 한다.
+     * ZPOPMIN은 순번 오름차순으로 꺼내므로 마지막 원소의 score가 새 커서가 된다.
+     * 이 샤드에 기록된 것보다 작은 펜싱 토큰(임대를 잃은 옛 리더)의 호출은 아무것도 전환하지 않는다.
+     */
+    private static final QueueScript ACTIVATE_TOKENS_SCRIPT =
+        QueueScript.of(
+            "local fence = tonumber(ARGV[8]) "
+                + "if fence > 0 then "
+                + "if fence < tonumber(redis.call('GET', KEYS[4]) or '0') then return {0, {}} end "
+                + "redis.call('SET', KEYS[4], ARGV[8], 'EX', ARGV[9]) "
+                + "end "
+                + "local popped = redis.call('ZPOPMIN', KEYS[1], ARGV[1]) "
+                + "local activated = {} "
+                + "local zombies = 0 "
+                + "for i = 1, #popped, 2 do "
+                + "local id = popped[i] "
+                + "local tokenKey = ARGV[5] .. id "
+                + "redis.call('ZREM', KEYS[5], id) "
+                + "local tail = redis.call('GETRANGE', tokenKey, " + PackedQueueRecord.ENTERED_AT_OFFSET + ", -1) "
+                + "local userId = string.sub(tail, "
+                + (PackedQueueRecord.USER_ID_OFFSET - PackedQueueRecord.ENTERED_AT_OFFSET + 1) + ") "
+                + "if userId == '' then "
+                + "zombies = zombies + 1 "
+                + "else "
+                + "redis.call('SETRANGE', tokenKey, " + PackedQueueRecord.STATUS_OFFSET + ", 'A') "
+                + "redis.call('SETRANGE', tokenKey, " + PackedQueueRecord.EXPIRED_AT_OFFSET + ", ARGV[2]) "
+                + "redis.call('EXPIRE', tokenKey, ARGV[3]) "
+                + "redis.call('DEL', ARGV[6] .. userId) "
+                + "redis.call('SET', ARGV[7] .. userId, id, 'EX', ARGV[3]) "
+                + "redis.call('ZADD', KEYS[2], ARGV[4], id) "
+                + "redis.call('ZADD', KEYS[6], ARGV[10], id) "
+                + "activated[#activated + 1] = id "
+                + "activated[#activated + 1] = string.sub(tail, 1, 8) "
+                + "end "
+                + "end "
+                + "if #popped > 0 then "
+                + "redis.call('SET', KEYS[3], popped[#popped]) "
+                + "end "
+                + "return {zombies, activated}",
+            ReturnType.MULTI
+        );
+    /**
+     * 만료 Active 토큰 일괄 제거 스크립트
+     * KEYS[1]: Active Expiry Index, KEYS[2]: Active Heartbeat Index
+     * ARGV: [1] 기준 시각(epochMillis), [2] 배치 크기, [3] 토큰 레코드 접두사, [4] user:active 접두사
+     * 반환: 제거된 토큰 수 (배치 크기와 같으면 남은 만료 토큰이 더 있을 수 있음)
+     */
+    private static final QueueScript EXPIRE_ACTIVE_TOKENS_SCRIPT =
+        QueueScript.of(
+            "local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) "
+                + "for _, id in ipairs(expired) do "
+                + "local tokenKey = ARGV[3] .. id "
+                + "local userId = redis.call('GETRANGE', tokenKey, " + PackedQueueRecord.USER_ID_OFFSET + ", -1) "
+                + "redis.call('DEL', tokenKey) "
+                + "if userId ~= '' and redis.call('GET', ARGV[4] .. userId) == id then "
+                + "redis.call('DEL', ARGV[4] .. userId) "
+                + "end "
+                + "end "
+                + "if #expired > 0 then "
+                + "redis.call('ZREM', KEYS[1], unpack(expired)) "
+                + "redis.call('ZREM', KEYS[2], unpack(expired)) "
+                + "end "
+                + "return #expired",
+            ReturnType.INTEGER
+        );
+    /**
+     * 하트비트 기록 스크립트
+     * KEYS[1]: 토큰 레코드, KEYS[2]: Waiting Heartbeat Index, KEYS[3]: Active Heartbeat Index
+     * ARGV: [1] 현재 시각(epochMillis), [2] 토큰 ID
+     * 반환: 1 (레코드가 없으면 0 - 만료/반납된 토큰은 다시 추적하지 않음)
+     * 레코드 상태 1바이트로 인덱스를 고르므로 아직 추적되지 않던 토큰(레이아웃 이전 등)도 첫 하트비트부터 추적된다.
+     */
+    private static final QueueScript HEARTBEAT_SCRIPT =
+        QueueScript.of(
+            "local status = redis.call('GETRANGE', KEYS[1], " + PackedQueueRecord.STATUS_OFFSET + ", "
+                + PackedQueueRecord.STATUS_OFFSET + ") "
+                + "if status == '' then return 0 end "
+                + "if status == 'A' then "
+                + "redis.call('ZADD', KEYS[3], ARGV[1], ARGV[2]) "
+                + "else "
+                + "redis.call('ZADD', KEYS[2], ARGV[1], ARGV[2]) "
+                + "end "
                 + "return 1",
-            Long.class
+            ReturnType.INTEGER
         );
-    private static final DefaultRedisScript<Long> ACTIVE_COUNT_DECREMENT_SCRIPT =
-        new DefaultRedisScript<>(
-            "local value = redis.call('INCRBY', KEYS[1], ARGV[1]) "
-                + "if value < 0 then "
-                + "redis.call('SET', KEYS[1], 0) "
-                + "return 0 "
+    /**
+     * 유휴 토큰 정리 스크립트
+     * KEYS[1]: Waiting Heartbeat Index, KEYS[2]: Active Heartbeat Index, KEYS[3]: Waiting Queue,
+     * KEYS[4]: Active Expiry Index, KEYS[5]: Revoked Tokens
+     * ARGV: [1] Waiting 유휴 기준 시각, [2] Active 유휴 기준 시각, [3] 배치 크기, [4] 토큰 레코드 접두사,
+     *       [5] user:waiting 접두사, [6] user:active 접두사, [7] 회수 기록 만료 시각 (시각은 모두 epochMillis)
+     * 반환: {{정리된 Waiting 토큰 ID, ...}, {반납된 Active 토큰 ID, ...}}
+     * Active는 만료 인덱스에서 빼고 회수 목록에 등록(서명 토큰 차단), Waiting은 대기열에서 뺀다.
+     * 커서는 그대로 두므로 대기 위치 추정은 이탈 보정(estimateWaitingAhead)으로 처리된다.
+     */
+    private static final QueueScript RECLAIM_IDLE_TOKENS_SCRIPT =
+        QueueScript.of(
+            "local released = {} "
+                + "local idleActive = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[2], 'LIMIT', 0, ARGV[3]) "
+                + "for _, id in ipairs(idleActive) do "
+                + "local tokenKey = ARGV[4] .. id "
+                + "local userId = redis.call('GETRANGE', tokenKey, " + PackedQueueRecord.USER_ID_OFFSET + ", -1) "
+                + "if userId ~= '' and redis.call('GET', ARGV[6] .. userId) == id then "
+                + "redis.call('DEL', ARGV[6] .. userId) "
+                + "end "
+                + "redis.call('DEL', tokenKey) "
+                + "redis.call('ZADD', KEYS[5], ARGV[7], id) "
+                + "released[#released + 1] = id "
+                + "end "
+                + "if #idleActive > 0 then "
+                + "redis.call('ZREM', KEYS[4], unpack(idleActive)) "
+                + "redis.call('ZREM', KEYS[2], unpack(idleActive)) "
+                + "end "
+                + "local idleWaiting = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[3]) "
+                + "for _, id in ipairs(idleWaiting) do "
+                + "local tokenKey = ARGV[4] .. id "
+                + "local userId = redis.call('GETRANGE', tokenKey, " + PackedQueueRecord.USER_ID_OFFSET + ", -1) "
+                + "if userId ~= '' and redis.call('GET', ARGV[5] .. userId) == id then "
+                + "redis.call('DEL', ARGV[5] .. userId) "
+                + "end "
+                + "redis.call('DEL', tokenKey) "
                 + "end "
-                + "return value",
-            Long.class
+                + "if #idleWaiting > 0 then "
+                + "redis.call('ZREM', KEYS[3], unpack(idleWaiting)) "
+                + "redis.call('ZREM', KEYS[1], unpack(idleWaiting)) "
+                + "end "
+                + "return {idleWaiting, released}",
+            ReturnType.MULTI
+        );
+    
+    /**
+     * 빈 샤드 정리 스크립트
+     * KEYS[1]: Waiting Queue, KEYS[2]: Active Expiry Index, KEYS[3]: Revoked Tokens,
+     * KEYS[4]: 발급 순번 카운터, KEYS[5]: 활성화 커서, KEYS[6]: Waiting Heartbeat Index, KEYS[7]: Active Heartbeat Index
+     * 반환: 1 (대기/활성/회수 토큰이 모두 없어 정리함), 0 (남은 토큰이 있어 그대로 둠)
+     * 순번과 커서를 함께 지우므로 다시 생긴 대기열도 순번 1부터 일관되게 계산된다.
+     * 펜싱 기록은 TTL로 사라지므로 지우지 않는다. (옛 리더의 늦은 활성화 호출 차단 유지)
+     */
+    private static final QueueScript PRUNE_SHARD_SCRIPT =
+        QueueScript.of(
+            "if redis.call('ZCARD', KEYS[1]) + redis.call('ZCARD', KEYS[2]) + redis.call('ZCARD', KEYS[3]) > 0 then "
+                + "return 0 end "
+                + "redis.call('DEL', KEYS[4], KEYS[5], KEYS[6], KEYS[7]) "
+                + "return 1",
+            ReturnType.INTEGER
+        );
+    
+    /**
+     * 대기 위치 조회 스크립트 (커서 모드)
+     * KEYS[1]: Waiting Queue, KEYS[2]: 발급 순번 카운터, KEYS[3]: 활성화 커서
+     * ARGV: [1] 토큰 ID
+     * 반환: [내 순번, 마지막 발급 순번, 커서, 대기 인원] (대기열에 없으면 nil)
+     * ZSCORE/GET/ZCARD 모두 O(1) - 네 값을 같은 시점에 읽어 발급/활성화 중에도 일관된 계산 보장
+     */
+    private static final QueueScript WAITING_POSITION_SCRIPT =
+        QueueScript.of(
+            "local seq = redis.call('ZSCORE', KEYS[1], ARGV[1]) "
+                + "if not seq then return nil end "
+                + "return {seq, redis.call('GET', KEYS[2]) or '0', redis.call('GET', KEYS[3]) or '0', "
+                + "tostring(redis.call('ZCARD', KEYS[1]))}",
+            ReturnType.MULTI
         );
     
+    private static final Logger log = LoggerFactory.getLogger(RedisQueueRepository.class);
+    
     private final RedisTemplate<String, String> redisTemplate;
+    private final QueueMetrics queueMetrics;
+    private final QueueStateMirror queueStateMirror;
+    
+    // true: ZRANK로 정확한 순위 계산 (O(log N)), false: 순번 - 커서로 근사 계산 (O(1))
+    private final boolean exactPosition;
+    
+    // 레지스트리 SADD에 실패한 샤드 (다음 getShardIds에서 재시도 - 첫 대기자 이후로는 다시 등록할 기회가 없으므로)
+    private final Set<Long> unregisteredShards = ConcurrentHashMap.newKeySet();
+    
+    // 활성화 외 사유(좀비 토큰, 유휴 정리)로 빠진 대기자 수 - 리더 틱마다 drainRemovedWaiting으로 비움
+    private final Map<Long, Long> removedWaiting = new ConcurrentHashMap<>();
     
-    public RedisQueueRepository(RedisTemplate<String, String> redisTemplate) {
+    public RedisQueueRepository(RedisTemplate<String, String> redisTemplate,
+                                @Value("${queue.position.exact:false}") boolean exactPosition,
+                                QueueMetrics queueMetrics,
+                                QueueStateMirror queueStateMirror) {
         this.redisTemplate = redisTemplate;
+        this.exactPosition = exactPosition;
+        this.queueMetrics = queueMetrics;
+        this.queueStateMirror = queueStateMirror;
+    }
+    
+    /**
+     * 애플리케이션 기동 시 Lua 스크립트를 SCRIPT LOAD로 미리 적재
+     * QueueScript는 EVALSHA를 먼저 시도하므로 첫 호출부터 스크립트 본문 전송 없이 실행된다.
+     * (Redis 재시작 등으로 캐시가 비면 EVAL로 자동 폴백)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadScripts() {
+        try {
+            redisTemplate.execute((RedisCallback<Object>) connection -> {
+                for (QueueScript script : List.of(
+                        WAITING_QUEUE_ENQUEUE_SCRIPT, ACTIVATE_TOKENS_SCRIPT, EXPIRE_ACTIVE_TOKENS_SCRIPT,
+                        WAITING_POSITION_SCRIPT, WAITING_QUEUE_BATCH_ENQUEUE_SCRIPT,
+                        HEARTBEAT_SCRIPT, RECLAIM_IDLE_TOKENS_SCRIPT, PRUNE_SHARD_SCRIPT)) {
+                    connection.scriptingCommands().scriptLoad(script.body());
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("대기열 Lua 스크립트 사전 적재 실패 (첫 호출 시 EVAL로 적재됨): {}", e.getMessage());
+        }
     }
     
     /**
-     * 대기열에 토큰 추가 (Sorted Set)
-     * Pipeline으로 원자성 보장, TTL 설정으로 메모리 누수 방지
+     * 공통 대기열에 토큰 추가
      */
     public UserQueue addToWaitingQueue(String userId) {
-        QueueToken token = QueueToken.generate();
+        return addToWaitingQueue(QueueToken.DEFAULT_CONCERT_DATE_ID, userId);
+    }
+    
+    /**
+     * 공연 일정별 대기열에 토큰 추가 (Sorted Set)
+     * Lua 스크립트 1회로 중복 확인 → 순번 발급(INCR) → ZADD → 레코드 기록을 원자적으로 처리
+     * (기존: 스크립트 1회 + Pipeline 1회 + ZRANK 1회), TTL 설정으로 메모리 누수 방지
+     * 대기 번호는 발급 순번 - 커서이므로 동시에 발급된 토큰끼리도 중복되지 않는다.
+     */
+    public UserQueue addToWaitingQueue(long concertDateId, String userId) {
+        QueueShardKeys keys = QueueShardKeys.of(concertDateId);
+        QueueToken token = QueueToken.generate(concertDateId);
         LocalDateTime now = LocalDateTime.now();
-        // ms 단위 score → 동일 초 내에서도 결정적 순서 보장 (기존 epochSecond는 1초 내 비결정적)
-        long score = now.toInstant(ZoneOffset.UTC).toEpochMilli();
-        String tokenKey = TOKEN_KEY_PREFIX + token.getValue();
-        long waitingTtlSeconds = java.util.concurrent.TimeUnit.MINUTES.toSeconds(30);
-        String userWaitingKey = USER_WAITING_KEY_PREFIX + userId;
-        Long result = redisTemplate.execute(
-            WAITING_QUEUE_ENQUEUE_SCRIPT,
-            List.of(userWaitingKey),
-            token.getValue(),
-            String.valueOf(waitingTtlSeconds)
+        byte[] userWaitingKey = keys.userWaiting(userId);
+        byte[] id = QueueRedisCodec.tokenId(token.getValue());
+        byte[] record = PackedQueueRecord.waiting(userId, PackedQueueRecord.toEpochMillis(now));
+        List<Long> result = queueMetrics.addToWaitingQueueTimer().record(
+            () -> redisTemplate.execute((RedisCallback<List<Long>>) connection -> WAITING_QUEUE_ENQUEUE_SCRIPT.execute(
+                connection, 6,
+                userWaitingKey, keys.waitingBytes(), keys.sequenceBytes(), keys.cursorBytes(), keys.waitingHeartbeatBytes(),
+                keys.token(id),
+                id, WAITING_TTL_SECONDS_ARG, record, QueueRedisCodec.decimal(System.currentTimeMillis())
+            ))
         );
-        if (result == null || result == 0L) {
+        if (result == null || result.size() != 2 || result.get(0) == 0L) {
             throw new IllegalStateException("이미 대기 중인 토큰이 존재합니다");
         }
-        
-        // Pipeline으로 모든 명령 원자적 실행
-        redisTemplate.executePipelined((org.springframework.data.redis.core.RedisCallback<Object>) connection -> {
-            // Waiting Queue에 추가
-            connection.zAdd(WAITING_KEY.getBytes(), score, token.getValue().getBytes());
-            
-            // Token Metadata 저장
-            connection.hSet(tokenKey.getBytes(), "userId".getBytes(), userId.getBytes());
-            connection.hSet(tokenKey.getBytes(), "status".getBytes(), QueueStatus.WAITING.name().getBytes());
-            connection.hSet(tokenKey.getBytes(), "enteredAt".getBytes(), now.toString().getBytes());
-            
-            // Token Metadata TTL 설정 (30분 - 대기 상태 최대 시간)
-            connection.expire(tokenKey.getBytes(), waitingTtlSeconds);
-            
-            return null;
-        });
-        
-        // 대기 번호 계산 (Pipeline 외부에서 계산)
-        long queueNumber = calculateQueueNumber(token.getValue());
+        long queueNumber = result.get(0);
+        if (result.get(1) == 1L) {
+            registerShard(concertDateId);
+        }
         
         // UserQueue 객체 생성
-        return UserQueue.of(
+        UserQueue userQueue = UserQueue.of(
             null,
             token,
             userId,
@@ -118,142 +439,306 @@ public class RedisQueueRepository {
             now,
             null
         );
+        queueStateMirror.enqueued(userQueue);
+        return userQueue;
+    }
+    
+    /**
+     * 공연 일정별 대기열에 여러 사용자를 한 번에 추가 (Lua 스크립트 1회)
+     * 요청당 EXISTS 2회 + 진입 스크립트 1회 → 배치당 스크립트 1회
+     * 
+     * @param concertDateId 공연 일정 ID
+     * @param tokens 발급할 토큰 (userIds와 같은 순서)
+     * @param userIds 사용자 ID
+     * @param enteredAt 진입 시각
+     * @return 요청 순서대로 대기 번호 (ENQUEUE_ALREADY_ACTIVE / ENQUEUE_ALREADY_WAITING이면 진입 실패)
+     */
+    public List<Long> addToWaitingQueueBatch(long concertDateId, List<QueueToken> tokens,
+                                             List<String> userIds, LocalDateTime enteredAt) {
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        QueueShardKeys keys = QueueShardKeys.of(concertDateId);
+        long enteredAtMillis = PackedQueueRecord.toEpochMillis(enteredAt);
+        int numKeys = 4 + tokens.size() * 3;
+        byte[][] keysAndArgs = new byte[numKeys + 2 + tokens.size() * 2][];
+        keysAndArgs[0] = keys.waitingBytes();
+        keysAndArgs[1] = keys.sequenceBytes();
+        keysAndArgs[2] = keys.cursorBytes();
+        keysAndArgs[3] = keys.waitingHeartbeatBytes();
+        keysAndArgs[numKeys] = WAITING_TTL_SECONDS_ARG;
+        keysAndArgs[numKeys + 1] = QueueRedisCodec.decimal(System.currentTimeMillis());
+        for (int i = 0, keyIndex = 4, argIndex = numKeys + 2; i < tokens.size(); i++) {
+            String userId = userIds.get(i);
+            byte[] id = QueueRedisCodec.tokenId(tokens.get(i).getValue());
+            keysAndArgs[keyIndex++] = keys.userWaiting(userId);
+            keysAndArgs[keyIndex++] = keys.userActive(userId);
+            keysAndArgs[keyIndex++] = keys.token(id);
+            keysAndArgs[argIndex++] = id;
+            keysAndArgs[argIndex++] = PackedQueueRecord.waiting(userId, enteredAtMillis);
+        }
+        
+        // 배치 호출도 같은 연산으로 기록 (지연 = 배치 1회 왕복)
+        List<Long> results = queueMetrics.addToWaitingQueueTimer().record(
+            () -> redisTemplate.execute(
+                (RedisCallback<List<Long>>) connection -> WAITING_QUEUE_BATCH_ENQUEUE_SCRIPT.execute(connection, numKeys, keysAndArgs)
+            )
+        );
+        if (results == null || results.size() != tokens.size() + 1) {
+            throw new IllegalStateException("대기열 일괄 진입 결과가 올바르지 않습니다");
+        }
+        if (results.get(tokens.size()) == 1L) {
+            registerShard(concertDateId);
+        }
+        results = results.subList(0, tokens.size());
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) > 0) {
+                queueStateMirror.enqueued(tokens.get(i), userIds.get(i), results.get(i), enteredAtMillis);
+            }
+        }
+        return results;
+    }
+    
+    /**
+     * 샤드 레지스트리 등록 (비어 있던 대기열에 첫 대기자가 들어왔을 때만 호출)
+     * 정리(pruneShardIfEmpty)된 샤드도 다음 첫 대기자가 다시 등록하므로 노드별로 등록 여부를 기억하지 않는다.
+     */
+    private void registerShard(long concertDateId) {
+        try {
+            redisTemplate.opsForSet().add(QueueShardKeys.SHARD_REGISTRY_KEY, String.valueOf(concertDateId));
+        } catch (RuntimeException e) {
+            // 토큰은 이미 발급됨 → 등록만 다음 조회 때 재시도
+            unregisteredShards.add(concertDateId);
+            log.warn("샤드 레지스트리 등록 실패 (재시도 예정): concertDateId={}, {}", concertDateId, e.getMessage());
+        }
+    }
+    
+    /**
+     * 대기열이 존재하는 공연 일정 ID 목록 (공통 대기열 포함, 오름차순)
+     * 등록에 실패했던 샤드는 여기서 다시 등록하고, 그 사이에도 누락되지 않도록 결과에 포함한다.
+     */
+    public List<Long> getShardIds() {
+        for (Long shardId : unregisteredShards) {
+            redisTemplate.opsForSet().add(QueueShardKeys.SHARD_REGISTRY_KEY, String.valueOf(shardId));
+            unregisteredShards.remove(shardId);
+        }
+        Set<Long> shardIds = new TreeSet<>(unregisteredShards);
+        shardIds.add(QueueToken.DEFAULT_CONCERT_DATE_ID);
+        Set<String> members = redisTemplate.opsForSet().members(QueueShardKeys.SHARD_REGISTRY_KEY);
+        if (members != null) {
+            for (String member : members) {
+                shardIds.add(Long.parseLong(member));
+            }
+        }
+        return new ArrayList<>(shardIds);
+    }
+    
+    /**
+     * 대기/활성/회수 토큰이 모두 빠진 샤드 정리 (정리 스케줄러 리더가 호출)
+     * 1. 스크립트로 비어 있는지 확인하고 순번/커서/하트비트 키 삭제
+     * 2. 레지스트리에서 제거 (SREM) 후 대기열을 다시 확인 → 그 사이 첫 대기자가 들어왔으면 다시 등록
+     *    (첫 대기자의 SADD가 SREM보다 먼저 실행돼 등록이 지워지는 경우 보정)
+     * 3. 이 노드의 샤드 키 캐시에서 제거
+     * 공통 대기열은 정리하지 않는다. (레지스트리 키 존재 여부로 Redis 유실을 판단 - QueueStateRebuilder)
+     * @return 정리했으면 true
+     */
+    public boolean pruneShardIfEmpty(long concertDateId) {
+        if (concertDateId == QueueToken.DEFAULT_CONCERT_DATE_ID) {
+            return false;
+        }
+        QueueShardKeys keys = QueueShardKeys.of(concertDateId);
+        Long pruned = redisTemplate.execute((RedisCallback<Long>) connection -> PRUNE_SHARD_SCRIPT.execute(
+            connection, 7,
+            keys.waitingBytes(), keys.activeBytes(), keys.revokedBytes(), keys.sequenceBytes(), keys.cursorBytes(),
+            keys.waitingHeartbeatBytes(), keys.activeHeartbeatBytes()
+        ));
+        if (pruned == null || pruned == 0L) {
+            return false;
+        }
+        String member = String.valueOf(concertDateId);
+        // 레지스트리가 비어 키가 사라지지 않도록 공통 대기열을 남겨 둠
+        redisTemplate.opsForSet().add(QueueShardKeys.SHARD_REGISTRY_KEY,
+            String.valueOf(QueueToken.DEFAULT_CONCERT_DATE_ID));
+        redisTemplate.opsForSet().remove(QueueShardKeys.SHARD_REGISTRY_KEY, member);
+        if (getWaitingQueueSize(concertDateId) + getActiveQueueSize(concertDateId) > 0) {
+            redisTemplate.opsForSet().add(QueueShardKeys.SHARD_REGISTRY_KEY, member);
+            return false;
+        }
+        QueueShardKeys.evict(concertDateId);
+        return true;
     }
     
     /**
      * Waiting Queue에서 현재 위치 조회
      */
     public long getWaitingPosition(String token) {
-        Long rank = redisTemplate.opsForZSet().rank(WAITING_KEY, token);
+        Long rank = waitingRank(token);
         return rank != null ? rank : -1;
     }
     
     /**
-     * Waiting Queue 크기 조회
+     * 전체 Waiting Queue 크기 조회 (모든 샤드 합계)
      */
     public long getWaitingQueueSize() {
-        Long size = redisTemplate.opsForZSet().size(WAITING_KEY);
+        return sum(getWaitingQueueSizes());
+    }
+    
+    /**
+     * 공연 일정별 Waiting Queue 크기 조회
+     */
+    public long getWaitingQueueSize(long concertDateId) {
+        Long size = redisTemplate.opsForZSet().size(QueueShardKeys.of(concertDateId).waiting());
         return size != null ? size : 0;
     }
     
     /**
-     * Active Queue 크기 조회 (카운터 기반)
+     * 샤드별 Waiting Queue 크기 (Pipeline 1회로 전 샤드 ZCARD)
+     * @return 공연 일정 ID → 대기 인원 (오름차순)
+     */
+    public Map<Long, Long> getWaitingQueueSizes() {
+        return countPerShard(false);
+    }
+    
+    /**
+     * 전체 Active Queue 크기 조회 (모든 샤드 Active Expiry Index ZCARD 합계)
+     * 별도 카운터를 두지 않으므로 활성화/제거와 어긋날 수 없다.
+     * (만료됐지만 아직 정리되지 않은 토큰은 다음 removeExpiredActiveTokens 호출 전까지 포함됨)
      */
     public long getActiveQueueSize() {
-        String count = redisTemplate.opsForValue().get(ACTIVE_COUNT_KEY);
-        return count != null ? Long.parseLong(count) : 0;
+        return sum(getActiveQueueSizes());
+    }
+    
+    /**
+     * 공연 일정별 Active Queue 크기 조회
+     */
+    public long getActiveQueueSize(long concertDateId) {
+        Long size = redisTemplate.opsForZSet().size(QueueShardKeys.of(concertDateId).active());
+        return size != null ? size : 0;
     }
     
     /**
-     * Waiting Queue에서 N개의 토큰을 Active로 전환
-     * Pipeline으로 원자성 보장
+     * 샤드별 Active Queue 크기 (Pipeline 1회로 전 샤드 ZCARD)
+     * @return 공연 일정 ID → Active 인원 (오름차순)
+     */
+    public Map<Long, Long> getActiveQueueSizes() {
+        return countPerShard(true);
+    }
+    
+    private Map<Long, Long> countPerShard(boolean active) {
+        List<Long> shardIds = getShardIds();
+        List<Object> sizes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long shardId : shardIds) {
+                QueueShardKeys keys = QueueShardKeys.of(shardId);
+                connection.zSetCommands().zCard(active ? keys.activeBytes() : keys.waitingBytes());
+            }
+            return null;
+        });
+        Map<Long, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < shardIds.size(); i++) {
+            Object size = i < sizes.size() ? sizes.get(i) : null;
+            result.put(shardIds.get(i), size instanceof Long value ? value : 0L);
+        }
+        return result;
+    }
+    
+    private static long sum(Map<Long, Long> sizes) {
+        long total = 0;
+        for (long size : sizes.values()) {
+            total += size;
+        }
+        return total;
+    }
+    
+    /**
+     * 공통 대기열에서 N개의 토큰을 Active로 전환
      */
     public List<String> activateTokens(int count) {
-        // Waiting Queue에서 상위 N개 가져오기 (Score 오름차순)
-        Set<String> tokens = redisTemplate.opsForZSet().range(WAITING_KEY, 0, count - 1);
-        
-        if (tokens == null || tokens.isEmpty()) {
+        return activateTokens(QueueToken.DEFAULT_CONCERT_DATE_ID, count);
+    }
+    
+    /**
+     * 공연 일정별 Waiting Queue에서 N개의 토큰을 Active로 전환 (펜싱 검사 없음 - 수동/테스트용)
+     */
+    public List<String> activateTokens(long concertDateId, int count) {
+        return activateTokens(concertDateId, count, 0);
+    }
+    
+    /**
+     * 공연 일정별 Waiting Queue에서 N개의 토큰을 Active로 전환
+     * Lua 스크립트 1회 호출로 ZPOPMIN → 좀비 제거 → Active 기록 → 만료 인덱스 등록을 서버에서 원자적으로 처리
+     * (기존: ZRANGE 1회 + 토큰별 HGET N회 + Pipeline 1회 + INCRBY 1회)
+     * 토큰/유저 키는 꺼낸 토큰으로 스크립트 안에서 만들므로 KEYS로 선언되지 않는다. (클래스 설명의 스크립트 키 선언 참고)
+     * 좀비 토큰 수와 토큰별 발급 → 활성화 대기 시간은 QueueMetrics에 기록한다.
+     * 
+     * @param fencingToken 스케줄러 리더의 펜싱 토큰 (더 큰 토큰이 이미 기록된 샤드에서는 빈 목록 반환)
+     */
+    public List<String> activateTokens(long concertDateId, int count, long fencingToken) {
+        if (count <= 0) {
             return List.of();
         }
         
-        List<String> activatedTokens = new ArrayList<>();
-        List<String> userIds = new ArrayList<>();
-        List<String> tokenKeys = new ArrayList<>();
-        List<String> zombieTokens = new ArrayList<>();
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime expiredAt = now.plusMinutes(5); // 5분 후 만료
-        long ttlSeconds = java.util.concurrent.TimeUnit.MINUTES.toSeconds(5);
-        
-        for (String token : tokens) {
-            // Token Metadata 조회
-            String tokenKey = TOKEN_KEY_PREFIX + token;
-            String userId = (String) redisTemplate.opsForHash().get(tokenKey, "userId");
-            
-            if (userId == null) {
-                zombieTokens.add(token);
-                continue;
-            }
-            
-            activatedTokens.add(token);
-            userIds.add(userId);
-            tokenKeys.add(tokenKey);
-        }
+        QueueShardKeys keys = QueueShardKeys.of(concertDateId);
+        long ttlSeconds = java.util.concurrent.TimeUnit.MINUTES.toSeconds(ACTIVE_TTL_MINUTES);
+        long now = System.currentTimeMillis();
+        long expiryEpochMillis = now + java.util.concurrent.TimeUnit.SECONDS.toMillis(ttlSeconds); // 5분 후 만료
         
-        if (!zombieTokens.isEmpty()) {
-            redisTemplate.opsForZSet().remove(WAITING_KEY, zombieTokens.toArray());
+        List<Object> result = queueMetrics.activateTokensTimer().record(
+            () -> redisTemplate.execute((RedisCallback<List<Object>>) connection -> ACTIVATE_TOKENS_SCRIPT.execute(
+                connection, 6,
+                keys.waitingBytes(), keys.activeBytes(), keys.cursorBytes(), keys.fenceBytes(),
+                keys.waitingHeartbeatBytes(), keys.activeHeartbeatBytes(),
+                QueueRedisCodec.decimal(count),
+                QueueRedisCodec.int64(expiryEpochMillis),
+                QueueRedisCodec.decimal(ttlSeconds),
+                QueueRedisCodec.decimal(expiryEpochMillis),
+                keys.tokenPrefix(),
+                keys.userWaitingPrefix(),
+                keys.userActivePrefix(),
+                QueueRedisCodec.decimal(fencingToken),
+                FENCE_TTL_SECONDS_ARG,
+                QueueRedisCodec.decimal(now)
+            ))
+        );
+        if (result == null || result.size() < 2) {
+            return List.of();
         }
-
-        if (activatedTokens.isEmpty()) {
+        queueMetrics.recordZombies((Long) result.get(0));
+        recordRemovedWaiting(concertDateId, (Long) result.get(0));
+        @SuppressWarnings("unchecked")
+        List<byte[]> activated = (List<byte[]>) result.get(1);
+        if (activated.isEmpty()) {
             return List.of();
         }
-
-        // Pipeline으로 활성화 작업 일괄 실행 (연결 소모 최소화)
-        redisTemplate.executePipelined((org.springframework.data.redis.core.RedisCallback<Object>) connection -> {
-            for (int i = 0; i < activatedTokens.size(); i++) {
-                String token = activatedTokens.get(i);
-                String userId = userIds.get(i);
-                String tokenKey = tokenKeys.get(i);
-                String activeKey = ACTIVE_KEY_PREFIX + token;
-                
-                // Active Queue에 추가
-                connection.hSet(activeKey.getBytes(), "userId".getBytes(), userId.getBytes());
-                connection.hSet(activeKey.getBytes(), "activatedAt".getBytes(), now.toString().getBytes());
-                connection.hSet(activeKey.getBytes(), "expiredAt".getBytes(), expiredAt.toString().getBytes());
-                
-                // Token Metadata 업데이트
-                connection.hSet(tokenKey.getBytes(), "status".getBytes(), QueueStatus.ACTIVE.name().getBytes());
-                connection.hSet(tokenKey.getBytes(), "expiredAt".getBytes(), expiredAt.toString().getBytes());
-                
-                // Waiting Queue에서 제거
-                connection.zRem(WAITING_KEY.getBytes(), token.getBytes());
-                
-                // 역매핑 Waiting 제거
-                connection.del((USER_WAITING_KEY_PREFIX + userId).getBytes());
-
-                // Active 역매핑 추가 (TTL 5분)
-                connection.setEx((USER_ACTIVE_KEY_PREFIX + userId).getBytes(), ttlSeconds, token.getBytes());
-                
-                // Active Hash에 TTL 설정 (5분 후 Redis가 자동 만료)
-                connection.expire(activeKey.getBytes(), ttlSeconds);
-                
-                // Token Metadata에 TTL 설정 (5분 - Active 상태 수명과 동일)
-                connection.expire(tokenKey.getBytes(), ttlSeconds);
-            }
-            return null;
-        });
         
-        if (!activatedTokens.isEmpty()) {
-            redisTemplate.opsForValue().increment(ACTIVE_COUNT_KEY, activatedTokens.size());
+        long activatedAtMillis = System.currentTimeMillis();
+        List<String> activatedTokens = new ArrayList<>(activated.size() / 2);
+        for (int i = 0; i + 1 < activated.size(); i += 2) {
+            activatedTokens.add(QueueRedisCodec.token(concertDateId, activated.get(i)));
+            queueMetrics.recordWait(QueueRedisCodec.getLong(activated.get(i + 1), 0), activatedAtMillis);
         }
-        
+        queueStateMirror.activated(activatedTokens, expiryEpochMillis);
         return activatedTokens;
     }
     
     /**
      * 토큰으로 UserQueue 조회
-     * HGETALL 1회 호출로 N+1 문제 해결 (기존 HGET 5회 → 1회)
+     * GET 1회 - 레코드 하나에 상태/시각/userId가 모두 있고 시각은 epochMillis이므로 문자열 파싱 없음
      */
     public Optional<UserQueue> findByToken(QueueToken token) {
-        String tokenKey = TOKEN_KEY_PREFIX + token.getValue();
-        Map<Object, Object> entries = redisTemplate.opsForHash().entries(tokenKey);
-        
-        if (entries == null || entries.isEmpty()) {
+        byte[] id = QueueRedisCodec.tokenId(token.getValue());
+        if (id == null) {
             return Optional.empty();
         }
-        
-        String userId = (String) entries.get("userId");
-        if (userId == null) {
+        byte[] tokenKey = QueueShardKeys.of(token.getConcertDateId()).token(id);
+        PackedQueueRecord record = PackedQueueRecord.decode(queueMetrics.findByTokenTimer().record(
+            () -> redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(tokenKey))
+        ));
+        if (record == null) {
             return Optional.empty();
         }
         
-        String statusStr = (String) entries.get("status");
-        String enteredAtStr = (String) entries.get("enteredAt");
-        String expiredAtStr = (String) entries.get("expiredAt");
-        QueueStatus status = QueueStatus.valueOf(statusStr);
-        LocalDateTime enteredAt = LocalDateTime.parse(enteredAtStr);
-        LocalDateTime expiredAt = expiredAtStr != null ? LocalDateTime.parse(expiredAtStr) : null;
         long queueNumber = 0;
-        if (status == QueueStatus.WAITING) {
+        if (record.status() == QueueStatus.WAITING) {
             queueNumber = calculateQueueNumber(token.getValue());
         }
         
@@ -261,172 +746,368 @@ public class RedisQueueRepository {
         return Optional.of(UserQueue.of(
             null,  // Redis는 ID 미사용
             token,  // 기존 token 사용 (중요!)
-            userId,
+            record.userId(),
             queueNumber,
-            status,
-            enteredAt,
-            expiredAt
+            record.status(),
+            record.enteredAt(),
+            record.expiredAt()
         ));
     }
     
     /**
      * 토큰이 Active 상태인지 확인
-     * TTL 기반 - Active Hash에 TTL이 설정되어 있으므로 키 존재 여부만 확인 (O(1))
+     * TTL 기반 - 레코드 TTL이 Active 만료 시각과 같으므로 상태 1바이트만 확인 (GETRANGE, O(1))
      */
     public boolean isActiveToken(String token) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(ACTIVE_KEY_PREFIX + token));
+        byte[] id = QueueRedisCodec.tokenId(token);
+        if (id == null) {
+            return false;
+        }
+        byte[] tokenKey = keysOf(token).token(id);
+        byte[] status = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands()
+            .getRange(tokenKey, PackedQueueRecord.STATUS_OFFSET, PackedQueueRecord.STATUS_OFFSET));
+        return status != null && status.length == 1 && status[0] == PackedQueueRecord.STATUS_ACTIVE;
     }
     
     /**
-     * 사용자가 Active 토큰을 보유하고 있는지 확인
-     * O(1) - 유저당 토큰 1개 제약 활용
+     * 사용자가 공통 대기열의 Active 토큰을 보유하고 있는지 확인
      */
     public boolean hasActiveQueue(String userId) {
-        Boolean exists = redisTemplate.hasKey(USER_ACTIVE_KEY_PREFIX + userId);
-        return exists != null && exists;
+        return hasActiveQueue(QueueToken.DEFAULT_CONCERT_DATE_ID, userId);
+    }
+    
+    /**
+     * 사용자가 공연 일정별 대기열의 Active 토큰을 보유하고 있는지 확인
+     * O(1) - 대기열당 유저 토큰 1개 제약 활용
+     */
+    public boolean hasActiveQueue(long concertDateId, String userId) {
+        byte[] key = QueueShardKeys.of(concertDateId).userActive(userId);
+        return Boolean.TRUE.equals(redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.keyCommands().exists(key)));
     }
     
     /**
-     * 사용자가 Waiting 토큰을 보유하고 있는지 확인
-     * O(1) - 유저당 토큰 1개 제약 활용
+     * 사용자가 공통 대기열의 Waiting 토큰을 보유하고 있는지 확인
      */
     public boolean hasWaitingQueue(String userId) {
-        Boolean exists = redisTemplate.hasKey(USER_WAITING_KEY_PREFIX + userId);
-        return exists != null && exists;
+        return hasWaitingQueue(QueueToken.DEFAULT_CONCERT_DATE_ID, userId);
     }
     
     /**
-     * 앞에 대기 중인 인원 수 계산 (ZSET ZRANK 기반)
+     * 사용자가 공연 일정별 대기열의 Waiting 토큰을 보유하고 있는지 확인
+     * O(1) - 대기열당 유저 토큰 1개 제약 활용
+     */
+    public boolean hasWaitingQueue(long concertDateId, String userId) {
+        byte[] key = QueueShardKeys.of(concertDateId).userWaiting(userId);
+        return Boolean.TRUE.equals(redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.keyCommands().exists(key)));
+    }
+    
+    /**
+     * 앞에 대기 중인 인원 수 계산 (토큰이 속한 공연 일정 대기열 기준)
      * 
-     * Sorted Set의 ZRANK는 0-based → rank 자체가 앞에 있는 사람 수와 동일.
-     * 중간 토큰이 활성화/만료되어 제거되면 rank가 자동으로 갱신되므로
-     * 항상 정확한 대기 인원을 반환한다.
+     * - 커서 모드 (기본, queue.position.exact=false): 순번 - 커서 - 1에서 이탈자 비율만큼 보정, O(1)
+     * - 정확 모드 (queue.position.exact=true): ZRANK (0-based rank = 앞에 있는 사람 수), O(log N)
      * 
      * @param tokenValue 조회할 토큰 값
-     * @return 앞에 대기 중인 인원 수 (0-based rank)
+     * @return 앞에 대기 중인 인원 수 (대기열에 없으면 0)
      */
     public long countWaitingAheadByToken(String tokenValue) {
-        Long rank = redisTemplate.opsForZSet().rank(WAITING_KEY, tokenValue);
-        return rank != null ? rank : 0;
+        if (exactPosition) {
+            Long rank = waitingRank(tokenValue);
+            return rank != null ? rank : 0;
+        }
+        
+        byte[] id = QueueRedisCodec.tokenId(tokenValue);
+        if (id == null) {
+            return 0;
+        }
+        QueueShardKeys keys = keysOf(tokenValue);
+        List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection -> WAITING_POSITION_SCRIPT.execute(
+            connection, 3, keys.waitingBytes(), keys.sequenceBytes(), keys.cursorBytes(), id
+        ));
+        if (values == null || values.size() < 4) {
+            return 0;
+        }
+        return estimateWaitingAhead(
+            QueueRedisCodec.parseLong(values.get(0)), QueueRedisCodec.parseLong(values.get(1)),
+            QueueRedisCodec.parseLong(values.get(2)), QueueRedisCodec.parseLong(values.get(3))
+        );
+    }
+    
+    /**
+     * 순번/커서 기반 앞 대기 인원 추정
+     * 
+     * 커서 이후 발급된 순번 중 (마지막 순번 - 커서 - 대기 인원)개는 이탈(취소/만료)로 대기열에서 빠진 상태.
+     * 이탈자가 커서 이후 구간에 고르게 분포한다고 보고, 내 앞 구간 길이에 비례해 차감한다.
+     * 이탈이 없으면 ZRANK와 정확히 같은 값이며, 결과는 [0, 대기 인원 - 1] 범위로 제한한다.
+     * 
+     * @param seq 내 발급 순번
+     * @param lastSeq 마지막으로 발급된 순번
+     * @param cursor 활성화된 최대 순번
+     * @param waitingSize 현재 대기 인원 (ZCARD)
+     */
+    static long estimateWaitingAhead(long seq, long lastSeq, long cursor, long waitingSize) {
+        long ahead = seq - cursor - 1;
+        long window = lastSeq - cursor;
+        long abandoned = window - waitingSize;
+        if (abandoned > 0 && window > 0 && ahead > 0) {
+            ahead -= abandoned * ahead / window;
+        }
+        return Math.max(0, Math.min(ahead, waitingSize - 1));
+    }
+    
+    private Long waitingRank(String tokenValue) {
+        byte[] id = QueueRedisCodec.tokenId(tokenValue);
+        if (id == null) {
+            return null;
+        }
+        byte[] waitingKey = keysOf(tokenValue).waitingBytes();
+        return redisTemplate.execute((RedisCallback<Long>) connection -> connection.zSetCommands().zRank(waitingKey, id));
     }
 
     private long calculateQueueNumber(String tokenValue) {
         return countWaitingAheadByToken(tokenValue) + 1;
     }
     
+    private static QueueShardKeys keysOf(String tokenValue) {
+        return QueueShardKeys.of(QueueRedisCodec.concertDateId(tokenValue));
+    }
+    
     /**
-     * 만료된 Active 토큰 제거
-     * SCAN 사용 (KEYS 대신 - 비블로킹), Pipeline 일괄 삭제
-     * Note: Active Hash에 TTL이 설정되어 대부분 자동 만료됨. 이 메서드는 안전망 역할.
+     * 모든 샤드의 만료된 Active 토큰 제거
+     * @return 제거된 토큰 수 합계
      */
     public int removeExpiredActiveTokens() {
-        // SCAN으로 Active 키 수집 (비블로킹)
-        List<String> activeKeys = new ArrayList<>();
-        redisTemplate.execute(
-            (org.springframework.data.redis.core.RedisCallback<Object>) connection -> {
-                Cursor<byte[]> cursor = connection.scan(
-                    ScanOptions.scanOptions()
-                        .match(ACTIVE_KEY_PREFIX + "*")
-                        .count(100)
-                        .build());
-                while (cursor.hasNext()) {
-                    activeKeys.add(new String(cursor.next()));
-                }
-                return null;
-            });
-        
-        if (activeKeys.isEmpty()) {
-            return 0;
+        int totalRemoved = 0;
+        for (Long shardId : getShardIds()) {
+            totalRemoved += removeExpiredActiveTokens(shardId);
         }
+        return totalRemoved;
+    }
+    
+    /**
+     * 공연 일정별 만료된 Active 토큰 제거
+     * Active Expiry Index에서 ZRANGEBYSCORE(-inf, now)로 만료 대상만 조회 → 비용이 전체 키 수가 아닌 만료 토큰 수에 비례
+     * EXPIRE_BATCH_SIZE 단위로 Lua 스크립트를 반복 호출하여 한 번에 Redis를 오래 점유하지 않는다.
+     * Note: Active Hash에 TTL이 설정되어 대부분 자동 만료됨. 이 메서드는 인덱스/역매핑 정리 역할.
+     */
+    public int removeExpiredActiveTokens(long concertDateId) {
+        QueueShardKeys keys = QueueShardKeys.of(concertDateId);
+        long now = System.currentTimeMillis();
+        byte[] nowArg = QueueRedisCodec.decimal(now);
+        int totalRemoved = 0;
         
-        List<Object> activeEntries = redisTemplate.executePipelined(
-            (org.springframework.data.redis.core.RedisCallback<Object>) connection -> {
-                for (String key : activeKeys) {
-                    byte[] keyBytes = key.getBytes();
-                    connection.hGet(keyBytes, "expiredAt".getBytes());
-                    connection.hGet(keyBytes, "userId".getBytes());
-                }
-                return null;
-            });
-        
-        // 만료된 토큰 필터링
-        List<String> expiredTokens = new ArrayList<>();
-        List<String> expiredUserIds = new ArrayList<>();
-        LocalDateTime now = LocalDateTime.now();
-        
-        for (int i = 0; i < activeKeys.size(); i++) {
-            String key = activeKeys.get(i);
-            int baseIndex = i * 2;
-            String expiredAtStr = (String) activeEntries.get(baseIndex);
-            String userId = (String) activeEntries.get(baseIndex + 1);
-            if (expiredAtStr != null) {
-                LocalDateTime expiredAt = LocalDateTime.parse(expiredAtStr);
-                if (now.isAfter(expiredAt)) {
-                    String token = key.replace(ACTIVE_KEY_PREFIX, "");
-                    expiredTokens.add(token);
-                    if (userId != null) {
-                        expiredUserIds.add(userId);
-                    }
-                }
+        while (true) {
+            Long removed = redisTemplate.execute((RedisCallback<Long>) connection -> EXPIRE_ACTIVE_TOKENS_SCRIPT.execute(
+                connection, 2,
+                keys.activeBytes(), keys.activeHeartbeatBytes(), nowArg, EXPIRE_BATCH_SIZE_ARG, keys.tokenPrefix(), keys.userActivePrefix()
+            ));
+            int batchRemoved = removed != null ? removed.intValue() : 0;
+            totalRemoved += batchRemoved;
+            
+            if (batchRemoved < EXPIRE_BATCH_SIZE) {
+                // 만료 시각이 지난 회수 기록 정리 (서명 토큰 자체가 이미 만료되어 확인 불필요)
+                redisTemplate.opsForZSet().removeRangeByScore(keys.revoked(), 0, now);
+                return totalRemoved;
             }
         }
-        
-        if (expiredTokens.isEmpty()) {
-            return 0;
-        }
-        
-        // Pipeline으로 일괄 삭제
-        redisTemplate.executePipelined(
-            (org.springframework.data.redis.core.RedisCallback<Object>) connection -> {
-                for (String token : expiredTokens) {
-                    connection.del((ACTIVE_KEY_PREFIX + token).getBytes());
-                    connection.del((TOKEN_KEY_PREFIX + token).getBytes());
-                }
-                for (String userId : expiredUserIds) {
-                    connection.del((USER_ACTIVE_KEY_PREFIX + userId).getBytes());
-                }
-                return null;
-            });
-        
-        redisTemplate.execute(
-            ACTIVE_COUNT_DECREMENT_SCRIPT,
-            List.of(ACTIVE_COUNT_KEY),
-            String.valueOf(-expiredTokens.size())
-        );
-        
-        return expiredTokens.size();
     }
     
     /**
      * 토큰 제거 (예약 완료 시)
      * Pipeline으로 일괄 삭제 (기존 개별 DELETE 4~6회 → Pipeline 1회)
+     * 같은 Pipeline에서 무효화 메시지를 발행하여 전 인스턴스의 ActiveTokenNearCache에서도 제거하고,
+     * 이미 발급된 서명 토큰이 더 이상 통과하지 못하도록 회수 목록에 등록
      */
     public void removeToken(String token) {
-        // Token에서 userId 조회 (Pipeline 외부 - 조건부 삭제에 필요)
-        String tokenKey = TOKEN_KEY_PREFIX + token;
-        String userId = (String) redisTemplate.opsForHash().get(tokenKey, "userId");
-        boolean wasActive = Boolean.TRUE.equals(redisTemplate.hasKey(ACTIVE_KEY_PREFIX + token));
+        byte[] id = QueueRedisCodec.tokenId(token);
+        if (id == null) {
+            return;
+        }
+        QueueShardKeys keys = keysOf(token);
+        byte[] tokenKey = keys.token(id);
+        // 레코드에서 userId 조회 (Pipeline 외부 - 조건부 삭제에 필요)
+        PackedQueueRecord record = PackedQueueRecord.decode(
+            redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(tokenKey))
+        );
+        long revokedUntil = System.currentTimeMillis() + java.util.concurrent.TimeUnit.MINUTES.toMillis(ACTIVE_TTL_MINUTES);
         
         // Pipeline으로 관련 키 일괄 삭제
-        redisTemplate.executePipelined(
-            (org.springframework.data.redis.core.RedisCallback<Object>) connection -> {
-                connection.del((ACTIVE_KEY_PREFIX + token).getBytes());
-                connection.del(tokenKey.getBytes());
-                connection.zRem(WAITING_KEY.getBytes(), token.getBytes());
-                
-                if (userId != null) {
-                    connection.del((USER_ACTIVE_KEY_PREFIX + userId).getBytes());
-                    connection.del((USER_WAITING_KEY_PREFIX + userId).getBytes());
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.keyCommands().del(tokenKey);
+            connection.zSetCommands().zRem(keys.waitingBytes(), id);
+            connection.zSetCommands().zRem(keys.activeBytes(), id);
+            connection.zSetCommands().zRem(keys.waitingHeartbeatBytes(), id);
+            connection.zSetCommands().zRem(keys.activeHeartbeatBytes(), id);
+            
+            if (record != null) {
+                connection.keyCommands().del(keys.userActive(record.userId()));
+                connection.keyCommands().del(keys.userWaiting(record.userId()));
+            }
+            connection.zSetCommands().zAdd(keys.revokedBytes(), revokedUntil, id);
+            connection.publish(INVALIDATION_CHANNEL, token.getBytes(StandardCharsets.UTF_8));
+            return null;
+        });
+        queueStateMirror.removed(token);
+    }
+    
+    /**
+     * 사용자의 Active 토큰 즉시 반납 (결제 완료 시)
+     * 유저별 Active 토큰 키로 토큰을 찾아 removeToken과 같은 방식으로 제거 → 만료(5분)를 기다리지 않고 슬롯 회수
+     * @return 반납한 토큰 값 (Active 토큰이 없으면 null)
+     */
+    public String releaseActiveToken(long concertDateId, String userId) {
+        byte[] userActiveKey = QueueShardKeys.of(concertDateId).userActive(userId);
+        byte[] id = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(userActiveKey));
+        if (id == null || id.length != QueueRedisCodec.TOKEN_ID_LENGTH) {
+            return null;
+        }
+        String token = QueueRedisCodec.token(concertDateId, id);
+        removeToken(token);
+        return token;
+    }
+    
+    /**
+     * 생존 신호 기록 (Heartbeat Index 갱신, 스크립트 1회)
+     * @return 토큰 레코드가 존재하면 true (만료/반납된 토큰이면 false)
+     */
+    public boolean heartbeat(String token) {
+        byte[] id = QueueRedisCodec.tokenId(token);
+        if (id == null) {
+            return false;
+        }
+        QueueShardKeys keys = keysOf(token);
+        byte[] tokenKey = keys.token(id);
+        Long alive = redisTemplate.execute((RedisCallback<Long>) connection -> HEARTBEAT_SCRIPT.execute(
+            connection, 3, tokenKey, keys.waitingHeartbeatBytes(), keys.activeHeartbeatBytes(), QueueRedisCodec.decimal(System.currentTimeMillis()), id
+        ));
+        return alive != null && alive == 1L;
+    }
+    
+    /**
+     * 슬롯 반납 알림 발행 (메시지: "공연 일정 ID:반납 수")
+     */
+    public void publishSlotRelease(long concertDateId, int count) {
+        byte[] message = (concertDateId + ":" + count).getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(SLOT_RELEASE_CHANNEL_BYTES, message));
+    }
+    
+    /**
+     * 여러 토큰의 생존 신호 일괄 기록 (SSE 구독자 등, Pipeline 1회)
+     * ZADD XX - 토큰이 속한 인덱스(Waiting/Active)만 갱신되고, 정리된 토큰은 다시 등록되지 않는다.
+     */
+    public void heartbeatAll(Collection<String> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String token : tokens) {
+                byte[] id = QueueRedisCodec.tokenId(token);
+                if (id != null) {
+                    QueueShardKeys keys = keysOf(token);
+                    connection.zSetCommands().zAdd(keys.waitingHeartbeatBytes(), now, id, ZAddArgs.ifExists());
+                    connection.zSetCommands().zAdd(keys.activeHeartbeatBytes(), now, id, ZAddArgs.ifExists());
+                }
+            }
+            return null;
+        });
+    }
+    
+    /**
+     * 공연 일정별 유휴 토큰 정리
+     * 마지막 생존 신호가 기준 시각 이전인 토큰을 EXPIRE_BATCH_SIZE 단위로 제거
+     * - Active: 만료 전에 슬롯 반납 (회수 목록 등록 + 전 인스턴스 근접 캐시 무효화)
+     * - Waiting: 활성화 시점까지 남아 입장 허용 수를 낭비하지 않도록 미리 제거
+     * 
+     * @param waitingIdleBeforeMillis Waiting 유휴 기준 시각 (epochMillis)
+     * @param activeIdleBeforeMillis Active 유휴 기준 시각 (epochMillis)
+     * @return 정리 결과 (반납된 Active 수만큼 즉시 추가 입장 가능)
+     */
+    public IdleTokenReclaim reclaimIdleTokens(long concertDateId, long waitingIdleBeforeMillis, long activeIdleBeforeMillis) {
+        QueueShardKeys keys = QueueShardKeys.of(concertDateId);
+        byte[] waitingIdleBeforeArg = QueueRedisCodec.decimal(waitingIdleBeforeMillis);
+        byte[] activeIdleBeforeArg = QueueRedisCodec.decimal(activeIdleBeforeMillis);
+        byte[] revokedUntilArg = QueueRedisCodec.decimal(
+            System.currentTimeMillis() + java.util.concurrent.TimeUnit.MINUTES.toMillis(ACTIVE_TTL_MINUTES)
+        );
+        List<String> pruned = new ArrayList<>();
+        List<String> released = new ArrayList<>();
+        
+        while (true) {
+            List<Object> result = redisTemplate.execute((RedisCallback<List<Object>>) connection -> RECLAIM_IDLE_TOKENS_SCRIPT.execute(
+                connection, 5,
+                keys.waitingHeartbeatBytes(), keys.activeHeartbeatBytes(), keys.waitingBytes(), keys.activeBytes(),
+                keys.revokedBytes(),
+                waitingIdleBeforeArg, activeIdleBeforeArg, EXPIRE_BATCH_SIZE_ARG, keys.tokenPrefix(),
+                keys.userWaitingPrefix(), keys.userActivePrefix(), revokedUntilArg
+            ));
+            if (result == null || result.size() < 2) {
+                break;
+            }
+            @SuppressWarnings("unchecked")
+            List<byte[]> batchPruned = (List<byte[]>) result.get(0);
+            @SuppressWarnings("unchecked")
+            List<byte[]> batchReleased = (List<byte[]>) result.get(1);
+            for (byte[] id : batchPruned) {
+                pruned.add(QueueRedisCodec.token(concertDateId, id));
+            }
+            for (byte[] id : batchReleased) {
+                released.add(QueueRedisCodec.token(concertDateId, id));
+            }
+            if (batchPruned.size() < EXPIRE_BATCH_SIZE && batchReleased.size() < EXPIRE_BATCH_SIZE) {
+                break;
+            }
+        }
+        
+        if (!released.isEmpty()) {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String token : released) {
+                    connection.publish(INVALIDATION_CHANNEL, token.getBytes(StandardCharsets.UTF_8));
                 }
                 return null;
             });
-        
-        if (wasActive) {
-            redisTemplate.execute(
-                ACTIVE_COUNT_DECREMENT_SCRIPT,
-                List.of(ACTIVE_COUNT_KEY),
-                "-1"
-            );
         }
+        queueStateMirror.removed(pruned);
+        queueStateMirror.removed(released);
+        recordRemovedWaiting(concertDateId, pruned.size());
+        return new IdleTokenReclaim(pruned.size(), released.size());
+    }
+    
+    /**
+     * 직전 호출 이후 활성화 외 사유로 빠진 대기자 수를 꺼내고 비움 (틱 이벤트의 순번 차감용)
+     * 좀비 토큰/유휴 정리는 리더 노드에서만 일어나므로 리더 틱에 모두 담긴다.
+     * (취소로 빠진 대기자는 포함하지 않음 - 취소는 모든 노드에서 일어나 리더가 집계할 수 없음)
+     * @return 공연 일정 ID → 빠진 대기자 수 (빠진 대기자가 있는 샤드만)
+     */
+    public Map<Long, Long> drainRemovedWaiting() {
+        Map<Long, Long> drained = new LinkedHashMap<>();
+        for (Long concertDateId : removedWaiting.keySet()) {
+            Long removed = removedWaiting.remove(concertDateId);
+            if (removed != null) {
+                drained.put(concertDateId, removed);
+            }
+        }
+        return drained;
+    }
+    
+    private void recordRemovedWaiting(long concertDateId, long count) {
+        if (count > 0) {
+            removedWaiting.merge(concertDateId, count, Long::sum);
+        }
+    }
+    
+    /**
+     * 토큰 회수 여부 확인 (서명 토큰 검증용)
+     * ZSCORE 1회 - 회수 목록은 만료 시각이 지나면 정리되므로 작게 유지된다.
+     */
+    public boolean isRevoked(String token) {
+        byte[] id = QueueRedisCodec.tokenId(token);
+        if (id == null) {
+            return false;
+        }
+        byte[] revokedKey = keysOf(token).revokedBytes();
+        return redisTemplate.execute(
+            (RedisCallback<Double>) connection -> connection.zSetCommands().zScore(revokedKey, id)
+        ) != null;
     }
 }
@@ -4,7 +4,6 @@ import com.example.concert_reservation.domain.queue.models.QueueStatus;
 import com.example.concert_reservation.domain.queue.models.QueueToken;
 import com.example.concert_reservation.domain.queue.models.UserQueue;
 import com.example.concert_reservation.domain.queue.repositories.QueueStoreRepository;
-import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,9 +12,9 @@ import java.util.Optional;
 /**
  * Redis 기반 QueueStoreRepository 구현체 (Adapter)
  * QueueTokenInterceptor에서 사용할 수 있도록 RedisQueueRepository를 래핑
+ * (기본 주입 대상은 FailoverQueueStoreRepository - Redis 장애 시 인메모리로 전환)
  */
 @Repository
-@Primary
 public class RedisQueueStoreRepository implements QueueStoreRepository {
     
     private final RedisQueueRepository redisQueueRepository;
@@ -81,4 +80,21 @@ public class RedisQueueStoreRepository implements QueueStoreRepository {
         // Redis에서 특정 번호보다 작은 대기열 카운트 (구현 필요시)
         throw new UnsupportedOperationException("Redis에서는 미지원");
     }
+    
+    @Override
+    public boolean isRevoked(QueueToken token) {
+        // Redis 회수 목록 조회 (ZSCORE 1회)
+        return redisQueueRepository.isRevoked(token.getValue());
+    }
+    
+    @Override
+    public boolean heartbeat(QueueToken token) {
+        // Heartbeat Index 갱신 (스크립트 1회)
+        return redisQueueRepository.heartbeat(token.getValue());
+    }
+    
+    @Override
+    public boolean releaseActiveToken(long concertDateId, String userId) {
+        return redisQueueRepository.releaseActiveToken(concertDateId, userId) != null;
+    }
 }
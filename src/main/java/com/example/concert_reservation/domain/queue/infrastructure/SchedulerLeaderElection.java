@@ -0,0 +1,191 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 대기열 스케줄러 리더 선출 (Redis 임대 + 펜싱 토큰)
+ *
+ * 설계 방식:
+ * - 임대 키 "queue:scheduler:leader" = "<nodeId>|<fencingToken>" (SET PX lease-millis)
+ *   → 키가 없을 때만 획득, 보유 노드는 renew-millis마다 PEXPIRE로 연장
+ * - 획득 시 "queue:scheduler:fencing"을 INCR한 값을 펜싱 토큰으로 사용
+ *   → 활성화 스크립트가 샤드별로 가장 큰 토큰을 기록하고 더 작은 토큰의 호출은 거부
+ *   (GC 정지 등으로 임대를 잃은 옛 리더가 뒤늦게 실행해도 이중 입장 불가)
+ * - 로컬 임대 만료 시각(갱신 요청 시작 시각 + lease-millis)이 지나면 Redis 응답과 무관하게 즉시 리더 자격 상실
+ * - 리더 종료 시 임대 키를 삭제하여 다음 갱신 주기 안에 다른 노드가 승계
+ *   (비정상 종료 시에도 lease-millis + renew-millis 이내 승계)
+ * - 리더십 변경은 Micrometer 지표로 노출
+ *   (queue.scheduler.leadership.changes{event=acquired|lost}, queue.scheduler.leader)
+ */
+@Component
+public class SchedulerLeaderElection {
+
+    private static final Logger log = LoggerFactory.getLogger(SchedulerLeaderElection.class);
+
+    static final String LEADER_KEY = "queue:scheduler:leader";
+    static final String FENCING_KEY = "queue:scheduler:fencing";
+
+    /**
+     * 임대 획득/연장 스크립트
+     * KEYS[1]: 임대 키, KEYS[2]: 펜싱 토큰 카운터
+     * ARGV: [1] nodeId, [2] 임대 시간(ms)
+     * 반환: 보유 중인 펜싱 토큰 (다른 노드가 리더면 0)
+     */
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT =
+        new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) "
+                + "if current then "
+                + "local sep = string.find(current, '|', 1, true) "
+                + "if sep and string.sub(current, 1, sep - 1) == ARGV[1] then "
+                + "redis.call('PEXPIRE', KEYS[1], ARGV[2]) "
+                + "return tonumber(string.sub(current, sep + 1)) "
+                + "end "
+                + "return 0 "
+                + "end "
+                + "local token = redis.call('INCR', KEYS[2]) "
+                + "redis.call('SET', KEYS[1], ARGV[1] .. '|' .. token, 'PX', ARGV[2]) "
+                + "return token",
+            Long.class
+        );
+    /**
+     * 임대 반납 스크립트 (자신이 보유한 경우에만 삭제)
+     * KEYS[1]: 임대 키, ARGV: [1] "<nodeId>|<fencingToken>"
+     */
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT =
+        new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class
+        );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long leaseMillis;
+    private final String nodeId;
+    private final Counter acquiredCounter;
+    private final Counter lostCounter;
+
+    private volatile long fencingToken;
+    private volatile long leaseValidUntil;
+
+    public SchedulerLeaderElection(RedisTemplate<String, String> redisTemplate,
+                                   @Value("${queue.leader.lease-millis:3000}") long leaseMillis,
+                                   MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.leaseMillis = leaseMillis;
+        this.nodeId = resolveHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.acquiredCounter = Counter.builder("queue.scheduler.leadership.changes")
+            .tag("event", "acquired")
+            .description("대기열 스케줄러 리더 획득 횟수")
+            .register(meterRegistry);
+        this.lostCounter = Counter.builder("queue.scheduler.leadership.changes")
+            .tag("event", "lost")
+            .description("대기열 스케줄러 리더 상실 횟수")
+            .register(meterRegistry);
+        Gauge.builder("queue.scheduler.leader", this, election -> election.isLeader() ? 1 : 0)
+            .description("이 노드가 대기열 스케줄러 리더이면 1")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 임대 획득/연장 (리더는 연장, 팔로워는 획득 시도)
+     * 갱신 주기는 임대 시간보다 충분히 짧아야 한다 (기본 1/3)
+     */
+    @Scheduled(fixedDelayString = "${queue.leader.renew-millis:1000}")
+    public void renew() {
+        long requestedAt = System.currentTimeMillis();
+        long token;
+        try {
+            Long result = redisTemplate.execute(
+                ACQUIRE_SCRIPT,
+                List.of(LEADER_KEY, FENCING_KEY),
+                nodeId,
+                String.valueOf(leaseMillis)
+            );
+            token = result != null ? result : 0;
+        } catch (Exception e) {
+            // Redis 장애 시 로컬 임대 만료 시각까지만 리더 유지
+            log.warn("스케줄러 리더 임대 갱신 실패: {}", e.getMessage());
+            if (fencingToken > 0 && System.currentTimeMillis() >= leaseValidUntil) {
+                stepDown();
+            }
+            return;
+        }
+
+        if (token > 0) {
+            if (token != fencingToken) {
+                if (fencingToken > 0) {
+                    lostCounter.increment();
+                }
+                acquiredCounter.increment();
+                log.info("대기열 스케줄러 리더 획득: node={}, fencingToken={}", nodeId, token);
+            }
+            fencingToken = token;
+            leaseValidUntil = requestedAt + leaseMillis;
+        } else if (fencingToken > 0) {
+            stepDown();
+        }
+    }
+
+    /**
+     * 현재 이 노드가 리더인지 (로컬 임대 만료 시각 기준)
+     */
+    public boolean isLeader() {
+        return fencingToken > 0 && System.currentTimeMillis() < leaseValidUntil;
+    }
+
+    /**
+     * 현재 보유한 펜싱 토큰 (리더가 아니면 0)
+     */
+    public long getFencingToken() {
+        return isLeader() ? fencingToken : 0;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 종료 시 임대 반납 → 다른 노드가 다음 갱신 주기에 즉시 승계
+     */
+    @PreDestroy
+    public void release() {
+        long token = fencingToken;
+        if (token == 0) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEADER_KEY), nodeId + "|" + token);
+        } catch (Exception e) {
+            log.warn("스케줄러 리더 임대 반납 실패 (lease-millis 후 자동 만료): {}", e.getMessage());
+        }
+        fencingToken = 0;
+    }
+
+    private void stepDown() {
+        log.info("대기열 스케줄러 리더 상실: node={}, fencingToken={}", nodeId, fencingToken);
+        fencingToken = 0;
+        leaseValidUntil = 0;
+        lostCounter.increment();
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
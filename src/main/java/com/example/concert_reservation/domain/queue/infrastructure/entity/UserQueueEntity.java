@@ -1,19 +1,24 @@
 package com.example.concert_reservation.domain.queue.infrastructure.entity;
 
+import com.example.concert_reservation.domain.queue.models.QueueToken;
 import com.example.concert_reservation.support.common.BaseEntity;
 import jakarta.persistence.*;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * 사용자 대기열 JPA 엔티티
  * DB 테이블 매핑을 담당하며, 도메인 모델(UserQueue)과 분리됨
+ * Redis 대기열의 DB 미러(QueueStateMirror)도 이 테이블에 기록하며, 복구 시 공연 일정별 입장 순서로 읽는다.
+ * 입장 시간은 컬럼 정밀도(마이크로초)로 잘라 보관 → 영속성 컨텍스트의 값과 DB 값이 같아야 (입장 시간, ID) 키셋 커서가 정확함
  */
 @Entity
 @Table(name = "user_queue", indexes = {
     @Index(name = "idx_token", columnList = "token"),
     @Index(name = "idx_user_id", columnList = "user_id"),
-    @Index(name = "idx_status", columnList = "status")
+    @Index(name = "idx_status_entered_at", columnList = "status, entered_at, id"),
+    @Index(name = "idx_concert_date_status_entered", columnList = "concert_date_id, status, entered_at")
 })
 public class UserQueueEntity extends BaseEntity {
     
@@ -24,6 +29,9 @@ public class UserQueueEntity extends BaseEntity {
     @Column(nullable = false, unique = true, length = 100)
     private String token;
     
+    @Column(name = "concert_date_id", nullable = false)
+    private Long concertDateId;
+    
     @Column(name = "user_id", nullable = false, length = 100)
     private String userId;
     
@@ -48,10 +56,11 @@ public class UserQueueEntity extends BaseEntity {
                            String status, LocalDateTime enteredAt, LocalDateTime expiredAt) {
         this.id = id;
         this.token = token;
+        this.concertDateId = concertDateIdOf(token);
         this.userId = userId;
         this.queueNumber = queueNumber;
         this.status = status;
-        this.enteredAt = enteredAt;
+        this.enteredAt = truncate(enteredAt);
         this.expiredAt = expiredAt;
     }
     
@@ -74,6 +83,11 @@ public class UserQueueEntity extends BaseEntity {
     
     public void setToken(String token) {
         this.token = token;
+        this.concertDateId = concertDateIdOf(token);
+    }
+    
+    public Long getConcertDateId() {
+        return concertDateId;
     }
     
     public String getUserId() {
@@ -105,7 +119,7 @@ public class UserQueueEntity extends BaseEntity {
     }
     
     public void setEnteredAt(LocalDateTime enteredAt) {
-        this.enteredAt = enteredAt;
+        this.enteredAt = truncate(enteredAt);
     }
     
     public LocalDateTime getExpiredAt() {
@@ -115,4 +129,14 @@ public class UserQueueEntity extends BaseEntity {
     public void setExpiredAt(LocalDateTime expiredAt) {
         this.expiredAt = expiredAt;
     }
+    
+    // 토큰 값에 포함된 공연 일정 ID (접두사가 없으면 공통 대기열)
+    private static long concertDateIdOf(String token) {
+        return token != null ? QueueToken.of(token).getConcertDateId() : QueueToken.DEFAULT_CONCERT_DATE_ID;
+    }
+    
+    // 입장 시간 컬럼 정밀도(마이크로초)
+    private static LocalDateTime truncate(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.truncatedTo(ChronoUnit.MICROS) : null;
+    }
 }
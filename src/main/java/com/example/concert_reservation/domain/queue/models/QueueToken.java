@@ -6,9 +6,26 @@ import java.util.UUID;
 /**
  * 대기열 토큰을 나타내는 값 객체 (Value Object)
  * UUID 기반으로 고유한 토큰을 생성하여 사용자를 식별
+ * 
+ * 토큰 형식:
+ * - 공통 대기열: "{uuid}"
+ * - 공연 일정별 대기열: "{concertDateId}:{uuid}" → 토큰만으로 소속 대기열(Redis 샤드)을 찾을 수 있음
+ * - 서명 토큰 (선택): "v1.{payload}.{signature}" → Active 전환 후 발급, QueueTokenSigner로 검증
  */
 public class QueueToken {
     
+    /**
+     * 공연 일정을 지정하지 않은 공통 대기열 ID
+     */
+    public static final long DEFAULT_CONCERT_DATE_ID = 0L;
+    
+    /**
+     * 서명 토큰 접두사 (형식 버전)
+     */
+    public static final String SIGNED_TOKEN_PREFIX = "v1.";
+    
+    private static final char CONCERT_DATE_SEPARATOR = ':';
+    
     private final String value;
     
     private QueueToken(String value) {
@@ -26,6 +43,18 @@ public class QueueToken {
         return new QueueToken(UUID.randomUUID().toString());
     }
     
+    /**
+     * 공연 일정별 대기열 토큰 생성
+     * @param concertDateId 공연 일정 ID (DEFAULT_CONCERT_DATE_ID이면 공통 대기열)
+     * @return 공연 일정 ID가 접두사로 포함된 QueueToken
+     */
+    public static QueueToken generate(long concertDateId) {
+        if (concertDateId == DEFAULT_CONCERT_DATE_ID) {
+            return generate();
+        }
+        return new QueueToken(concertDateId + String.valueOf(CONCERT_DATE_SEPARATOR) + UUID.randomUUID());
+    }
+    
     /**
      * 기존 토큰 값으로 QueueToken 생성
      * @param value 토큰 문자열
@@ -43,6 +72,32 @@ public class QueueToken {
         return value;
     }
     
+    /**
+     * 서명 토큰 형식인지 확인 (서명 유효성은 QueueTokenSigner에서 검증)
+     * @param value 토큰 문자열
+     * @return "v1." 접두사로 시작하면 true
+     */
+    public static boolean isSigned(String value) {
+        return value != null && value.startsWith(SIGNED_TOKEN_PREFIX);
+    }
+    
+    /**
+     * 토큰이 속한 공연 일정 ID 반환
+     * 접두사가 없거나 숫자가 아니면 공통 대기열로 간주
+     * @return 공연 일정 ID
+     */
+    public long getConcertDateId() {
+        int separator = value.indexOf(CONCERT_DATE_SEPARATOR);
+        if (separator <= 0) {
+            return DEFAULT_CONCERT_DATE_ID;
+        }
+        try {
+            return Long.parseLong(value.substring(0, separator));
+        } catch (NumberFormatException e) {
+            return DEFAULT_CONCERT_DATE_ID;
+        }
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,80 @@
+package com.example.concert_reservation.domain.queue.models;
+
+import java.util.Objects;
+
+/**
+ * 서명된 대기열 토큰의 내용 (값 객체)
+ * 
+ * Active 전환된 토큰에 대해서만 발급되며, 서버가 HMAC 서명으로 위변조를 검증한다.
+ * 서명이 유효하면 Redis 조회 없이 userId/만료 시각을 신뢰할 수 있다.
+ */
+public class SignedQueueToken {
+    
+    private final String tokenValue;
+    private final String userId;
+    private final long issuedAtEpochSecond;
+    private final long expiresAtEpochSecond;
+    
+    public SignedQueueToken(String tokenValue, String userId, long issuedAtEpochSecond, long expiresAtEpochSecond) {
+        if (tokenValue == null || tokenValue.isBlank()) {
+            throw new IllegalArgumentException("토큰 값은 비어있을 수 없습니다");
+        }
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("사용자 ID는 비어있을 수 없습니다");
+        }
+        this.tokenValue = tokenValue;
+        this.userId = userId;
+        this.issuedAtEpochSecond = issuedAtEpochSecond;
+        this.expiresAtEpochSecond = expiresAtEpochSecond;
+    }
+    
+    /**
+     * 만료 여부 확인
+     * @param nowEpochSecond 현재 시각 (epoch second)
+     * @return 만료되었으면 true
+     */
+    public boolean isExpired(long nowEpochSecond) {
+        return nowEpochSecond >= expiresAtEpochSecond;
+    }
+    
+    /**
+     * 원본 대기열 토큰 값 (Redis 키/회수 목록 조회용)
+     */
+    public String getTokenValue() {
+        return tokenValue;
+    }
+    
+    public String getUserId() {
+        return userId;
+    }
+    
+    /**
+     * 서명 발급 시각 (Active 상태 확인 시점, epoch second)
+     */
+    public long getIssuedAtEpochSecond() {
+        return issuedAtEpochSecond;
+    }
+    
+    /**
+     * 만료 시각 (epoch second)
+     */
+    public long getExpiresAtEpochSecond() {
+        return expiresAtEpochSecond;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SignedQueueToken that = (SignedQueueToken) o;
+        return issuedAtEpochSecond == that.issuedAtEpochSecond
+            && expiresAtEpochSecond == that.expiresAtEpochSecond
+            && Objects.equals(tokenValue, that.tokenValue)
+            && Objects.equals(userId, that.userId);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(tokenValue, userId, issuedAtEpochSecond, expiresAtEpochSecond);
+    }
+}
@@ -69,4 +69,26 @@ public interface QueueStoreRepository {
      * @return 조건을 만족하는 대기열 개수
      */
     long countByStatusAndQueueNumberLessThan(QueueStatus status, Long queueNumber);
+    
+    /**
+     * 토큰 회수 여부 확인 (서명 토큰 검증 시 사용)
+     * @param token 확인할 토큰
+     * @return 예약 완료 등으로 회수된 토큰이면 true
+     */
+    boolean isRevoked(QueueToken token);
+    
+    /**
+     * 생존 신호 기록 (하트비트가 끊긴 토큰은 만료 전에 정리됨)
+     * @param token 대기/활성 토큰
+     * @return 유효한 토큰이면 true, 만료/반납된 토큰이면 false
+     */
+    boolean heartbeat(QueueToken token);
+    
+    /**
+     * 사용자의 Active 토큰 즉시 반납 (결제 완료 등으로 더 이상 슬롯이 필요 없을 때)
+     * @param concertDateId 토큰이 속한 공연 일정 ID
+     * @param userId 사용자 ID
+     * @return 반납했으면 true (Active 토큰이 없으면 false)
+     */
+    boolean releaseActiveToken(long concertDateId, String userId);
 }
@@ -0,0 +1,165 @@
+package com.example.concert_reservation.domain.reservation.infrastructure;
+
+import com.example.concert_reservation.domain.concert.events.SeatStatusChangedEvent;
+import com.example.concert_reservation.domain.concert.models.SeatStatus;
+import com.example.concert_reservation.domain.reservation.models.Reservation;
+import com.example.concert_reservation.support.exception.DomainConflictException;
+import com.example.concert_reservation.support.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 좌석 선점 게이트 (Redis SET NX, 비관적 락 앞단)
+ *
+ * 설계 방식:
+ * - 기존: 같은 좌석을 노리는 요청이 모두 트랜잭션을 열고 SELECT ... FOR UPDATE에서 줄을 섬
+ *   → 행 락 1개에 커넥션 풀이 묶이고 결국 1명만 성공
+ * - 변경: 트랜잭션 전에 "reservation:seat-hold:{seatId}"를 SET NX로 선점한 요청만 DB 단계로 진행,
+ *   나머지는 Redis 왕복 1회 후 409 (DB 커넥션 사용 없음)
+ * - 선점은 짧은 TTL(pending-seconds)로 시작 → 커밋 후 예약 만료 시간(Reservation.TIMEOUT_MINUTES)으로 연장
+ *   (DB 단계 전에 인스턴스가 죽어도 좌석은 pending-seconds 후 다시 열림)
+ * - DB 단계 실패(이미 예약/판매된 좌석, 롤백 등) 시 자신의 선점만 삭제 (보유자 토큰 비교)
+ * - 취소/만료/환불로 좌석이 AVAILABLE이 되면 트랜잭션 종료 후 선점 키 삭제 → 예약 만료 전이라도 바로 다시 예약 가능
+ *   (트랜잭션 안에서 지우면 커밋 전에 들어온 요청이 선점 후 DB 행 락에서 커밋을 기다리며 커넥션을 점유하므로 종료 후에 삭제,
+ *    롤백되어도 삭제는 무해 - 좌석이 여전히 예약 상태면 DB에서 거절)
+ * - 정합성은 여전히 DB의 비관적 락이 보장 (선점 키 유실/만료 시 요청이 DB로 가도 이중 예약 불가)
+ * - Redis 장애 시 게이트를 열어 두고(bypassed) 기존처럼 DB 락으로 처리
+ * - 선점 결과: reservation.seat.hold{result=acquired|rejected|bypassed}
+ */
+@Component
+public class SeatHoldGate {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatHoldGate.class);
+
+    static final String HOLD_KEY_PREFIX = "reservation:seat-hold:";
+
+    static final Duration HOLD_TTL = Duration.ofMinutes(Reservation.TIMEOUT_MINUTES);
+
+    /**
+     * 선점 연장 (자신이 보유한 경우에만)
+     * KEYS[1]: 선점 키, ARGV: [1] 보유자, [2] TTL(초)
+     */
+    private static final DefaultRedisScript<Long> CONFIRM_SCRIPT =
+        new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('EXPIRE', KEYS[1], ARGV[2]) end return 0",
+            Long.class
+        );
+
+    /**
+     * 선점 해제 (자신이 보유한 경우에만 삭제)
+     * KEYS[1]: 선점 키, ARGV: [1] 보유자
+     */
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT =
+        new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class
+        );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration pendingTtl;
+    private final Counter acquiredCounter;
+    private final Counter rejectedCounter;
+    private final Counter bypassedCounter;
+
+    public SeatHoldGate(RedisTemplate<String, String> redisTemplate,
+                        @Value("${reservation.seat-hold.pending-seconds:10}") long pendingSeconds,
+                        MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.pendingTtl = Duration.ofSeconds(pendingSeconds);
+        this.acquiredCounter = holds(meterRegistry, "acquired");
+        this.rejectedCounter = holds(meterRegistry, "rejected");
+        this.bypassedCounter = holds(meterRegistry, "bypassed");
+    }
+
+    /**
+     * 좌석 선점
+     * @param seatId 좌석 ID
+     * @param userId 사용자 ID
+     * @return 보유자 토큰 (Redis 장애로 선점 없이 진행하면 null)
+     * @throws DomainConflictException 다른 요청이 선점 중이거나 예약된 좌석
+     */
+    public String acquire(Long seatId, String userId) {
+        String holder = userId + "|" + UUID.randomUUID();
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(holdKey(seatId), holder, pendingTtl);
+        } catch (Exception e) {
+            log.warn("좌석 선점 실패 (DB 락으로 처리): {}", e.getMessage());
+            bypassedCounter.increment();
+            return null;
+        }
+        if (!Boolean.TRUE.equals(acquired)) {
+            rejectedCounter.increment();
+            throw new DomainConflictException(ErrorCode.ALREADY_RESERVED, "이미 예약 중인 좌석입니다. 좌석 ID: " + seatId);
+        }
+        acquiredCounter.increment();
+        return holder;
+    }
+
+    /**
+     * 예약 커밋 후 선점을 예약 만료 시간까지 연장
+     */
+    public void confirm(Long seatId, String holder) {
+        if (holder == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(CONFIRM_SCRIPT, List.of(holdKey(seatId)), holder, String.valueOf(HOLD_TTL.toSeconds()));
+        } catch (Exception e) {
+            // 선점은 pending-seconds 후 만료되고 이후 요청은 DB 락에서 거절됨
+            log.warn("좌석 선점 연장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 단계 실패 시 선점 해제
+     */
+    public void release(Long seatId, String holder) {
+        if (holder == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(holdKey(seatId)), holder);
+        } catch (Exception e) {
+            log.warn("좌석 선점 해제 실패 (pending-seconds 후 만료): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 좌석 해제(취소/만료/환불) → 트랜잭션 종료 후 선점 키 삭제 (트랜잭션 밖 발행은 즉시)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onSeatStatusChanged(SeatStatusChangedEvent event) {
+        if (event.status() != SeatStatus.AVAILABLE) {
+            return;
+        }
+        try {
+            redisTemplate.delete(holdKey(event.seatId()));
+        } catch (Exception e) {
+            log.warn("좌석 선점 키 삭제 실패 (최대 {}분 후 만료): {}", Reservation.TIMEOUT_MINUTES, e.getMessage());
+        }
+    }
+
+    static String holdKey(long seatId) {
+        return HOLD_KEY_PREFIX + seatId;
+    }
+
+    private static Counter holds(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("reservation.seat.hold")
+            .tag("result", result)
+            .description("좌석 선점 게이트 결과")
+            .register(meterRegistry);
+    }
+}
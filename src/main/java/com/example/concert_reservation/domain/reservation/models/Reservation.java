@@ -11,7 +11,7 @@ import java.util.Objects;
  */
 public class Reservation {
     
-    private static final int TIMEOUT_MINUTES = 5;
+    public static final int TIMEOUT_MINUTES = 5;
     
     private Long id;
     private String userId;
@@ -0,0 +1,16 @@
+package com.example.concert_reservation.support.exception;
+
+/**
+ * 일시적 처리 불가 예외 (지연/과부하)
+ * HTTP 503 Service Unavailable로 매핑
+ */
+public class DomainUnavailableException extends BaseException {
+    
+    public DomainUnavailableException(ErrorCode errorCode) {
+        super(errorCode, LogLevel.WARN);
+    }
+    
+    public DomainUnavailableException(ErrorCode errorCode, String message) {
+        super(errorCode, LogLevel.WARN, message);
+    }
+}
@@ -40,9 +40,13 @@ public enum ErrorCode {
     ALREADY_REFUNDED("E407", "이미 환불된 결제입니다", HttpStatus.CONFLICT),
     INVALID_RESERVATION_STATUS("E408", "예약 상태가 올바르지 않습니다", HttpStatus.CONFLICT),
     INVALID_PAYMENT_STATUS("E409", "결제 상태가 올바르지 않습니다", HttpStatus.CONFLICT),
+    CONCERT_CLOSED("E410", "예매가 종료된 콘서트입니다", HttpStatus.CONFLICT),
     
     // 500 Internal Server Error - 서버 오류
-    INTERNAL_ERROR("E999", "서버 내부 오류가 발생했습니다", HttpStatus.INTERNAL_SERVER_ERROR);
+    INTERNAL_ERROR("E999", "서버 내부 오류가 발생했습니다", HttpStatus.INTERNAL_SERVER_ERROR),
+    
+    // 503 Service Unavailable - 일시적 처리 불가
+    QUEUE_ISSUE_DELAYED("E501", "토큰 발급이 지연되고 있습니다. 잠시 후 다시 시도해주세요", HttpStatus.SERVICE_UNAVAILABLE);
     
     private final String code;
     private final String message;
@@ -0,0 +1,4 @@
+-- Hibernate 스키마 생성(ddl-auto=create/create-drop) 직후 실행
+-- 대기 번호 시퀀스 (QueueCoreStoreRepository.getNextQueueNumber)
+-- 기존 DB(update/validate/none)는 이 파일이 실행되지 않으므로 QueueNumberSequenceMigrator가 기동 시 생성/보정
+CREATE SEQUENCE IF NOT EXISTS user_queue_number_seq START WITH 1 INCREMENT BY 1;
@@ -1,8 +1,13 @@
 package com.example.concert_reservation.api.concert.controller;
 
 import com.example.concert_reservation.api.concert.dto.AvailableDateResponse;
+import com.example.concert_reservation.api.concert.dto.SeatMapFormat;
 import com.example.concert_reservation.api.concert.dto.SeatResponse;
 import com.example.concert_reservation.api.concert.usecase.GetAvailableDatesUseCase;
+import com.example.concert_reservation.api.concert.usecase.GetConcertETagUseCase;
+import com.example.concert_reservation.api.concert.usecase.GetConcertETagUseCase.SeatsRepresentation;
+import com.example.concert_reservation.api.concert.usecase.GetSeatLayoutUseCase;
+import com.example.concert_reservation.api.concert.usecase.GetSeatMapUseCase;
 import com.example.concert_reservation.api.concert.usecase.GetSeatsUseCase;
 import com.example.concert_reservation.config.QueueTokenInterceptor;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
@@ -18,6 +24,7 @@ import java.util.List;
 
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -34,6 +41,15 @@ class ConcertControllerTest {
     @MockBean
     private GetSeatsUseCase getSeatsUseCase;
     
+    @MockBean
+    private GetSeatMapUseCase getSeatMapUseCase;
+    
+    @MockBean
+    private GetSeatLayoutUseCase getSeatLayoutUseCase;
+    
+    @MockBean
+    private GetConcertETagUseCase getConcertETagUseCase;
+    
     @MockBean
     private QueueTokenInterceptor queueTokenInterceptor;
     
@@ -118,4 +134,55 @@ class ConcertControllerTest {
         
         verify(getSeatsUseCase).execute(concertDateId);
     }
+    
+    @Test
+    @DisplayName("GET /api/v1/concerts/{concertDateId}/seats - 좌석 상태 벡터 형식을 요청하면 바이트 응답을 반환")
+    void getSeats_seatMapAccept_returnsStatusVector() throws Exception {
+        // given
+        Long concertDateId = 1L;
+        byte[] payload = {SeatMapFormat.VERSION, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 3, 0b100100};
+        given(getSeatMapUseCase.execute(concertDateId)).willReturn(payload);
+        
+        // when & then
+        mockMvc.perform(get("/api/v1/concerts/{concertDateId}/seats", concertDateId)
+                .accept(SeatMapFormat.MEDIA_TYPE_VALUE))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(SeatMapFormat.MEDIA_TYPE_VALUE))
+            .andExpect(content().bytes(payload));
+        
+        verify(getSeatMapUseCase).execute(concertDateId);
+        verifyNoInteractions(getSeatsUseCase);
+    }
+    
+    @Test
+    @DisplayName("GET /api/v1/concerts/{concertDateId}/seats - If-None-Match가 현재 ETag와 같으면 좌석을 조회하지 않고 304")
+    void getSeats_matchingETag_returns304() throws Exception {
+        // given
+        Long concertDateId = 1L;
+        given(getConcertETagUseCase.seatsETag(concertDateId, SeatsRepresentation.JSON)).willReturn("\"seats-1-abc\"");
+        
+        // when & then
+        mockMvc.perform(get("/api/v1/concerts/{concertDateId}/seats", concertDateId)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"seats-1-abc\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"seats-1-abc\""));
+        
+        verifyNoInteractions(getSeatsUseCase);
+    }
+    
+    @Test
+    @DisplayName("GET /api/v1/concerts/dates - 버전이 바뀌었으면 새 ETag와 함께 200")
+    void getAvailableDates_staleETag_returnsBodyWithETag() throws Exception {
+        // given
+        given(getConcertETagUseCase.datesETag()).willReturn("\"dates-2\"");
+        given(getAvailableDatesUseCase.execute()).willReturn(List.of());
+        
+        // when & then
+        mockMvc.perform(get("/api/v1/concerts/dates")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"dates-1\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"dates-2\""));
+        
+        verify(getAvailableDatesUseCase).execute();
+    }
 }
@@ -0,0 +1,67 @@
+package com.example.concert_reservation.api.concert.usecase;
+
+import com.example.concert_reservation.api.concert.dto.SeatLayoutResponse;
+import com.example.concert_reservation.domain.concert.components.ConcertReader;
+import com.example.concert_reservation.domain.concert.components.SeatManager;
+import com.example.concert_reservation.domain.concert.infrastructure.SeatStateBitmap;
+import com.example.concert_reservation.domain.concert.models.ConcertDate;
+import com.example.concert_reservation.domain.concert.models.Seat;
+import com.example.concert_reservation.domain.concert.models.SeatStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetSeatLayoutUseCase 테스트")
+class GetSeatLayoutUseCaseTest {
+    
+    @Mock
+    private ConcertReader concertReader;
+    
+    @Mock
+    private SeatManager seatManager;
+    
+    @InjectMocks
+    private GetSeatLayoutUseCase getSeatLayoutUseCase;
+    
+    @Test
+    @DisplayName("좌석 배치표는 위치별 좌석 ID/번호와 가격대별 위치 구간을 반환한다")
+    void execute_groupsPricesIntoTiers() {
+        // given: VIP 2석, R석 2석, 다시 VIP 1석
+        Long concertDateId = 1L;
+        BigDecimal vip = new BigDecimal("150000");
+        BigDecimal r = new BigDecimal("100000");
+        given(concertReader.getConcertDateById(concertDateId)).willReturn(
+            ConcertDate.of(concertDateId, "아이유 콘서트", LocalDate.of(2024, 12, 31), 5, 5));
+        given(seatManager.getSeatMap(concertDateId)).willReturn(SeatStateBitmap.of(concertDateId, List.of(
+            Seat.of(11L, concertDateId, 1, SeatStatus.AVAILABLE, vip),
+            Seat.of(12L, concertDateId, 2, SeatStatus.AVAILABLE, vip),
+            Seat.of(13L, concertDateId, 3, SeatStatus.SOLD, r),
+            Seat.of(14L, concertDateId, 4, SeatStatus.AVAILABLE, r),
+            Seat.of(15L, concertDateId, 5, SeatStatus.RESERVED, vip)
+        )));
+        
+        // when
+        SeatLayoutResponse result = getSeatLayoutUseCase.execute(concertDateId);
+        
+        // then
+        assertThat(result.getSeatCount()).isEqualTo(5);
+        assertThat(result.getSeatIds()).containsExactly(11L, 12L, 13L, 14L, 15L);
+        assertThat(result.getSeatNumbers()).containsExactly(1, 2, 3, 4, 5);
+        assertThat(result.getPriceTiers()).hasSize(2);
+        assertThat(result.getPriceTiers().get(0).getPrice()).isEqualByComparingTo(vip);
+        assertThat(result.getPriceTiers().get(0).getPositionRanges()).containsExactly(new int[]{0, 1}, new int[]{4, 4});
+        assertThat(result.getPriceTiers().get(1).getPrice()).isEqualByComparingTo(r);
+        assertThat(result.getPriceTiers().get(1).getPositionRanges()).containsExactly(new int[]{2, 3});
+    }
+}
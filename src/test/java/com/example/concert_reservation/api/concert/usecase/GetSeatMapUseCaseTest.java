@@ -0,0 +1,64 @@
+package com.example.concert_reservation.api.concert.usecase;
+
+import com.example.concert_reservation.api.concert.dto.SeatMapFormat;
+import com.example.concert_reservation.domain.concert.components.ConcertReader;
+import com.example.concert_reservation.domain.concert.components.SeatManager;
+import com.example.concert_reservation.domain.concert.infrastructure.SeatStateBitmap;
+import com.example.concert_reservation.domain.concert.models.ConcertDate;
+import com.example.concert_reservation.domain.concert.models.Seat;
+import com.example.concert_reservation.domain.concert.models.SeatStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetSeatMapUseCase 테스트")
+class GetSeatMapUseCaseTest {
+    
+    @Mock
+    private ConcertReader concertReader;
+    
+    @Mock
+    private SeatManager seatManager;
+    
+    @InjectMocks
+    private GetSeatMapUseCase getSeatMapUseCase;
+    
+    @Test
+    @DisplayName("좌석 상태를 좌석당 2비트 벡터로 인코딩하고 위치별로 다시 읽을 수 있다")
+    void execute_encodesStatusVector() {
+        // given: 좌석 10석 (3바이트 벡터), 2번 예약, 9번 판매
+        Long concertDateId = 1L;
+        List<Seat> seats = new ArrayList<>();
+        for (int number = 1; number <= 10; number++) {
+            SeatStatus status = number == 2 ? SeatStatus.RESERVED : number == 9 ? SeatStatus.SOLD : SeatStatus.AVAILABLE;
+            seats.add(Seat.of((long) number, concertDateId, number, status, new BigDecimal("50000")));
+        }
+        given(concertReader.getConcertDateById(concertDateId)).willReturn(
+            ConcertDate.of(concertDateId, "아이유 콘서트", LocalDate.of(2024, 12, 31), 10, 8));
+        given(seatManager.getSeatMap(concertDateId)).willReturn(SeatStateBitmap.of(concertDateId, seats));
+        
+        // when
+        byte[] payload = getSeatMapUseCase.execute(concertDateId);
+        
+        // then
+        assertThat(payload).hasSize(SeatMapFormat.HEADER_BYTES + 3);
+        assertThat(payload[0]).isEqualTo(SeatMapFormat.VERSION);
+        assertThat(SeatMapFormat.seatCount(payload)).isEqualTo(10);
+        assertThat(SeatMapFormat.statusAt(payload, 0)).isEqualTo(SeatStatus.AVAILABLE);
+        assertThat(SeatMapFormat.statusAt(payload, 1)).isEqualTo(SeatStatus.RESERVED);
+        assertThat(SeatMapFormat.statusAt(payload, 8)).isEqualTo(SeatStatus.SOLD);
+        assertThat(SeatMapFormat.statusAt(payload, 9)).isEqualTo(SeatStatus.AVAILABLE);
+    }
+}
@@ -163,7 +163,7 @@ class QueueTokenControllerTest {
     @DisplayName("GET /api/v1/queue/status - 여러 사용자의 대기 순서가 올바르게 표시된다")
     void getQueueStatus_multipleUsers_correctWaitingAhead() throws Exception {
         // given - 3명의 사용자 토큰 순차 발급
-        // score가 epochMillis 기반이므로 순차 호출만으로 순서가 결정적으로 보장됨
+        // score가 INCR 발급 순번이므로 순차 호출만으로 순서가 결정적으로 보장됨
         String token1 = issueTokenForUser("user1");
         String token2 = issueTokenForUser("user2");
         String token3 = issueTokenForUser("user3");
@@ -228,6 +228,48 @@ class QueueTokenControllerTest {
         assertThat(statusResponse.getStatus()).isEqualTo(QueueStatus.WAITING.name());
     }
     
+    @Test
+    @DisplayName("입장 속도 현황 조회 - 목표 속도와 대기 인원을 반환한다")
+    void getAdmissionStatus_success() throws Exception {
+        // given
+        issueTokenForUser("admission-user");
+        
+        // when & then
+        mockMvc.perform(get("/api/v1/queue/admission"))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.targetRatePerSecond").isNumber())
+            .andExpect(jsonPath("$.maxActiveSlots").isNumber())
+            .andExpect(jsonPath("$.waitingCount").value(1));
+    }
+    
+    @Test
+    @DisplayName("GET /api/v1/queue/stream - 구독 시 현재 대기 순번을 SSE로 전송한다")
+    void streamQueueStatus_waitingToken_sendsPosition() throws Exception {
+        // given
+        issueTokenForUser("stream-user-1");
+        String token = issueTokenForUser("stream-user-2");
+        
+        // when
+        MvcResult result = mockMvc.perform(get("/api/v1/queue/stream")
+                .param("token", token)
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        
+        // then
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).contains("event:position");
+        assertThat(body).contains("\"waitingAhead\":1");
+    }
+    
+    @Test
+    @DisplayName("GET /api/v1/queue/stream - 토큰이 없으면 401")
+    void streamQueueStatus_missingToken_unauthorized() throws Exception {
+        mockMvc.perform(get("/api/v1/queue/stream"))
+            .andExpect(status().isUnauthorized());
+    }
+    
     // 헬퍼 메서드: 사용자 토큰 발급
     private String issueTokenForUser(String userId) throws Exception {
         IssueTokenRequest request = new IssueTokenRequest(userId);
@@ -0,0 +1,248 @@
+package com.example.concert_reservation.api.queue.stream;
+
+import com.example.concert_reservation.api.queue.dto.QueueStatusResponse;
+import com.example.concert_reservation.domain.queue.components.QueueAdmissionRegulator;
+import com.example.concert_reservation.domain.queue.components.QueueIdleTokenReclaimer;
+import com.example.concert_reservation.domain.queue.events.QueueTickEvent;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueTickRelay;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * QueueStatusBroadcaster 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueueStatusBroadcaster 테스트")
+class QueueStatusBroadcasterTest {
+
+    @Mock
+    private QueueAdmissionRegulator admissionRegulator;
+
+    @Mock
+    private QueueIdleTokenReclaimer idleTokenReclaimer;
+
+    private QueueStatusBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(admissionRegulator.getEstimatedWaitTimeString(anyLong())).thenReturn("0분 1초");
+        broadcaster = new QueueStatusBroadcaster(admissionRegulator, idleTokenReclaimer, Runnable::run, Runnable::run, 0, 5_000);
+    }
+
+    @Test
+    @DisplayName("구독 즉시 현재 대기 순번을 전송한다")
+    void subscribe_sendsInitialPosition() throws Exception {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+
+        // when
+        broadcaster.subscribe(emitter, "token-1", 1L, "user1", 5);
+
+        // then
+        assertThat(sentPayloads(emitter, 1).get(0).getWaitingAhead()).isEqualTo(5L);
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 공연 일정의 활성화 수만큼 대기 순번이 줄어든다")
+    void onTick_decrementsPositionBySameShardActivations() throws Exception {
+        // given
+        SseEmitter sameShard = mock(SseEmitter.class);
+        SseEmitter otherShard = mock(SseEmitter.class);
+        broadcaster.subscribe(sameShard, "token-1", 1L, "user1", 5);
+        broadcaster.subscribe(otherShard, "token-2", 2L, "user2", 5);
+
+        // when: 공연 일정 1에서 3명 활성화
+        broadcaster.onTick(new QueueTickEvent(
+            Map.of(1L, List.of("a", "b", "c")), Map.of(1L, 8L, 2L, 5L), Map.of(), System.currentTimeMillis()
+        ));
+
+        // then
+        assertThat(sentPayloads(sameShard, 2).get(1).getWaitingAhead()).isEqualTo(2L);
+        assertThat(sentPayloads(otherShard, 2).get(1).getWaitingAhead()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("자기 토큰이 활성화되면 activated 이벤트를 보내고 연결을 종료한다")
+    void onTick_activatedToken_sendsActivatedAndCompletes() throws Exception {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        broadcaster.subscribe(emitter, "token-1", 1L, "user1", 0);
+
+        // when
+        broadcaster.onTick(new QueueTickEvent(
+            Map.of(1L, List.of("token-1")), Map.of(1L, 1L), Map.of(), System.currentTimeMillis()
+        ));
+
+        // then
+        assertThat(sentPayloads(emitter, 2).get(1).getStatus()).isEqualTo("ACTIVE");
+        verify(emitter).complete();
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("푸시가 밀린 동안 들어온 틱은 버리지 않고 합쳐서 한 번에 반영한다")
+    void onTick_backlog_coalescesInsteadOfDropping() throws Exception {
+        // given: 푸시 스레드가 밀린 상태 (예약된 처리 작업을 아직 실행하지 않음)
+        List<Runnable> queued = new ArrayList<>();
+        QueueStatusBroadcaster delayed = new QueueStatusBroadcaster(admissionRegulator, idleTokenReclaimer, queued::add, Runnable::run, 0, 5_000);
+        SseEmitter waiting = mock(SseEmitter.class);
+        SseEmitter activated = mock(SseEmitter.class);
+        delayed.subscribe(waiting, "token-1", 1L, "user1", 10);
+        delayed.subscribe(activated, "token-2", 1L, "user2", 0);
+
+        // when: 틱 3개 발행 후 처리
+        long now = System.currentTimeMillis();
+        delayed.onTick(new QueueTickEvent(Map.of(1L, List.of("token-2", "a")), Map.of(1L, 10L), Map.of(), now));
+        delayed.onTick(new QueueTickEvent(Map.of(1L, List.of("b")), Map.of(1L, 8L), Map.of(), now + 200));
+        delayed.onTick(new QueueTickEvent(Map.of(1L, List.of("c", "d")), Map.of(1L, 7L), Map.of(), now + 400));
+        queued.forEach(Runnable::run);
+
+        // then: 처리 작업은 1개, 첫 틱의 활성화 알림과 모든 틱의 순번 차감이 반영됨
+        assertThat(queued).hasSize(1);
+        assertThat(sentPayloads(activated, 2).get(1).getStatus()).isEqualTo("ACTIVE");
+        assertThat(sentPayloads(waiting, 2).get(1).getWaitingAhead()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("활성화 외 사유로 빠진 대기자는 앞 대기 인원 비율만큼 순번에서 차감한다")
+    void onTick_removedWaiters_deductedByShareAhead() throws Exception {
+        // given: 대기 20명 중 앞에 10명 / 앞에 1명
+        SseEmitter middle = mock(SseEmitter.class);
+        SseEmitter front = mock(SseEmitter.class);
+        broadcaster.subscribe(middle, "token-1", 1L, "user1", 10);
+        broadcaster.subscribe(front, "token-2", 1L, "user2", 1);
+
+        // when: 유휴 정리로 4명이 빠진 뒤 (틱 시작 시점 대기 16명) 틱 2회
+        long now = System.currentTimeMillis();
+        broadcaster.onTick(new QueueTickEvent(Map.of(), Map.of(1L, 16L), Map.of(1L, 4L), now));
+        broadcaster.onTick(new QueueTickEvent(Map.of(), Map.of(1L, 16L), Map.of(1L, 4L), now + 200));
+
+        // then: 4 × 10/20 = 2명, 4 × 8/20 = 1.6 → 1명 차감 / 1명 미만 몫(4 × 1/20씩)은 누적만 하고 차감하지 않음
+        assertThat(sentPayloads(middle, 3)).extracting(QueueStatusResponse::getWaitingAhead).containsExactly(10L, 8L, 7L);
+        assertThat(sentPayloads(front, 3)).extracting(QueueStatusResponse::getWaitingAhead).containsExactly(1L, 1L, 1L);
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 구독자는 구독 해제하고 연결을 오류로 종료한다")
+    void subscribe_sendFails_dropsSubscriber() throws Exception {
+        // given
+        SseEmitter emitter = mock(SseEmitter.class);
+        IOException brokenPipe = new IOException("Broken pipe");
+        doThrow(brokenPipe).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+
+        // when
+        broadcaster.subscribe(emitter, "token-1", 1L, "user1", 5);
+
+        // then
+        verify(emitter).completeWithError(brokenPipe);
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("느린 구독자의 전송은 다른 구독자 갱신을 막지 않고, 전송 제한 시간을 넘기면 구독 해제된다")
+    void onTick_stalledSend_doesNotBlockOthersAndDropsSubscriber() throws Exception {
+        // given: 전송마다 별도 스레드, 제한 시간 0 (진행 중인 전송은 모두 지연으로 판단)
+        QueueStatusBroadcaster async = new QueueStatusBroadcaster(
+            admissionRegulator, idleTokenReclaimer, Runnable::run, task -> new Thread(task).start(), 0, 0);
+        CountDownLatch sendEntered = new CountDownLatch(1);
+        CountDownLatch releaseSend = new CountDownLatch(1);
+        SseEmitter slow = mock(SseEmitter.class);
+        doAnswer(invocation -> {
+            sendEntered.countDown();
+            releaseSend.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(slow).send(any(SseEmitter.SseEventBuilder.class));
+        SseEmitter fast = mock(SseEmitter.class);
+        async.subscribe(slow, "token-1", 1L, "user1", 5);
+        async.subscribe(fast, "token-2", 1L, "user2", 5);
+        assertThat(sendEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 느린 구독자의 첫 전송이 끝나지 않은 상태에서 틱
+        async.onTick(new QueueTickEvent(Map.of(1L, List.of("a")), Map.of(1L, 10L), Map.of(), System.currentTimeMillis()));
+
+        // then: 다른 구독자는 갱신을 받고, 느린 구독자는 해제 (진행 중인 전송이 끝난 뒤 연결 종료)
+        verify(fast, timeout(5_000).times(2)).send(any(SseEmitter.SseEventBuilder.class));
+        assertThat(async.getSubscriberCount()).isEqualTo(1);
+        verify(slow, never()).complete();
+        releaseSend.countDown();
+        verify(slow, timeout(5_000)).complete();
+        verify(slow, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("리더 노드의 Redis 대기열 틱은 Pub/Sub로 팔로워 노드 구독자에게도 전달된다")
+    @SuppressWarnings("unchecked")
+    void onTick_relayedFromLeader_reachesFollowerSubscribers() throws Exception {
+        // given: 노드 2개 (리더 / 팔로워), Redis 채널은 발행한 노드 포함 모든 노드에 전달
+        QueueStatusBroadcaster leader = broadcaster;
+        QueueStatusBroadcaster follower = new QueueStatusBroadcaster(admissionRegulator, idleTokenReclaimer, Runnable::run, Runnable::run, 0, 5_000);
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        QueueTickRelay leaderRelay = new QueueTickRelay(redisTemplate, event -> leader.onTick((QueueTickEvent) event));
+        QueueTickRelay followerRelay = new QueueTickRelay(redisTemplate, event -> follower.onTick((QueueTickEvent) event));
+        when(redisTemplate.convertAndSend(eq(QueueTickRelay.TICK_CHANNEL), anyString())).thenAnswer(invocation -> {
+            Message message = new DefaultMessage(
+                QueueTickRelay.TICK_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                invocation.<String>getArgument(1).getBytes(StandardCharsets.UTF_8));
+            leaderRelay.onMessage(message, null);
+            followerRelay.onMessage(message, null);
+            return 2L;
+        });
+
+        SseEmitter followerWaiting = mock(SseEmitter.class);
+        SseEmitter followerActivated = mock(SseEmitter.class);
+        SseEmitter leaderWaiting = mock(SseEmitter.class);
+        follower.subscribe(followerWaiting, "7:token-1", 7L, "user1", 4);
+        follower.subscribe(followerActivated, "7:token-2", 7L, "user2", 0);
+        leader.subscribe(leaderWaiting, "7:token-3", 7L, "user3", 4);
+
+        // when: 리더만 활성화 후 틱 발행 (유휴 정리로 빠진 대기자 2명 포함)
+        leaderRelay.publish(new QueueTickEvent(
+            Map.of(7L, List.of("7:token-2", "7:token-9")), Map.of(7L, 6L), Map.of(7L, 2L), System.currentTimeMillis()
+        ));
+
+        // then: 팔로워 구독자도 활성화 알림/순번 차감을 받음 (빠진 2명 중 앞 비율 4/8 → 1명, 활성화 2명)
+        assertThat(sentPayloads(followerActivated, 2).get(1).getStatus()).isEqualTo("ACTIVE");
+        assertThat(sentPayloads(followerWaiting, 2).get(1).getWaitingAhead()).isEqualTo(1L);
+        assertThat(sentPayloads(leaderWaiting, 2).get(1).getWaitingAhead()).isEqualTo(1L);
+        assertThat(follower.getSubscriberCount()).isEqualTo(1);
+    }
+
+    private List<QueueStatusResponse> sentPayloads(SseEmitter emitter, int expectedCount) throws Exception {
+        ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, times(expectedCount)).send(captor.capture());
+        return captor.getAllValues().stream()
+            .map(builder -> builder.build().stream()
+                .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                .filter(QueueStatusResponse.class::isInstance)
+                .map(QueueStatusResponse.class::cast)
+                .findFirst()
+                .orElseThrow())
+            .toList();
+    }
+}
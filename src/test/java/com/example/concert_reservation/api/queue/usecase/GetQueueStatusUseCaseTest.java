@@ -1,10 +1,14 @@
 package com.example.concert_reservation.api.queue.usecase;
 
 import com.example.concert_reservation.api.queue.dto.QueueStatusResponse;
+import com.example.concert_reservation.domain.queue.components.QueueAdmissionRegulator;
+import com.example.concert_reservation.domain.queue.components.QueueTokenSigner;
 import com.example.concert_reservation.domain.queue.components.QueueValidator;
 import com.example.concert_reservation.domain.queue.models.QueueStatus;
 import com.example.concert_reservation.domain.queue.models.QueueToken;
+import com.example.concert_reservation.domain.queue.models.SignedQueueToken;
 import com.example.concert_reservation.domain.queue.models.UserQueue;
+import com.example.concert_reservation.domain.queue.repositories.QueueStoreRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,6 +30,15 @@ class GetQueueStatusUseCaseTest {
     @Mock
     private QueueValidator queueValidator;
     
+    @Mock
+    private QueueAdmissionRegulator admissionRegulator;
+    
+    @Mock
+    private QueueTokenSigner queueTokenSigner;
+    
+    @Mock
+    private QueueStoreRepository queueStoreRepository;
+    
     @InjectMocks
     private GetQueueStatusUseCase useCase;
     
@@ -63,6 +76,7 @@ class GetQueueStatusUseCaseTest {
         
         verify(queueValidator).validateAndGetQueue(any(QueueToken.class));
         verify(queueValidator).countWaitingAheadByToken(waitingQueue.getToken().getValue());
+        verify(queueStoreRepository).heartbeat(any(QueueToken.class));
     }
     
     @Test
@@ -84,6 +98,38 @@ class GetQueueStatusUseCaseTest {
         verify(queueValidator, never()).countWaitingAheadByToken(anyString());
     }
     
+    @Test
+    @DisplayName("서명 키가 설정되어 있으면 ACTIVE 대기열에 서명 토큰을 발급한다")
+    void execute_activeQueue_issuesSignedToken() {
+        // given
+        when(queueValidator.validateAndGetQueue(any(QueueToken.class))).thenReturn(activeQueue);
+        when(queueTokenSigner.isEnabled()).thenReturn(true);
+        when(queueTokenSigner.sign(any(SignedQueueToken.class))).thenReturn("v1.payload.signature");
+        
+        // when
+        QueueStatusResponse response = useCase.execute(token.getValue());
+        
+        // then
+        assertThat(response.getSignedToken()).isEqualTo("v1.payload.signature");
+        verify(queueTokenSigner).sign(argThat(signed ->
+            signed.getTokenValue().equals(activeQueue.getToken().getValue())
+                && signed.getUserId().equals("user456")));
+    }
+    
+    @Test
+    @DisplayName("WAITING 대기열에는 서명 토큰을 발급하지 않는다")
+    void execute_waitingQueue_noSignedToken() {
+        // given
+        when(queueValidator.validateAndGetQueue(any(QueueToken.class))).thenReturn(waitingQueue);
+        
+        // when
+        QueueStatusResponse response = useCase.execute(token.getValue());
+        
+        // then
+        assertThat(response.getSignedToken()).isNull();
+        verify(queueTokenSigner, never()).sign(any());
+    }
+    
     @Test
     @DisplayName("유효하지 않은 토큰은 예외가 발생한다")
     void execute_invalidToken_throwsException() {
@@ -2,21 +2,35 @@ package com.example.concert_reservation.api.queue.usecase;
 
 import com.example.concert_reservation.api.queue.dto.IssueTokenRequest;
 import com.example.concert_reservation.api.queue.dto.IssueTokenResponse;
+import com.example.concert_reservation.domain.concert.components.ConcertReader;
+import com.example.concert_reservation.domain.concert.models.ConcertDate;
+import com.example.concert_reservation.domain.queue.components.QueueAdmissionRegulator;
+import com.example.concert_reservation.domain.queue.components.QueueIssueBatcher;
 import com.example.concert_reservation.domain.queue.components.QueueValidator;
+import com.example.concert_reservation.domain.queue.infrastructure.EmbeddedQueueEngine;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueStoreFailover;
 import com.example.concert_reservation.domain.queue.infrastructure.RedisQueueRepository;
 import com.example.concert_reservation.domain.queue.models.QueueStatus;
 import com.example.concert_reservation.domain.queue.models.QueueToken;
 import com.example.concert_reservation.domain.queue.models.UserQueue;
+import com.example.concert_reservation.support.exception.DomainConflictException;
+import com.example.concert_reservation.support.exception.DomainNotFoundException;
+import com.example.concert_reservation.support.exception.DomainUnavailableException;
+import com.example.concert_reservation.support.exception.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -32,13 +46,31 @@ class IssueQueueTokenUseCaseTest {
     @Mock
     private QueueValidator queueValidator;
     
-    @InjectMocks
+    @Mock
+    private QueueAdmissionRegulator admissionRegulator;
+    
+    @Mock
+    private QueueIssueBatcher queueIssueBatcher;
+    
+    @Mock
+    private EmbeddedQueueEngine embeddedQueueEngine;
+    
+    @Mock
+    private QueueStoreFailover queueStoreFailover;
+    
+    @Mock
+    private ConcertReader concertReader;
+    
     private IssueQueueTokenUseCase useCase;
     
+    private static final long DEFAULT = QueueToken.DEFAULT_CONCERT_DATE_ID;
+    
     private IssueTokenRequest request;
     
     @BeforeEach
     void setUp() {
+        useCase = new IssueQueueTokenUseCase(redisQueueRepository, queueValidator, admissionRegulator,
+            queueIssueBatcher, embeddedQueueEngine, queueStoreFailover, concertReader, 50);
         request = new IssueTokenRequest("user123");
     }
     
@@ -46,11 +78,11 @@ class IssueQueueTokenUseCaseTest {
     @DisplayName("새로운 사용자는 토큰을 정상적으로 발급받을 수 있다")
     void execute_newUser_success() {
         // given
-        when(queueValidator.hasActiveQueue("user123")).thenReturn(false);
-        when(queueValidator.hasWaitingQueue("user123")).thenReturn(false);
+        when(queueValidator.hasActiveQueue(DEFAULT, "user123")).thenReturn(false);
+        when(queueValidator.hasWaitingQueue(DEFAULT, "user123")).thenReturn(false);
         
         UserQueue newQueue = UserQueue.create("user123", 1L);
-        when(redisQueueRepository.addToWaitingQueue("user123")).thenReturn(newQueue);
+        when(redisQueueRepository.addToWaitingQueue(DEFAULT, "user123")).thenReturn(newQueue);
         
         // when
         IssueTokenResponse response = useCase.execute(request);
@@ -62,59 +94,59 @@ class IssueQueueTokenUseCaseTest {
         assertThat(response.getStatus()).isEqualTo(QueueStatus.WAITING.name());
         assertThat(response.getEnteredAt()).isNotNull();
         
-        verify(queueValidator).hasActiveQueue("user123");
-        verify(queueValidator).hasWaitingQueue("user123");
-        verify(redisQueueRepository).addToWaitingQueue("user123");
+        verify(queueValidator).hasActiveQueue(DEFAULT, "user123");
+        verify(queueValidator).hasWaitingQueue(DEFAULT, "user123");
+        verify(redisQueueRepository).addToWaitingQueue(DEFAULT, "user123");
     }
     
     @Test
     @DisplayName("이미 활성 토큰이 있는 사용자는 예외가 발생한다")
     void execute_hasActiveToken_throwsException() {
         // given
-        when(queueValidator.hasActiveQueue("user123")).thenReturn(true);
+        when(queueValidator.hasActiveQueue(DEFAULT, "user123")).thenReturn(true);
         
         // when & then
         assertThatThrownBy(() -> useCase.execute(request))
             .isInstanceOf(IllegalStateException.class)
             .hasMessageContaining("이미 활성 상태의 토큰이 존재합니다");
         
-        verify(queueValidator).hasActiveQueue("user123");
-        verify(redisQueueRepository, never()).addToWaitingQueue(any());
+        verify(queueValidator).hasActiveQueue(DEFAULT, "user123");
+        verify(redisQueueRepository, never()).addToWaitingQueue(anyLong(), any());
     }
     
     @Test
     @DisplayName("이미 대기 중인 토큰이 있는 사용자는 예외가 발생한다")
     void execute_hasWaitingToken_throwsException() {
         // given
-        when(queueValidator.hasActiveQueue("user123")).thenReturn(false);
-        when(queueValidator.hasWaitingQueue("user123")).thenReturn(true);
+        when(queueValidator.hasActiveQueue(DEFAULT, "user123")).thenReturn(false);
+        when(queueValidator.hasWaitingQueue(DEFAULT, "user123")).thenReturn(true);
         
         // when & then
         assertThatThrownBy(() -> useCase.execute(request))
             .isInstanceOf(IllegalStateException.class)
             .hasMessageContaining("이미 대기 중인 토큰이 존재합니다");
         
-        verify(queueValidator).hasActiveQueue("user123");
-        verify(queueValidator).hasWaitingQueue("user123");
-        verify(redisQueueRepository, never()).addToWaitingQueue(any());
+        verify(queueValidator).hasActiveQueue(DEFAULT, "user123");
+        verify(queueValidator).hasWaitingQueue(DEFAULT, "user123");
+        verify(redisQueueRepository, never()).addToWaitingQueue(anyLong(), any());
     }
     
     @Test
     @DisplayName("대기 번호는 순차적으로 증가한다")
     void execute_queueNumberIncreases() {
         // given
-        when(queueValidator.hasActiveQueue(anyString())).thenReturn(false);
-        when(queueValidator.hasWaitingQueue(anyString())).thenReturn(false);
+        when(queueValidator.hasActiveQueue(anyLong(), anyString())).thenReturn(false);
+        when(queueValidator.hasWaitingQueue(anyLong(), anyString())).thenReturn(false);
         
         UserQueue queueWithNumber10 = UserQueue.create("user123", 10L);
-        when(redisQueueRepository.addToWaitingQueue("user123")).thenReturn(queueWithNumber10);
+        when(redisQueueRepository.addToWaitingQueue(DEFAULT, "user123")).thenReturn(queueWithNumber10);
         
         // when
         IssueTokenResponse response = useCase.execute(request);
         
         // then
         assertThat(response.getQueueNumber()).isEqualTo(10L);
-        verify(redisQueueRepository).addToWaitingQueue("user123");
+        verify(redisQueueRepository).addToWaitingQueue(DEFAULT, "user123");
     }
     
     @Test
@@ -124,13 +156,13 @@ class IssueQueueTokenUseCaseTest {
         IssueTokenRequest request1 = new IssueTokenRequest("user1");
         IssueTokenRequest request2 = new IssueTokenRequest("user2");
         
-        when(queueValidator.hasActiveQueue(anyString())).thenReturn(false);
-        when(queueValidator.hasWaitingQueue(anyString())).thenReturn(false);
+        when(queueValidator.hasActiveQueue(anyLong(), anyString())).thenReturn(false);
+        when(queueValidator.hasWaitingQueue(anyLong(), anyString())).thenReturn(false);
         
         UserQueue queue1 = UserQueue.create("user1", 1L);
         UserQueue queue2 = UserQueue.create("user2", 2L);
-        when(redisQueueRepository.addToWaitingQueue("user1")).thenReturn(queue1);
-        when(redisQueueRepository.addToWaitingQueue("user2")).thenReturn(queue2);
+        when(redisQueueRepository.addToWaitingQueue(DEFAULT, "user1")).thenReturn(queue1);
+        when(redisQueueRepository.addToWaitingQueue(DEFAULT, "user2")).thenReturn(queue2);
         
         // when
         IssueTokenResponse response1 = useCase.execute(request1);
@@ -141,7 +173,119 @@ class IssueQueueTokenUseCaseTest {
         assertThat(response2.getQueueNumber()).isEqualTo(2L);
         assertThat(response1.getToken()).isNotEqualTo(response2.getToken());
         
-        verify(redisQueueRepository).addToWaitingQueue("user1");
-        verify(redisQueueRepository).addToWaitingQueue("user2");
+        verify(redisQueueRepository).addToWaitingQueue(DEFAULT, "user1");
+        verify(redisQueueRepository).addToWaitingQueue(DEFAULT, "user2");
+    }
+    
+    @Test
+    @DisplayName("공연 일정 ID를 지정하면 해당 공연 일정 대기열에 진입한다")
+    void execute_withConcertDateId_usesConcertShard() {
+        // given
+        IssueTokenRequest concertRequest = new IssueTokenRequest("user123", 7L);
+        when(concertReader.getOpenConcertDate(7L)).thenReturn(
+            ConcertDate.of(7L, "아이유 콘서트", LocalDate.now().plusDays(7), 50, 30));
+        when(queueValidator.hasActiveQueue(7L, "user123")).thenReturn(false);
+        when(queueValidator.hasWaitingQueue(7L, "user123")).thenReturn(false);
+        
+        UserQueue newQueue = UserQueue.create("user123", 1L);
+        when(redisQueueRepository.addToWaitingQueue(7L, "user123")).thenReturn(newQueue);
+        
+        // when
+        IssueTokenResponse response = useCase.execute(concertRequest);
+        
+        // then
+        assertThat(response.getQueueNumber()).isEqualTo(1L);
+        verify(redisQueueRepository).addToWaitingQueue(7L, "user123");
+        verify(redisQueueRepository, never()).addToWaitingQueue(eq(DEFAULT), any());
+    }
+    
+    @Test
+    @DisplayName("존재하지 않는 공연 일정 ID로는 대기열 샤드를 만들지 않고 거절한다")
+    void execute_unknownConcertDateId_rejected() {
+        // given
+        IssueTokenRequest concertRequest = new IssueTokenRequest("user123", 999L);
+        when(concertReader.getOpenConcertDate(999L)).thenThrow(
+            new DomainNotFoundException(ErrorCode.CONCERT_NOT_FOUND));
+        
+        // when & then
+        assertThatThrownBy(() -> useCase.execute(concertRequest))
+            .isInstanceOf(DomainNotFoundException.class);
+        verifyNoInteractions(redisQueueRepository, queueIssueBatcher, embeddedQueueEngine);
+    }
+    
+    @Test
+    @DisplayName("예매가 종료된 공연 일정 ID로는 대기열에 진입할 수 없다")
+    void execute_closedConcertDateId_rejected() {
+        // given
+        IssueTokenRequest concertRequest = new IssueTokenRequest("user123", 7L);
+        when(concertReader.getOpenConcertDate(7L)).thenThrow(
+            new DomainConflictException(ErrorCode.CONCERT_CLOSED));
+        
+        // when & then
+        assertThatThrownBy(() -> useCase.execute(concertRequest))
+            .isInstanceOf(DomainConflictException.class);
+        verifyNoInteractions(redisQueueRepository, queueIssueBatcher, embeddedQueueEngine);
+    }
+    
+    @Test
+    @DisplayName("마이크로 배치가 켜져 있으면 배처를 통해 발급하고 개별 중복 체크를 하지 않는다")
+    void execute_batchEnabled_issuesThroughBatcher() {
+        // given
+        UserQueue newQueue = UserQueue.create("user123", 3L);
+        when(queueIssueBatcher.isEnabled()).thenReturn(true);
+        when(queueIssueBatcher.submit(DEFAULT, "user123")).thenReturn(CompletableFuture.completedFuture(newQueue));
+        
+        // when
+        IssueTokenResponse response = useCase.execute(request);
+        
+        // then
+        assertThat(response.getQueueNumber()).isEqualTo(3L);
+        verifyNoInteractions(queueValidator, redisQueueRepository);
+    }
+    
+    @Test
+    @DisplayName("마이크로 배치에서 중복으로 거절되면 원래 예외가 그대로 전달된다")
+    void execute_batchEnabled_duplicate_throwsOriginalException() {
+        // given
+        when(queueIssueBatcher.isEnabled()).thenReturn(true);
+        when(queueIssueBatcher.submit(DEFAULT, "user123")).thenReturn(
+            CompletableFuture.failedFuture(new IllegalStateException("이미 대기 중인 토큰이 존재합니다"))
+        );
+        
+        // when & then
+        assertThatThrownBy(() -> useCase.execute(request))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("이미 대기 중인 토큰이 존재합니다");
+    }
+    
+    @Test
+    @DisplayName("마이크로 배치 결과가 제한 시간 안에 오지 않으면 무기한 대기하지 않고 503 예외를 던진다")
+    void execute_batchEnabled_timeout_throwsUnavailable() {
+        // given - 배치 워커가 완료하지 않는 요청
+        when(queueIssueBatcher.isEnabled()).thenReturn(true);
+        when(queueIssueBatcher.submit(DEFAULT, "user123")).thenReturn(new CompletableFuture<>());
+        
+        // when & then
+        assertThatThrownBy(() -> useCase.execute(request))
+            .isInstanceOf(DomainUnavailableException.class)
+            .satisfies(e -> assertThat(((DomainUnavailableException) e).getErrorCode())
+                .isEqualTo(ErrorCode.QUEUE_ISSUE_DELAYED));
+    }
+    
+    @Test
+    @DisplayName("인메모리 대기열로 전환된 동안에는 인메모리 엔진에 발급한다")
+    void execute_embeddedMode_issuesToEmbeddedEngine() {
+        // given
+        UserQueue newQueue = UserQueue.create("user123", 1L);
+        when(queueStoreFailover.isEmbedded()).thenReturn(true);
+        when(embeddedQueueEngine.addToWaitingQueue(DEFAULT, "user123")).thenReturn(newQueue);
+        
+        // when
+        IssueTokenResponse response = useCase.execute(request);
+        
+        // then
+        assertThat(response.getToken()).isEqualTo(newQueue.getToken().getValue());
+        verify(embeddedQueueEngine).addToWaitingQueue(DEFAULT, "user123");
+        verifyNoInteractions(redisQueueRepository, queueIssueBatcher);
     }
 }
@@ -5,6 +5,7 @@ import com.example.concert_reservation.api.reservation.dto.ReservationResponse;
 import com.example.concert_reservation.api.reservation.usecase.CancelReservationUseCase;
 import com.example.concert_reservation.api.reservation.usecase.ReserveSeatUseCase;
 import com.example.concert_reservation.config.QueueTokenInterceptor;
+import com.example.concert_reservation.support.exception.DomainForbiddenException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -57,7 +58,7 @@ class ReservationControllerTest {
             1L, "user123", 1L, 1L, new BigDecimal("50000"),
             "PENDING", LocalDateTime.now(), LocalDateTime.now().plusMinutes(5), 300L
         );
-        given(reserveSeatUseCase.execute(any(ReserveSeatRequest.class))).willReturn(response);
+        given(reserveSeatUseCase.execute(any(ReserveSeatRequest.class), any())).willReturn(response);
         
         // when & then
         mockMvc.perform(post("/api/v1/reservations")
@@ -69,7 +70,7 @@ class ReservationControllerTest {
             .andExpect(jsonPath("$.seatId").value(1))
             .andExpect(jsonPath("$.status").value("PENDING"));
         
-        verify(reserveSeatUseCase).execute(any(ReserveSeatRequest.class));
+        verify(reserveSeatUseCase).execute(any(ReserveSeatRequest.class), any());
     }
     
     @Test
@@ -77,7 +78,7 @@ class ReservationControllerTest {
     void reserveSeat_alreadyReserved_returns409() throws Exception {
         // given
         ReserveSeatRequest request = new ReserveSeatRequest("user123", 1L);
-        given(reserveSeatUseCase.execute(any(ReserveSeatRequest.class)))
+        given(reserveSeatUseCase.execute(any(ReserveSeatRequest.class), any()))
             .willThrow(new IllegalStateException("이미 예약된 좌석입니다"));
         
         // when & then
@@ -87,7 +88,25 @@ class ReservationControllerTest {
             .andExpect(status().isConflict())
             .andExpect(jsonPath("$.message").value("이미 예약된 좌석입니다"));
         
-        verify(reserveSeatUseCase).execute(any(ReserveSeatRequest.class));
+        verify(reserveSeatUseCase).execute(any(ReserveSeatRequest.class), any());
+    }
+    
+    @Test
+    @DisplayName("POST /api/v1/reservations - 토큰의 공연 일정을 UseCase로 전달한다")
+    void reserveSeat_passesTokenConcertDateId() throws Exception {
+        // given
+        ReserveSeatRequest request = new ReserveSeatRequest("user123", 1L);
+        given(reserveSeatUseCase.execute(any(ReserveSeatRequest.class), eq(7L)))
+            .willThrow(new DomainForbiddenException("대기열 토큰의 공연 일정과 좌석의 공연 일정이 다릅니다"));
+        
+        // when & then
+        mockMvc.perform(post("/api/v1/reservations")
+                .requestAttr(QueueTokenInterceptor.CONCERT_DATE_ID_ATTRIBUTE, 7L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isForbidden());
+        
+        verify(reserveSeatUseCase).execute(any(ReserveSeatRequest.class), eq(7L));
     }
     
     @Test
@@ -5,14 +5,24 @@ import com.example.concert_reservation.api.reservation.dto.ReservationResponse;
 import com.example.concert_reservation.domain.concert.components.SeatManager;
 import com.example.concert_reservation.domain.concert.models.Seat;
 import com.example.concert_reservation.domain.concert.models.SeatStatus;
+import com.example.concert_reservation.domain.queue.components.QueueAdmissionRegulator;
+import com.example.concert_reservation.domain.queue.models.QueueToken;
 import com.example.concert_reservation.domain.reservation.components.ReservationManager;
+import com.example.concert_reservation.domain.reservation.infrastructure.SeatHoldGate;
 import com.example.concert_reservation.domain.reservation.models.Reservation;
+import com.example.concert_reservation.support.exception.DomainConflictException;
+import com.example.concert_reservation.support.exception.DomainForbiddenException;
+import com.example.concert_reservation.support.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 
@@ -29,9 +39,25 @@ class ReserveSeatUseCaseTest {
     @Mock
     private SeatManager seatManager;
     
+    @Mock
+    private QueueAdmissionRegulator admissionRegulator;
+    
+    @Mock
+    private SeatHoldGate seatHoldGate;
+    
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    
     @InjectMocks
     private ReserveSeatUseCase reserveSeatUseCase;
     
+    @BeforeEach
+    void setUp() {
+        lenient().when(seatHoldGate.acquire(anyLong(), anyString())).thenReturn("holder");
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+    }
+    
     @Test
     @DisplayName("좌석을 예약할 수 있다")
     void execute_success() {
@@ -59,6 +85,7 @@ class ReserveSeatUseCaseTest {
         verify(reservationManager).hasActiveReservation(1L);
         verify(seatManager).reserveSeat(seat);
         verify(reservationManager).saveReservation(any(Reservation.class));
+        verify(seatHoldGate).confirm(1L, "holder");
     }
     
     @Test
@@ -79,6 +106,43 @@ class ReserveSeatUseCaseTest {
         verify(seatManager).getSeatByIdWithLock(1L);
         verify(reservationManager).hasActiveReservation(1L);
         verify(seatManager, never()).reserveSeat(any());
+        verify(seatHoldGate).release(1L, "holder");
+    }
+    
+    @Test
+    @DisplayName("다른 공연 일정의 대기열 토큰으로는 좌석을 예약할 수 없다")
+    void execute_tokenForOtherConcertDate_throwsForbidden() {
+        // given: 좌석은 공연 일정 1, 토큰은 공연 일정 2의 대기열에서 발급
+        ReserveSeatRequest request = new ReserveSeatRequest("user123", 1L);
+        Seat seat = Seat.of(1L, 1L, 10, SeatStatus.AVAILABLE, new BigDecimal("50000"));
+        given(seatManager.getSeatByIdWithLock(1L)).willReturn(seat);
+        
+        // when & then
+        assertThatThrownBy(() -> reserveSeatUseCase.execute(request, 2L))
+            .isInstanceOf(DomainForbiddenException.class)
+            .hasMessageContaining("공연 일정");
+        
+        verify(seatManager, never()).reserveSeat(any());
+        verify(reservationManager, never()).saveReservation(any());
+        verify(seatHoldGate).release(1L, "holder");
+    }
+    
+    @Test
+    @DisplayName("같은 공연 일정 또는 공통 대기열 토큰이면 좌석을 예약할 수 있다")
+    void execute_tokenForSameOrDefaultConcertDate_succeeds() {
+        // given
+        ReserveSeatRequest request = new ReserveSeatRequest("user123", 1L);
+        Seat seat = Seat.of(1L, 1L, 10, SeatStatus.AVAILABLE, new BigDecimal("50000"));
+        Seat reservedSeat = Seat.of(1L, 1L, 10, SeatStatus.RESERVED, new BigDecimal("50000"));
+        given(seatManager.getSeatByIdWithLock(1L)).willReturn(seat);
+        given(reservationManager.hasActiveReservation(1L)).willReturn(false);
+        given(seatManager.reserveSeat(seat)).willReturn(reservedSeat);
+        given(reservationManager.saveReservation(any(Reservation.class)))
+            .willReturn(Reservation.create("user123", 1L, 1L, new BigDecimal("50000")));
+        
+        // when & then
+        assertThat(reserveSeatUseCase.execute(request, 1L).getSeatId()).isEqualTo(1L);
+        assertThat(reserveSeatUseCase.execute(request, QueueToken.DEFAULT_CONCERT_DATE_ID).getSeatId()).isEqualTo(1L);
     }
     
     @Test
@@ -96,4 +160,37 @@ class ReserveSeatUseCaseTest {
         
         verify(seatManager).getSeatByIdWithLock(999L);
     }
+    
+    @Test
+    @DisplayName("예약 실패 시에도 처리 시간을 입장 속도 조절기에 기록한다")
+    void execute_failure_recordsLatency() {
+        // given
+        ReserveSeatRequest request = new ReserveSeatRequest("user123", 1L);
+        Seat seat = Seat.of(1L, 1L, 10, SeatStatus.AVAILABLE, new BigDecimal("50000"));
+        
+        given(seatManager.getSeatByIdWithLock(1L)).willReturn(seat);
+        given(reservationManager.hasActiveReservation(1L)).willReturn(true);
+        
+        // when
+        assertThatThrownBy(() -> reserveSeatUseCase.execute(request))
+            .isInstanceOf(IllegalStateException.class);
+        
+        // then
+        verify(admissionRegulator).recordReservationLatency(anyLong());
+    }
+    
+    @Test
+    @DisplayName("다른 요청이 선점한 좌석은 DB에 접근하지 않고 409로 거절한다")
+    void execute_seatHeld_rejectsWithoutDb() {
+        // given
+        ReserveSeatRequest request = new ReserveSeatRequest("user123", 1L);
+        given(seatHoldGate.acquire(1L, "user123"))
+            .willThrow(new DomainConflictException(ErrorCode.ALREADY_RESERVED, "이미 예약 중인 좌석입니다. 좌석 ID: 1"));
+        
+        // when & then
+        assertThatThrownBy(() -> reserveSeatUseCase.execute(request))
+            .isInstanceOf(DomainConflictException.class);
+        
+        verifyNoInteractions(transactionTemplate, seatManager, reservationManager, admissionRegulator);
+    }
 }
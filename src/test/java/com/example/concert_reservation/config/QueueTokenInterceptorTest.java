@@ -1,22 +1,28 @@
 package com.example.concert_reservation.config;
 
+import com.example.concert_reservation.domain.queue.components.QueueTokenSigner;
+import com.example.concert_reservation.domain.queue.infrastructure.ActiveTokenNearCache;
+import com.example.concert_reservation.domain.queue.infrastructure.EmbeddedQueueEngine;
+import com.example.concert_reservation.domain.queue.infrastructure.EmbeddedQueueStoreRepository;
 import com.example.concert_reservation.domain.queue.models.QueueStatus;
 import com.example.concert_reservation.domain.queue.models.QueueToken;
+import com.example.concert_reservation.domain.queue.models.SignedQueueToken;
 import com.example.concert_reservation.domain.queue.models.UserQueue;
 import com.example.concert_reservation.domain.queue.repositories.QueueStoreRepository;
 import com.example.concert_reservation.support.exception.TokenMissingException;
 import com.example.concert_reservation.support.exception.TokenNotActiveException;
 import com.example.concert_reservation.support.exception.TokenNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -30,13 +36,18 @@ class QueueTokenInterceptorTest {
     @Mock
     private QueueStoreRepository queueStoreRepository;
     
+    @Mock
+    private ActiveTokenNearCache activeTokenNearCache;
+    
+    @Mock
+    private QueueTokenSigner queueTokenSigner;
+    
     @Mock
     private HttpServletRequest request;
     
     @Mock
     private HttpServletResponse response;
     
-    @InjectMocks
     private QueueTokenInterceptor interceptor;
     
     private QueueToken validToken;
@@ -46,6 +57,7 @@ class QueueTokenInterceptorTest {
     
     @BeforeEach
     void setUp() {
+        interceptor = new QueueTokenInterceptor(queueStoreRepository, activeTokenNearCache, queueTokenSigner, true, 15_000);
         validToken = QueueToken.generate();
         
         // ACTIVE 상태 대기열
@@ -96,6 +108,39 @@ class QueueTokenInterceptorTest {
         assertThat(result).isTrue();
         verify(request).setAttribute("userId", "user123");
         verify(request).setAttribute("queueToken", validToken.getValue());
+        verify(request).setAttribute(QueueTokenInterceptor.CONCERT_DATE_ID_ATTRIBUTE, QueueToken.DEFAULT_CONCERT_DATE_ID);
+        verify(activeTokenNearCache).put(validToken.getValue(), "user123", activeQueue.getExpiredAt());
+    }
+    
+    @Test
+    @DisplayName("근접 캐시에 있는 ACTIVE 토큰은 Redis 조회 없이 통과한다")
+    void preHandle_cachedActiveToken_skipsRepository() {
+        // given
+        given(request.getHeader("X-Queue-Token")).willReturn(validToken.getValue());
+        given(activeTokenNearCache.getUserId(validToken.getValue())).willReturn("user123");
+        
+        // when
+        boolean result = interceptor.preHandle(request, response, new Object());
+        
+        // then
+        assertThat(result).isTrue();
+        verify(request).setAttribute("userId", "user123");
+        verify(queueStoreRepository, never()).findByToken(any());
+    }
+    
+    @Test
+    @DisplayName("공연 일정별 대기열 토큰이면 공연 일정 ID를 request attribute로 전달한다")
+    void preHandle_concertDateToken_exposesConcertDateId() {
+        // given
+        QueueToken concertToken = QueueToken.generate(5L);
+        given(request.getHeader("X-Queue-Token")).willReturn(concertToken.getValue());
+        given(activeTokenNearCache.getUserId(concertToken.getValue())).willReturn("user123");
+        
+        // when
+        interceptor.preHandle(request, response, new Object());
+        
+        // then
+        verify(request).setAttribute(QueueTokenInterceptor.CONCERT_DATE_ID_ATTRIBUTE, 5L);
     }
     
     @Test
@@ -150,6 +195,7 @@ class QueueTokenInterceptorTest {
             .isInstanceOf(TokenNotActiveException.class)
             .hasMessageContaining("활성 상태가 아닙니다")
             .hasMessageContaining("WAITING");
+        verify(activeTokenNearCache, never()).put(anyString(), anyString(), any(LocalDateTime.class));
     }
     
     @Test
@@ -166,4 +212,138 @@ class QueueTokenInterceptorTest {
             .hasMessageContaining("활성 상태가 아닙니다")
             .hasMessageContaining("EXPIRED");
     }
+    
+    @Test
+    @DisplayName("유효한 서명 토큰은 회수 여부만 확인하고 통과한다")
+    void preHandle_validSignedToken_checksRevocationOnly() {
+        // given
+        QueueTokenInterceptor signedInterceptor = signedInterceptor();
+        String signedValue = signer().sign(new SignedQueueToken(
+            validToken.getValue(), "user123", Instant.now().getEpochSecond(), Instant.now().getEpochSecond() + 300
+        ));
+        given(request.getHeader("X-Queue-Token")).willReturn(signedValue);
+        given(queueStoreRepository.isRevoked(validToken)).willReturn(false);
+        
+        // when
+        boolean result = signedInterceptor.preHandle(request, response, new Object());
+        
+        // then
+        assertThat(result).isTrue();
+        verify(request).setAttribute("userId", "user123");
+        verify(request).setAttribute("queueToken", validToken.getValue());
+        verify(queueStoreRepository, never()).findByToken(any());
+    }
+    
+    @Test
+    @DisplayName("위조된 서명 토큰은 Redis 조회 없이 TokenNotFoundException을 던진다")
+    void preHandle_forgedSignedToken_throwsWithoutRedis() {
+        // given: 다른 키로 서명한 토큰
+        String forged = new QueueTokenSigner("attacker-secret").sign(new SignedQueueToken(
+            validToken.getValue(), "user123", Instant.now().getEpochSecond(), Instant.now().getEpochSecond() + 300
+        ));
+        given(request.getHeader("X-Queue-Token")).willReturn(forged);
+        
+        // when & then
+        assertThatThrownBy(() -> signedInterceptor().preHandle(request, response, new Object()))
+            .isInstanceOf(TokenNotFoundException.class);
+        verifyNoInteractions(queueStoreRepository);
+    }
+    
+    @Test
+    @DisplayName("만료된 서명 토큰은 Redis 조회 없이 TokenNotActiveException을 던진다")
+    void preHandle_expiredSignedToken_throwsWithoutRedis() {
+        // given
+        String expired = signer().sign(new SignedQueueToken(
+            validToken.getValue(), "user123", Instant.now().getEpochSecond() - 600, Instant.now().getEpochSecond() - 1
+        ));
+        given(request.getHeader("X-Queue-Token")).willReturn(expired);
+        
+        // when & then
+        assertThatThrownBy(() -> signedInterceptor().preHandle(request, response, new Object()))
+            .isInstanceOf(TokenNotActiveException.class)
+            .hasMessageContaining("만료");
+        verifyNoInteractions(queueStoreRepository);
+    }
+    
+    @Test
+    @DisplayName("회수된 서명 토큰은 TokenNotActiveException을 던진다")
+    void preHandle_revokedSignedToken_throwsException() {
+        // given
+        String signedValue = signer().sign(new SignedQueueToken(
+            validToken.getValue(), "user123", Instant.now().getEpochSecond(), Instant.now().getEpochSecond() + 300
+        ));
+        given(request.getHeader("X-Queue-Token")).willReturn(signedValue);
+        given(queueStoreRepository.isRevoked(validToken)).willReturn(true);
+        
+        // when & then
+        assertThatThrownBy(() -> signedInterceptor().preHandle(request, response, new Object()))
+            .isInstanceOf(TokenNotActiveException.class)
+            .hasMessageContaining("회수");
+    }
+    
+    @Test
+    @DisplayName("근접 캐시로 통과한 ACTIVE 토큰도 하트비트 간격이 지났으면 하트비트를 기록한다")
+    void preHandle_cachedActiveToken_recordsHeartbeatWhenDue() {
+        // given
+        given(request.getHeader("X-Queue-Token")).willReturn(validToken.getValue());
+        given(activeTokenNearCache.getUserId(validToken.getValue())).willReturn("user123");
+        given(activeTokenNearCache.tryMarkHeartbeat(validToken.getValue(), 15_000)).willReturn(true, false);
+        
+        // when
+        interceptor.preHandle(request, response, new Object());
+        interceptor.preHandle(request, response, new Object());
+        
+        // then: 간격 안의 두 번째 요청은 기록하지 않음
+        verify(queueStoreRepository, times(1)).heartbeat(validToken);
+        verify(queueStoreRepository, never()).findByToken(any());
+    }
+    
+    @Test
+    @DisplayName("하트비트 기록이 실패해도 요청은 통과한다")
+    void preHandle_heartbeatFailure_stillPasses() {
+        // given
+        given(request.getHeader("X-Queue-Token")).willReturn(validToken.getValue());
+        given(activeTokenNearCache.getUserId(validToken.getValue())).willReturn("user123");
+        given(activeTokenNearCache.tryMarkHeartbeat(validToken.getValue(), 15_000)).willReturn(true);
+        given(queueStoreRepository.heartbeat(validToken)).willThrow(new IllegalStateException("Redis 연결 실패"));
+        
+        // when
+        boolean result = interceptor.preHandle(request, response, new Object());
+        
+        // then
+        assertThat(result).isTrue();
+    }
+    
+    @Test
+    @DisplayName("예약 API에만 쓰이는 ACTIVE 토큰은 유휴 토큰 정리에서 반납되지 않는다")
+    void preHandle_activeTokenUsedOnlyForReservations_survivesReclaim() throws InterruptedException {
+        // given: 별도 하트비트/상태 폴링 없이 예약 API만 호출하는 사용자와 아무 요청도 없는 사용자
+        EmbeddedQueueEngine engine = new EmbeddedQueueEngine(16);
+        UserQueue reserving = engine.addToWaitingQueue(1L, "user-1");
+        UserQueue idle = engine.addToWaitingQueue(1L, "user-2");
+        engine.activateTokens(1L, 2);
+        QueueTokenInterceptor realInterceptor = new QueueTokenInterceptor(new EmbeddedQueueStoreRepository(engine),
+            new ActiveTokenNearCache(100, 60, new SimpleMeterRegistry()), queueTokenSigner, true, 15_000);
+        Thread.sleep(5);
+        long idleBefore = System.currentTimeMillis();
+        Thread.sleep(5);
+        given(request.getHeader("X-Queue-Token")).willReturn(reserving.getToken().getValue());
+        
+        // when: 기준 시각 이후 예약 요청 → 정리 실행
+        realInterceptor.preHandle(request, response, new Object());
+        engine.reclaimIdleTokens(idleBefore, idleBefore);
+        
+        // then
+        assertThat(engine.isActiveToken(reserving.getToken().getValue())).isTrue();
+        assertThat(engine.isActiveToken(idle.getToken().getValue())).isFalse();
+        assertThat(engine.isRevoked(idle.getToken().getValue())).isTrue();
+    }
+    
+    private QueueTokenSigner signer() {
+        return new QueueTokenSigner("test-signing-secret");
+    }
+    
+    private QueueTokenInterceptor signedInterceptor() {
+        return new QueueTokenInterceptor(queueStoreRepository, activeTokenNearCache, signer(), true, 15_000);
+    }
 }
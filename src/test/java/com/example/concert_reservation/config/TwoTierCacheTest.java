@@ -0,0 +1,177 @@
+package com.example.concert_reservation.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * TwoTierCache 계층 조회 / 무효화 단위 테스트
+ */
+@DisplayName("TwoTierCache 테스트")
+class TwoTierCacheTest {
+
+    private static final String CACHE_NAME = "concertDateById";
+
+    private ConcurrentMapCache remote;
+    private SimpleMeterRegistry meterRegistry;
+    private List<String> published;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache(CACHE_NAME);
+        meterRegistry = new SimpleMeterRegistry();
+        published = new ArrayList<>();
+        cache = newCache(remote);
+    }
+
+    @Test
+    @DisplayName("L2에서 읽은 값은 L1에 기록되어 다음 조회는 L1에서 적중한다")
+    void get_fillsLocalFromRemote() {
+        // given
+        remote.put(1L, "아이유 콘서트");
+
+        // when
+        Cache.ValueWrapper first = cache.get(1L);
+        remote.evict(1L);
+        Cache.ValueWrapper second = cache.get(1L);
+
+        // then
+        assertThat(first.get()).isEqualTo("아이유 콘서트");
+        assertThat(second.get()).isEqualTo("아이유 콘서트");
+        assertThat(requests("l1", "hit")).isEqualTo(1.0);
+        assertThat(requests("l1", "miss")).isEqualTo(1.0);
+        assertThat(requests("l2", "hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("없는 ID의 null 결과도 캐싱되어 원본을 다시 조회하지 않는다")
+    void get_cachesNullResult() {
+        // given
+        int[] loads = {0};
+
+        // when
+        Object first = cache.get(404L, () -> {
+            loads[0]++;
+            return null;
+        });
+        Cache.ValueWrapper second = cache.get(404L);
+
+        // then
+        assertThat(first).isNull();
+        assertThat(second).isNotNull();
+        assertThat(second.get()).isNull();
+        assertThat(loads[0]).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제거하면 L1/L2 모두 비우고 다른 인스턴스에 키를 발행한다")
+    void evict_removesBothTiersAndPublishes() {
+        // given
+        cache.put(1L, "아이유 콘서트");
+
+        // when
+        cache.evict(1L);
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(remote.get(1L)).isNull();
+        assertThat(published).containsExactly(CACHE_NAME + ":1");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화 메시지는 L1만 비워 다음 조회는 L2에서 읽는다")
+    void invalidateLocal_dropsOnlyLocal() {
+        // given
+        cache.put(1L, "아이유 콘서트");
+
+        // when
+        cache.invalidateLocal("1");
+        Cache.ValueWrapper wrapper = cache.get(1L);
+
+        // then
+        assertThat(wrapper.get()).isEqualTo("아이유 콘서트");
+        assertThat(requests("l1", "miss")).isEqualTo(1.0);
+        assertThat(requests("l2", "hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("L2 장애는 미스로 처리하고 원본 조회 결과를 L1에 기록한다")
+    void get_remoteFailureFallsBackToLoader() {
+        // given
+        Cache failing = mock(Cache.class);
+        when(failing.get(any())).thenThrow(new IllegalStateException("Redis 연결 실패"));
+        doThrow(new IllegalStateException("Redis 연결 실패")).when(failing).put(any(), any());
+        TwoTierCache failingCache = newCache(failing);
+
+        // when
+        String value = failingCache.get(1L, () -> "아이유 콘서트");
+
+        // then
+        assertThat(value).isEqualTo("아이유 콘서트");
+        assertThat(failingCache.get(1L).get()).isEqualTo("아이유 콘서트");
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 진행 중인 원본 조회 1건의 결과를 함께 받는다")
+    void get_coalescesConcurrentMisses() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Callable<String> loader = () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "아이유 콘서트";
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when: 첫 조회가 원본 조회 중일 때 두 번째 조회가 합류
+        Future<String> first = executor.submit(() -> cache.get(1L, loader));
+        started.await(5, TimeUnit.SECONDS);
+        Future<String> second = executor.submit(() -> cache.get(1L, loader));
+        while (meterRegistry.counter("cache.tier.coalesced", "cache", CACHE_NAME).count() < 1) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("아이유 콘서트");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("아이유 콘서트");
+        assertThat(loads.get()).isEqualTo(1);
+        executor.shutdownNow();
+    }
+
+    private TwoTierCache newCache(Cache l2) {
+        return new TwoTierCache(
+            CACHE_NAME,
+            l2,
+            new TwoTierCache.LocalSpec(100, Duration.ofMinutes(1), Duration.ofSeconds(30)),
+            (name, key) -> published.add(key == null ? name : name + ":" + key),
+            meterRegistry
+        );
+    }
+
+    private double requests(String tier, String result) {
+        return meterRegistry.counter("cache.tier.requests", "cache", CACHE_NAME, "tier", tier, "result", result).count();
+    }
+}
@@ -2,6 +2,8 @@ package com.example.concert_reservation.domain.concert.components;
 
 import com.example.concert_reservation.domain.concert.models.ConcertDate;
 import com.example.concert_reservation.domain.concert.repositories.ConcertReaderRepository;
+import com.example.concert_reservation.support.exception.DomainConflictException;
+import com.example.concert_reservation.support.exception.DomainNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -130,4 +132,46 @@ class ConcertReaderTest {
             .isInstanceOf(IllegalStateException.class)
             .hasMessageContaining("예약 가능한 좌석이 없습니다");
     }
+    
+    @Test
+    @DisplayName("예매가 열려 있는 콘서트는 대기열 진입 검증을 통과한다")
+    void getOpenConcertDate_success() {
+        // given
+        ConcertDate concertDate = ConcertDate.of(1L, "아이유 콘서트", LocalDate.now().plusDays(7), 50, 30);
+        given(concertReaderRepository.findById(1L)).willReturn(Optional.of(concertDate));
+        
+        // when
+        ConcertDate result = concertReader.getOpenConcertDate(1L);
+        
+        // then
+        assertThat(result).isEqualTo(concertDate);
+    }
+    
+    @Test
+    @DisplayName("존재하지 않는 콘서트로 대기열 진입을 검증하면 404 예외가 발생한다")
+    void getOpenConcertDate_notFound_throwsNotFound() {
+        // given
+        given(concertReaderRepository.findById(999L)).willReturn(Optional.empty());
+        
+        // when & then
+        assertThatThrownBy(() -> concertReader.getOpenConcertDate(999L))
+            .isInstanceOf(DomainNotFoundException.class)
+            .hasMessageContaining("존재하지 않는 콘서트입니다");
+    }
+    
+    @Test
+    @DisplayName("매진되었거나 이미 지난 콘서트로 대기열 진입을 검증하면 409 예외가 발생한다")
+    void getOpenConcertDate_closed_throwsConflict() {
+        // given
+        given(concertReaderRepository.findById(1L)).willReturn(Optional.of(
+            ConcertDate.of(1L, "아이유 콘서트", LocalDate.now().plusDays(7), 50, 0)));
+        given(concertReaderRepository.findById(2L)).willReturn(Optional.of(
+            ConcertDate.of(2L, "BTS 콘서트", LocalDate.now().minusDays(1), 50, 30)));
+        
+        // when & then
+        assertThatThrownBy(() -> concertReader.getOpenConcertDate(1L))
+            .isInstanceOf(DomainConflictException.class);
+        assertThatThrownBy(() -> concertReader.getOpenConcertDate(2L))
+            .isInstanceOf(DomainConflictException.class);
+    }
 }
@@ -1,5 +1,8 @@
 package com.example.concert_reservation.domain.concert.components;
 
+import com.example.concert_reservation.domain.concert.events.SeatStatusChangedEvent;
+import com.example.concert_reservation.domain.concert.infrastructure.SeatAvailabilityIndex;
+import com.example.concert_reservation.domain.concert.infrastructure.SeatStateBitmap;
 import com.example.concert_reservation.domain.concert.models.Seat;
 import com.example.concert_reservation.domain.concert.models.SeatStatus;
 import com.example.concert_reservation.domain.concert.repositories.SeatStoreRepository;
@@ -9,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -24,6 +28,12 @@ class SeatManagerTest {
     @Mock
     private SeatStoreRepository seatStoreRepository;
     
+    @Mock
+    private SeatAvailabilityIndex seatAvailabilityIndex;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     @InjectMocks
     private SeatManager seatManager;
     
@@ -36,15 +46,16 @@ class SeatManagerTest {
             Seat.of(1L, concertDateId, 1, SeatStatus.AVAILABLE, new BigDecimal("50000")),
             Seat.of(2L, concertDateId, 2, SeatStatus.RESERVED, new BigDecimal("50000"))
         );
-        given(seatStoreRepository.findByConcertDateId(concertDateId)).willReturn(expectedSeats);
+        given(seatAvailabilityIndex.get(concertDateId)).willReturn(SeatStateBitmap.of(concertDateId, expectedSeats));
         
         // when
         List<Seat> result = seatManager.getSeatsByConcert(concertDateId);
         
         // then
         assertThat(result).hasSize(2);
-        assertThat(result).containsExactlyElementsOf(expectedSeats);
-        verify(seatStoreRepository).findByConcertDateId(concertDateId);
+        assertThat(result).extracting(Seat::getId, Seat::getSeatNumber, Seat::getStatus)
+            .containsExactly(tuple(1L, 1, SeatStatus.AVAILABLE), tuple(2L, 2, SeatStatus.RESERVED));
+        verify(seatStoreRepository, never()).findByConcertDateId(any());
     }
     
     @Test
@@ -114,6 +125,7 @@ class SeatManagerTest {
         // then
         assertThat(result.getStatus()).isEqualTo(SeatStatus.RESERVED);
         verify(seatStoreRepository).save(any(Seat.class));
+        verify(eventPublisher).publishEvent(new SeatStatusChangedEvent(1L, 1L, 10, SeatStatus.RESERVED));
     }
     
     @Test
@@ -0,0 +1,184 @@
+package com.example.concert_reservation.domain.concert.infrastructure;
+
+import com.example.concert_reservation.domain.concert.events.SeatStatusChangedEvent;
+import com.example.concert_reservation.domain.concert.models.Seat;
+import com.example.concert_reservation.domain.concert.models.SeatStatus;
+import com.example.concert_reservation.domain.concert.repositories.SeatStoreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SeatAvailabilityIndex 계층 적재 / 제자리 갱신 단위 테스트
+ */
+@DisplayName("SeatAvailabilityIndex 테스트")
+class SeatAvailabilityIndexTest {
+
+    private static final long CONCERT_DATE_ID = 7L;
+
+    private SeatStoreRepository seatStoreRepository;
+    private SeatStateRedisCache seatStateRedisCache;
+    private SimpleMeterRegistry meterRegistry;
+    private SeatAvailabilityIndex index;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        seatStoreRepository = mock(SeatStoreRepository.class);
+        seatStateRedisCache = mock(SeatStateRedisCache.class);
+        meterRegistry = new SimpleMeterRegistry();
+        index = new SeatAvailabilityIndex(seatStoreRepository, seatStateRedisCache, new SeatCacheMetrics(meterRegistry),
+            mock(RedisTemplate.class), 600, 200, 0, 1000, 1800);
+        when(seatStateRedisCache.tryLockLoad(eq(CONCERT_DATE_ID), anyString())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("두 계층 모두 없으면 DB에서 읽어 Redis에 기록하고, 이후 조회는 메모리에서 적중한다")
+    void get_loadsFromDbOnceThenHitsLocal() {
+        // given
+        List<Seat> seats = seats();
+        when(seatStateRedisCache.load(CONCERT_DATE_ID)).thenReturn(null);
+        when(seatStoreRepository.findByConcertDateId(CONCERT_DATE_ID)).thenReturn(seats);
+
+        // when
+        index.get(CONCERT_DATE_ID);
+        index.get(CONCERT_DATE_ID);
+
+        // then
+        verify(seatStoreRepository, times(1)).findByConcertDateId(CONCERT_DATE_ID);
+        verify(seatStateRedisCache).store(CONCERT_DATE_ID, seats);
+        assertThat(meterRegistry.counter("seat.cache.db.loads").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("seat.cache.requests", "tier", "local", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("seat.cache.requests", "tier", "redis", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis 좌석 해시가 있으면 DB를 읽지 않는다")
+    void get_redisHitSkipsDb() {
+        // given
+        when(seatStateRedisCache.load(CONCERT_DATE_ID)).thenReturn(seats());
+
+        // when
+        SeatStateBitmap bitmap = index.get(CONCERT_DATE_ID);
+
+        // then
+        assertThat(bitmap.size()).isEqualTo(3);
+        verifyNoInteractions(seatStoreRepository);
+        assertThat(meterRegistry.counter("seat.cache.requests", "tier", "redis", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("좌석 상태 변경은 메모리 비트와 Redis 필드만 갱신하고 목록을 버리지 않는다")
+    void onSeatStatusChanged_patchesInPlace() {
+        // given
+        when(seatStateRedisCache.load(CONCERT_DATE_ID)).thenReturn(seats());
+        index.get(CONCERT_DATE_ID);
+
+        // when
+        index.onSeatStatusChanged(new SeatStatusChangedEvent(2L, CONCERT_DATE_ID, 2, SeatStatus.RESERVED));
+
+        // then
+        assertThat(index.get(CONCERT_DATE_ID).getStatus(2)).isEqualTo(SeatStatus.RESERVED);
+        verify(seatStateRedisCache).patch(CONCERT_DATE_ID, 2, SeatStatus.RESERVED);
+        verify(seatStateRedisCache, times(1)).load(anyLong());
+        verify(seatStateRedisCache, never()).evict(anyLong());
+        verifyNoInteractions(seatStoreRepository);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 적재 잠금을 보유하면 DB를 읽지 않고 Redis 좌석 해시가 기록되기를 기다린다")
+    void get_waitsForOtherNodeLoad() {
+        // given: 첫 조회는 해시 없음, 잠금 획득 실패 → 대기 중 다른 인스턴스가 기록
+        when(seatStateRedisCache.load(CONCERT_DATE_ID)).thenReturn(null, null, seats());
+        when(seatStateRedisCache.tryLockLoad(eq(CONCERT_DATE_ID), anyString())).thenReturn(false);
+
+        // when
+        SeatStateBitmap bitmap = index.get(CONCERT_DATE_ID);
+
+        // then
+        assertThat(bitmap.size()).isEqualTo(3);
+        verifyNoInteractions(seatStoreRepository);
+        verify(seatStateRedisCache, never()).store(anyLong(), anyList());
+        assertThat(meterRegistry.counter("seat.cache.load.waits", "result", "filled").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("적재 대기 시간이 지나면 직접 DB에서 적재한다")
+    void get_loadsFromDbAfterWaitTimeout() {
+        // given
+        when(seatStateRedisCache.load(CONCERT_DATE_ID)).thenReturn(null);
+        when(seatStateRedisCache.tryLockLoad(eq(CONCERT_DATE_ID), anyString())).thenReturn(false);
+        when(seatStoreRepository.findByConcertDateId(CONCERT_DATE_ID)).thenReturn(seats());
+
+        // when
+        index.get(CONCERT_DATE_ID);
+
+        // then
+        verify(seatStoreRepository).findByConcertDateId(CONCERT_DATE_ID);
+        verify(seatStateRedisCache, never()).unlockLoad(anyLong(), anyString());
+        assertThat(meterRegistry.counter("seat.cache.load.waits", "result", "timeout").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("좌석이 없는 공연 일정(존재하지 않는 ID 등)은 메모리에 보관하지 않는다")
+    void get_emptySeats_notCached() {
+        // given
+        when(seatStateRedisCache.load(CONCERT_DATE_ID)).thenReturn(null);
+        when(seatStoreRepository.findByConcertDateId(CONCERT_DATE_ID)).thenReturn(List.of());
+
+        // when
+        SeatStateBitmap bitmap = index.get(CONCERT_DATE_ID);
+
+        // then
+        assertThat(bitmap.size()).isZero();
+        assertThat(index.peek(CONCERT_DATE_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("적재는 맵 잠금 밖에서 1건으로 합쳐지고, 적재 중 들어온 상태 변경은 새 비트맵에 반영된다")
+    void get_loadOutsideLock_sharesLoadAndKeepsConcurrentPatch() throws Exception {
+        // given: Redis 적재가 끝나지 않은 상태로 멈춰 있음
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(seatStateRedisCache.load(CONCERT_DATE_ID)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return seats();
+        });
+        CompletableFuture<SeatStateBitmap> first = CompletableFuture.supplyAsync(() -> index.get(CONCERT_DATE_ID));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<SeatStateBitmap> second = CompletableFuture.supplyAsync(() -> index.get(CONCERT_DATE_ID));
+
+        // when: 적재 중 상태 변경 (맵 잠금을 기다리지 않고 바로 반환)
+        index.apply(CONCERT_DATE_ID, 2, SeatStatus.RESERVED);
+        release.countDown();
+
+        // then
+        SeatStateBitmap bitmap = first.get(5, TimeUnit.SECONDS);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(bitmap);
+        assertThat(bitmap.getStatus(2)).isEqualTo(SeatStatus.RESERVED);
+        assertThat(index.peek(CONCERT_DATE_ID)).isSameAs(bitmap);
+        verify(seatStateRedisCache, times(1)).load(CONCERT_DATE_ID);
+    }
+
+    private static List<Seat> seats() {
+        BigDecimal price = new BigDecimal("50000");
+        return List.of(
+            Seat.of(1L, CONCERT_DATE_ID, 1, SeatStatus.AVAILABLE, price),
+            Seat.of(2L, CONCERT_DATE_ID, 2, SeatStatus.AVAILABLE, price),
+            Seat.of(3L, CONCERT_DATE_ID, 3, SeatStatus.SOLD, price)
+        );
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.concert_reservation.domain.concert.infrastructure;
+
+import com.example.concert_reservation.domain.concert.models.Seat;
+import com.example.concert_reservation.domain.concert.models.SeatStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SeatStateBitmap 단위 테스트
+ */
+@DisplayName("SeatStateBitmap 테스트")
+class SeatStateBitmapTest {
+
+    private static final BigDecimal PRICE = new BigDecimal("50000");
+
+    @Test
+    @DisplayName("word 경계를 넘는 좌석들도 상태가 독립적으로 저장되고 상태별 좌석 수가 맞다")
+    void setStatus_acrossWordBoundary() {
+        // given: 좌석 100석 (word 4개)
+        List<Seat> seats = new ArrayList<>();
+        for (int number = 1; number <= 100; number++) {
+            seats.add(Seat.of((long) number, 7L, number, SeatStatus.AVAILABLE, PRICE));
+        }
+        SeatStateBitmap bitmap = SeatStateBitmap.of(7L, seats);
+
+        // when
+        bitmap.setStatus(32, SeatStatus.RESERVED);
+        bitmap.setStatus(33, SeatStatus.SOLD);
+        bitmap.setStatus(100, SeatStatus.RESERVED);
+        bitmap.setStatus(100, SeatStatus.SOLD);
+
+        // then
+        assertThat(bitmap.getStatus(31)).isEqualTo(SeatStatus.AVAILABLE);
+        assertThat(bitmap.getStatus(32)).isEqualTo(SeatStatus.RESERVED);
+        assertThat(bitmap.getStatus(33)).isEqualTo(SeatStatus.SOLD);
+        assertThat(bitmap.getStatus(34)).isEqualTo(SeatStatus.AVAILABLE);
+        assertThat(bitmap.getStatus(100)).isEqualTo(SeatStatus.SOLD);
+        assertThat(bitmap.countReserved()).isEqualTo(1);
+        assertThat(bitmap.countSold()).isEqualTo(2);
+        assertThat(bitmap.countAvailable()).isEqualTo(97);
+    }
+
+    @Test
+    @DisplayName("좌석 번호가 연속되지 않아도 번호 순으로 정렬되어 조회되고, 없는 번호는 갱신하지 않는다")
+    void of_sortsAndHandlesGaps() {
+        // given
+        SeatStateBitmap bitmap = SeatStateBitmap.of(7L, List.of(
+            Seat.of(30L, 7L, 30, SeatStatus.SOLD, PRICE),
+            Seat.of(10L, 7L, 10, SeatStatus.AVAILABLE, PRICE),
+            Seat.of(20L, 7L, 20, SeatStatus.RESERVED, PRICE)
+        ));
+
+        // when
+        boolean updated = bitmap.setStatus(15, SeatStatus.SOLD);
+
+        // then
+        assertThat(updated).isFalse();
+        assertThat(bitmap.getStatus(15)).isNull();
+        assertThat(bitmap.toSeats())
+            .extracting(Seat::getId, Seat::getSeatNumber, Seat::getStatus)
+            .containsExactly(
+                tuple(10L, 10, SeatStatus.AVAILABLE),
+                tuple(20L, 20, SeatStatus.RESERVED),
+                tuple(30L, 30, SeatStatus.SOLD)
+            );
+    }
+
+    @Test
+    @DisplayName("상태 버전은 좌석 상태가 같으면 같고, 바뀌면 달라지며, 되돌리면 원래 값으로 돌아온다")
+    void stateVersion_followsState() {
+        // given: 같은 좌석으로 따로 적재한 비트맵 2개 (다른 인스턴스)
+        List<Seat> seats = new ArrayList<>();
+        for (int number = 1; number <= 50; number++) {
+            seats.add(Seat.of((long) number, 7L, number, SeatStatus.AVAILABLE, PRICE));
+        }
+        SeatStateBitmap local = SeatStateBitmap.of(7L, seats);
+        SeatStateBitmap remote = SeatStateBitmap.of(7L, seats);
+        long initial = local.stateVersion();
+
+        // when & then
+        assertThat(remote.stateVersion()).isEqualTo(initial);
+
+        local.setStatus(40, SeatStatus.RESERVED);
+        assertThat(local.stateVersion()).isNotEqualTo(initial);
+
+        remote.setStatus(40, SeatStatus.RESERVED);
+        assertThat(remote.stateVersion()).isEqualTo(local.stateVersion());
+
+        local.setStatus(40, SeatStatus.RESERVED);
+        assertThat(local.stateVersion()).isEqualTo(remote.stateVersion());
+
+        local.setStatus(40, SeatStatus.AVAILABLE);
+        assertThat(local.stateVersion()).isEqualTo(initial);
+    }
+}
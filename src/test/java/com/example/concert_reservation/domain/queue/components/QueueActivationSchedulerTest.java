@@ -0,0 +1,148 @@
+package com.example.concert_reservation.domain.queue.components;
+
+import com.example.concert_reservation.domain.queue.infrastructure.EmbeddedQueueEngine;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueMetrics;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueStoreFailover;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueTickRelay;
+import com.example.concert_reservation.domain.queue.infrastructure.RedisQueueRepository;
+import com.example.concert_reservation.domain.queue.infrastructure.SchedulerLeaderElection;
+import com.example.concert_reservation.domain.queue.models.UserQueue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * QueueActivationScheduler 샤드별 허용 수 배분 / Redis 복귀 후 인메모리 대기자 이관 단위 테스트
+ */
+@DisplayName("QueueActivationScheduler 샤드 배분 테스트")
+class QueueActivationSchedulerTest {
+
+    @Test
+    @DisplayName("허용 수는 샤드별 대기 인원에 비례하여 배분된다")
+    void allocatePermits_proportionalToWaiting() {
+        // given: 공연 A 9,000명, 공연 B 1,000명
+        Map<Long, Long> waiting = new LinkedHashMap<>();
+        waiting.put(1L, 9_000L);
+        waiting.put(2L, 1_000L);
+
+        // when
+        Map<Long, Integer> allocation = QueueActivationScheduler.allocatePermits(waiting, 10_000, 100);
+
+        // then
+        assertThat(allocation).containsEntry(1L, 90).containsEntry(2L, 10);
+    }
+
+    @Test
+    @DisplayName("내림으로 남은 허용 수도 대기자가 있는 샤드에 배분된다")
+    void allocatePermits_distributesRemainder() {
+        // given: 3개 샤드에 1명씩, 허용 2명
+        Map<Long, Long> waiting = new LinkedHashMap<>();
+        waiting.put(1L, 1L);
+        waiting.put(2L, 1L);
+        waiting.put(3L, 1L);
+
+        // when
+        Map<Long, Integer> allocation = QueueActivationScheduler.allocatePermits(waiting, 3, 2);
+
+        // then
+        assertThat(allocation.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(2);
+        assertThat(allocation.values()).allMatch(count -> count <= 1);
+    }
+
+    @Test
+    @DisplayName("허용 수가 전체 대기 인원보다 많으면 대기 인원만큼만 배분된다")
+    void allocatePermits_cappedByWaiting() {
+        // given
+        Map<Long, Long> waiting = new LinkedHashMap<>();
+        waiting.put(1L, 3L);
+        waiting.put(2L, 0L);
+
+        // when
+        Map<Long, Integer> allocation = QueueActivationScheduler.allocatePermits(waiting, 3, 100);
+
+        // then
+        assertThat(allocation).containsOnly(entry(1L, 3));
+    }
+
+    @Test
+    @DisplayName("Redis 복귀 후 엔진 대기자는 Redis 대기열로 이관되고 Redis 대기열 활성화는 멈추지 않는다")
+    void activateWaitingTokens_afterRecovery_handsOffEmbeddedWaiters() {
+        // given: 장애 중 엔진에 발급된 대기자 2명, Redis 복귀 완료
+        EmbeddedQueueEngine engine = new EmbeddedQueueEngine(16);
+        UserQueue first = engine.addToWaitingQueue(1L, "user-1");
+        UserQueue second = engine.addToWaitingQueue(1L, "user-2");
+        RedisQueueRepository redisQueueRepository = mock(RedisQueueRepository.class);
+        QueueAdmissionRegulator admissionRegulator = mock(QueueAdmissionRegulator.class);
+        QueueTickRelay tickRelay = mock(QueueTickRelay.class);
+        QueueActivationScheduler scheduler = redisScheduler(redisQueueRepository, admissionRegulator, engine, tickRelay);
+
+        when(redisQueueRepository.addToWaitingQueueBatch(eq(1L), anyList(), anyList(), any())).thenReturn(List.of(1L, 2L));
+        when(redisQueueRepository.getWaitingQueueSizes()).thenReturn(Map.of(1L, 2L));
+        when(admissionRegulator.permitsForTick(anyLong(), anyLong())).thenReturn(10);
+        when(redisQueueRepository.activateTokens(1L, 2, 7L))
+            .thenReturn(List.of(first.getToken().getValue(), second.getToken().getValue()));
+
+        // when
+        scheduler.activateWaitingTokens();
+
+        // then: 토큰 값 그대로 순번 순 이관 → 엔진에서 제거 → Redis 대기열에서 활성화
+        verify(redisQueueRepository).addToWaitingQueueBatch(eq(1L),
+            eq(List.of(first.getToken(), second.getToken())), eq(List.of("user-1", "user-2")), any());
+        assertThat(engine.getWaitingQueueSize()).isZero();
+        assertThat(engine.contains(first.getToken().getValue())).isFalse();
+        verify(redisQueueRepository).activateTokens(1L, 2, 7L);
+        verify(tickRelay).publish(any());
+    }
+
+    @Test
+    @DisplayName("Redis 이관이 실패하면 대기자는 엔진에 남고 다음 틱에 다시 이관된다")
+    void handOffEmbeddedWaiters_redisFailure_keepsWaitersInEngine() {
+        // given
+        EmbeddedQueueEngine engine = new EmbeddedQueueEngine(16);
+        UserQueue waiting = engine.addToWaitingQueue(1L, "user-1");
+        RedisQueueRepository redisQueueRepository = mock(RedisQueueRepository.class);
+        QueueActivationScheduler scheduler = redisScheduler(redisQueueRepository,
+            mock(QueueAdmissionRegulator.class), engine, mock(QueueTickRelay.class));
+        when(redisQueueRepository.addToWaitingQueueBatch(eq(1L), anyList(), anyList(), any()))
+            .thenThrow(new IllegalStateException("Redis 연결 실패"))
+            .thenReturn(List.of(1L));
+
+        // when
+        scheduler.handOffEmbeddedWaiters();
+
+        // then: 실패 → 엔진에 그대로
+        assertThat(engine.getWaitingQueueSize()).isEqualTo(1L);
+        assertThat(engine.hasWaitingQueue(1L, "user-1")).isTrue();
+
+        // when: 다음 틱
+        scheduler.handOffEmbeddedWaiters();
+
+        // then
+        assertThat(engine.getWaitingQueueSize()).isZero();
+        assertThat(engine.contains(waiting.getToken().getValue())).isFalse();
+        verify(redisQueueRepository, times(2)).addToWaitingQueueBatch(eq(1L),
+            eq(List.of(waiting.getToken())), eq(List.of("user-1")), any());
+    }
+
+    private static QueueActivationScheduler redisScheduler(RedisQueueRepository redisQueueRepository,
+                                                           QueueAdmissionRegulator admissionRegulator,
+                                                           EmbeddedQueueEngine engine,
+                                                           QueueTickRelay tickRelay) {
+        QueueStoreFailover queueStoreFailover = mock(QueueStoreFailover.class);
+        SchedulerLeaderElection leaderElection = mock(SchedulerLeaderElection.class);
+        when(queueStoreFailover.isEmbedded()).thenReturn(false);
+        when(leaderElection.getFencingToken()).thenReturn(7L);
+        return new QueueActivationScheduler(redisQueueRepository, admissionRegulator,
+            mock(ApplicationEventPublisher.class), leaderElection, engine, queueStoreFailover,
+            new QueueMetrics(new SimpleMeterRegistry()), tickRelay);
+    }
+}
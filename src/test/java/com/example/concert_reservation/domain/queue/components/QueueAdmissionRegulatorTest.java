@@ -0,0 +1,168 @@
+package com.example.concert_reservation.domain.queue.components;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * QueueAdmissionRegulator 단위 테스트
+ */
+@DisplayName("QueueAdmissionRegulator 컴포넌트 테스트")
+class QueueAdmissionRegulatorTest {
+
+    private static final int MAX_ACTIVE_SLOTS = 1000;
+
+    private QueueAdmissionRegulator regulator;
+
+    @BeforeEach
+    void setUp() {
+        // 초기 100/s, 최소 10/s, 최대 500/s, 증가폭 20/s, 목표 지연 500ms, 풀 포화 0.9
+        regulator = new QueueAdmissionRegulator(
+            MAX_ACTIVE_SLOTS, 100, 10, 500, 20, 500, 0.9, mock(DataSource.class)
+        );
+    }
+
+    @Test
+    @DisplayName("경과 시간만큼 목표 속도로 크레딧이 적립된다")
+    void permitsForTick_accumulatesByElapsedTime() {
+        // when: 100/s 로 200ms 경과
+        int permits = regulator.permitsForTick(0, 200);
+
+        // then: 약 20명 (첫 틱의 속도 조정으로 +20/s 반영 가능)
+        assertThat(permits).isBetween(20, 24);
+    }
+
+    @Test
+    @DisplayName("남은 Active 슬롯보다 많이 허용하지 않는다")
+    void permitsForTick_cappedByFreeSlots() {
+        // when: 슬롯이 5개만 남은 상태
+        int permits = regulator.permitsForTick(MAX_ACTIVE_SLOTS - 5, 1000);
+
+        // then
+        assertThat(permits).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("슬롯이 가득 차면 허용 수는 0이다")
+    void permitsForTick_noFreeSlots_returnsZero() {
+        assertThat(regulator.permitsForTick(MAX_ACTIVE_SLOTS, 1000)).isZero();
+    }
+
+    @Test
+    @DisplayName("예약 지연시간이 목표를 넘으면 입장 속도를 줄인다")
+    void adjustRate_highLatency_decreasesRate() {
+        // given
+        regulator.recordReservationLatency(2000);
+        regulator.recordReservationLatency(1500);
+        double before = regulator.getCurrentRate();
+
+        // when
+        regulator.adjustRate(0, 10_000);
+
+        // then
+        assertThat(regulator.getCurrentRate()).isLessThan(before);
+        assertThat(regulator.getReservationLatencyMillis()).isEqualTo(1750.0);
+    }
+
+    @Test
+    @DisplayName("지표가 정상이고 슬롯이 남으면 입장 속도를 늘린다")
+    void adjustRate_healthy_increasesRate() {
+        // given
+        regulator.recordReservationLatency(50);
+
+        // when
+        regulator.adjustRate(0, 10_000);
+
+        // then
+        assertThat(regulator.getCurrentRate()).isEqualTo(120.0);
+    }
+
+    @Test
+    @DisplayName("입장 속도는 최소값 아래로 내려가지 않는다")
+    void adjustRate_neverBelowMinRate() {
+        for (int i = 1; i <= 20; i++) {
+            regulator.recordReservationLatency(5000);
+            regulator.adjustRate(0, i * 10_000L);
+        }
+
+        assertThat(regulator.getCurrentRate()).isEqualTo(10.0);
+    }
+
+    @Test
+    @DisplayName("완료된 예약이 없는 구간이 이어지면 최소 속도에서 다시 회복한다")
+    void adjustRate_idleWindow_recoversFromMinRate() {
+        // given: 과부하로 최소 속도까지 감소
+        for (int i = 1; i <= 20; i++) {
+            regulator.recordReservationLatency(5000);
+            regulator.adjustRate(0, i * 10_000L);
+        }
+        assertThat(regulator.getCurrentRate()).isEqualTo(10.0);
+
+        // when: 부하가 사라져 지연시간 기록이 없는 구간
+        regulator.adjustRate(0, 300_000L);
+        regulator.adjustRate(0, 310_000L);
+
+        // then: 지난 지연값으로 계속 줄이지 않고 덧셈 증가, 반납 즉시 입장도 재개
+        assertThat(regulator.getCurrentRate()).isEqualTo(50.0);
+        assertThat(regulator.getReservationLatencyMillis()).isLessThan(5000.0);
+        assertThat(regulator.permitsForBackfill(0, 30)).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("예상 대기 시간은 측정된 배출 속도를 기준으로 계산한다")
+    void calculateEstimatedWaitTime_usesDrainRate() {
+        // given: 1초 동안 50명 활성화 → 배출 속도 50/s
+        regulator.recordAdmitted(50, 1000);
+
+        // when: 3,000번 → 3,000 / (50 * 60) = 1분
+        double minutes = regulator.calculateEstimatedWaitTime(3000);
+
+        // then
+        assertThat(regulator.getDrainRatePerSecond()).isEqualTo(50.0);
+        assertThat(minutes).isEqualTo(1.0);
+        assertThat(regulator.getEstimatedWaitTimeString(3000)).isEqualTo("1분 0초");
+    }
+
+    @Test
+    @DisplayName("배출 속도 측정값이 없으면 목표 속도로 예상 대기 시간을 계산한다")
+    void calculateEstimatedWaitTime_noDrainRate_usesCurrentRate() {
+        // 100/s → 6,000명/분
+        assertThat(regulator.calculateEstimatedWaitTime(6000)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("반납 즉시 입장은 반납 수와 남은 슬롯 중 작은 수만큼 허용한다")
+    void permitsForBackfill_cappedByReleasedAndFreeSlots() {
+        assertThat(regulator.permitsForBackfill(0, 30)).isEqualTo(30);
+        assertThat(regulator.permitsForBackfill(MAX_ACTIVE_SLOTS - 5, 30)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("과부하로 속도를 줄이는 중에는 반납 즉시 입장을 허용하지 않는다")
+    void permitsForBackfill_overloaded_returnsZero() {
+        // given
+        regulator.recordReservationLatency(2000);
+        regulator.adjustRate(0, 10_000);
+
+        // when & then
+        assertThat(regulator.permitsForBackfill(0, 30)).isZero();
+    }
+
+    @Test
+    @DisplayName("반납 즉시 입장 수도 배출 속도에 반영된다")
+    void recordBackfilled_includedInDrainRate() {
+        // given: 1초 동안 틱 30명 + 즉시 입장 20명
+        regulator.recordBackfilled(20);
+
+        // when
+        regulator.recordAdmitted(30, 1000);
+
+        // then
+        assertThat(regulator.getDrainRatePerSecond()).isEqualTo(50.0);
+    }
+}
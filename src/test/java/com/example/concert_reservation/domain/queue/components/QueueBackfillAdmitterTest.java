@@ -0,0 +1,138 @@
+package com.example.concert_reservation.domain.queue.components;
+
+import com.example.concert_reservation.domain.queue.events.QueueTickEvent;
+import com.example.concert_reservation.domain.queue.infrastructure.EmbeddedQueueEngine;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueMetrics;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueStoreFailover;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueTickRelay;
+import com.example.concert_reservation.domain.queue.infrastructure.RedisQueueRepository;
+import com.example.concert_reservation.domain.queue.infrastructure.SchedulerLeaderElection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * QueueBackfillAdmitter 단위 테스트 (인메모리 대기열 기준)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("QueueBackfillAdmitter 테스트")
+class QueueBackfillAdmitterTest {
+
+    @Mock
+    private RedisQueueRepository redisQueueRepository;
+
+    @Mock
+    private QueueStoreFailover queueStoreFailover;
+
+    @Mock
+    private SchedulerLeaderElection leaderElection;
+
+    @Mock
+    private QueueAdmissionRegulator admissionRegulator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private QueueTickRelay tickRelay;
+
+    private EmbeddedQueueEngine engine;
+    private QueueBackfillAdmitter admitter;
+
+    @BeforeEach
+    void setUp() {
+        engine = new EmbeddedQueueEngine(16);
+        lenient().when(queueStoreFailover.isEmbedded()).thenReturn(true);
+        admitter = new QueueBackfillAdmitter(redisQueueRepository, engine, queueStoreFailover, leaderElection,
+            admissionRegulator, eventPublisher, new QueueMetrics(new SimpleMeterRegistry()), tickRelay, true, 20);
+    }
+
+    @Test
+    @DisplayName("몰린 반납은 공연 일정별로 합산되어 같은 공연 일정에서 같은 수만큼 활성화된다")
+    void flush_coalescesByShard() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            engine.addToWaitingQueue(1L, "user-a" + i);
+            engine.addToWaitingQueue(2L, "user-b" + i);
+        }
+        when(admissionRegulator.permitsForBackfill(anyLong(), anyInt())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        // when
+        admitter.enqueue(1L, 1);
+        admitter.enqueue(1L, 1);
+        admitter.enqueue(2L, 1);
+        admitter.flush(admitter.drainPending());
+
+        // then
+        ArgumentCaptor<QueueTickEvent> captor = ArgumentCaptor.forClass(QueueTickEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().activatedCount(1L)).isEqualTo(2);
+        assertThat(captor.getValue().activatedCount(2L)).isEqualTo(1);
+        assertThat(engine.getActiveQueueSize()).isEqualTo(3L);
+        verify(admissionRegulator).permitsForBackfill(0L, 3);
+        verify(admissionRegulator).recordBackfilled(3);
+    }
+
+    @Test
+    @DisplayName("입장 조절기가 허용하지 않으면 활성화하지 않는다")
+    void flush_notPermitted_activatesNothing() {
+        // given
+        engine.addToWaitingQueue(1L, "user-1");
+        when(admissionRegulator.permitsForBackfill(anyLong(), anyInt())).thenReturn(0);
+
+        // when
+        admitter.flush(Map.of(1L, 1));
+
+        // then
+        assertThat(engine.getActiveQueueSize()).isZero();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("반납이 몰려도 처리 전 반납은 공연 일정별 합계로만 보관된다")
+    void enqueue_releaseStorm_boundedByConcertDates() {
+        // when: 공연 일정 3개에서 반납 30만 건
+        for (int i = 0; i < 300_000; i++) {
+            admitter.enqueue(i % 3, 1);
+        }
+
+        // then
+        Map<Long, Integer> pending = admitter.drainPending();
+        assertThat(pending).hasSize(3);
+        assertThat(pending).containsEntry(0L, 100_000).containsEntry(1L, 100_000).containsEntry(2L, 100_000);
+        assertThat(admitter.drainPending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Redis 대기열 입장 결과는 모든 노드로 전달되는 틱으로 발행한다")
+    void flush_redisQueue_publishesTickToAllNodes() {
+        // given
+        when(queueStoreFailover.isEmbedded()).thenReturn(false);
+        when(leaderElection.getFencingToken()).thenReturn(3L);
+        when(redisQueueRepository.getActiveQueueSize()).thenReturn(0L);
+        when(admissionRegulator.permitsForBackfill(anyLong(), anyInt())).thenReturn(1);
+        when(redisQueueRepository.activateTokens(1L, 1, 3L)).thenReturn(List.of("1:token"));
+
+        // when
+        admitter.flush(Map.of(1L, 1));
+
+        // then
+        ArgumentCaptor<QueueTickEvent> captor = ArgumentCaptor.forClass(QueueTickEvent.class);
+        verify(tickRelay).publish(captor.capture());
+        assertThat(captor.getValue().activatedTokens()).containsEntry(1L, List.of("1:token"));
+        verifyNoInteractions(eventPublisher);
+    }
+}
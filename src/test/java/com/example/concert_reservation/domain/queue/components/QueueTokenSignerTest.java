@@ -0,0 +1,62 @@
+package com.example.concert_reservation.domain.queue.components;
+
+import com.example.concert_reservation.domain.queue.models.QueueToken;
+import com.example.concert_reservation.domain.queue.models.SignedQueueToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * QueueTokenSigner 단위 테스트
+ */
+@DisplayName("QueueTokenSigner 컴포넌트 테스트")
+class QueueTokenSignerTest {
+
+    private final QueueTokenSigner signer = new QueueTokenSigner("test-signing-secret");
+    private final SignedQueueToken token = new SignedQueueToken("42:token-uuid", "user|1", 1_700_000_000L, 1_700_000_300L);
+
+    @Test
+    @DisplayName("서명한 토큰은 검증 시 같은 내용으로 복원된다")
+    void signAndVerify_roundTrip() {
+        // when
+        String signed = signer.sign(token);
+
+        // then
+        assertThat(QueueToken.isSigned(signed)).isTrue();
+        assertThat(signer.verify(signed)).contains(token);
+    }
+
+    @Test
+    @DisplayName("서명 또는 내용이 변조된 토큰은 검증에 실패한다")
+    void verify_tampered_returnsEmpty() {
+        // given
+        String signed = signer.sign(token);
+        String otherPayload = signer.sign(new SignedQueueToken("42:token-uuid", "user2", 1_700_000_000L, 1_700_000_300L));
+        String swapped = otherPayload.substring(0, otherPayload.lastIndexOf('.')) + signed.substring(signed.lastIndexOf('.'));
+
+        // when & then
+        assertThat(signer.verify(swapped)).isEmpty();
+        assertThat(signer.verify(signed.substring(0, signed.length() - 2) + "AA")).isEmpty();
+        assertThat(signer.verify("v1.not-base64!.sig")).isEmpty();
+        assertThat(signer.verify("plain-uuid-token")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 토큰은 검증에 실패한다")
+    void verify_differentKey_returnsEmpty() {
+        String signed = new QueueTokenSigner("other-secret").sign(token);
+
+        assertThat(signer.verify(signed)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서명 키가 없으면 비활성화되어 발급할 수 없다")
+    void noSecret_disabled() {
+        QueueTokenSigner disabled = new QueueTokenSigner("");
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.verify(signer.sign(token))).isEmpty();
+        assertThatThrownBy(() -> disabled.sign(token)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.concert_reservation.domain.queue.components;
 
+import com.example.concert_reservation.domain.queue.infrastructure.EmbeddedQueueEngine;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueStoreFailover;
 import com.example.concert_reservation.domain.queue.infrastructure.RedisQueueRepository;
 import com.example.concert_reservation.domain.queue.models.QueueStatus;
 import com.example.concert_reservation.domain.queue.models.QueueToken;
@@ -28,6 +30,12 @@ class QueueValidatorTest {
     @Mock
     private RedisQueueRepository redisQueueRepository;
     
+    @Mock
+    private EmbeddedQueueEngine embeddedQueueEngine;
+    
+    @Mock
+    private QueueStoreFailover queueStoreFailover;
+    
     @InjectMocks
     private QueueValidator queueValidator;
     
@@ -0,0 +1,98 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ActiveTokenNearCache 단위 테스트
+ */
+@DisplayName("ActiveTokenNearCache 테스트")
+class ActiveTokenNearCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ActiveTokenNearCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ActiveTokenNearCache(100, 60, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("캐싱한 Active 토큰은 userId를 반환한다")
+    void put_thenGet_returnsUserId() {
+        // when
+        cache.put("token-1", "user1", LocalDateTime.now().plusMinutes(5));
+
+        // then
+        assertThat(cache.getUserId("token-1")).isEqualTo("user1");
+        assertThat(cache.getUserId("token-2")).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 만료됐거나 만료 시각이 없는 토큰은 캐싱하지 않는다")
+    void put_expiredOrNoExpiry_notCached() {
+        // when
+        cache.put("expired", "user1", LocalDateTime.now().minusSeconds(1));
+        cache.put("no-expiry", "user2", null);
+
+        // then
+        assertThat(cache.getUserId("expired")).isNull();
+        assertThat(cache.getUserId("no-expiry")).isNull();
+    }
+
+    @Test
+    @DisplayName("하트비트 기록 차례는 토큰당 간격마다 한 번만 돌아온다")
+    void tryMarkHeartbeat_throttledPerToken() {
+        // given
+        cache.put("token-1", "user1", LocalDateTime.now().plusMinutes(5));
+
+        // when & then
+        assertThat(cache.tryMarkHeartbeat("token-1", 60_000)).isTrue();
+        assertThat(cache.tryMarkHeartbeat("token-1", 60_000)).isFalse();
+        assertThat(cache.tryMarkHeartbeat("token-1", 0)).isTrue();
+        assertThat(cache.tryMarkHeartbeat("not-cached", 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("무효화 채널 메시지를 받으면 토큰을 제거한다")
+    void onMessage_invalidatesToken() {
+        // given
+        cache.put("token-1", "user1", LocalDateTime.now().plusMinutes(5));
+
+        // when
+        cache.onMessage(new DefaultMessage(
+            ActiveTokenNearCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            "token-1".getBytes(StandardCharsets.UTF_8)
+        ), null);
+
+        // then
+        assertThat(cache.getUserId("token-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("적중/미스 수가 Micrometer 지표로 기록된다")
+    void metrics_recordHitAndMiss() {
+        // given
+        cache.put("token-1", "user1", LocalDateTime.now().plusMinutes(5));
+
+        // when
+        cache.getUserId("token-1");
+        cache.getUserId("token-1");
+        cache.getUserId("unknown");
+
+        // then
+        assertThat(meterRegistry.get("cache.gets").tag("cache", ActiveTokenNearCache.CACHE_NAME)
+            .tag("result", "hit").functionCounter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", ActiveTokenNearCache.CACHE_NAME)
+            .tag("result", "miss").functionCounter().count()).isEqualTo(1.0);
+    }
+}
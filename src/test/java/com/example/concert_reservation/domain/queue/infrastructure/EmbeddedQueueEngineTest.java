@@ -0,0 +1,294 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import com.example.concert_reservation.domain.queue.models.QueueStatus;
+import com.example.concert_reservation.domain.queue.models.UserQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * EmbeddedQueueEngine 인메모리 대기열 단위 테스트
+ */
+@DisplayName("EmbeddedQueueEngine 테스트")
+class EmbeddedQueueEngineTest {
+
+    private static final long CONCERT_DATE_ID = 1L;
+
+    private EmbeddedQueueEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new EmbeddedQueueEngine(16);
+    }
+
+    @Test
+    @DisplayName("발급 순서대로 대기 번호와 앞 대기 인원이 계산된다")
+    void addToWaitingQueue_ordersBySequence() {
+        // when
+        UserQueue first = engine.addToWaitingQueue(CONCERT_DATE_ID, "user-1");
+        UserQueue second = engine.addToWaitingQueue(CONCERT_DATE_ID, "user-2");
+        UserQueue third = engine.addToWaitingQueue(CONCERT_DATE_ID, "user-3");
+
+        // then
+        assertThat(first.getQueueNumber()).isEqualTo(1L);
+        assertThat(third.getQueueNumber()).isEqualTo(3L);
+        assertThat(engine.countWaitingAheadByToken(first.getToken().getValue())).isZero();
+        assertThat(engine.countWaitingAheadByToken(second.getToken().getValue())).isEqualTo(1L);
+        assertThat(engine.countWaitingAheadByToken(third.getToken().getValue())).isEqualTo(2L);
+        assertThat(engine.getWaitingQueueSize()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("이미 대기 중인 사용자는 같은 공연 일정에 다시 발급받을 수 없다")
+    void addToWaitingQueue_duplicateRejected() {
+        // given
+        engine.addToWaitingQueue(CONCERT_DATE_ID, "user-1");
+
+        // when & then
+        assertThatThrownBy(() -> engine.addToWaitingQueue(CONCERT_DATE_ID, "user-1"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("이미 대기 중인 토큰이 존재합니다");
+        assertThat(engine.addToWaitingQueue(2L, "user-1")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("활성화는 발급 순서대로 진행되고 취소된 토큰은 건너뛴다")
+    void activateTokens_fifoSkippingRemoved() {
+        // given
+        UserQueue first = engine.addToWaitingQueue(CONCERT_DATE_ID, "user-1");
+        UserQueue second = engine.addToWaitingQueue(CONCERT_DATE_ID, "user-2");
+        UserQueue third = engine.addToWaitingQueue(CONCERT_DATE_ID, "user-3");
+        engine.removeToken(first.getToken().getValue());
+
+        // when
+        List<String> activated = engine.activateTokens(CONCERT_DATE_ID, 1);
+
+        // then
+        assertThat(activated).containsExactly(second.getToken().getValue());
+        assertThat(engine.isActiveToken(second.getToken().getValue())).isTrue();
+        assertThat(engine.hasActiveQueue(CONCERT_DATE_ID, "user-2")).isTrue();
+        assertThat(engine.findByToken(second.getToken()))
+            .hasValueSatisfying(queue -> assertThat(queue.getStatus()).isEqualTo(QueueStatus.ACTIVE));
+        assertThat(engine.countWaitingAheadByToken(third.getToken().getValue())).isZero();
+        assertThat(engine.getWaitingQueueSize()).isEqualTo(1L);
+        assertThat(engine.getActiveQueueSize()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("제거된 토큰은 회수 목록에 등록되고 조회되지 않는다")
+    void removeToken_revokes() {
+        // given
+        UserQueue queue = engine.addToWaitingQueue(CONCERT_DATE_ID, "user-1");
+        engine.activateTokens(CONCERT_DATE_ID, 1);
+
+        // when
+        engine.removeToken(queue.getToken().getValue());
+
+        // then
+        assertThat(engine.isRevoked(queue.getToken().getValue())).isTrue();
+        assertThat(engine.findByToken(queue.getToken())).isEmpty();
+        assertThat(engine.hasActiveQueue(CONCERT_DATE_ID, "user-1")).isFalse();
+        assertThat(engine.getActiveQueueSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("링 버퍼가 가득 차면 발급이 거부되고, 활성화로 자리가 나면 다시 발급된다")
+    void addToWaitingQueue_ringFull() {
+        // given
+        for (int i = 0; i < 16; i++) {
+            engine.addToWaitingQueue(CONCERT_DATE_ID, "user-" + i);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> engine.addToWaitingQueue(CONCERT_DATE_ID, "user-overflow"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("대기열이 가득 찼습니다");
+        assertThat(engine.hasWaitingQueue(CONCERT_DATE_ID, "user-overflow")).isFalse();
+
+        engine.activateTokens(CONCERT_DATE_ID, 1);
+        assertThat(engine.addToWaitingQueue(CONCERT_DATE_ID, "user-overflow").getQueueNumber()).isEqualTo(16L);
+    }
+
+    @Test
+    @DisplayName("동시 발급 시 순번이 중복 없이 배정되고 모두 활성화된다")
+    void addToWaitingQueue_concurrent() throws Exception {
+        // given
+        EmbeddedQueueEngine large = new EmbeddedQueueEngine(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<UserQueue>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 500; i++) {
+            String userId = "user-" + i;
+            futures.add(executor.submit(() -> large.addToWaitingQueue(CONCERT_DATE_ID, userId)));
+        }
+        for (Future<UserQueue> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(large.getWaitingQueueSize()).isEqualTo(500L);
+        assertThat(large.activateTokens(CONCERT_DATE_ID, 1000)).hasSize(500).doesNotHaveDuplicates();
+        assertThat(large.getActiveQueueSize()).isEqualTo(500L);
+    }
+
+    @Test
+    @DisplayName("하트비트가 끊긴 토큰은 정리되고 Active 토큰은 반납된다")
+    void reclaimIdleTokens_releasesIdleTokens() {
+        // given
+        UserQueue active = engine.addToWaitingQueue(CONCERT_DATE_ID, "user-1");
+        UserQueue waiting = engine.addToWaitingQueue(CONCERT_DATE_ID, "user-2");
+        engine.activateTokens(CONCERT_DATE_ID, 1);
+        long cutoff = System.currentTimeMillis() + 1;
+
+        // when
+        Map<Long, IdleTokenReclaim> reclaimed = engine.reclaimIdleTokens(cutoff, cutoff);
+
+        // then
+        assertThat(reclaimed).containsEntry(CONCERT_DATE_ID, new IdleTokenReclaim(1, 1));
+        assertThat(engine.isActiveToken(active.getToken().getValue())).isFalse();
+        assertThat(engine.isRevoked(active.getToken().getValue())).isTrue();
+        assertThat(engine.heartbeat(waiting.getToken().getValue())).isFalse();
+        assertThat(engine.getWaitingQueueSize()).isZero();
+        assertThat(engine.getActiveQueueSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("활성화 외 사유로 빠진 대기자 수는 한 번만 꺼내진다 (Active 토큰 제거는 제외)")
+    void drainRemovedWaiting_countsWaitingRemovalsOnce() {
+        // given
+        UserQueue active = engine.addToWaitingQueue(CONCERT_DATE_ID, "user-1");
+        engine.activateTokens(CONCERT_DATE_ID, 1);
+        UserQueue cancelled = engine.addToWaitingQueue(CONCERT_DATE_ID, "user-2");
+        engine.addToWaitingQueue(CONCERT_DATE_ID, "user-3");
+        engine.removeToken(active.getToken().getValue());
+        engine.removeToken(cancelled.getToken().getValue());
+        long cutoff = System.currentTimeMillis() + 1;
+        engine.reclaimIdleTokens(cutoff, cutoff);
+
+        // when
+        Map<Long, Long> removed = engine.drainRemovedWaiting();
+
+        // then: 취소 1명 + 유휴 정리 1명
+        assertThat(removed).containsExactly(Map.entry(CONCERT_DATE_ID, 2L));
+        assertThat(engine.drainRemovedWaiting()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("기준 시각 이후 하트비트를 보낸 토큰은 정리되지 않는다")
+    void reclaimIdleTokens_keepsLiveTokens() {
+        // given
+        UserQueue waiting = engine.addToWaitingQueue(CONCERT_DATE_ID, "user-1");
+        long cutoff = System.currentTimeMillis() - 1;
+
+        // when
+        assertThat(engine.heartbeat(waiting.getToken().getValue())).isTrue();
+        Map<Long, IdleTokenReclaim> reclaimed = engine.reclaimIdleTokens(cutoff, cutoff);
+
+        // then
+        assertThat(reclaimed).isEmpty();
+        assertThat(engine.getWaitingQueueSize()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("사용자의 Active 토큰을 즉시 반납한다")
+    void releaseActiveToken_removesActiveToken() {
+        // given
+        UserQueue queue = engine.addToWaitingQueue(CONCERT_DATE_ID, "user-1");
+        engine.activateTokens(CONCERT_DATE_ID, 1);
+
+        // when
+        String released = engine.releaseActiveToken(CONCERT_DATE_ID, "user-1");
+
+        // then
+        assertThat(released).isEqualTo(queue.getToken().getValue());
+        assertThat(engine.hasActiveQueue(CONCERT_DATE_ID, "user-1")).isFalse();
+        assertThat(engine.releaseActiveToken(CONCERT_DATE_ID, "user-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("조회만으로는 샤드가 생기지 않고, 대기/활성 토큰이 모두 빠진 샤드는 정리된다")
+    void removeExpiredActiveTokens_evictsEmptyShards() {
+        // given
+        assertThat(engine.hasWaitingQueue(9L, "user-1")).isFalse();
+        assertThat(engine.hasActiveQueue(9L, "user-1")).isFalse();
+        assertThat(engine.getWaitingQueueSizes()).isEmpty();
+        UserQueue queue = engine.addToWaitingQueue(CONCERT_DATE_ID, "user-1");
+        engine.removeToken(queue.getToken().getValue());
+
+        // when
+        engine.removeExpiredActiveTokens();
+
+        // then
+        assertThat(engine.getWaitingQueueSizes()).isEmpty();
+        assertThat(engine.addToWaitingQueue(CONCERT_DATE_ID, "user-1").getQueueNumber()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("링 버퍼 용량을 넘겨 순환해도 청크 단위 할당으로 순서가 유지된다")
+    void addToWaitingQueue_wrapsAroundLazilyAllocatedRing() {
+        // given
+        EmbeddedQueueEngine large = new EmbeddedQueueEngine(8192);
+        for (int i = 0; i < 6000; i++) {
+            large.addToWaitingQueue(CONCERT_DATE_ID, "user-" + i);
+        }
+        assertThat(large.activateTokens(CONCERT_DATE_ID, 6000)).hasSize(6000);
+
+        // when: 순번 6001 ~ 12000 → 링 버퍼 한 바퀴를 넘김
+        List<UserQueue> issued = new ArrayList<>();
+        for (int i = 0; i < 6000; i++) {
+            issued.add(large.addToWaitingQueue(CONCERT_DATE_ID, "next-" + i));
+        }
+
+        // then
+        List<String> activated = large.activateTokens(CONCERT_DATE_ID, 6000);
+        assertThat(activated).hasSize(6000);
+        assertThat(activated.get(0)).isEqualTo(issued.get(0).getToken().getValue());
+        assertThat(activated.get(5999)).isEqualTo(issued.get(5999).getToken().getValue());
+    }
+
+    @Test
+    @DisplayName("Redis 이관용 조회는 순번 순으로 꺼내지 않고 보여주며, 이관된 토큰은 회수 없이 제거된다")
+    void peekWaiting_handOff_removesWithoutRevoking() {
+        // given
+        UserQueue first = engine.addToWaitingQueue(CONCERT_DATE_ID, "user-1");
+        UserQueue second = engine.addToWaitingQueue(CONCERT_DATE_ID, "user-2");
+        UserQueue third = engine.addToWaitingQueue(CONCERT_DATE_ID, "user-3");
+        engine.removeToken(second.getToken().getValue());
+
+        // when
+        List<UserQueue> waiting = engine.peekWaiting(CONCERT_DATE_ID, 10);
+
+        // then
+        assertThat(waiting).extracting(UserQueue::getToken).containsExactly(first.getToken(), third.getToken());
+        assertThat(engine.peekWaiting(CONCERT_DATE_ID, 10)).hasSize(2);
+
+        // when
+        assertThat(engine.handOff(first.getToken().getValue())).isTrue();
+        assertThat(engine.handOff(second.getToken().getValue())).isFalse();
+
+        // then
+        assertThat(engine.contains(first.getToken().getValue())).isFalse();
+        assertThat(engine.isRevoked(first.getToken().getValue())).isFalse();
+        assertThat(engine.peekWaiting(CONCERT_DATE_ID, 10)).extracting(UserQueue::getToken)
+            .containsExactly(third.getToken());
+        assertThat(engine.getWaitingQueueSize()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("링 버퍼 크기는 2의 거듭제곱이어야 한다")
+    void constructor_requiresPowerOfTwo() {
+        assertThatThrownBy(() -> new EmbeddedQueueEngine(1000))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import com.example.concert_reservation.domain.queue.models.QueueStatus;
+import com.example.concert_reservation.domain.queue.models.QueueToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 압축 대기열 레이아웃 (토큰 ID / PackedQueueRecord) 인코딩 테스트
+ */
+@DisplayName("압축 대기열 레코드 인코딩 테스트")
+class PackedQueueRecordTest {
+
+    @Test
+    @DisplayName("토큰은 16바이트 ID로 변환되고 공연 일정 ID를 붙여 복원된다")
+    void tokenId_roundTrip() {
+        QueueToken sharded = QueueToken.generate(12L);
+        QueueToken common = QueueToken.generate();
+
+        byte[] shardedId = QueueRedisCodec.tokenId(sharded.getValue());
+        byte[] commonId = QueueRedisCodec.tokenId(common.getValue());
+
+        assertThat(shardedId).hasSize(16);
+        assertThat(QueueRedisCodec.token(12L, shardedId)).isEqualTo(sharded.getValue());
+        assertThat(QueueRedisCodec.token(QueueToken.DEFAULT_CONCERT_DATE_ID, commonId)).isEqualTo(common.getValue());
+    }
+
+    @Test
+    @DisplayName("UUID 형식이 아닌 토큰은 ID로 변환되지 않는다")
+    void tokenId_invalidToken() {
+        assertThat(QueueRedisCodec.tokenId("invalid-token")).isNull();
+        assertThat(QueueRedisCodec.tokenId("12:zzzzzzzz-zzzz-zzzz-zzzz-zzzzzzzzzzzz")).isNull();
+    }
+
+    @Test
+    @DisplayName("Waiting 레코드는 userId와 진입 시각(ms)을 보존한다")
+    void waitingRecord_roundTrip() {
+        LocalDateTime enteredAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        PackedQueueRecord record = PackedQueueRecord.decode(
+            PackedQueueRecord.waiting("사용자-1", PackedQueueRecord.toEpochMillis(enteredAt))
+        );
+
+        assertThat(record).isNotNull();
+        assertThat(record.status()).isEqualTo(QueueStatus.WAITING);
+        assertThat(record.userId()).isEqualTo("사용자-1");
+        assertThat(record.enteredAt()).isEqualTo(enteredAt);
+        assertThat(record.expiredAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("활성화 스크립트와 같은 위치에 상태/만료 시각을 덮어쓰면 Active 레코드가 된다")
+    void activation_overwritesStatusAndExpiry() {
+        long enteredAt = System.currentTimeMillis();
+        long expiredAt = enteredAt + 300_000;
+        byte[] value = PackedQueueRecord.waiting("user-1", enteredAt);
+
+        // SETRANGE key STATUS_OFFSET 'A' / SETRANGE key EXPIRED_AT_OFFSET <8바이트>
+        value[PackedQueueRecord.STATUS_OFFSET] = PackedQueueRecord.STATUS_ACTIVE;
+        System.arraycopy(QueueRedisCodec.int64(expiredAt), 0, value, PackedQueueRecord.EXPIRED_AT_OFFSET, 8);
+
+        assertThat(value).isEqualTo(PackedQueueRecord.active("user-1", enteredAt, expiredAt));
+        PackedQueueRecord record = PackedQueueRecord.decode(value);
+        assertThat(record.status()).isEqualTo(QueueStatus.ACTIVE);
+        assertThat(record.expiredAt()).isEqualTo(PackedQueueRecord.toLocalDateTime(expiredAt));
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 값은 null로 디코딩된다")
+    void decode_invalid() {
+        assertThat(PackedQueueRecord.decode(null)).isNull();
+        assertThat(PackedQueueRecord.decode(new byte[3])).isNull();
+        assertThat(PackedQueueRecord.decode("legacy-string-value".getBytes())).isNull();
+    }
+}
@@ -128,6 +128,26 @@ class QueueCoreStoreRepositoryTest {
         assertThat(found.get(0).getEnteredAt()).isBeforeOrEqualTo(found.get(1).getEnteredAt());
     }
     
+    @Test
+    @DisplayName("직전 페이지 마지막 행 이후부터 다음 페이지를 조회할 수 있다 (키셋)")
+    void findByStatusOrderByEnteredAtAfter_success() {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            repository.save(UserQueue.create("user" + i, (long) i));
+        }
+        List<UserQueue> firstPage = repository.findByStatusOrderByEnteredAt(QueueStatus.WAITING, 2);
+        
+        // when
+        List<UserQueue> secondPage = repository.findByStatusOrderByEnteredAtAfter(QueueStatus.WAITING, firstPage.get(1), 2);
+        List<UserQueue> lastPage = repository.findByStatusOrderByEnteredAtAfter(QueueStatus.WAITING, secondPage.get(1), 2);
+        
+        // then: 페이지 사이에 중복/누락 없음
+        assertThat(secondPage).hasSize(2);
+        assertThat(lastPage).hasSize(1);
+        assertThat(List.of(firstPage, secondPage, lastPage).stream().flatMap(List::stream).map(UserQueue::getUserId))
+            .containsExactly("user1", "user2", "user3", "user4", "user5");
+    }
+    
     @Test
     @DisplayName("사용자 ID와 상태로 대기열 존재 여부를 확인할 수 있다")
     void existsByUserIdAndStatus_exists_returnsTrue() {
@@ -157,27 +177,29 @@ class QueueCoreStoreRepositoryTest {
     }
     
     @Test
-    @DisplayName("다음 대기 번호를 조회할 수 있다")
+    @DisplayName("다음 대기 번호는 시퀀스에서 1씩 증가하며 발급된다")
     void getNextQueueNumber_success() {
-        // given
-        repository.save(UserQueue.create("user1", 5L));
-        repository.save(UserQueue.create("user2", 10L));
-        
         // when
-        long nextNumber = repository.getNextQueueNumber();
+        long first = repository.getNextQueueNumber();
+        long second = repository.getNextQueueNumber();
         
         // then
-        assertThat(nextNumber).isEqualTo(11L);
+        assertThat(first).isPositive();
+        assertThat(second).isEqualTo(first + 1);
     }
     
     @Test
-    @DisplayName("대기열이 없을 때 다음 대기 번호는 1이다")
-    void getNextQueueNumber_emptyQueue_returnsOne() {
+    @DisplayName("다음 대기 번호는 저장된 행과 무관하게 발급된다 (테이블 스캔 없음)")
+    void getNextQueueNumber_independentOfRows() {
+        // given
+        long before = repository.getNextQueueNumber();
+        repository.save(UserQueue.create("user1", 1_000L));
+        
         // when
         long nextNumber = repository.getNextQueueNumber();
         
         // then
-        assertThat(nextNumber).isEqualTo(1L);
+        assertThat(nextNumber).isEqualTo(before + 1);
     }
     
     @Test
@@ -0,0 +1,191 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import com.example.concert_reservation.domain.queue.models.QueueStatus;
+import com.example.concert_reservation.domain.queue.models.QueueToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * QueueLayoutMigrator 레거시 레이아웃 이전 통합 테스트 (Redis 필요)
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.profiles.active=test",
+    // 애플리케이션 빈의 주기 실행이 테스트 중 레거시 키를 옮기지 않도록 비활성화 (테스트는 직접 생성한 인스턴스 사용)
+    "queue.storage.migrate-legacy=false"
+})
+@DisplayName("QueueLayoutMigrator 테스트")
+class QueueLayoutMigratorTest {
+
+    private static final long CONCERT_DATE_ID = 7L;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisQueueRepository queueRepository;
+
+    private SchedulerLeaderElection leaderElection;
+    private QueueShardKeys keys;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+        leaderElection = mock(SchedulerLeaderElection.class);
+        when(leaderElection.isLeader()).thenReturn(true);
+        keys = QueueShardKeys.of(CONCERT_DATE_ID);
+    }
+
+    @Test
+    @DisplayName("레거시 Waiting 토큰은 순번을 유지한 채 압축 레이아웃으로 옮겨지고 레거시 키는 삭제된다")
+    void migrate_movesLegacyWaitingTokens() {
+        // given
+        String first = legacyWaiting("user-1", 1);
+        String second = legacyWaiting("user-2", 2);
+
+        // when
+        migrator(60).migrate();
+
+        // then
+        assertThat(queueRepository.findByToken(QueueToken.of(first)))
+            .hasValueSatisfying(queue -> {
+                assertThat(queue.getStatus()).isEqualTo(QueueStatus.WAITING);
+                assertThat(queue.getUserId()).isEqualTo("user-1");
+                assertThat(queue.getQueueNumber()).isEqualTo(1L);
+            });
+        assertThat(queueRepository.findByToken(QueueToken.of(second)))
+            .hasValueSatisfying(queue -> assertThat(queue.getQueueNumber()).isEqualTo(2L));
+        assertThat(queueRepository.hasWaitingQueue(CONCERT_DATE_ID, "user-1")).isTrue();
+        assertThat(redisTemplate.opsForZSet().zCard(keys.legacyWaiting())).isZero();
+        assertThat(redisTemplate.hasKey(keys.legacyToken(first))).isFalse();
+        assertThat(redisTemplate.hasKey(keys.legacyUserWaiting("user-1"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("복사 후 삭제 확정 전에 실패하면 레거시 키가 남고 다음 실행에서 중복 없이 이전된다")
+    void migrate_failureMidBatch_keepsLegacyAndRetries() {
+        // given
+        String first = legacyWaiting("user-1", 1);
+        legacyWaiting("user-2", 2);
+        QueueLayoutMigrator migrator = spy(migrator(60));
+        doThrow(new IllegalStateException("Redis 연결 끊김"))
+            .doCallRealMethod()
+            .when(migrator).commit(any(), any(), any(), anyList(), any(), any(), any(), any());
+
+        // when: 새 레이아웃 기록 후 레거시 삭제 단계에서 실패
+        migrator.migrate();
+
+        // then: 대기자는 레거시 레이아웃에 그대로
+        assertThat(redisTemplate.opsForZSet().zCard(keys.legacyWaiting())).isEqualTo(2L);
+        assertThat(redisTemplate.hasKey(keys.legacyToken(first))).isTrue();
+
+        // when: 다음 실행
+        migrator.migrate();
+
+        // then
+        assertThat(redisTemplate.opsForZSet().zCard(keys.legacyWaiting())).isZero();
+        assertThat(queueRepository.getWaitingQueueSize(CONCERT_DATE_ID)).isEqualTo(2L);
+        assertThat(queueRepository.findByToken(QueueToken.of(first)))
+            .hasValueSatisfying(queue -> assertThat(queue.getUserId()).isEqualTo("user-1"));
+    }
+
+    @Test
+    @DisplayName("복사 중 이전 버전 노드가 레거시 토큰을 옮기면 새 레이아웃 복사본을 되돌린다")
+    void migrate_legacyWriterTookToken_rollsBackCopy() {
+        // given
+        String token = legacyWaiting("user-1", 1);
+        QueueLayoutMigrator migrator = spy(migrator(60));
+        doAnswer(invocation -> {
+            // 이전 버전 노드의 활성화가 레거시 Waiting 인덱스에서 꺼내 감
+            redisTemplate.opsForZSet().remove(keys.legacyWaiting(), token);
+            return invocation.callRealMethod();
+        }).when(migrator).commit(any(), any(), any(), anyList(), any(), any(), any(), any());
+
+        // when
+        migrator.migrate();
+
+        // then
+        assertThat(queueRepository.findByToken(QueueToken.of(token))).isEmpty();
+        assertThat(queueRepository.hasWaitingQueue(CONCERT_DATE_ID, "user-1")).isFalse();
+        assertThat(queueRepository.getWaitingQueueSize(CONCERT_DATE_ID)).isZero();
+        assertThat(redisTemplate.hasKey(keys.legacyToken(token))).isTrue();
+    }
+
+    @Test
+    @DisplayName("레거시 회수 기록은 옮긴 멤버만 삭제된다")
+    void migrate_movesRevokedTokens() {
+        // given
+        String revoked = QueueToken.generate(CONCERT_DATE_ID).getValue();
+        redisTemplate.opsForZSet().add(keys.legacyRevoked(), revoked, System.currentTimeMillis() + 60_000);
+        redisTemplate.opsForSet().add(QueueShardKeys.SHARD_REGISTRY_KEY, String.valueOf(CONCERT_DATE_ID));
+
+        // when
+        migrator(60).migrate();
+
+        // then
+        assertThat(queueRepository.isRevoked(revoked)).isTrue();
+        assertThat(redisTemplate.opsForZSet().zCard(keys.legacyRevoked())).isZero();
+    }
+
+    @Test
+    @DisplayName("리더가 아닌 노드는 이전하지 않는다")
+    void migrate_follower_skips() {
+        // given
+        String token = legacyWaiting("user-1", 1);
+        when(leaderElection.isLeader()).thenReturn(false);
+
+        // when
+        migrator(60).migrate();
+
+        // then
+        assertThat(redisTemplate.opsForZSet().zCard(keys.legacyWaiting())).isEqualTo(1L);
+        assertThat(queueRepository.findByToken(QueueToken.of(token))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("레거시 키가 정해진 횟수 연속 없으면 이전 작업을 중단한다")
+    void migrate_noLegacyKeys_stops() {
+        // given
+        QueueLayoutMigrator migrator = migrator(2);
+
+        // when
+        migrator.migrate();
+        migrator.migrate();
+        legacyWaiting("user-1", 1);
+        migrator.migrate();
+
+        // then
+        assertThat(migrator.isCompleted()).isTrue();
+        assertThat(redisTemplate.opsForZSet().zCard(keys.legacyWaiting())).isEqualTo(1L);
+    }
+
+    private QueueLayoutMigrator migrator(int idlePasses) {
+        return new QueueLayoutMigrator(redisTemplate, queueRepository, leaderElection, true, idlePasses);
+    }
+
+    /**
+     * 이전 버전 노드가 기록한 Waiting 토큰 (문자열 토큰 ZSET + Token Metadata Hash + 유저 키)
+     */
+    private String legacyWaiting(String userId, long sequence) {
+        String token = QueueToken.generate(CONCERT_DATE_ID).getValue();
+        redisTemplate.opsForZSet().add(keys.legacyWaiting(), token, sequence);
+        redisTemplate.opsForHash().putAll(keys.legacyToken(token),
+            Map.of("userId", userId, "enteredAt", LocalDateTime.now().toString()));
+        redisTemplate.opsForValue().set(keys.legacyUserWaiting(userId), token);
+        redisTemplate.opsForValue().set(keys.sequence(), String.valueOf(sequence));
+        redisTemplate.opsForSet().add(QueueShardKeys.SHARD_REGISTRY_KEY, String.valueOf(CONCERT_DATE_ID));
+        return token;
+    }
+}
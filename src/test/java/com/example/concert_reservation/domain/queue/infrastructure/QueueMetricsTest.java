@@ -0,0 +1,106 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * QueueMetrics 지표 기록 단위 테스트
+ */
+@DisplayName("QueueMetrics 테스트")
+class QueueMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueueMetrics queueMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queueMetrics = new QueueMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("대기/Active 인원 게이지는 수집 시점의 값을 보고한다")
+    void bindQueueSizes_readsOnCollect() {
+        // given
+        AtomicLong waiting = new AtomicLong(10);
+        AtomicLong active = new AtomicLong(3);
+        queueMetrics.bindQueueSizes(waiting::get, active::get);
+
+        // when
+        waiting.set(7);
+        active.set(5);
+
+        // then
+        assertThat(meterRegistry.get("queue.waiting.size").gauge().value()).isEqualTo(7);
+        assertThat(meterRegistry.get("queue.active.size").gauge().value()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("틱마다 입장 수와 소요 시간을 기록한다")
+    void recordActivation() {
+        // when
+        queueMetrics.recordActivation(queueMetrics.startSample(), 30);
+        queueMetrics.recordActivation(queueMetrics.startSample(), 0);
+
+        // then
+        DistributionSummary admitted = meterRegistry.get("queue.admission.admitted").summary();
+        assertThat(admitted.count()).isEqualTo(2);
+        assertThat(admitted.totalAmount()).isEqualTo(30);
+        assertThat(meterRegistry.get("queue.activation.duration").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("정리된 만료 토큰 수를 누적한다")
+    void recordCleanup() {
+        // when
+        queueMetrics.recordCleanup(queueMetrics.startSample(), 4);
+        queueMetrics.recordCleanup(queueMetrics.startSample(), 6);
+
+        // then
+        assertThat(meterRegistry.get("queue.cleanup.removed").counter().count()).isEqualTo(10);
+        assertThat(meterRegistry.get("queue.cleanup.duration").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Redis 연산 지연은 operation 태그별로 구분된다")
+    void redisLatency_taggedByOperation() {
+        // when
+        queueMetrics.findByTokenTimer().record(2, TimeUnit.MILLISECONDS);
+        queueMetrics.findByTokenTimer().record(4, TimeUnit.MILLISECONDS);
+        queueMetrics.activateTokensTimer().record(8, TimeUnit.MILLISECONDS);
+
+        // then
+        Timer findByToken = meterRegistry.get("queue.redis.latency")
+            .tag("operation", QueueMetrics.OPERATION_FIND_BY_TOKEN).timer();
+        assertThat(findByToken.count()).isEqualTo(2);
+        assertThat(findByToken.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(6);
+        assertThat(meterRegistry.get("queue.redis.latency")
+            .tag("operation", QueueMetrics.OPERATION_ADD_TO_WAITING_QUEUE).timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("좀비 토큰 수와 발급 → 활성화 대기 시간을 기록한다")
+    void recordZombiesAndWait() {
+        // when
+        queueMetrics.recordZombies(0);
+        queueMetrics.recordZombies(3);
+        queueMetrics.recordWait(1_000, 61_000);
+        queueMetrics.recordWait(5_000, 4_000); // 시계 차이로 음수가 되면 0으로 기록
+
+        // then
+        assertThat(meterRegistry.get("queue.tokens.zombie").counter().count()).isEqualTo(3);
+        Timer wait = meterRegistry.get("queue.token.wait").timer();
+        assertThat(wait.count()).isEqualTo(2);
+        assertThat(wait.totalTime(TimeUnit.SECONDS)).isEqualTo(60);
+        assertThat(wait.max(TimeUnit.SECONDS)).isEqualTo(60);
+    }
+}
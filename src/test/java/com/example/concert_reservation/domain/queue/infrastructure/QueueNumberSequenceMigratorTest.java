@@ -0,0 +1,59 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import com.example.concert_reservation.domain.queue.models.UserQueue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * QueueNumberSequenceMigrator 통합 테스트
+ */
+@DataJpaTest
+@Import({QueueCoreStoreRepository.class, QueueNumberSequenceMigrator.class})
+@ActiveProfiles("test")
+@DisplayName("QueueNumberSequenceMigrator 통합 테스트")
+class QueueNumberSequenceMigratorTest {
+    
+    @Autowired
+    private QueueNumberSequenceMigrator migrator;
+    
+    @Autowired
+    private QueueCoreStoreRepository repository;
+    
+    @Autowired
+    private QueueJpaRepository jpaRepository;
+    
+    @Test
+    @DisplayName("시퀀스가 기존 대기 번호보다 뒤처져 있으면 MAX(queue_number) 다음 번호부터 발급한다")
+    void migrate_sequenceBehindExistingRows_restartsAfterMax() {
+        // given - 시퀀스 도입 전 MAX 방식으로 발급된 행
+        repository.save(UserQueue.create("legacy-user", 500L));
+        jpaRepository.flush();
+        
+        // when
+        long restartWith = migrator.migrate();
+        
+        // then
+        assertThat(restartWith).isEqualTo(501L);
+        assertThat(repository.getNextQueueNumber()).isEqualTo(501L);
+    }
+    
+    @Test
+    @DisplayName("시퀀스가 이미 앞서 있으면 그대로 두고, 반복 실행해도 번호가 줄지 않는다")
+    void migrate_sequenceAhead_keepsSequence() {
+        // given
+        long issued = repository.getNextQueueNumber();
+        
+        // when
+        long restartWith = migrator.migrate();
+        
+        // then
+        assertThat(restartWith).isZero();
+        assertThat(repository.getNextQueueNumber()).isGreaterThan(issued);
+    }
+}
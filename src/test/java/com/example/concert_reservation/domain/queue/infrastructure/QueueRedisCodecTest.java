@@ -0,0 +1,57 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import com.example.concert_reservation.domain.queue.models.QueueToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * QueueRedisCodec 키/숫자 인코딩 테스트
+ */
+@DisplayName("QueueRedisCodec 테스트")
+class QueueRedisCodecTest {
+
+    @Test
+    @DisplayName("정수는 Long.toString과 같은 10진수 바이트로 인코딩된다")
+    void decimal_matchesToString() {
+        for (long value : new long[]{0, 7, 1023, 1024, -1, 1_700_000_000_000L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            assertThat(new String(QueueRedisCodec.decimal(value), StandardCharsets.US_ASCII))
+                .isEqualTo(Long.toString(value));
+        }
+    }
+
+    @Test
+    @DisplayName("작은 정수는 캐시된 배열을 재사용한다")
+    void decimal_cachedForSmallValues() {
+        assertThat(QueueRedisCodec.decimal(300)).isSameAs(QueueRedisCodec.decimal(300));
+    }
+
+    @Test
+    @DisplayName("Redis 응답 숫자는 정수/지수 표기 모두 파싱된다")
+    void parseLong_integerAndExponent() {
+        assertThat(QueueRedisCodec.parseLong("1048576".getBytes(StandardCharsets.US_ASCII))).isEqualTo(1_048_576L);
+        assertThat(QueueRedisCodec.parseLong("-3".getBytes(StandardCharsets.US_ASCII))).isEqualTo(-3L);
+        assertThat(QueueRedisCodec.parseLong("1.2e+07".getBytes(StandardCharsets.US_ASCII))).isEqualTo(12_000_000L);
+    }
+
+    @Test
+    @DisplayName("공연 일정 ID는 QueueToken과 같은 규칙으로 추출된다")
+    void concertDateId_matchesQueueToken() {
+        for (String token : new String[]{
+                QueueToken.generate(12L).getValue(), QueueToken.generate().getValue(), "invalid-token", "abc:def"}) {
+            assertThat(QueueRedisCodec.concertDateId(token)).isEqualTo(QueueToken.of(token).getConcertDateId());
+        }
+    }
+
+    @Test
+    @DisplayName("사용자 키는 접두사와 UTF-8 userId를 이어 붙인다")
+    void key_asciiAndNonAscii() {
+        byte[] prefix = "queue:{c:1}:uw:".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(QueueRedisCodec.key(prefix, "user-1")).isEqualTo("queue:{c:1}:uw:user-1".getBytes(StandardCharsets.UTF_8));
+        assertThat(QueueRedisCodec.key(prefix, "사용자")).isEqualTo("queue:{c:1}:uw:사용자".getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import com.example.concert_reservation.domain.queue.infrastructure.QueueStateMirror.Change;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueStateMirror.ChangeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * QueueStateMirror 배치 기록 단위 테스트
+ */
+@DisplayName("QueueStateMirror 테스트")
+class QueueStateMirrorTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private QueueStateMirror mirror;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        mirror = new QueueStateMirror(jdbcTemplate, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            new QueueMetrics(meterRegistry), true, 100, 10, 100, 60);
+    }
+
+    @Test
+    @DisplayName("한 묶음의 변경은 진입 → 활성화 → 반납 순서로 유형별 배치 1회씩 기록된다")
+    void write_appliesInsertsBeforeUpdates() {
+        // given: 같은 토큰의 진입/활성화/반납이 역순으로 섞여 들어옴
+        List<Change> batch = List.of(
+            new Change(ChangeType.REMOVED, "12:b", 0, null, 0, 0),
+            new Change(ChangeType.ACTIVATED, "12:a", 0, null, 0, 2_000L),
+            new Change(ChangeType.ENQUEUED, "12:a", 12, "user-a", 1, 1_000L),
+            new Change(ChangeType.ENQUEUED, "12:b", 12, "user-b", 2, 1_000L)
+        );
+
+        // when
+        mirror.write(batch);
+
+        // then
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).batchUpdate(eq(QueueStateMirror.INSERT_WAITING_SQL), argThat((List<Object[]> args) -> args.size() == 2));
+        inOrder.verify(jdbcTemplate).batchUpdate(eq(QueueStateMirror.ACTIVATE_SQL), argThat((List<Object[]> args) -> args.size() == 1));
+        inOrder.verify(jdbcTemplate).batchUpdate(eq(QueueStateMirror.REMOVE_SQL), argThat((List<Object[]> args) -> args.size() == 1));
+        assertThat(meterRegistry.counter("queue.mirror.written").count()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("DB 기록이 실패하면 묶음을 버리고 유실 지표에 남긴다")
+    void write_failureIsDropped() {
+        // given
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+            .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when
+        mirror.write(List.of(new Change(ChangeType.ENQUEUED, "12:a", 12, "user-a", 1, 1_000L)));
+
+        // then
+        assertThat(meterRegistry.counter("queue.mirror.dropped").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("queue.mirror.written").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("시작하지 않은(비활성화) 미러는 변경을 쌓지 않는다")
+    void disabled_ignoresChanges() {
+        // when
+        QueueStateMirror disabled = QueueStateMirror.disabled();
+        disabled.removed("12:a");
+        disabled.activated(List.of("12:a"), 1_000L);
+
+        // then
+        assertThat(disabled.getBacklog()).isZero();
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
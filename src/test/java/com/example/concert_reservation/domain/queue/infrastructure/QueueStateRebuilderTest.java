@@ -0,0 +1,141 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import com.example.concert_reservation.domain.queue.infrastructure.QueueStateMirror.Change;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueStateMirror.ChangeType;
+import com.example.concert_reservation.domain.queue.infrastructure.QueueStateRebuilder.RebuildResult;
+import com.example.concert_reservation.domain.queue.models.QueueStatus;
+import com.example.concert_reservation.domain.queue.models.QueueToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * QueueStateRebuilder DB 미러 → Redis 복구 통합 테스트 (Redis 필요)
+ */
+@SpringBootTest
+@TestPropertySource(properties = "spring.profiles.active=test")
+@DisplayName("QueueStateRebuilder 테스트")
+class QueueStateRebuilderTest {
+
+    private static final long CONCERT_DATE_ID = 5L;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisQueueRepository queueRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private QueueStoreFailover queueStoreFailover;
+
+    private QueueStateMirror mirror;
+    private QueueStateRebuilder rebuilder;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+        jdbcTemplate.update("DELETE FROM user_queue");
+        QueueMetrics queueMetrics = new QueueMetrics(new SimpleMeterRegistry());
+        mirror = new QueueStateMirror(jdbcTemplate, transactionTemplate, queueMetrics, true, 100, 10, 100, 60);
+        // 청크 크기 2 → 여러 청크에 걸친 복구도 확인
+        rebuilder = new QueueStateRebuilder(redisTemplate, jdbcTemplate, transactionTemplate, queueStoreFailover,
+            queueMetrics, true, false, 2);
+    }
+
+    @Test
+    @DisplayName("유효한 Waiting/Active 행만 진입 순서대로 복구되고 만료된 행은 버려진다")
+    void rebuild_restoresValidRowsInEntryOrder() {
+        // given
+        long now = System.currentTimeMillis();
+        String first = enqueued("user-1", now - 3_000);
+        String second = enqueued("user-2", now - 2_000);
+        String third = enqueued("user-3", now - 1_000);
+        String active = activated("user-4", now - 5_000, now + 60_000);
+        String expiredActive = activated("user-5", now - 5_000, now - 1_000);
+        String staleWaiting = enqueued("user-6", now - TimeUnit.MINUTES.toMillis(31));
+
+        // when
+        RebuildResult result = rebuilder.rebuild();
+
+        // then
+        assertThat(result.restoredWaiting()).isEqualTo(3L);
+        assertThat(result.restoredActive()).isEqualTo(1L);
+        assertThat(queueNumber(first)).isEqualTo(1L);
+        assertThat(queueNumber(second)).isEqualTo(2L);
+        assertThat(queueNumber(third)).isEqualTo(3L);
+        assertThat(queueRepository.isActiveToken(active)).isTrue();
+        assertThat(queueRepository.findByToken(QueueToken.of(expiredActive))).isEmpty();
+        assertThat(queueRepository.findByToken(QueueToken.of(staleWaiting))).isEmpty();
+        assertThat(queueRepository.getShardIds()).contains(CONCERT_DATE_ID);
+    }
+
+    @Test
+    @DisplayName("복구 전에 다시 진입한 사용자는 건너뛰고, 복구된 사용자는 재시작 후 진입한 사용자보다 앞에 선다")
+    void rebuild_skipsReenteredUsersAndRestoresAheadOfThem() {
+        // given
+        long now = System.currentTimeMillis();
+        enqueued("user-1", now - 3_000);
+        String second = enqueued("user-2", now - 2_000);
+        String third = enqueued("user-3", now - 1_000);
+        String reentered = queueRepository.addToWaitingQueue(CONCERT_DATE_ID, "user-1").getToken().getValue();
+
+        // when
+        RebuildResult result = rebuilder.rebuild();
+
+        // then
+        assertThat(result.restoredWaiting()).isEqualTo(2L);
+        assertThat(result.skipped()).isEqualTo(1L);
+        assertThat(queueNumber(second)).isEqualTo(1L);
+        assertThat(queueNumber(third)).isEqualTo(2L);
+        assertThat(queueNumber(reentered)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 복구 중이면 실행하지 않는다")
+    void rebuild_lockHeld_throws() {
+        // given
+        redisTemplate.opsForValue().set(QueueStateRebuilder.LOCK_KEY, "other-node");
+
+        // when & then
+        assertThatThrownBy(() -> rebuilder.rebuild())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("다른 노드에서 대기열 복구가 진행 중입니다");
+    }
+
+    private long queueNumber(String token) {
+        return queueRepository.findByToken(QueueToken.of(token))
+            .filter(queue -> queue.getStatus() == QueueStatus.WAITING)
+            .orElseThrow()
+            .getQueueNumber();
+    }
+
+    private String enqueued(String userId, long enteredAtMillis) {
+        String token = QueueToken.generate(CONCERT_DATE_ID).getValue();
+        mirror.write(List.of(new Change(ChangeType.ENQUEUED, token, CONCERT_DATE_ID, userId, 0, enteredAtMillis)));
+        return token;
+    }
+
+    private String activated(String userId, long enteredAtMillis, long expiresAtMillis) {
+        String token = enqueued(userId, enteredAtMillis);
+        mirror.write(List.of(new Change(ChangeType.ACTIVATED, token, CONCERT_DATE_ID, userId, 0, expiresAtMillis)));
+        return token;
+    }
+}
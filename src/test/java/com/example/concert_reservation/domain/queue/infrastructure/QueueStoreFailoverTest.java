@@ -0,0 +1,74 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * QueueStoreFailover 전환 조건 단위 테스트
+ */
+@DisplayName("QueueStoreFailover 테스트")
+class QueueStoreFailoverTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueueStoreFailover failover;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        failover = new QueueStoreFailover(mock(RedisTemplate.class), "auto", 3, 2, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 인메모리로 전환된다")
+    void recordHealth_failoverAfterThreshold() {
+        // when
+        failover.recordHealth(false);
+        failover.recordHealth(false);
+        failover.recordHealth(true);
+        failover.recordHealth(false);
+        failover.recordHealth(false);
+
+        // then: 중간 성공으로 연속 횟수 초기화
+        assertThat(failover.isEmbedded()).isFalse();
+
+        failover.recordHealth(false);
+        assertThat(failover.isEmbedded()).isTrue();
+        assertThat(meterRegistry.counter("queue.store.failovers", "target", "embedded").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("연속 성공이 임계치에 도달하면 Redis로 복귀한다")
+    void recordHealth_recoverAfterThreshold() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            failover.recordHealth(false);
+        }
+
+        // when
+        failover.recordHealth(true);
+        assertThat(failover.isEmbedded()).isTrue();
+        failover.recordHealth(true);
+
+        // then
+        assertThat(failover.isEmbedded()).isFalse();
+        assertThat(meterRegistry.counter("queue.store.failovers", "target", "redis").count()).isEqualTo(1.0);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("embedded 모드는 처음부터 인메모리 대기열을 사용한다")
+    void embeddedMode_alwaysEmbedded() {
+        QueueStoreFailover embedded = new QueueStoreFailover(
+            mock(RedisTemplate.class), "embedded", 3, 3, new SimpleMeterRegistry());
+
+        assertThat(embedded.isEmbedded()).isTrue();
+        assertThat(embedded.getMode()).isEqualTo(QueueStoreFailover.Mode.EMBEDDED);
+    }
+}
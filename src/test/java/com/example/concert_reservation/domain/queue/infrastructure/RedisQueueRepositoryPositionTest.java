@@ -0,0 +1,38 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RedisQueueRepository 순번/커서 기반 대기 위치 추정 테스트
+ */
+@DisplayName("대기 위치 추정 (순번 - 커서) 테스트")
+class RedisQueueRepositoryPositionTest {
+
+    @Test
+    @DisplayName("이탈이 없으면 ZRANK와 같은 값을 반환한다")
+    void noAbandonment_equalsRank() {
+        // 순번 101~200 대기 중, 100번까지 활성화 → 150번 앞에는 49명
+        assertThat(RedisQueueRepository.estimateWaitingAhead(150, 200, 100, 100)).isEqualTo(49);
+        assertThat(RedisQueueRepository.estimateWaitingAhead(101, 200, 100, 100)).isZero();
+        assertThat(RedisQueueRepository.estimateWaitingAhead(200, 200, 100, 100)).isEqualTo(99);
+    }
+
+    @Test
+    @DisplayName("이탈자는 앞 구간 길이에 비례해 차감한다")
+    void abandonment_proportionallySubtracted() {
+        // 커서 이후 100개 발급, 20명 이탈 → 내 앞 50개 구간에서 10명 차감
+        assertThat(RedisQueueRepository.estimateWaitingAhead(151, 200, 100, 80)).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("결과는 [0, 대기 인원 - 1] 범위로 제한된다")
+    void result_clampedToQueueSize() {
+        // 커서가 아직 반영되지 않은 순번 (활성화 직후 경합)
+        assertThat(RedisQueueRepository.estimateWaitingAhead(90, 200, 100, 100)).isZero();
+        // 대기 인원보다 큰 추정치
+        assertThat(RedisQueueRepository.estimateWaitingAhead(200, 200, 100, 10)).isEqualTo(9);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import com.example.concert_reservation.domain.queue.models.QueueToken;
+import com.example.concert_reservation.domain.queue.models.UserQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RedisQueueRepository 샤드 레지스트리 등록/빈 샤드 정리 통합 테스트 (Redis 필요)
+ */
+@SpringBootTest
+@TestPropertySource(properties = "spring.profiles.active=test")
+@DisplayName("대기열 샤드 정리 테스트")
+class RedisQueueShardPruneTest {
+
+    private static final long CONCERT_DATE_ID = 9L;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisQueueRepository queueRepository;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Test
+    @DisplayName("대기자가 남아 있는 샤드는 정리하지 않는다")
+    void prune_waitingShard_kept() {
+        // given
+        queueRepository.addToWaitingQueue(CONCERT_DATE_ID, "user-1");
+
+        // when
+        boolean pruned = queueRepository.pruneShardIfEmpty(CONCERT_DATE_ID);
+
+        // then
+        assertThat(pruned).isFalse();
+        assertThat(queueRepository.getShardIds()).contains(CONCERT_DATE_ID);
+    }
+
+    @Test
+    @DisplayName("비워진 샤드는 레지스트리와 순번 키에서 제거되고, 다음 첫 대기자가 다시 등록한다")
+    void prune_emptiedShard_removedAndReRegisteredOnNextEnqueue() {
+        // given - 진입 후 유휴 정리로 대기열이 비워진 샤드
+        queueRepository.addToWaitingQueue(CONCERT_DATE_ID, "user-1");
+        long now = System.currentTimeMillis();
+        queueRepository.reclaimIdleTokens(CONCERT_DATE_ID, now + 1_000, 0);
+        QueueShardKeys keys = QueueShardKeys.of(CONCERT_DATE_ID);
+
+        // when
+        boolean pruned = queueRepository.pruneShardIfEmpty(CONCERT_DATE_ID);
+
+        // then
+        assertThat(pruned).isTrue();
+        assertThat(queueRepository.getShardIds()).doesNotContain(CONCERT_DATE_ID);
+        assertThat(redisTemplate.hasKey(keys.sequence())).isFalse();
+        assertThat(redisTemplate.hasKey(QueueShardKeys.SHARD_REGISTRY_KEY)).isTrue();
+
+        UserQueue requeued = queueRepository.addToWaitingQueue(CONCERT_DATE_ID, "user-2");
+        assertThat(requeued.getQueueNumber()).isEqualTo(1L);
+        assertThat(queueRepository.getShardIds()).contains(CONCERT_DATE_ID);
+    }
+
+    @Test
+    @DisplayName("공통 대기열은 비어 있어도 정리하지 않는다")
+    void prune_defaultShard_neverPruned() {
+        // when
+        boolean pruned = queueRepository.pruneShardIfEmpty(QueueToken.DEFAULT_CONCERT_DATE_ID);
+
+        // then
+        assertThat(pruned).isFalse();
+        assertThat(queueRepository.getShardIds()).contains(QueueToken.DEFAULT_CONCERT_DATE_ID);
+    }
+}
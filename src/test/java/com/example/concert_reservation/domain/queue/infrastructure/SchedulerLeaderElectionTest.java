@@ -0,0 +1,117 @@
+package com.example.concert_reservation.domain.queue.infrastructure;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * SchedulerLeaderElection 통합 테스트 (Redis 필요)
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.profiles.active=test",
+    // 애플리케이션 빈의 자동 갱신이 테스트 중 임대를 가져가지 않도록 지연
+    "queue.leader.renew-millis=3600000"
+})
+@DisplayName("SchedulerLeaderElection 테스트")
+class SchedulerLeaderElectionTest {
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisQueueRepository queueRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("여러 노드 중 하나만 리더가 된다")
+    void onlyOneLeader() {
+        // given
+        SchedulerLeaderElection node1 = new SchedulerLeaderElection(redisTemplate, 3000, meterRegistry);
+        SchedulerLeaderElection node2 = new SchedulerLeaderElection(redisTemplate, 3000, meterRegistry);
+
+        // when
+        node1.renew();
+        node2.renew();
+        node1.renew();
+
+        // then
+        assertThat(node1.isLeader()).isTrue();
+        assertThat(node2.isLeader()).isFalse();
+        assertThat(node2.getFencingToken()).isZero();
+        assertThat(meterRegistry.get("queue.scheduler.leadership.changes").tag("event", "acquired").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("리더가 임대를 반납하면 다른 노드가 더 큰 펜싱 토큰으로 승계한다")
+    void release_thenFailover() {
+        // given
+        SchedulerLeaderElection node1 = new SchedulerLeaderElection(redisTemplate, 3000, meterRegistry);
+        SchedulerLeaderElection node2 = new SchedulerLeaderElection(redisTemplate, 3000, meterRegistry);
+        node1.renew();
+        long firstToken = node1.getFencingToken();
+
+        // when
+        node1.release();
+        node2.renew();
+
+        // then
+        assertThat(node1.isLeader()).isFalse();
+        assertThat(node2.isLeader()).isTrue();
+        assertThat(node2.getFencingToken()).isGreaterThan(firstToken);
+    }
+
+    @Test
+    @DisplayName("임대가 만료되면 다른 노드가 승계하고 옛 리더는 갱신 시 리더 자격을 잃는다")
+    void leaseExpired_thenFailover() throws InterruptedException {
+        // given
+        SchedulerLeaderElection node1 = new SchedulerLeaderElection(redisTemplate, 200, meterRegistry);
+        SchedulerLeaderElection node2 = new SchedulerLeaderElection(redisTemplate, 200, meterRegistry);
+        node1.renew();
+
+        // when: 리더가 갱신하지 못한 채 임대 만료
+        Thread.sleep(300);
+        node2.renew();
+        node1.renew();
+
+        // then
+        assertThat(node2.isLeader()).isTrue();
+        assertThat(node1.isLeader()).isFalse();
+        assertThat(meterRegistry.get("queue.scheduler.leadership.changes").tag("event", "lost").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("더 작은 펜싱 토큰의 활성화 요청은 거부된다")
+    void staleFencingToken_activationRejected() {
+        // given
+        queueRepository.addToWaitingQueue(1L, "user1");
+        queueRepository.addToWaitingQueue(1L, "user2");
+
+        // when: 새 리더(토큰 2)가 활성화한 뒤 옛 리더(토큰 1)가 뒤늦게 실행
+        List<String> byNewLeader = queueRepository.activateTokens(1L, 1, 2);
+        List<String> byStaleLeader = queueRepository.activateTokens(1L, 1, 1);
+
+        // then
+        assertThat(byNewLeader).hasSize(1);
+        assertThat(byStaleLeader).isEmpty();
+        assertThat(queueRepository.getWaitingQueueSize(1L)).isEqualTo(1);
+    }
+}
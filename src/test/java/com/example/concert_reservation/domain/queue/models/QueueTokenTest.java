@@ -33,6 +33,25 @@ class QueueTokenTest {
         assertThat(token1.getValue()).isNotEqualTo(token2.getValue());
     }
     
+    @Test
+    @DisplayName("공연 일정별 토큰은 공연 일정 ID를 복원할 수 있다")
+    void generate_withConcertDateId_embedsConcertDateId() {
+        // when
+        QueueToken token = QueueToken.generate(42L);
+        
+        // then
+        assertThat(token.getValue()).startsWith("42:");
+        assertThat(token.getConcertDateId()).isEqualTo(42L);
+        assertThat(QueueToken.of(token.getValue()).getConcertDateId()).isEqualTo(42L);
+    }
+    
+    @Test
+    @DisplayName("접두사가 없거나 잘못된 토큰은 공통 대기열로 간주한다")
+    void getConcertDateId_withoutPrefix_returnsDefault() {
+        assertThat(QueueToken.generate().getConcertDateId()).isEqualTo(QueueToken.DEFAULT_CONCERT_DATE_ID);
+        assertThat(QueueToken.of("abc:token").getConcertDateId()).isEqualTo(QueueToken.DEFAULT_CONCERT_DATE_ID);
+    }
+    
     @Test
     @DisplayName("of()로 기존 토큰 값으로 QueueToken을 생성할 수 있다")
     void of_createsTokenFromValue() {
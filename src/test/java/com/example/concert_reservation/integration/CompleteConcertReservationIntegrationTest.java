@@ -65,7 +65,7 @@ import static org.assertj.core.api.Assertions.*;
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @DisplayName("완전한 콘서트 예약 프로세스 통합 테스트")
-class CompleteConcertReservationIntegrationTest {
+class CompleteConcertReservationIntegrationTest extends RedisIntegrationTestSupport {
 
     @Autowired
     private ReserveSeatUseCase reserveSeatUseCase;
@@ -0,0 +1,97 @@
+package com.example.concert_reservation.integration;
+
+import com.example.concert_reservation.api.concert.dto.AvailableDateResponse;
+import com.example.concert_reservation.api.concert.usecase.GetAvailableDatesUseCase;
+import com.example.concert_reservation.api.concert.usecase.GetConcertETagUseCase;
+import com.example.concert_reservation.domain.concert.events.SeatStatusChangedEvent;
+import com.example.concert_reservation.domain.concert.infrastructure.ConcertDateJpaRepository;
+import com.example.concert_reservation.domain.concert.infrastructure.SeatJpaRepository;
+import com.example.concert_reservation.domain.concert.infrastructure.entity.ConcertDateEntity;
+import com.example.concert_reservation.domain.concert.models.SeatStatus;
+import com.example.concert_reservation.domain.reservation.infrastructure.ReservationJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 가능 날짜 목록 캐시 / ETag 일관성 통합 테스트
+ */
+@SpringBootTest
+@TestPropertySource(
+    locations = "classpath:application-test.properties",
+    // 캐시 TTL 만료로 우연히 새 목록을 읽지 않도록 길게 유지
+    properties = "concert.cache.available-dates-ttl-seconds=60"
+)
+@DisplayName("공연 날짜 목록 캐시 통합 테스트")
+class ConcertCatalogCacheIntegrationTest extends RedisIntegrationTestSupport {
+
+    @Autowired
+    private GetAvailableDatesUseCase getAvailableDatesUseCase;
+
+    @Autowired
+    private GetConcertETagUseCase getConcertETagUseCase;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ConcertDateJpaRepository concertDateJpaRepository;
+
+    @Autowired
+    private SeatJpaRepository seatJpaRepository;
+
+    @Autowired
+    private ReservationJpaRepository reservationJpaRepository;
+
+    private Long concertDateId;
+
+    @BeforeEach
+    void setUp() {
+        reservationJpaRepository.deleteAll();
+        seatJpaRepository.deleteAll();
+        concertDateJpaRepository.deleteAll();
+        concertDateId = concertDateJpaRepository.save(
+            new ConcertDateEntity(null, "아이유 콘서트", LocalDate.now().plusDays(7), 50, 50)
+        ).getId();
+    }
+
+    @Test
+    @DisplayName("좌석 변경 커밋 후 새 ETag와 함께 새 목록을 응답한다")
+    void availableDates_seatChange_bodyChangesWithETag() {
+        // given: 첫 조회로 목록 캐싱
+        String eTagBefore = getConcertETagUseCase.datesETag();
+        assertThat(availableSeats(getAvailableDatesUseCase.execute())).isEqualTo(50);
+
+        ConcertDateEntity concertDate = concertDateJpaRepository.findById(concertDateId).orElseThrow();
+        concertDate.setAvailableSeats(49);
+        concertDateJpaRepository.save(concertDate);
+        // 버전이 그대로면 캐시된 목록 응답
+        assertThat(getConcertETagUseCase.datesETag()).isEqualTo(eTagBefore);
+        assertThat(availableSeats(getAvailableDatesUseCase.execute())).isEqualTo(50);
+
+        // when: 좌석 상태 변경 커밋 (트랜잭션 밖 발행 → 즉시 반영)
+        eventPublisher.publishEvent(new SeatStatusChangedEvent(1L, concertDateId, 1, SeatStatus.RESERVED));
+
+        // then
+        String eTagAfter = getConcertETagUseCase.datesETag();
+        assertThat(eTagAfter).isNotEqualTo(eTagBefore);
+        assertThat(availableSeats(getAvailableDatesUseCase.execute())).isEqualTo(49);
+    }
+
+    private int availableSeats(List<AvailableDateResponse> dates) {
+        return dates.stream()
+            .filter(date -> date.getConcertDateId().equals(concertDateId))
+            .findFirst()
+            .orElseThrow()
+            .getAvailableSeats();
+    }
+}
@@ -50,7 +50,7 @@ import static org.assertj.core.api.Assertions.*;
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @DisplayName("동시성 통합 테스트 - 대규모 사용자 동시 접속")
-class ConcurrencyIntegrationTest {
+class ConcurrencyIntegrationTest extends RedisIntegrationTestSupport {
 
     private static final Logger log = LoggerFactory.getLogger(ConcurrencyIntegrationTest.class);
     
@@ -42,7 +42,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 })
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 @DisplayName("대기열 토큰 검증 통합 테스트")
-class QueueTokenValidationIntegrationTest {
+class QueueTokenValidationIntegrationTest extends RedisIntegrationTestSupport {
     
     @Autowired
     private MockMvc mockMvc;
@@ -0,0 +1,22 @@
+package com.example.concert_reservation.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * Redis를 함께 쓰는 통합 테스트 공통 설정
+ *
+ * 각 테스트 전에 Redis를 비운다 (하위 클래스의 @BeforeEach보다 먼저 실행)
+ * - 인메모리 DB는 ID를 다시 1부터 발급하므로 이전 테스트의 좌석 선점 키, 캐시 등이 새 데이터와 겹치지 않도록 함
+ */
+abstract class RedisIntegrationTestSupport {
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void flushRedis() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+}
@@ -39,7 +39,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 @SpringBootTest
 @TestPropertySource(locations = "classpath:application-test.properties")
 @DisplayName("예약 생명주기 통합 테스트")
-class ReservationLifecycleIntegrationTest {
+class ReservationLifecycleIntegrationTest extends RedisIntegrationTestSupport {
 
     @Autowired
     private ReserveSeatUseCase reserveSeatUseCase;
@@ -1,5 +1,7 @@
 package com.example.concert_reservation.loadtest;
 
+import com.example.concert_reservation.domain.queue.components.QueueIssueBatcher;
+import com.example.concert_reservation.domain.queue.components.QueueValidator;
 import com.example.concert_reservation.domain.queue.infrastructure.RedisQueueRepository;
 import com.example.concert_reservation.domain.queue.models.UserQueue;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,9 +41,18 @@ class LoadTest1_QueueStressTest {
     @Autowired
     private RedisTemplate<String, String> redisTemplate;
     
+    @Autowired
+    private QueueValidator queueValidator;
+    
+    @Autowired
+    private QueueIssueBatcher queueIssueBatcher;
+    
     private static final int TOTAL_USERS = 30_000;
     private static final int THREAD_POOL_SIZE = 100;
     private static final int BATCH_SIZE = TOTAL_USERS / THREAD_POOL_SIZE;
+    
+    // issueConcurrently 마지막 실행 소요시간 (ms)
+    private long lastIssueMillis;
 
     @BeforeEach
     void setUp() {
@@ -176,4 +187,162 @@ class LoadTest1_QueueStressTest {
         assertThat(successCount.get()).isGreaterThan((int)(TOTAL_USERS * 0.95)); // 95% 이상 성공
         assertThat(successResults.size()).isEqualTo(queueNumbers.size()); // 대기번호 중복 없음
     }
+    
+    @Test
+    @DisplayName("⚡ 대기열 활성화 지연시간 측정 (스케줄러 1틱 = 3,000명 단위)")
+    void test_activation_latency_per_tick() {
+        // given: 대기열 적재 (스케줄러 1틱 단위로 나누어 활성화)
+        int activationBatch = 3_000;
+        for (int i = 0; i < TOTAL_USERS; i++) {
+            queueRepository.addToWaitingQueue("activation_test_user_" + i);
+        }
+        
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("🚀 활성화 지연시간 측정: " + String.format("%,d", TOTAL_USERS) + "명 / 틱당 " + String.format("%,d", activationBatch) + "명");
+        System.out.println("=".repeat(80));
+        
+        // when: 틱 단위 활성화 (Lua 스크립트 1회 호출 = Redis 왕복 1회)
+        List<Long> tickLatencies = new ArrayList<>();
+        int totalActivated = 0;
+        while (totalActivated < TOTAL_USERS) {
+            long tickStart = System.nanoTime();
+            List<String> activated = queueRepository.activateTokens(activationBatch);
+            tickLatencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - tickStart));
+            if (activated.isEmpty()) {
+                break;
+            }
+            totalActivated += activated.size();
+        }
+        
+        // then
+        List<Long> sortedLatencies = new ArrayList<>(tickLatencies);
+        Collections.sort(sortedLatencies);
+        long avg = sortedLatencies.stream().mapToLong(Long::longValue).sum() / sortedLatencies.size();
+        long p99 = sortedLatencies.get((int) (sortedLatencies.size() * 0.99));
+        long max = sortedLatencies.get(sortedLatencies.size() - 1);
+        
+        System.out.println("\n[활성화 지연시간 (틱당)]");
+        System.out.println("   틱 수: " + sortedLatencies.size());
+        System.out.println("   평균: " + avg + "ms");
+        System.out.println("   99th percentile: " + p99 + "ms");
+        System.out.println("   최대: " + max + "ms");
+        System.out.println("   총 활성화: " + String.format("%,d", totalActivated) + "명");
+        System.out.println("=".repeat(80) + "\n");
+        
+        assertThat(totalActivated).isEqualTo(TOTAL_USERS);
+        assertThat(queueRepository.getWaitingQueueSize()).isZero();
+        assertThat(queueRepository.getActiveQueueSize()).isEqualTo(TOTAL_USERS);
+    }
+    
+    @Test
+    @DisplayName("⚡ 공연 일정 2개 동시 오픈 - 샤드별 대기열 분리 검증")
+    void test_two_concert_shards_concurrent_entry() throws InterruptedException {
+        // given: 두 공연 일정에 절반씩 동시 진입
+        long concertA = 101L;
+        long concertB = 202L;
+        int perConcert = TOTAL_USERS / 2;
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
+        CountDownLatch latch = new CountDownLatch(TOTAL_USERS);
+        
+        Instant startTime = Instant.now();
+        for (int i = 0; i < TOTAL_USERS; i++) {
+            final long concertDateId = i % 2 == 0 ? concertA : concertB;
+            final String userId = "shard_test_user_" + i;
+            executorService.submit(() -> {
+                try {
+                    queueRepository.addToWaitingQueue(concertDateId, userId);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(5, TimeUnit.MINUTES);
+        executorService.shutdown();
+        long elapsedMillis = Duration.between(startTime, Instant.now()).toMillis();
+        
+        // when: 한 공연 일정만 활성화
+        List<String> activated = queueRepository.activateTokens(concertA, 1_000);
+        
+        // then: 샤드별 크기는 독립적이고 전체 조회는 합계
+        System.out.println("\n[샤드별 대기열] 진입 " + String.format("%,d", TOTAL_USERS) + "명 / " + elapsedMillis + "ms");
+        System.out.println("   " + queueRepository.getWaitingQueueSizes());
+        
+        assertThat(activated).hasSize(1_000);
+        assertThat(activated).allMatch(token -> token.startsWith(concertA + ":"));
+        assertThat(queueRepository.getWaitingQueueSize(concertA)).isEqualTo(perConcert - 1_000);
+        assertThat(queueRepository.getWaitingQueueSize(concertB)).isEqualTo(perConcert);
+        assertThat(queueRepository.getActiveQueueSize(concertB)).isZero();
+        assertThat(queueRepository.getWaitingQueueSize()).isEqualTo(TOTAL_USERS - 1_000);
+        assertThat(queueRepository.getActiveQueueSize()).isEqualTo(1_000);
+        assertThat(queueRepository.getShardIds()).contains(concertA, concertB);
+        assertThat(queueRepository.isActiveToken(activated.get(0))).isTrue();
+    }
+    
+    @Test
+    @DisplayName("⚡ 토큰 발급 마이크로 배치 vs 요청별 발급 처리량 비교")
+    void test_micro_batched_issuance_throughput() throws InterruptedException {
+        // given: 같은 동시성으로 요청별 발급(EXISTS 2회 + 진입 스크립트)과 마이크로 배치 발급 비교
+        assertThat(queueIssueBatcher.isEnabled()).isTrue();
+        
+        // when
+        Map<String, UserQueue> perRequest = issueConcurrently("per_request_user_", userId -> {
+            if (queueValidator.hasActiveQueue(userId) || queueValidator.hasWaitingQueue(userId)) {
+                throw new IllegalStateException("이미 발급된 사용자");
+            }
+            return queueRepository.addToWaitingQueue(userId);
+        });
+        long perRequestMillis = lastIssueMillis;
+        
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+        Map<String, UserQueue> batched = issueConcurrently("batched_user_",
+            userId -> queueIssueBatcher.submit(0L, userId).join());
+        long batchedMillis = lastIssueMillis;
+        
+        // then
+        double perRequestTps = perRequest.size() * 1000.0 / Math.max(1, perRequestMillis);
+        double batchedTps = batched.size() * 1000.0 / Math.max(1, batchedMillis);
+        System.out.println("\n[토큰 발급 처리량] " + String.format("%,d", TOTAL_USERS) + "명 / 스레드 " + THREAD_POOL_SIZE);
+        System.out.println("   요청별 발급: " + perRequestMillis + "ms (" + String.format("%,.0f", perRequestTps) + " req/sec)");
+        System.out.println("   마이크로 배치: " + batchedMillis + "ms (" + String.format("%,.0f", batchedTps) + " req/sec)");
+        System.out.println("   처리량 배율: " + String.format("%.1fx", batchedTps / Math.max(1, perRequestTps)));
+        
+        assertThat(perRequest).hasSize(TOTAL_USERS);
+        assertThat(batched).hasSize(TOTAL_USERS);
+        Set<Long> queueNumbers = new HashSet<>();
+        batched.values().forEach(queue -> queueNumbers.add(queue.getQueueNumber()));
+        assertThat(queueNumbers).hasSize(TOTAL_USERS); // 배치 간에도 대기번호 중복 없음
+        assertThat(queueRepository.getWaitingQueueSize()).isEqualTo(TOTAL_USERS);
+        
+        // 이미 대기 중인 사용자는 배치에서도 거절
+        assertThat(queueIssueBatcher.submit(0L, "batched_user_0"))
+            .failsWithin(Duration.ofSeconds(5))
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(IllegalStateException.class);
+    }
+    
+    private Map<String, UserQueue> issueConcurrently(String userPrefix,
+                                                    java.util.function.Function<String, UserQueue> issuer)
+            throws InterruptedException {
+        Map<String, UserQueue> results = new ConcurrentHashMap<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
+        CountDownLatch latch = new CountDownLatch(TOTAL_USERS);
+        
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < TOTAL_USERS; i++) {
+            final String userId = userPrefix + i;
+            executorService.submit(() -> {
+                try {
+                    results.put(userId, issuer.apply(userId));
+                } catch (Exception e) {
+                    // 실패 건은 결과 크기 검증에서 드러남
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(5, TimeUnit.MINUTES);
+        lastIssueMillis = System.currentTimeMillis() - start;
+        executorService.shutdown();
+        return results;
+    }
 }
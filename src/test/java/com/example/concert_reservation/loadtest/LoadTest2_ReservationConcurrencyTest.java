@@ -1,5 +1,7 @@
 package com.example.concert_reservation.loadtest;
 
+import com.example.concert_reservation.api.reservation.dto.ReserveSeatRequest;
+import com.example.concert_reservation.api.reservation.usecase.ReserveSeatUseCase;
 import com.example.concert_reservation.domain.balance.components.BalanceManager;
 import com.example.concert_reservation.domain.concert.infrastructure.ConcertDateJpaRepository;
 import com.example.concert_reservation.domain.concert.infrastructure.SeatJpaRepository;
@@ -10,13 +12,19 @@ import com.example.concert_reservation.domain.queue.infrastructure.RedisQueueRep
 import com.example.concert_reservation.domain.reservation.components.ReservationManager;
 import com.example.concert_reservation.domain.reservation.infrastructure.ReservationJpaRepository;
 import com.example.concert_reservation.domain.reservation.models.Reservation;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.Duration;
@@ -34,6 +42,11 @@ import static org.assertj.core.api.Assertions.assertThat;
  * 목적: 비관적 락(Pessimistic Lock)의 동시성 제어 검증
  * 규모: 30만명이 50개 좌석 경쟁 (6,000:1 경쟁률)
  * 예상 소요시간: 10-20분
+ *
+ * 좌석 선점 게이트 비교: 5,000명이 1개 좌석 경쟁
+ * - 게이트 없음: 모든 요청이 트랜잭션을 열고 SELECT ... FOR UPDATE에서 대기
+ * - 게이트(SeatHoldGate): Redis SET NX 선점에 성공한 요청만 DB 단계 진행
+ * 측정: p99 응답시간, DB 단계 진입 수, 커넥션 풀 사용(활성/대기 스레드)
  */
 @SpringBootTest
 @TestPropertySource(properties = {
@@ -43,6 +56,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DisplayName("부하 테스트 #2: 좌석 예약 동시성 테스트")
 class LoadTest2_ReservationConcurrencyTest {
 
+    private static final Logger log = LoggerFactory.getLogger(LoadTest2_ReservationConcurrencyTest.class);
+
     @Autowired
     private ReservationManager reservationManager;
     
@@ -64,7 +79,21 @@ class LoadTest2_ReservationConcurrencyTest {
     @Autowired
     private RedisTemplate<String, String> redisTemplate;
     
+    @Autowired
+    private ReserveSeatUseCase reserveSeatUseCase;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @Autowired
+    private HikariDataSource dataSource;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
     private static final int TOTAL_USERS = 300_000;
+    private static final int HOT_SEAT_USERS = 5_000;
+    private static final int HOT_SEAT_THREADS = 200;
     private static final int TOTAL_SEATS = 50;
     private static final int THREAD_POOL_SIZE = 1000;
     private static final BigDecimal SEAT_PRICE = new BigDecimal("50000");
@@ -270,4 +299,122 @@ class LoadTest2_ReservationConcurrencyTest {
         assertThat(successCount.get()).isEqualTo(actualReservedSeats); // DB와 일치
         assertThat(successCount.get()).isGreaterThan(0); // 최소 1건 이상 성공
     }
+
+    @Test
+    @DisplayName("⚡ 좌석 선점 게이트: 5,000명이 1개 좌석 경쟁 - 게이트 없음 vs Redis 선점")
+    void test_seat_hold_gate_vs_pessimistic_lock_only() throws InterruptedException {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        
+        // when 1: 게이트 없음 - 모든 요청이 트랜잭션 + 비관적 락
+        Long baselineSeatId = seatIds.get(0);
+        HotSeatResult baseline = runHotSeat(pool, userId -> transactionTemplate.execute(
+            status -> reservationManager.reserveSeat(userId, baselineSeatId)));
+        
+        // when 2: 게이트 - 선점 실패는 DB 접근 없이 409
+        Long gatedSeatId = seatIds.get(1);
+        double rejectedBefore = holdCount("rejected");
+        HotSeatResult gated = runHotSeat(pool, userId -> reserveSeatUseCase.execute(
+            new ReserveSeatRequest(userId, gatedSeatId)));
+        long gateRejected = (long) (holdCount("rejected") - rejectedBefore);
+        
+        // then
+        log.info("좌석 선점 게이트 비교: {}명 → 1석, 스레드 {}, 커넥션 풀 {}, 게이트에서 거절 {}건",
+            HOT_SEAT_USERS, HOT_SEAT_THREADS, pool.getTotalConnections(), gateRejected);
+        log.info("[게이트 없음 (비관적 락만)] {}", baseline);
+        log.info("[Redis 선점 게이트] {}", gated);
+        
+        long reservedSeats = seatRepository.findAll().stream()
+            .filter(seat -> seat.getId().equals(baselineSeatId) || seat.getId().equals(gatedSeatId))
+            .filter(seat -> seat.getStatus().equals(SeatStatus.RESERVED.name()))
+            .count();
+        
+        assertThat(baseline.successes).isEqualTo(1);
+        assertThat(gated.successes).isEqualTo(1);
+        assertThat(reservedSeats).isEqualTo(2);
+        assertThat(gateRejected).isEqualTo(HOT_SEAT_USERS - 1); // 선점한 1명만 DB 단계 진입
+        assertThat(gated.p99Micros).isLessThanOrEqualTo(baseline.p99Micros);
+        // 선점 실패는 커넥션을 잡지 않으므로 풀 사용량이 게이트 없음보다 크지 않아야 함
+        assertThat(gated.maxActive).isLessThanOrEqualTo(baseline.maxActive);
+        assertThat(gated.maxAwaiting).isLessThanOrEqualTo(baseline.maxAwaiting);
+    }
+    
+    private HotSeatResult runHotSeat(HikariPoolMXBean pool, java.util.function.Consumer<String> reserve)
+            throws InterruptedException {
+        AtomicInteger successes = new AtomicInteger();
+        List<Long> latencies = new CopyOnWriteArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(HOT_SEAT_THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(HOT_SEAT_USERS);
+        
+        // 커넥션 풀 사용량 샘플링 (5ms 간격)
+        AtomicInteger maxActive = new AtomicInteger();
+        AtomicInteger maxAwaiting = new AtomicInteger();
+        List<Integer> activeSamples = new CopyOnWriteArrayList<>();
+        Thread sampler = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                int active = pool.getActiveConnections();
+                maxActive.accumulateAndGet(active, Math::max);
+                maxAwaiting.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+                activeSamples.add(active);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        
+        for (int i = 0; i < HOT_SEAT_USERS; i++) {
+            String userId = "hot_seat_user_" + i;
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    long requestStart = System.nanoTime();
+                    try {
+                        reserve.accept(userId);
+                        successes.incrementAndGet();
+                    } catch (Exception e) {
+                        // 이미 예약/선점된 좌석
+                    }
+                    latencies.add((System.nanoTime() - requestStart) / 1_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        
+        sampler.start();
+        start.countDown();
+        boolean completed = done.await(5, TimeUnit.MINUTES);
+        sampler.interrupt();
+        sampler.join();
+        executor.shutdown();
+        assertThat(completed).isTrue();
+        
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        double avgActive = activeSamples.stream().mapToInt(Integer::intValue).average().orElse(0);
+        return new HotSeatResult(
+            successes.get(),
+            sorted.get(sorted.size() / 2),
+            sorted.get((int) (sorted.size() * 0.99)),
+            maxActive.get(),
+            avgActive,
+            maxAwaiting.get()
+        );
+    }
+    
+    private double holdCount(String result) {
+        return meterRegistry.counter("reservation.seat.hold", "result", result).count();
+    }
+    
+    /**
+     * @param p50Micros 응답시간 p50 (μs)
+     * @param p99Micros 응답시간 p99 (μs)
+     */
+    private record HotSeatResult(int successes, long p50Micros, long p99Micros, int maxActive, double avgActive,
+                                 int maxAwaiting) {
+    }
 }
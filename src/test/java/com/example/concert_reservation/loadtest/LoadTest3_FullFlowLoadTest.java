@@ -199,13 +199,14 @@ class LoadTest3_FullFlowLoadTest {
         System.out.println("▶".repeat(40));
         
         Instant stage2Start = Instant.now();
-        queueRepository.activateTokens(STAGE2_ACTIVE_USERS);
+        int stage2Activated = queueRepository.activateTokens(STAGE2_ACTIVE_USERS).size();
         Duration stage2Duration = Duration.between(stage2Start, Instant.now());
         
-        testResults.put("stage2_activated", STAGE2_ACTIVE_USERS);
+        testResults.put("stage2_activated", stage2Activated);
         testResults.put("stage2_duration_sec", stage2Duration.getSeconds());
+        testResults.put("stage2_duration_ms", stage2Duration.toMillis());
         
-        System.out.println("✅ STAGE 2 완료: " + String.format("%,d", STAGE2_ACTIVE_USERS) + "명 활성화 (" + stage2Duration.getSeconds() + "초)");
+        System.out.println("✅ STAGE 2 완료: " + String.format("%,d", stage2Activated) + "명 활성화 (" + stage2Duration.toMillis() + "ms, Lua 1회 호출)");
         
         // ===========================================
         // STAGE 3: 5만명 예약 시도
@@ -351,7 +352,7 @@ class LoadTest3_FullFlowLoadTest {
         
         System.out.println("\n[단계별 결과]");
         System.out.println("   Stage 1 (대기열 진입): " + String.format("%,d", (int)testResults.get("stage1_success")) + "명 / " + testResults.get("stage1_duration_sec") + "초");
-        System.out.println("   Stage 2 (활성화): " + String.format("%,d", (int)testResults.get("stage2_activated")) + "명 / " + testResults.get("stage2_duration_sec") + "초");
+        System.out.println("   Stage 2 (활성화): " + String.format("%,d", (int)testResults.get("stage2_activated")) + "명 / " + testResults.get("stage2_duration_ms") + "ms");
         System.out.println("   Stage 3 (예약): " + String.format("%,d", (int)testResults.get("stage3_success")) + "건 / " + testResults.get("stage3_duration_sec") + "초");
         System.out.println("   Stage 4 (결제): " + String.format("%,d", (int)testResults.get("stage4_success")) + "건 / " + testResults.get("stage4_duration_sec") + "초");
         System.out.println("   Stage 5 (환불): " + String.format("%,d", (int)testResults.get("stage5_success")) + "건 / " + testResults.get("stage5_duration_sec") + "초");
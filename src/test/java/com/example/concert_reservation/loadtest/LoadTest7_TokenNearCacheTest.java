@@ -0,0 +1,147 @@
+package com.example.concert_reservation.loadtest;
+
+import com.example.concert_reservation.config.QueueTokenInterceptor;
+import com.example.concert_reservation.domain.queue.infrastructure.ActiveTokenNearCache;
+import com.example.concert_reservation.domain.queue.infrastructure.RedisQueueRepository;
+import com.example.concert_reservation.support.exception.TokenNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 부하 테스트 #7: 대기열 토큰 근접 캐시 효과 측정
+ *
+ * 목적: QueueTokenInterceptor 요청당 Redis 명령 수 비교 (캐시 미스 vs 적중)
+ * 규모: Active 토큰 1,000개 × 요청 10회
+ * 측정: Redis INFO stats의 total_commands_processed 증가량
+ * 예상 소요시간: 10-20초
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.profiles.active=test",
+    "spring.main.allow-bean-definition-overriding=true"
+})
+@DisplayName("부하 테스트 #7: 대기열 토큰 근접 캐시 Redis 명령 절감 측정")
+class LoadTest7_TokenNearCacheTest {
+
+    @Autowired
+    private RedisQueueRepository queueRepository;
+
+    @Autowired
+    private QueueTokenInterceptor queueTokenInterceptor;
+
+    @Autowired
+    private ActiveTokenNearCache activeTokenNearCache;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private static final int TOTAL_TOKENS = 1_000;
+    private static final int REQUESTS_PER_TOKEN = 10;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+        System.out.println("✅ Redis 초기화 완료");
+    }
+
+    @Test
+    @DisplayName("⚡ 캐시 적중 시 요청당 Redis 명령 수 절감")
+    void test_redis_ops_saved_per_request() throws Exception {
+        // given: Active 토큰 준비
+        for (int i = 0; i < TOTAL_TOKENS; i++) {
+            queueRepository.addToWaitingQueue("near_cache_user_" + i);
+        }
+        List<String> tokens = new ArrayList<>(queueRepository.activateTokens(TOTAL_TOKENS));
+        assertThat(tokens).hasSize(TOTAL_TOKENS);
+        tokens.forEach(activeTokenNearCache::invalidate);
+
+        // when 1: 첫 요청 (캐시 미스 → Redis 조회 후 캐싱)
+        long coldCommands = measureCommands(() -> {
+            for (String token : tokens) {
+                preHandle(token);
+            }
+        });
+
+        // when 2: 후속 요청 (캐시 적중)
+        long warmCommands = measureCommands(() -> {
+            for (int round = 1; round < REQUESTS_PER_TOKEN; round++) {
+                for (String token : tokens) {
+                    preHandle(token);
+                }
+            }
+        });
+
+        // then
+        int warmRequests = TOTAL_TOKENS * (REQUESTS_PER_TOKEN - 1);
+        double coldOpsPerRequest = (double) coldCommands / TOTAL_TOKENS;
+        double warmOpsPerRequest = (double) warmCommands / warmRequests;
+
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("📊 요청당 Redis 명령 수 (QueueTokenInterceptor)");
+        System.out.println("=".repeat(80));
+        System.out.println("   캐시 미스: " + String.format("%.2f", coldOpsPerRequest) + " ops/request (" + TOTAL_TOKENS + "건)");
+        System.out.println("   캐시 적중: " + String.format("%.2f", warmOpsPerRequest) + " ops/request (" + warmRequests + "건)");
+        System.out.println("   절감: " + String.format("%.2f", coldOpsPerRequest - warmOpsPerRequest) + " ops/request");
+        System.out.println("=".repeat(80) + "\n");
+
+        assertThat(coldOpsPerRequest).isGreaterThanOrEqualTo(1.0);
+        // 정리 스케줄러 등 배경 명령을 감안한 여유치
+        assertThat(warmOpsPerRequest).isLessThan(0.1);
+    }
+
+    @Test
+    @DisplayName("⚡ 토큰 제거 시 Pub/Sub으로 근접 캐시 무효화")
+    void test_remove_token_invalidates_near_cache() throws Exception {
+        // given
+        queueRepository.addToWaitingQueue("near_cache_remove_user");
+        String token = queueRepository.activateTokens(1).get(0);
+        preHandle(token);
+        assertThat(activeTokenNearCache.getUserId(token)).isEqualTo("near_cache_remove_user");
+
+        // when
+        queueRepository.removeToken(token);
+
+        // then: 무효화 메시지 수신 대기 (최대 2초)
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (activeTokenNearCache.getUserId(token) != null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(activeTokenNearCache.getUserId(token)).isNull();
+        assertThatThrownBy(() -> preHandle(token)).isInstanceOf(TokenNotFoundException.class);
+    }
+
+    private void preHandle(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Queue-Token", token);
+        queueTokenInterceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+    }
+
+    private long measureCommands(Runnable action) {
+        long before = totalCommandsProcessed();
+        action.run();
+        // INFO 호출 자체(1회)는 제외
+        return totalCommandsProcessed() - before - 1;
+    }
+
+    private long totalCommandsProcessed() {
+        try (RedisConnection connection = redisTemplate.getConnectionFactory().getConnection()) {
+            Properties stats = connection.serverCommands().info("stats");
+            return Long.parseLong(stats.getProperty("total_commands_processed").trim());
+        }
+    }
+}
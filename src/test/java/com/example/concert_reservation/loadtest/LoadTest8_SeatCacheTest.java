@@ -0,0 +1,223 @@
+package com.example.concert_reservation.loadtest;
+
+import com.example.concert_reservation.domain.concert.components.SeatManager;
+import com.example.concert_reservation.domain.concert.infrastructure.ConcertDateJpaRepository;
+import com.example.concert_reservation.domain.concert.infrastructure.SeatAvailabilityIndex;
+import com.example.concert_reservation.domain.concert.infrastructure.SeatJpaRepository;
+import com.example.concert_reservation.domain.concert.infrastructure.entity.ConcertDateEntity;
+import com.example.concert_reservation.domain.concert.infrastructure.entity.SeatEntity;
+import com.example.concert_reservation.domain.concert.models.Seat;
+import com.example.concert_reservation.domain.concert.models.SeatStatus;
+import com.example.concert_reservation.domain.reservation.infrastructure.ReservationJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 부하 테스트 #8: 좌석 캐시 제자리 갱신 vs 목록 전체 무효화
+ *
+ * 목적: 좌석 1석 변경 시 목록 전체를 버리던 방식(@CacheEvict)과 필드만 갱신하는 방식의 DB 조회량 비교
+ * 규모: 좌석 500석, 조회 스레드 32개 + 예약/해제 스레드 4개, 방식별 10초
+ * 측정:
+ * - 좌석 목록 DB 조회 수/초 (seat.cache.db.loads)
+ * - 전체 SQL 실행 수/초 (Hibernate Statistics, 예약/해제 자체의 SELECT FOR UPDATE/UPDATE 포함)
+ * - 인스턴스 메모리 계층 적중률 (seat.cache.requests{tier="local"})
+ * 예상 소요시간: 30초
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.profiles.active=test",
+    "spring.main.allow-bean-definition-overriding=true",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@DisplayName("부하 테스트 #8: 좌석 캐시 DB 조회량 비교")
+class LoadTest8_SeatCacheTest {
+
+    @Autowired
+    private SeatManager seatManager;
+
+    @Autowired
+    private SeatAvailabilityIndex seatAvailabilityIndex;
+
+    @Autowired
+    private ConcertDateJpaRepository concertDateRepository;
+
+    @Autowired
+    private SeatJpaRepository seatRepository;
+
+    @Autowired
+    private ReservationJpaRepository reservationRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private static final int TOTAL_SEATS = 500;
+    private static final int READER_THREADS = 32;
+    private static final int WRITER_THREADS = 4;
+    private static final long DURATION_MILLIS = 10_000;
+
+    private Long concertDateId;
+    private final List<Long> seatIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        seatRepository.deleteAll();
+        concertDateRepository.deleteAll();
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+
+        ConcertDateEntity concert = concertDateRepository.save(new ConcertDateEntity(
+            null, "좌석 캐시 부하 테스트", LocalDate.now().plusDays(30), TOTAL_SEATS, TOTAL_SEATS));
+        concertDateId = concert.getId();
+        for (int i = 1; i <= TOTAL_SEATS; i++) {
+            SeatEntity seat = seatRepository.save(new SeatEntity(
+                null, concertDateId, i, SeatStatus.AVAILABLE.name(), new BigDecimal("50000")));
+            seatIds.add(seat.getId());
+        }
+        System.out.println("✅ 테스트 데이터 준비 완료 (좌석 " + TOTAL_SEATS + "석)");
+    }
+
+    @Test
+    @DisplayName("⚡ 좌석 변경이 잦을 때 제자리 갱신은 좌석 목록 DB 조회를 거의 만들지 않는다")
+    void test_patch_vs_evict_db_queries() throws Exception {
+        // when 1: 기존 방식 재현 - 좌석 1석 변경마다 목록 전체 무효화 (메모리 + Redis)
+        Result evict = run(true);
+
+        // when 2: 현재 방식 - 커밋 후 좌석 1석 상태만 갱신
+        Result patch = run(false);
+
+        // then
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("📊 좌석 캐시 DB 조회량 (조회 " + READER_THREADS + "스레드, 예약/해제 " + WRITER_THREADS + "스레드)");
+        System.out.println("=".repeat(80));
+        print("목록 전체 무효화", evict);
+        print("제자리 갱신", patch);
+        System.out.println("=".repeat(80) + "\n");
+
+        assertThat(patch.writes).isGreaterThan(0);
+        // 제자리 갱신: 첫 적재 외에는 좌석 목록 DB 조회 없음
+        assertThat(patch.dbLoads).isLessThanOrEqualTo(1);
+        assertThat(evict.dbLoads).isGreaterThan(patch.dbLoads);
+        assertThat(patch.localHitRatio()).isGreaterThan(0.99);
+    }
+
+    private Result run(boolean evictOnWrite) throws InterruptedException {
+        seatAvailabilityIndex.invalidate(concertDateId);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        double dbLoadsBefore = counter("seat.cache.db.loads", null);
+        double localHitsBefore = counter("seat.cache.requests", "hit");
+        double localMissesBefore = counter("seat.cache.requests", "miss");
+
+        AtomicLong reads = new AtomicLong();
+        AtomicLong writes = new AtomicLong();
+        long deadline = System.currentTimeMillis() + DURATION_MILLIS;
+        ExecutorService executor = Executors.newFixedThreadPool(READER_THREADS + WRITER_THREADS);
+        CountDownLatch done = new CountDownLatch(READER_THREADS + WRITER_THREADS);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        for (int i = 0; i < READER_THREADS; i++) {
+            executor.submit(() -> {
+                try {
+                    while (System.currentTimeMillis() < deadline) {
+                        seatManager.getSeatsByConcert(concertDateId);
+                        reads.incrementAndGet();
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        for (int i = 0; i < WRITER_THREADS; i++) {
+            executor.submit(() -> {
+                try {
+                    while (System.currentTimeMillis() < deadline) {
+                        Long seatId = seatIds.get(ThreadLocalRandom.current().nextInt(seatIds.size()));
+                        transactionTemplate.executeWithoutResult(status -> {
+                            Seat seat = seatManager.getSeatByIdWithLock(seatId);
+                            if (seat.isAvailable()) {
+                                seatManager.reserveSeat(seat);
+                            } else if (seat.isReserved()) {
+                                seatManager.releaseSeat(seat);
+                            }
+                        });
+                        if (evictOnWrite) {
+                            seatAvailabilityIndex.invalidate(concertDateId);
+                        }
+                        writes.incrementAndGet();
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await(DURATION_MILLIS * 3, TimeUnit.MILLISECONDS);
+        executor.shutdownNow();
+
+        double seconds = DURATION_MILLIS / 1000.0;
+        return new Result(
+            reads.get(),
+            writes.get(),
+            (long) (counter("seat.cache.db.loads", null) - dbLoadsBefore),
+            statistics.getPrepareStatementCount(),
+            seconds,
+            counter("seat.cache.requests", "hit") - localHitsBefore,
+            counter("seat.cache.requests", "miss") - localMissesBefore
+        );
+    }
+
+    private double counter(String name, String result) {
+        if (result == null) {
+            return meterRegistry.counter(name).count();
+        }
+        return meterRegistry.counter(name, "tier", "local", "result", result).count();
+    }
+
+    private static void print(String label, Result result) {
+        System.out.println("   [" + label + "]");
+        System.out.println("     조회: " + String.format("%,d", result.reads) + "건, 예약/해제: " + String.format("%,d", result.writes) + "건");
+        System.out.println("     좌석 목록 DB 조회: " + String.format("%.1f", result.dbLoads / result.seconds) + " queries/s");
+        System.out.println("     전체 SQL 실행: " + String.format("%.1f", result.statements / result.seconds) + " statements/s");
+        System.out.println("     메모리 계층 적중률: " + String.format("%.2f%%", result.localHitRatio() * 100));
+    }
+
+    private record Result(long reads, long writes, long dbLoads, long statements, double seconds,
+                          double localHits, double localMisses) {
+        double localHitRatio() {
+            double total = localHits + localMisses;
+            return total == 0 ? 0 : localHits / total;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.concert_reservation.loadtest;
+
+import com.example.concert_reservation.domain.concert.components.ConcertReader;
+import com.example.concert_reservation.domain.concert.infrastructure.ConcertDateCoreRepository;
+import com.example.concert_reservation.domain.concert.infrastructure.ConcertDateJpaRepository;
+import com.example.concert_reservation.domain.concert.infrastructure.SeatAvailabilityIndex;
+import com.example.concert_reservation.domain.concert.infrastructure.SeatCacheMetrics;
+import com.example.concert_reservation.domain.concert.infrastructure.SeatJpaRepository;
+import com.example.concert_reservation.domain.concert.infrastructure.SeatStateRedisCache;
+import com.example.concert_reservation.domain.concert.infrastructure.entity.ConcertDateEntity;
+import com.example.concert_reservation.domain.concert.infrastructure.entity.SeatEntity;
+import com.example.concert_reservation.domain.concert.models.SeatStatus;
+import com.example.concert_reservation.domain.concert.repositories.SeatStoreRepository;
+import com.example.concert_reservation.domain.reservation.infrastructure.ReservationJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 부하 테스트 #9: 캐시 미스 몰림(stampede) - 원본 조회 합치기(single-flight)
+ *
+ * 목적: 인기 공연의 캐시가 비는 순간 동시에 들어온 조회가 각자 DB를 조회하는지 측정
+ * 시나리오:
+ * 1) 공연 단건 조회 (TwoTierCache): 64스레드 동시 미스
+ *    - 합치기 없음: 조회 → 없으면 DB → 기록 (기존 @Cacheable 동작)
+ *    - single-flight: @Cacheable(sync = true) → 키별 DB 조회 1건
+ * 2) 좌석 목록 (SeatAvailabilityIndex): 인스턴스 2개 × 32스레드 동시 미스
+ *    - 잠금 대기 없음(load-wait-millis=0): 인스턴스마다 DB 조회
+ *    - Redis 적재 잠금 + 대기: 클러스터 전체 DB 조회 1건
+ * 측정: SQL 실행 수 (Hibernate Statistics), 좌석 목록 DB 조회 수 (seat.cache.db.loads)
+ * 예상 소요시간: 10초
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.profiles.active=test",
+    "spring.main.allow-bean-definition-overriding=true",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "concert.cache.date-ttl-seconds=60",
+    "concert.cache.local-ttl-seconds=60"
+})
+@DisplayName("부하 테스트 #9: 캐시 미스 몰림 DB 조회 수 비교")
+class LoadTest9_CacheStampedeTest {
+
+    @Autowired
+    private ConcertReader concertReader;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private SeatStoreRepository seatStoreRepository;
+
+    @Autowired
+    private SeatStateRedisCache seatStateRedisCache;
+
+    @Autowired
+    private ConcertDateJpaRepository concertDateRepository;
+
+    @Autowired
+    private SeatJpaRepository seatRepository;
+
+    @Autowired
+    private ReservationJpaRepository reservationRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private static final int CONCERT_THREADS = 64;
+    private static final int NODES = 2;
+    private static final int SEAT_THREADS_PER_NODE = 32;
+    private static final int TOTAL_SEATS = 500;
+    private static final int ROUNDS = 5;
+
+    private Long concertDateId;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository.deleteAll();
+        seatRepository.deleteAll();
+        concertDateRepository.deleteAll();
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+
+        ConcertDateEntity concert = concertDateRepository.save(new ConcertDateEntity(
+            null, "캐시 미스 몰림 테스트", LocalDate.now().plusDays(30), TOTAL_SEATS, TOTAL_SEATS));
+        concertDateId = concert.getId();
+        List<SeatEntity> seats = new ArrayList<>(TOTAL_SEATS);
+        for (int i = 1; i <= TOTAL_SEATS; i++) {
+            seats.add(new SeatEntity(null, concertDateId, i, SeatStatus.AVAILABLE.name(), new BigDecimal("50000")));
+        }
+        seatRepository.saveAll(seats);
+        System.out.println("✅ 테스트 데이터 준비 완료 (좌석 " + TOTAL_SEATS + "석)");
+    }
+
+    @Test
+    @DisplayName("⚡ 공연 단건 조회: 동시 미스가 DB 조회 1건으로 합쳐진다")
+    void test_concert_date_single_flight() throws Exception {
+        Cache cache = cacheManager.getCache(ConcertDateCoreRepository.DATE_BY_ID_CACHE);
+        Statistics statistics = statistics();
+
+        // when 1: 합치기 없음 - 각 스레드가 조회 → 없으면 DB → 기록
+        long naive = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            cache.clear();
+            statistics.clear();
+            runConcurrently(CONCERT_THREADS, () -> {
+                if (cache.get(concertDateId) == null) {
+                    cache.put(concertDateId, concertDateRepository.findById(concertDateId).orElse(null));
+                }
+            });
+            naive += statistics.getPrepareStatementCount();
+        }
+
+        // when 2: single-flight - @Cacheable(sync = true)
+        long singleFlight = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            cache.clear();
+            statistics.clear();
+            runConcurrently(CONCERT_THREADS, () -> concertReader.getConcertDateById(concertDateId));
+            singleFlight += statistics.getPrepareStatementCount();
+        }
+
+        // then
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("📊 공연 단건 조회 캐시 미스 (" + CONCERT_THREADS + "스레드 동시, " + ROUNDS + "회 평균)");
+        System.out.println("=".repeat(80));
+        System.out.println("   합치기 없음:   SQL " + String.format("%.1f", (double) naive / ROUNDS) + "건/미스");
+        System.out.println("   single-flight: SQL " + String.format("%.1f", (double) singleFlight / ROUNDS) + "건/미스");
+        System.out.println("=".repeat(80) + "\n");
+
+        assertThat(singleFlight).isEqualTo(ROUNDS);
+        assertThat(naive).isGreaterThan(singleFlight);
+    }
+
+    @Test
+    @DisplayName("⚡ 좌석 목록: 인스턴스 간 적재 잠금으로 클러스터 전체 DB 조회가 1건이 된다")
+    void test_seat_index_distributed_single_flight() throws Exception {
+        // when 1: 잠금을 얻지 못해도 기다리지 않음 - 인스턴스마다 DB 조회
+        Result noWait = runSeatStampede(0);
+
+        // when 2: 잠금을 얻지 못한 인스턴스는 Redis 좌석 해시 기록을 기다림
+        Result wait = runSeatStampede(1000);
+
+        // then
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("📊 좌석 목록 캐시 미스 (인스턴스 " + NODES + "개 × " + SEAT_THREADS_PER_NODE + "스레드 동시, " + ROUNDS + "회 합계)");
+        System.out.println("=".repeat(80));
+        print("잠금 대기 없음", noWait);
+        print("적재 잠금 + 대기", wait);
+        System.out.println("=".repeat(80) + "\n");
+
+        // 인스턴스 안의 동시 미스는 두 경우 모두 1건으로 합쳐짐
+        assertThat(noWait.dbLoads).isLessThanOrEqualTo((long) NODES * ROUNDS);
+        assertThat(wait.dbLoads).isEqualTo(ROUNDS);
+        assertThat(noWait.dbLoads).isGreaterThan(wait.dbLoads);
+    }
+
+    private Result runSeatStampede(long loadWaitMillis) throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SeatCacheMetrics metrics = new SeatCacheMetrics(registry);
+        Statistics statistics = statistics();
+        long statements = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            seatStateRedisCache.evict(concertDateId);
+            List<SeatAvailabilityIndex> nodes = new ArrayList<>();
+            for (int i = 0; i < NODES; i++) {
+                nodes.add(new SeatAvailabilityIndex(seatStoreRepository, seatStateRedisCache, metrics,
+                    redisTemplate, 600, loadWaitMillis, 0, 1000, 1800));
+            }
+            statistics.clear();
+            runConcurrently(NODES * SEAT_THREADS_PER_NODE,
+                index -> nodes.get(index % NODES).get(concertDateId));
+            statements += statistics.getPrepareStatementCount();
+        }
+        return new Result(
+            (long) registry.counter("seat.cache.db.loads").count(),
+            statements,
+            (long) registry.counter("seat.cache.load.waits", "result", "filled").count()
+        );
+    }
+
+    private void runConcurrently(int threads, Runnable task) throws InterruptedException {
+        runConcurrently(threads, index -> task.run());
+    }
+
+    private void runConcurrently(int threads, java.util.function.IntConsumer task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            int index = i;
+            executor.submit(() -> {
+                try {
+                    ready.countDown();
+                    start.await();
+                    task.accept(index);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await(10, TimeUnit.SECONDS);
+        start.countDown();
+        done.await(30, TimeUnit.SECONDS);
+        executor.shutdownNow();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static void print(String label, Result result) {
+        System.out.println("   [" + label + "]");
+        System.out.println("     좌석 목록 DB 조회: " + result.dbLoads + "건 (SQL " + result.statements + "건)");
+        System.out.println("     다른 인스턴스 적재 대기 후 Redis에서 적재: " + result.filledWaits + "건");
+    }
+
+    private record Result(long dbLoads, long statements, long filledWaits) {
+    }
+}